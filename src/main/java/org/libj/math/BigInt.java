@@ -29,9 +29,16 @@
 
 package org.libj.math;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 /**
  * An arbitrary-precision integer replacement for {@link java.math.BigInteger},
@@ -60,7 +67,7 @@ import java.math.RoundingMode;
  *
  * @author Seva Safris
  */
-public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable {
+public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable, Externalizable {
   private static final long serialVersionUID = -4360183347203631370L;
 
   /**
@@ -98,6 +105,16 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return val;
   }
 
+  /**
+   * Creates a {@link BigInt} with the value of zero, as required for
+   * {@link Externalizable}.
+   *
+   * @complexity O(1)
+   */
+  public BigInt() {
+    val = alloc(1);
+  }
+
   /**
    * Creates a {@link BigInt} from the provided {@linkplain #val() value-encoded
    * number}.
@@ -223,6 +240,36 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     val = assign(emptyVal, s);
   }
 
+  /**
+   * Creates a {@link BigInt} from the provided number as a string of the
+   * provided radix.
+   *
+   * @param s The number as a string.
+   * @param radix The radix of the string, between {@link Character#MIN_RADIX}
+   *          and {@link Character#MAX_RADIX}.
+   * @throws NumberFormatException If {@code radix} is out of range, or if a
+   *           char of {@code s} is not a digit of the radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public BigInt(final String s, final int radix) {
+    val = assign(emptyVal, s, radix);
+  }
+
+  /**
+   * Creates a {@link BigInt} from the provided number as a {@code char[]} of
+   * the provided radix.
+   *
+   * @param s The number as a {@code char[]}.
+   * @param radix The radix of the {@code char[]}, between
+   *          {@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}.
+   * @throws NumberFormatException If {@code radix} is out of range, or if a
+   *           char of {@code s} is not a digit of the radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public BigInt(final char[] s, final int radix) {
+    val = assign(emptyVal, s, radix);
+  }
+
   /**
    * Creates a {@link BigInt} from the provided {@link BigInt}.
    * <p>
@@ -365,6 +412,48 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return this;
   }
 
+  /**
+   * Assigns the specified number as a string of the provided radix to this
+   * {@link BigInt}.
+   *
+   * <pre>
+   * this = s
+   * </pre>
+   *
+   * @param s The number as a string.
+   * @param radix The radix of the string, between {@link Character#MIN_RADIX}
+   *          and {@link Character#MAX_RADIX}.
+   * @return {@code this}
+   * @throws NumberFormatException If {@code radix} is out of range, or if a
+   *           char of {@code s} is not a digit of the radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public BigInt assign(final String s, final int radix) {
+    val = assign(val, s, radix);
+    return this;
+  }
+
+  /**
+   * Assigns the specified number as a {@code char[]} of the provided radix to
+   * this {@link BigInt}.
+   *
+   * <pre>
+   * this = s
+   * </pre>
+   *
+   * @param s The number as a {@code char[]}.
+   * @param radix The radix of the {@code char[]}, between
+   *          {@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}.
+   * @return {@code this}
+   * @throws NumberFormatException If {@code radix} is out of range, or if a
+   *           char of {@code s} is not a digit of the radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public BigInt assign(final char[] s, final int radix) {
+    val = assign(val, s, radix);
+    return this;
+  }
+
   /**
    * Assigns an <i>unsigned</i> {@code int} magnitude to this {@link BigInt}.
    *
@@ -763,6 +852,188 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return this;
   }
 
+  /**
+   * Adds the product of a {@link BigInt} and an <i>unsigned</i> {@code int}
+   * multiplier to this {@link BigInt}.
+   *
+   * <pre>
+   * this = this + val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param sig The sign of the unsigned {@code int} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulAdd(final BigInt val, final int sig, final int mul) {
+    this.val = mulAdd(this.val, val.val, sig, mul);
+    return this;
+  }
+
+  /**
+   * Adds the product of a {@link BigInt} and an {@code int} multiplier to
+   * this {@link BigInt}.
+   *
+   * <pre>
+   * this = this + val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param mul The multiplier.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulAdd(final BigInt val, final int mul) {
+    this.val = mulAdd(this.val, val.val, mul);
+    return this;
+  }
+
+  /**
+   * Adds the product of a {@link BigInt} and an <i>unsigned</i> {@code long}
+   * multiplier to this {@link BigInt}.
+   *
+   * <pre>
+   * this = this + val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param sig The sign of the unsigned {@code long} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulAdd(final BigInt val, final int sig, final long mul) {
+    this.val = mulAdd(this.val, val.val, sig, mul);
+    return this;
+  }
+
+  /**
+   * Adds the product of a {@link BigInt} and a {@code long} multiplier to
+   * this {@link BigInt}.
+   *
+   * <pre>
+   * this = this + val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param mul The multiplier.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulAdd(final BigInt val, final long mul) {
+    this.val = mulAdd(this.val, val.val, mul);
+    return this;
+  }
+
+  /**
+   * Adds the product of the provided {@link BigInt}s to this {@link BigInt}.
+   *
+   * <pre>
+   * this = this + val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param mul The {@link BigInt} multiplier.
+   * @return {@code this}
+   * @complexity O(n^2) - O(n log n)
+   */
+  public BigInt mulAdd(final BigInt val, final BigInt mul) {
+    this.val = mulAdd(this.val, val.val, mul.val);
+    return this;
+  }
+
+  /**
+   * Subtracts the product of a {@link BigInt} and an <i>unsigned</i> {@code int}
+   * multiplier from this {@link BigInt}.
+   *
+   * <pre>
+   * this = this - val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param sig The sign of the unsigned {@code int} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulSub(final BigInt val, final int sig, final int mul) {
+    this.val = mulSub(this.val, val.val, sig, mul);
+    return this;
+  }
+
+  /**
+   * Subtracts the product of a {@link BigInt} and an {@code int} multiplier from
+   * this {@link BigInt}.
+   *
+   * <pre>
+   * this = this - val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param mul The multiplier.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulSub(final BigInt val, final int mul) {
+    this.val = mulSub(this.val, val.val, mul);
+    return this;
+  }
+
+  /**
+   * Subtracts the product of a {@link BigInt} and an <i>unsigned</i> {@code long}
+   * multiplier from this {@link BigInt}.
+   *
+   * <pre>
+   * this = this - val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param sig The sign of the unsigned {@code long} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulSub(final BigInt val, final int sig, final long mul) {
+    this.val = mulSub(this.val, val.val, sig, mul);
+    return this;
+  }
+
+  /**
+   * Subtracts the product of a {@link BigInt} and a {@code long} multiplier from
+   * this {@link BigInt}.
+   *
+   * <pre>
+   * this = this - val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param mul The multiplier.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigInt mulSub(final BigInt val, final long mul) {
+    this.val = mulSub(this.val, val.val, mul);
+    return this;
+  }
+
+  /**
+   * Subtracts the product of the provided {@link BigInt}s from this {@link BigInt}.
+   *
+   * <pre>
+   * this = this - val * mul
+   * </pre>
+   *
+   * @param val The {@link BigInt} multiplicand.
+   * @param mul The {@link BigInt} multiplier.
+   * @return {@code this}
+   * @complexity O(n^2) - O(n log n)
+   */
+  public BigInt mulSub(final BigInt val, final BigInt mul) {
+    this.val = mulSub(this.val, val.val, mul.val);
+    return this;
+  }
+
   /**
    * Raises this {@link BigInt} to the power of the given exponent.
    *
@@ -781,6 +1052,153 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return this;
   }
 
+  /**
+   * Raises this {@link BigInt} to the power of the given exponent, modulo the
+   * given modulus.
+   *
+   * <blockquote>
+   * <code>this = this<sup>exp</sup> mod m</code>
+   * </blockquote>
+   *
+   * @param exp The exponent.
+   * @param mod The modulus.
+   * @return <code>this<sup>exp</sup> mod m</code>
+   * @throws ArithmeticException If {@code mod} is not positive, or
+   *           {@code exp} is negative and {@code this} is not relatively prime
+   *           to {@code mod}.
+   * @complexity O(n^2 log exp)
+   */
+  public BigInt modPow(final BigInt exp, final BigInt mod) {
+    val = modPow(val, exp.val, mod.val);
+    return this;
+  }
+
+  /**
+   * Raises this {@link BigInt} to the power of the given exponent, modulo the
+   * specified precomputed modulus.
+   *
+   * <blockquote>
+   * <code>this = this<sup>exp</sup> mod m</code>
+   * </blockquote>
+   *
+   * @param exp The exponent.
+   * @param mod The {@link BigIntModulus}.
+   * @return <code>this<sup>exp</sup> mod m</code>
+   * @throws ArithmeticException If {@code exp} is negative, and {@code this}
+   *           is not relatively prime to the modulus.
+   * @complexity O(n^2 log exp)
+   */
+  public BigInt modPow(final BigInt exp, final BigIntModulus mod) {
+    val = mod.modPow(val, exp.val);
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigInt} to its inverse modulo the given modulus.
+   *
+   * <blockquote>
+   * <code>this = this<sup>-1</sup> mod m</code>
+   * </blockquote>
+   *
+   * @param mod The modulus.
+   * @return <code>this<sup>-1</sup> mod m</code>
+   * @throws ArithmeticException If {@code mod} is not positive, or
+   *           {@code this} is not relatively prime to {@code mod}.
+   * @complexity O(n^2)
+   */
+  public BigInt modInverse(final BigInt mod) {
+    val = modInverse(val, mod.val);
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigInt} to the greatest common divisor of its absolute
+   * value and the absolute value of the given {@link BigInt}.
+   *
+   * <blockquote>
+   * <code>this = gcd(|this|, |val|)</code>
+   * </blockquote>
+   *
+   * @param val The {@link BigInt} with which the greatest common divisor is to
+   *          be computed.
+   * @return <code>gcd(|this|, |val|)</code>
+   * @complexity O(n^2)
+   */
+  public BigInt gcd(final BigInt val) {
+    this.val = gcd(this.val, val.val);
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigInt} to the greatest common divisor of its absolute
+   * value and the absolute value of the given {@link BigInt}, and sets the
+   * B&eacute;zout coefficients {@code x} and {@code y}, such that
+   * {@code this * x + val * y = gcd(|this|, |val|)}.
+   *
+   * <blockquote>
+   * <code>this = gcd(|this|, |val|) = this * x + val * y</code>
+   * </blockquote>
+   *
+   * @param val The {@link BigInt} with which the greatest common divisor is to
+   *          be computed.
+   * @param x The {@link BigInt} to be set to the B&eacute;zout coefficient of
+   *          {@code this}.
+   * @param y The {@link BigInt} to be set to the B&eacute;zout coefficient of
+   *          {@code val}, or {@code null} if it is not to be computed.
+   * @return <code>gcd(|this|, |val|)</code>
+   * @complexity O(n^2)
+   */
+  public BigInt gcdExt(final BigInt val, final BigInt x, final BigInt y) {
+    final int len2 = Math.abs(val.val[0]);
+    if (x.val.length < len2 + 2)
+      x.val = alloc(len2 + 2);
+
+    final int[] a = y == null || len2 == 0 ? null : this.val.clone();
+    this.val = gcdExt(this.val, val.val, x.val);
+    if (y != null) {
+      if (a == null) {
+        y.val = setToZero(y.val);
+      }
+      else {
+        // y = (gcd - a * x) / val
+        y.val = div(mulSub(assign(y.val, this.val), a, x.val), val.val);
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Returns whether the absolute value of this {@link BigInt} is probably
+   * prime. The test is deterministic below <code>2<sup>64</sup></code>, and no
+   * composite number is known to pass it.
+   *
+   * @return Whether the absolute value of this {@link BigInt} is probably
+   *         prime.
+   * @see BigIntMath#isProbablePrime(int[])
+   * @complexity O(n^3)
+   */
+  public boolean isProbablePrime() {
+    return isProbablePrime(val);
+  }
+
+  /**
+   * Sets this {@link BigInt} to the first probable prime that is greater than
+   * it.
+   *
+   * <blockquote>
+   * <code>this = nextProbablePrime(this)</code>
+   * </blockquote>
+   *
+   * @return The first probable prime that is greater than {@code this}.
+   * @throws ArithmeticException If {@code this} is negative.
+   * @complexity O(n^4)
+   */
+  public BigInt nextProbablePrime() {
+    val = nextProbablePrime(val);
+    return this;
+  }
+
   /**
    * Set this {@link BigInt} to the value of its square root, rounded as per the
    * provided {@link RoundingMode}.
@@ -814,6 +1232,91 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return this;
   }
 
+  /**
+   * Set this {@link BigInt} to the value of its square root, rounding down,
+   * and sets the provided {@link BigInt} to the remainder.
+   *
+   * <blockquote>
+   * <code>rem = this - |this<sup>1/2</sup>|<sup>2</sup></code><br>
+   * <code>this = |this<sup>1/2</sup>|</code>
+   * </blockquote>
+   *
+   * @param rem The {@link BigInt} to be set to the remainder.
+   * @return <code>this<sup>1/2</sup></code>, rounded down.
+   * @throws ArithmeticException If {@code this} is negative.
+   * @see BigIntMath#sqrtRem(int[],int[])
+   * @complexity O(n^1.58) - O(n log n)
+   */
+  public BigInt sqrtRem(final BigInt rem) {
+    if (signum() < 0)
+      throw new ArithmeticException("Square root of negative number");
+
+    final int remLen = (val[0] + 1) / 2 + 2;
+    if (rem.val.length < remLen)
+      rem.val = alloc(remLen);
+
+    val = sqrtRem(val, rem.val);
+    return this;
+  }
+
+  /**
+   * Set this {@link BigInt} to the value of its {@code k}-th root, rounded as
+   * per the provided {@link RoundingMode}.
+   *
+   * <blockquote>
+   * <code>this = this<sup>1/k</sup></code>
+   * </blockquote>
+   *
+   * @param k The degree of the root.
+   * @param rm The {@link RoundingMode}.
+   * @return <code>this<sup>1/k</sup></code>, rounded as per the provided
+   *         {@link RoundingMode}.
+   * @throws ArithmeticException If {@code k} is not positive, or {@code this}
+   *           is negative and {@code k} is even, or
+   *           {@code rm == RoundingMode.UNNECESSARY} and {@code this} is not a
+   *           perfect {@code k}-th power.
+   * @complexity O(n^2 log n) - O(n log^2 n)
+   */
+  public BigInt nthRoot(final int k, final RoundingMode rm) {
+    final int[] root = nthRoot(val, k, rm);
+    if (root == null)
+      throw new ArithmeticException(signum() < 0 && (k & 1) == 0 ? "Even root of negative number" : "Rounding necessary");
+
+    val = root;
+    return this;
+  }
+
+  /**
+   * Set this {@link BigInt} to the value of its {@code k}-th root, rounding
+   * down.
+   *
+   * <blockquote>
+   * <code>this = this<sup>1/k</sup></code>
+   * </blockquote>
+   *
+   * @param k The degree of the root.
+   * @return <code>this<sup>1/k</sup></code>, rounded down.
+   * @throws ArithmeticException If {@code k} is not positive, or {@code this}
+   *           is negative and {@code k} is even.
+   * @complexity O(n^2 log n) - O(n log^2 n)
+   */
+  public BigInt nthRoot(final int k) {
+    return nthRoot(k, RoundingMode.DOWN);
+  }
+
+  /**
+   * Returns whether this {@link BigInt} is a perfect power, i.e. whether it is
+   * equal to <code>a<sup>k</sup></code> for an integer {@code a} and
+   * {@code k > 1}.
+   *
+   * @return Whether this {@link BigInt} is a perfect power.
+   * @see BigIntMath#isPerfectPower(int[])
+   * @complexity O(n^3 log n)
+   */
+  public boolean isPerfectPower() {
+    return isPerfectPower(val);
+  }
+
   /**
    * Set this {@link BigInt} to the value of its natural logarithm, rounded as
    * per the provided {@link RoundingMode}.
@@ -1020,13 +1523,29 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
    *
    * @param div The divisor.
    * @return {@code this}
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public BigInt div(final BigInt div) {
     val = div(val, div.val);
     return this;
   }
 
+  /**
+   * Divides this {@link BigInt} by the specified precomputed divisor.
+   *
+   * <pre>
+   * this = this / div
+   * </pre>
+   *
+   * @param div The {@link BigIntDivisor}.
+   * @return {@code this}
+   * @complexity O(n) - O(n^2)
+   */
+  public BigInt div(final BigIntDivisor div) {
+    div.div(val);
+    return this;
+  }
+
   /**
    * Divides this {@link BigInt} by the specified <i>unsigned</i> {@code int}
    * divisor, and returns the <i>absolute unsigned int</i> remainder.
@@ -1119,12 +1638,32 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
    *
    * @param div The {@link BigInt} divisor.
    * @return A new {@link BigInt} with the remainder.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public BigInt divRem(final BigInt div) {
     return new BigInt(divRem(val, div.val));
   }
 
+  /**
+   * Divides this {@link BigInt} by the specified precomputed divisor, and sets
+   * the value of the provided {@link BigInt} to the remainder.
+   *
+   * <pre>
+   * rem = this % div
+   * this = this / div
+   * return rem
+   * </pre>
+   *
+   * @param div The {@link BigIntDivisor}.
+   * @param rem The {@link BigInt} in which to store the remainder.
+   * @return The provided {@link BigInt} with the remainder.
+   * @complexity O(n) - O(n^2)
+   */
+  public BigInt divRem(final BigIntDivisor div, final BigInt rem) {
+    rem.val = div.divRem(val, rem.val);
+    return rem;
+  }
+
   /**
    * Divides this {@link BigInt} by the provided <i>unsigned</i> {@code int}
    * divisor and sets the remainder as the value of this {@link BigInt}.
@@ -1205,13 +1744,30 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
    *
    * @param div The divisor.
    * @return {@code this}
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public BigInt rem(final BigInt div) {
     val = rem(val, div.val);
     return this;
   }
 
+  /**
+   * Divides this {@link BigInt} by the specified precomputed divisor and sets
+   * the remainder as the value of this {@link BigInt}.
+   *
+   * <pre>
+   * this = this % div
+   * </pre>
+   *
+   * @param div The {@link BigIntDivisor}.
+   * @return {@code this}
+   * @complexity O(n) - O(n^2)
+   */
+  public BigInt rem(final BigIntDivisor div) {
+    val = div.rem(val);
+    return this;
+  }
+
   /**
    * Divides this {@link BigInt} by the specified {@code int} divisor and sets
    * the modulus as the value of this {@link BigInt}.
@@ -1265,7 +1821,7 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
    *
    * @param div The {@link BigInt} divisor.
    * @return {@code this}
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public BigInt mod(final BigInt div) {
     val = mod(val, div.val);
@@ -1611,6 +2167,101 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return toByteArray(val, littleEndian);
   }
 
+  /**
+   * Puts the compact binary representation of this {@link BigInt} (i.e. that
+   * of {@link #write(int[],ByteBuffer)}) into the provided {@link ByteBuffer}
+   * at its position, and advances the position, without allocation.
+   *
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the binary representation
+   *           does not fit in the remaining space of {@code dst}, in which case
+   *           nothing is written.
+   * @complexity O(n)
+   */
+  public int write(final ByteBuffer dst) {
+    return write(val, dst);
+  }
+
+  /**
+   * Writes the compact binary representation of this {@link BigInt} (i.e. that
+   * of {@link #write(int[],ByteBuffer)}) to the provided {@link DataOutput},
+   * without allocation.
+   *
+   * @param out The target {@link DataOutput}.
+   * @return The number of bytes written.
+   * @throws IOException If an I/O error has occurred.
+   * @complexity O(n)
+   */
+  public int write(final DataOutput out) throws IOException {
+    return write(val, out);
+  }
+
+  /**
+   * Assigns the number of the compact binary representation (i.e. that of
+   * {@link #write(int[],ByteBuffer)}) at the position of the provided
+   * {@link ByteBuffer} to this {@link BigInt}, and advances the position past
+   * it. The array of this {@link BigInt} is reused if its length is
+   * sufficient.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @return {@code this}
+   * @throws java.nio.BufferUnderflowException If the binary representation is
+   *           truncated by the limit of {@code src}, in which case the
+   *           position is not changed.
+   * @throws IllegalArgumentException If the binary representation is
+   *           malformed, in which case the position is not changed.
+   * @complexity O(n)
+   */
+  public BigInt read(final ByteBuffer src) {
+    val = read(src, val);
+    return this;
+  }
+
+  /**
+   * Assigns the number of the compact binary representation (i.e. that of
+   * {@link #write(int[],DataOutput)}) read from the provided {@link DataInput}
+   * to this {@link BigInt}. The array of this {@link BigInt} is reused if its
+   * length is sufficient.
+   *
+   * @param in The source {@link DataInput}.
+   * @return {@code this}
+   * @throws java.io.EOFException If the end of the input is reached before the
+   *           end of the binary representation.
+   * @throws java.io.StreamCorruptedException If the binary representation is
+   *           malformed.
+   * @throws IOException If an I/O error has occurred.
+   * @complexity O(n)
+   */
+  public BigInt read(final DataInput in) throws IOException {
+    val = read(in, val);
+    return this;
+  }
+
+  /**
+   * Writes this {@link BigInt} in its compact binary representation (i.e. that
+   * of {@link #write(DataOutput)}).
+   *
+   * @param out The target {@link ObjectOutput}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    write(val, out);
+  }
+
+  /**
+   * Reads this {@link BigInt} from its compact binary representation (i.e.
+   * that of {@link #read(DataInput)}).
+   *
+   * @param in The source {@link ObjectInput}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException {
+    val = read(in, val);
+  }
+
   /**
    * Returns a {@link BigInteger} representation of this {@link BigInt}.
    *
@@ -1708,6 +2359,67 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return toString(val);
   }
 
+  /**
+   * Converts this {@link BigInt} into a string of the provided radix. If the
+   * radix is outside the range from {@link Character#MIN_RADIX} to
+   * {@link Character#MAX_RADIX}, radix 10 is used.
+   *
+   * @param radix The radix of the string.
+   * @return The string representation of this {@link BigInt} in the provided
+   *         radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public String toString(final int radix) {
+    return toString(val, radix);
+  }
+
+  /**
+   * Writes this {@link BigInt} as a string of radix 10 in ASCII into the
+   * provided {@code byte[]}, starting at {@code off}, without allocation for
+   * values below {@link BigIntDivision#TOSTRING_THRESHOLD} limbs.
+   *
+   * @param dst The target {@code byte[]}.
+   * @param off The index in {@code dst} at which to start writing.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If this {@link BigInt} does not
+   *           fit in {@code dst} at {@code off}, in which case nothing is
+   *           written.
+   * @complexity O(n^2)
+   */
+  public int writeTo(final byte[] dst, final int off) {
+    return writeTo(val, dst, off);
+  }
+
+  /**
+   * Appends this {@link BigInt} as a string of radix 10 to the provided
+   * {@link StringBuilder}, without allocation for values below
+   * {@link BigIntDivision#TOSTRING_THRESHOLD} limbs.
+   *
+   * @param dst The target {@link StringBuilder}.
+   * @return The number of chars appended.
+   * @complexity O(n^2)
+   */
+  public int writeTo(final StringBuilder dst) {
+    return writeTo(val, dst);
+  }
+
+  /**
+   * Puts this {@link BigInt} as a string of radix 10 in ASCII into the
+   * provided {@link ByteBuffer} at its position, and advances the position,
+   * without allocation for values below
+   * {@link BigIntDivision#TOSTRING_THRESHOLD} limbs.
+   *
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If this {@link BigInt} does not
+   *           fit in the remaining space of {@code dst}, in which case nothing
+   *           is written.
+   * @complexity O(n^2)
+   */
+  public int writeTo(final ByteBuffer dst) {
+    return writeTo(val, dst);
+  }
+
   /**
    * Returns a copy of this {@link BigInt}.
    *
@@ -0,0 +1,241 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.util.Arrays;
+
+/**
+ * Allocator of the {@code int[]} arrays of {@linkplain BigInt#val()
+ * value-encoded numbers}, to which {@link BigInt} delegates the allocation of
+ * new arrays when the result of an operation does not fit in the array of its
+ * operand.
+ * <p>
+ * The allocator is set with {@link BigInt#setAllocator(BigIntAllocator)}. Two
+ * implementations are provided:
+ * <ul>
+ * <li>{@link #heap(int)}: Allocates a {@code new int[]} for each request, with
+ * a number of surplus limbs that spare the reallocation of numbers that grow
+ * slowly. This is the default allocator, with {@link #DEFAULT_PADDING} surplus
+ * limbs, or the number of limbs of the {@code -Dorg.libj.math.padding} system
+ * property.</li>
+ * <li>{@link #pool(int,int,int)}: Allocates arrays of power-of-two lengths,
+ * which are retained in size classes of the current thread when they are given
+ * back with {@link BigInt#release(int[])}, and reused for the subsequent
+ * requests of the same size class. A workload that releases the arrays of the
+ * numbers it no longer needs thereby reaches a steady state in which it does
+ * not allocate.</li>
+ * </ul>
+ * <p>
+ * An array must only be released when no reference to it is used thereafter,
+ * including the {@link BigInt} of which it is the {@linkplain BigInt#val()
+ * value}. Arrays of any origin may be released: arrays that do not fit a size
+ * class of the allocator are left to the garbage collector.
+ */
+public abstract class BigIntAllocator {
+  /**
+   * The default number of surplus limbs of the arrays allocated by the
+   * {@link #heap(int) heap} allocator.
+   */
+  public static final int DEFAULT_PADDING = 32;
+
+  static final BigIntAllocator DEFAULT = heap(Integer.getInteger("org.libj.math.padding", DEFAULT_PADDING));
+
+  /**
+   * Returns an allocator that allocates a {@code new int[]} of {@code padding}
+   * limbs more than the requested length for each request, and ignores the
+   * arrays that are released.
+   *
+   * @param padding The number of surplus limbs of the allocated arrays.
+   * @return An allocator that allocates a {@code new int[]} for each request.
+   * @throws IllegalArgumentException If {@code padding} is negative.
+   */
+  public static BigIntAllocator heap(final int padding) {
+    return new Heap(padding);
+  }
+
+  /**
+   * Returns an allocator that allocates arrays of the power-of-two length that
+   * is at least {@code padding} limbs more than the requested length, and
+   * retains the released arrays of up to {@code maxLength} in size classes of
+   * the current thread, each of up to {@code depth} arrays.
+   * <p>
+   * A released array is cleared, and is reused by the next request of its size
+   * class on the same thread.
+   *
+   * @param padding The number of surplus limbs of the allocated arrays.
+   * @param maxLength The maximum length of the retained arrays.
+   * @param depth The maximum number of arrays retained per size class and
+   *          thread.
+   * @return An allocator that retains the released arrays in power-of-two size
+   *         classes per thread.
+   * @throws IllegalArgumentException If {@code padding} or {@code depth} is
+   *           negative, or {@code maxLength} is not positive.
+   */
+  public static BigIntAllocator pool(final int padding, final int maxLength, final int depth) {
+    if (maxLength <= 0)
+      throw new IllegalArgumentException("maxLength (" + maxLength + ") <= 0");
+
+    if (depth < 0)
+      throw new IllegalArgumentException("depth (" + depth + ") < 0");
+
+    return new Pool(padding, maxLength, depth);
+  }
+
+  /** The number of surplus limbs of the allocated arrays. */
+  protected final int padding;
+
+  /**
+   * Creates a new {@link BigIntAllocator} with the provided number of surplus
+   * limbs of the allocated arrays.
+   *
+   * @param padding The number of surplus limbs of the allocated arrays.
+   * @throws IllegalArgumentException If {@code padding} is negative.
+   */
+  protected BigIntAllocator(final int padding) {
+    if (padding < 0)
+      throw new IllegalArgumentException("padding (" + padding + ") < 0");
+
+    this.padding = padding;
+  }
+
+  /**
+   * Returns an {@code int[]} of zeros with length that is at least
+   * {@code len}.
+   *
+   * @param len The minimal length of the returned {@code int[]}.
+   * @return An {@code int[]} of zeros with length that is at least
+   *         {@code len}.
+   */
+  public abstract int[] alloc(int len);
+
+  /**
+   * Gives back an array that is no longer used, for its reuse by a subsequent
+   * {@link #alloc(int)}.
+   *
+   * @param array The array that is no longer used.
+   */
+  public abstract void release(int[] array);
+
+  /**
+   * Returns the number of surplus limbs of the allocated arrays.
+   *
+   * @return The number of surplus limbs of the allocated arrays.
+   */
+  public int getPadding() {
+    return padding;
+  }
+
+  private static final class Heap extends BigIntAllocator {
+    private Heap(final int padding) {
+      super(padding);
+    }
+
+    @Override
+    public int[] alloc(final int len) {
+      return new int[padding + len];
+    }
+
+    @Override
+    public void release(final int[] array) {
+    }
+
+    @Override
+    public String toString() {
+      return "heap(" + padding + ")";
+    }
+  }
+
+  private static final class Pool extends BigIntAllocator {
+    /** The arrays retained by a thread, as a stack per size class. */
+    private static final class Cache {
+      private final int[][][] stacks;
+      private final int[] sizes;
+
+      private Cache(final int classes) {
+        this.stacks = new int[classes][][];
+        this.sizes = new int[classes];
+      }
+    }
+
+    private final int maxClass;
+    private final int depth;
+    private final ThreadLocal<Cache> local;
+
+    private Pool(final int padding, final int maxLength, final int depth) {
+      super(padding);
+      this.maxClass = Math.min(30, sizeClass(maxLength) - (Integer.bitCount(maxLength) == 1 ? 0 : 1));
+      this.depth = depth;
+      this.local = ThreadLocal.withInitial(() -> new Cache(maxClass + 1));
+    }
+
+    private static int sizeClass(final int len) {
+      return len <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(len - 1);
+    }
+
+    @Override
+    public int[] alloc(final int len) {
+      final int c = sizeClass(padding + len);
+      if (c > maxClass)
+        return c > 30 ? new int[padding + len] : new int[1 << c];
+
+      final Cache cache = local.get();
+      final int n = cache.sizes[c];
+      if (n == 0)
+        return new int[1 << c];
+
+      final int[][] stack = cache.stacks[c];
+      final int[] array = stack[n - 1];
+      stack[n - 1] = null;
+      cache.sizes[c] = n - 1;
+      return array;
+    }
+
+    @Override
+    public void release(final int[] array) {
+      final int len = array.length;
+      if (depth == 0 || Integer.bitCount(len) != 1)
+        return;
+
+      final int c = sizeClass(len);
+      if (c > maxClass)
+        return;
+
+      final Cache cache = local.get();
+      final int n = cache.sizes[c];
+      if (n == depth)
+        return;
+
+      int[][] stack = cache.stacks[c];
+      if (stack == null)
+        cache.stacks[c] = stack = new int[depth][];
+
+      // Guard against the same array being released twice
+      for (int i = 0; i < n; ++i)
+        if (stack[i] == array)
+          return;
+
+      Arrays.fill(array, 0);
+      stack[n] = array;
+      cache.sizes[c] = n + 1;
+    }
+
+    @Override
+    public String toString() {
+      return "pool(" + padding + ", " + (1 << maxClass) + ", " + depth + ")";
+    }
+  }
+}
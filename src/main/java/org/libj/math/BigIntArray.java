@@ -0,0 +1,586 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.util.Arrays;
+
+/**
+ * A growable array of {@linkplain BigInt#val() value-encoded numbers}, which
+ * are packed one after the other into a single backing {@code int[]}, with an
+ * index of the offset of each number.
+ * <p>
+ * Each number occupies exactly its signed length and its limbs (i.e.
+ * {@code Math.abs(val[0]) + 1} ints), so an array of many numbers costs two
+ * {@code int[]} instances, instead of a {@link BigInt} and a padded
+ * {@code int[]} per number.
+ * <p>
+ * The batch operations ({@link #add(int[])}, {@link #mul(BigIntArray)}, etc.)
+ * copy each number into an array of the current thread, apply the
+ * {@link BigIntAddition} or {@link BigIntMultiplication} routine of the
+ * operation, and pack the result into a second backing {@code int[]}, which is
+ * then swapped with the first. The second backing {@code int[]} is retained
+ * for the subsequent batch operation, so a workload of repeated batch
+ * operations does not allocate once the backing arrays have reached their
+ * steady state. {@link #sum(int[])}, {@link #min()}, {@link #max()} and
+ * {@link #sort()} likewise reuse the arrays of the current thread and of this
+ * instance.
+ * <p>
+ * <i><b>Note:</b> This class is not thread-safe.</i>
+ */
+public final class BigIntArray {
+  private static final long LONG_MASK = BigIntValue.LONG_MASK;
+  private static final BigIntValue.LocalArray localValue = new BigIntValue.LocalArray();
+  private static final BigIntValue.LocalArray localOperand = new BigIntValue.LocalArray();
+
+  private static final int ADD = 0;
+  private static final int SUB = 1;
+  private static final int MUL = 2;
+
+  /** The packed {@linkplain BigInt#val() value-encoded numbers}. */
+  private int[] data;
+
+  /** The offset of each number in {@link #data}, and its end at {@code [size]}. */
+  private int[] offsets;
+
+  private int size;
+
+  /** The second backing array of the batch operations. */
+  private int[] spare = BigIntValue.emptyVal;
+
+  /** The permutation of the indexes of {@link #sort()}, and its buffer. */
+  private int[] order = BigIntValue.emptyVal;
+  private int[] orderBuf = BigIntValue.emptyVal;
+
+  /**
+   * Creates a new empty {@link BigIntArray} with an initial capacity of 16
+   * numbers.
+   */
+  public BigIntArray() {
+    this(16);
+  }
+
+  /**
+   * Creates a new empty {@link BigIntArray} with the provided initial capacity.
+   *
+   * @param capacity The number of numbers of 1 limb for which space is
+   *          initially allocated.
+   * @throws IllegalArgumentException If {@code capacity} is negative.
+   */
+  public BigIntArray(final int capacity) {
+    if (capacity < 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") < 0");
+
+    this.data = new int[capacity * 2];
+    this.offsets = new int[capacity + 1];
+  }
+
+  /**
+   * Returns the number of numbers in this {@link BigIntArray}.
+   *
+   * @return The number of numbers in this {@link BigIntArray}.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes all numbers from this {@link BigIntArray}, retaining its backing
+   * arrays.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  private void checkIndex(final int index) {
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+  }
+
+  private static int capacity(final int length, final long minLength) {
+    if (minLength > Integer.MAX_VALUE - 8)
+      throw new OutOfMemoryError("Required array length " + minLength + " is too large");
+
+    return (int)Math.min(Integer.MAX_VALUE - 8, Math.max(minLength, length + (length >> 1) + 16L));
+  }
+
+  private static int[] grow(final int[] array, final long minLength) {
+    return Arrays.copyOf(array, capacity(array.length, minLength));
+  }
+
+  /**
+   * Appends the provided {@linkplain BigInt#val() value-encoded number} to the
+   * end of this {@link BigIntArray}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return The index of the appended number.
+   * @complexity O(n)
+   */
+  public int append(final int[] val) {
+    final int n = Math.abs(val[0]) + 1;
+    final int end = offsets[size];
+    if (end + n > data.length)
+      data = grow(data, (long)end + n);
+
+    if (size + 2 > offsets.length)
+      offsets = grow(offsets, size + 2L);
+
+    System.arraycopy(val, 0, data, end, n);
+    offsets[++size] = end + n;
+    return size - 1;
+  }
+
+  /**
+   * Appends the provided {@code long} to the end of this {@link BigIntArray}.
+   *
+   * @param val The value.
+   * @return The index of the appended number.
+   * @complexity O(1)
+   */
+  public int append(final long val) {
+    return append(BigIntValue.assign(localOperand.get(3), val));
+  }
+
+  /**
+   * Returns the number at the provided index as a {@linkplain BigInt#val()
+   * value-encoded number} in the provided array.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the number requires a larger array.</i>
+   *
+   * @param index The index of the number.
+   * @param val The target array, or {@code null}.
+   * @return The number at the provided index as a {@linkplain BigInt#val()
+   *         value-encoded number}.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range.
+   * @complexity O(n)
+   */
+  public int[] get(final int index, int[] val) {
+    checkIndex(index);
+    final int off = offsets[index];
+    final int n = Math.abs(data[off]) + 1;
+    if (val == null || val.length < n)
+      val = BigIntValue.alloc(n);
+
+    System.arraycopy(data, off, val, 0, n);
+    return val;
+  }
+
+  /**
+   * Copies the number at {@code off} in {@code src} into the array of the
+   * provided {@link BigIntValue.LocalArray} of the current thread.
+   */
+  private static int[] stage(final int[] src, final int off, final BigIntValue.LocalArray local) {
+    final int n = Math.abs(src[off]) + 1;
+    final int[] val = local.get(n);
+    System.arraycopy(src, off, val, 0, n);
+    return val;
+  }
+
+  /**
+   * Returns the signum of the number at the provided index.
+   *
+   * @param index The index of the number.
+   * @return -1, 0 or 1 as the number at the provided index is negative, zero or
+   *         positive.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range.
+   * @complexity O(1)
+   */
+  public int signum(final int index) {
+    checkIndex(index);
+    return Integer.signum(data[offsets[index]]);
+  }
+
+  private static int compare(final int[] a, final int aoff, final int[] b, final int boff) {
+    final int alen = a[aoff];
+    final int blen = b[boff];
+    if (alen != blen)
+      return alen < blen ? -1 : 1;
+
+    for (int i = alen < 0 ? -alen : alen; i > 0; --i) {
+      final long x = a[aoff + i] & LONG_MASK;
+      final long y = b[boff + i] & LONG_MASK;
+      if (x != y)
+        return x < y == alen > 0 ? -1 : 1;
+    }
+
+    return 0;
+  }
+
+  /**
+   * Compares the numbers at the provided indexes.
+   *
+   * @param i The index of the first number.
+   * @param j The index of the second number.
+   * @return -1, 0 or 1 as the number at {@code i} is less than, equal to, or
+   *         greater than the number at {@code j}.
+   * @throws IndexOutOfBoundsException If {@code i} or {@code j} is out of
+   *           range.
+   * @complexity O(n)
+   */
+  public int compare(final int i, final int j) {
+    checkIndex(i);
+    checkIndex(j);
+    return compare(data, offsets[i], data, offsets[j]);
+  }
+
+  /**
+   * Compares the number at the provided index with the provided
+   * {@linkplain BigInt#val() value-encoded number}.
+   *
+   * @param index The index of the number.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return -1, 0 or 1 as the number at {@code index} is less than, equal to,
+   *         or greater than {@code val}.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range.
+   * @complexity O(n)
+   */
+  public int compareTo(final int index, final int[] val) {
+    checkIndex(index);
+    return compare(data, offsets[index], val, 0);
+  }
+
+  /**
+   * Applies the operation to each number with the provided scalar, or with the
+   * number at the same index of the provided {@link BigIntArray}, and packs the
+   * results into the second backing array, which is then swapped with the
+   * first.
+   */
+  private BigIntArray apply(final int op, final int[] val, final BigIntArray other) {
+    if (other != null && other.size != size)
+      throw new IllegalArgumentException("Size mismatch: " + other.size + " != " + size);
+
+    final int[] data = this.data;
+    final int[] offsets = this.offsets;
+    final int end = offsets[size];
+    final int vlen = val == null ? 0 : Math.abs(val[0]);
+
+    // The sum of two numbers has at most 1 more limb than the longer, and the
+    // product has at most the limbs of both
+    final long bound = other != null ? end + other.offsets[size] + (op == MUL ? 0L : size) : end + (long)size * (op == MUL ? vlen : vlen + 1);
+    int[] out = spare;
+    if (out.length < bound)
+      out = new int[capacity(out.length, bound)];
+
+    // The numbers are packed, so the offset of each is that of the previous
+    // plus its length, which leaves the offsets free to be overwritten with
+    // those of the results as the loop proceeds (also if other == this)
+    for (int i = 0, off = 0, p = 0; i < size;) {
+      final int len = Math.abs(data[off]);
+      final int[] y = other == null ? val : stage(other == this ? data : other.data, other == this ? off : other.offsets[i], localOperand);
+      final int ylen = other == null ? vlen : Math.abs(y[0]);
+      int[] x = localValue.get(op == MUL ? 2 * len + ylen + 3 : Math.max(len, ylen) + 2);
+      System.arraycopy(data, off, x, 0, len + 1);
+      x = op == ADD ? BigIntAddition.add(x, y) : op == SUB ? BigIntAddition.sub(x, y) : BigIntMultiplication.mul(x, y);
+      off += len + 1;
+
+      final int n = Math.abs(x[0]) + 1;
+      System.arraycopy(x, 0, out, p, n);
+      offsets[++i] = p += n;
+    }
+
+    this.spare = data;
+    this.data = out;
+    return this;
+  }
+
+  /**
+   * Adds the provided {@linkplain BigInt#val() value-encoded number} to each
+   * number of this {@link BigIntArray}.
+   *
+   * <pre>
+   * this[i] = this[i] + add
+   * </pre>
+   *
+   * @param add The {@linkplain BigInt#val() value-encoded number} to add.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigIntArray add(final int[] add) {
+    return apply(ADD, add, null);
+  }
+
+  /**
+   * Adds the provided {@code long} to each number of this {@link BigIntArray}.
+   *
+   * <pre>
+   * this[i] = this[i] + add
+   * </pre>
+   *
+   * @param add The amount to add.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigIntArray add(final long add) {
+    return apply(ADD, BigIntValue.assign(localOperand.get(3), add), null);
+  }
+
+  /**
+   * Adds the number at each index of the provided {@link BigIntArray} to the
+   * number at the same index of this {@link BigIntArray}.
+   *
+   * <pre>
+   * this[i] = this[i] + add[i]
+   * </pre>
+   *
+   * @param add The {@link BigIntArray} of the numbers to add.
+   * @return {@code this}
+   * @throws IllegalArgumentException If the sizes of the arrays differ.
+   * @complexity O(n)
+   */
+  public BigIntArray add(final BigIntArray add) {
+    return apply(ADD, null, add);
+  }
+
+  /**
+   * Subtracts the provided {@linkplain BigInt#val() value-encoded number} from
+   * each number of this {@link BigIntArray}.
+   *
+   * <pre>
+   * this[i] = this[i] - sub
+   * </pre>
+   *
+   * @param sub The {@linkplain BigInt#val() value-encoded number} to subtract.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigIntArray sub(final int[] sub) {
+    return apply(SUB, sub, null);
+  }
+
+  /**
+   * Subtracts the provided {@code long} from each number of this
+   * {@link BigIntArray}.
+   *
+   * <pre>
+   * this[i] = this[i] - sub
+   * </pre>
+   *
+   * @param sub The amount to subtract.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigIntArray sub(final long sub) {
+    return apply(SUB, BigIntValue.assign(localOperand.get(3), sub), null);
+  }
+
+  /**
+   * Subtracts the number at each index of the provided {@link BigIntArray}
+   * from the number at the same index of this {@link BigIntArray}.
+   *
+   * <pre>
+   * this[i] = this[i] - sub[i]
+   * </pre>
+   *
+   * @param sub The {@link BigIntArray} of the numbers to subtract.
+   * @return {@code this}
+   * @throws IllegalArgumentException If the sizes of the arrays differ.
+   * @complexity O(n)
+   */
+  public BigIntArray sub(final BigIntArray sub) {
+    return apply(SUB, null, sub);
+  }
+
+  /**
+   * Multiplies each number of this {@link BigIntArray} by the provided
+   * {@linkplain BigInt#val() value-encoded number}.
+   *
+   * <pre>
+   * this[i] = this[i] * mul
+   * </pre>
+   *
+   * @param mul The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @return {@code this}
+   * @complexity O(n^2) - O(n log n)
+   */
+  public BigIntArray mul(final int[] mul) {
+    return apply(MUL, mul, null);
+  }
+
+  /**
+   * Multiplies each number of this {@link BigIntArray} by the provided
+   * {@code long}.
+   *
+   * <pre>
+   * this[i] = this[i] * mul
+   * </pre>
+   *
+   * @param mul The multiplier.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigIntArray mul(final long mul) {
+    return apply(MUL, BigIntValue.assign(localOperand.get(3), mul), null);
+  }
+
+  /**
+   * Multiplies the number at each index of this {@link BigIntArray} by the
+   * number at the same index of the provided {@link BigIntArray}.
+   *
+   * <pre>
+   * this[i] = this[i] * mul[i]
+   * </pre>
+   *
+   * @param mul The {@link BigIntArray} of the multipliers.
+   * @return {@code this}
+   * @throws IllegalArgumentException If the sizes of the arrays differ.
+   * @complexity O(n^2) - O(n log n)
+   */
+  public BigIntArray mul(final BigIntArray mul) {
+    return apply(MUL, null, mul);
+  }
+
+  /**
+   * Assigns the sum of the numbers of this {@link BigIntArray} to the provided
+   * {@linkplain BigInt#val() value-encoded number}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the sum requires a larger array.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number} to receive
+   *          the sum.
+   * @return The sum of the numbers of this {@link BigIntArray}.
+   * @complexity O(n)
+   */
+  public int[] sum(int[] val) {
+    val = BigIntValue.setToZero(val);
+    for (int i = 0; i < size; ++i)
+      val = BigIntAddition.add(val, stage(data, offsets[i], localOperand));
+
+    return val;
+  }
+
+  /**
+   * Returns the index of the least number of this {@link BigIntArray}, or
+   * {@code -1} if it is empty. Of equal numbers, the first is returned.
+   *
+   * @return The index of the least number of this {@link BigIntArray}, or
+   *         {@code -1} if it is empty.
+   * @complexity O(n)
+   */
+  public int min() {
+    return extreme(-1);
+  }
+
+  /**
+   * Returns the index of the greatest number of this {@link BigIntArray}, or
+   * {@code -1} if it is empty. Of equal numbers, the first is returned.
+   *
+   * @return The index of the greatest number of this {@link BigIntArray}, or
+   *         {@code -1} if it is empty.
+   * @complexity O(n)
+   */
+  public int max() {
+    return extreme(1);
+  }
+
+  private int extreme(final int sig) {
+    if (size == 0)
+      return -1;
+
+    int index = 0;
+    for (int i = 1; i < size; ++i)
+      if (compare(data, offsets[i], data, offsets[index]) == sig)
+        index = i;
+
+    return index;
+  }
+
+  /**
+   * Sorts the numbers of this {@link BigIntArray} in ascending order. The sort
+   * is stable, and permutes the indexes of the numbers with a merge sort,
+   * after which the numbers are packed in the sorted order into the second
+   * backing array, which is then swapped with the first.
+   *
+   * @return {@code this}
+   * @complexity O(n log n)
+   */
+  public BigIntArray sort() {
+    if (size < 2)
+      return this;
+
+    if (order.length < size) {
+      order = new int[size];
+      orderBuf = new int[size];
+    }
+
+    int[] src = order;
+    int[] dst = orderBuf;
+    for (int i = 0; i < size; ++i)
+      src[i] = i;
+
+    final int[] data = this.data;
+    final int[] offsets = this.offsets;
+    for (int width = 1; width < size; width <<= 1) {
+      for (int lo = 0; lo < size; lo += width << 1) {
+        final int mid = Math.min(lo + width, size);
+        final int hi = Math.min(lo + (width << 1), size);
+        int i = lo, j = mid, k = lo;
+        while (i < mid && j < hi)
+          dst[k++] = compare(data, offsets[src[j]], data, offsets[src[i]]) < 0 ? src[j++] : src[i++];
+
+        while (i < mid)
+          dst[k++] = src[i++];
+
+        while (j < hi)
+          dst[k++] = src[j++];
+      }
+
+      final int[] tmp = src;
+      src = dst;
+      dst = tmp;
+    }
+
+    final int end = offsets[size];
+    int[] out = spare;
+    if (out.length < end)
+      out = new int[data.length];
+
+    // Pack the numbers in the sorted order, with the offset of each in dst
+    for (int i = 0, p = 0; i < size; ++i) {
+      final int off = offsets[src[i]];
+      final int n = Math.abs(data[off]) + 1;
+      System.arraycopy(data, off, out, p, n);
+      dst[i] = p;
+      p += n;
+    }
+
+    System.arraycopy(dst, 0, offsets, 0, size);
+    this.spare = data;
+    this.data = out;
+    return this;
+  }
+
+  /**
+   * Returns the string representation of the numbers of this
+   * {@link BigIntArray}, in the format of {@link Arrays#toString(Object[])}.
+   *
+   * @return The string representation of the numbers of this
+   *         {@link BigIntArray}.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < size; ++i) {
+      if (i > 0)
+        builder.append(", ");
+
+      BigIntValue.writeTo(stage(data, offsets[i], localOperand), builder);
+    }
+
+    return builder.append(']').toString();
+  }
+}
@@ -29,8 +29,16 @@
 
 package org.libj.math;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 abstract class BigIntBinary extends BigIntMagnitude {
   private static final long serialVersionUID = 6584645376198040730L;
@@ -597,6 +605,96 @@ abstract class BigIntBinary extends BigIntMagnitude {
     return val;
   }
 
+  /**
+   * Performs {@code val[i] &= mask[i]} for the limbs in the range
+   * {@code [from, to)}, with the SIMD kernel of {@link BigIntVector} if the
+   * range is long enough.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  private static void andLimbs(final int[] val, final int[] mask, int from, final int to) {
+    if (to - from >= BigIntVector.BITWISE_THRESHOLD)
+      BigIntVector.and(val, mask, from, to);
+    else
+      for (; from < to; ++from)
+        val[from] &= mask[from];
+  }
+
+  /**
+   * Performs {@code val[i] &= ~mask[i]} for the limbs in the range
+   * {@code [from, to)}, with the SIMD kernel of {@link BigIntVector} if the
+   * range is long enough.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  private static void andNotLimbs(final int[] val, final int[] mask, int from, final int to) {
+    if (to - from >= BigIntVector.BITWISE_THRESHOLD)
+      BigIntVector.andNot(val, mask, from, to);
+    else
+      for (; from < to; ++from)
+        val[from] &= ~mask[from];
+  }
+
+  /**
+   * Performs {@code val[i] = ~val[i] & mask[i]} for the limbs in the range
+   * {@code [from, to)}, with the SIMD kernel of {@link BigIntVector} if the
+   * range is long enough.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  private static void notAndLimbs(final int[] val, final int[] mask, int from, final int to) {
+    if (to - from >= BigIntVector.BITWISE_THRESHOLD)
+      BigIntVector.notAnd(val, mask, from, to);
+    else
+      for (; from < to; ++from)
+        val[from] = ~val[from] & mask[from];
+  }
+
+  /**
+   * Performs {@code val[i] |= mask[i]} for the limbs in the range
+   * {@code [from, to)}, with the SIMD kernel of {@link BigIntVector} if the
+   * range is long enough.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  private static void orLimbs(final int[] val, final int[] mask, int from, final int to) {
+    if (to - from >= BigIntVector.BITWISE_THRESHOLD)
+      BigIntVector.or(val, mask, from, to);
+    else
+      for (; from < to; ++from)
+        val[from] |= mask[from];
+  }
+
+  /**
+   * Performs {@code val[i] ^= mask[i]} for the limbs in the range
+   * {@code [from, to)}, with the SIMD kernel of {@link BigIntVector} if the
+   * range is long enough.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  private static void xorLimbs(final int[] val, final int[] mask, int from, final int to) {
+    if (to - from >= BigIntVector.BITWISE_THRESHOLD)
+      BigIntVector.xor(val, mask, from, to);
+    else
+      for (; from < to; ++from)
+        val[from] ^= mask[from];
+  }
+
   /**
    * Performs a bitwise "and" of the specified {@linkplain BigInt#val()
    * value-encoded mask} onto the provided {@linkplain BigInt#val()
@@ -628,12 +726,8 @@ abstract class BigIntBinary extends BigIntMagnitude {
         if (len2 < len1)
           len1 = len2;
 
-        boolean zeroes = true;
-        for (int i = len1; i >= 1; --i) {
-          val[i] &= mask[i];
-          if (zeroes && (zeroes = val[i] == 0))
-            --len1;
-        }
+        andLimbs(val, mask, 1, len1 + 1);
+        for (; len1 > 0 && val[len1] == 0; --len1);
       }
       else {
         final int mlen = Math.min(len1, len2);
@@ -663,8 +757,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           val[j - 1] &= -b;
         }
 
-        for (; j <= mlen; ++j)
-          val[j] &= ~mask[j];
+        andNotLimbs(val, mask, j, mlen + 1);
       }
     }
     else {
@@ -690,8 +783,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           val[j - 1] = -a & b;
         }
 
-        for (; j <= mlen; ++j)
-          val[j] = ~val[j] & mask[j];
+        notAndLimbs(val, mask, j, mlen + 1);
 
         if (len2 > len1) {
           if (len2 >= val.length)
@@ -769,8 +861,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           }
         }
 
-        for (; j < mlen; ++j)
-          val[j] |= mask[j]; // ~(~dig[j]&~mask.dig[j]);
+        orLimbs(val, mask, j, mlen); // ~(~dig[j]&~mask.dig[j]);
 
         if (len2 > len1)
           len1 = len2;
@@ -823,14 +914,12 @@ abstract class BigIntBinary extends BigIntMagnitude {
             val = realloc(val, len1 + 1, len2 + 2);
 
           System.arraycopy(mask, len1 + 1, val, len1 + 1, len2 - len1);
-          for (int i = 1; i <= len1; ++i)
-            val[i] |= mask[i];
+          orLimbs(val, mask, 1, len1 + 1);
 
           len1 = len2;
         }
         else {
-          for (int i = 1; i <= len2; ++i)
-            val[i] |= mask[i];
+          orLimbs(val, mask, 1, len2 + 1);
         }
       }
       else {
@@ -863,8 +952,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           val[j - 1] = -(a | -b);
         }
 
-        for (; j <= mlen; ++j)
-          val[j] = ~val[j] & mask[j]; // ~(dig[j]|~mask.dig[j])
+        notAndLimbs(val, mask, j, mlen + 1); // ~(dig[j]|~mask.dig[j])
 
         len1 = len2;
         sig1 = -1;
@@ -901,8 +989,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           val[j - 1] = -(-a | b);
         }
 
-        for (; j <= mlen; ++j)
-          val[j] &= ~mask[j]; // ~(~dig[j]|mask.dig[j])
+        andNotLimbs(val, mask, j, mlen + 1); // ~(~dig[j]|mask.dig[j])
       }
       else {
         if (a != 0 && b == 0) {
@@ -925,8 +1012,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           val[j - 1] = -(-a | -b);
         }
 
-        for (; j <= mlen; ++j)
-          val[j] &= mask[j]; // ~(~dig[j]|~mask.dig[j])
+        andLimbs(val, mask, j, mlen + 1); // ~(~dig[j]|~mask.dig[j])
 
         len1 = mlen;
       }
@@ -999,8 +1085,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
 
       final int mlen = Math.min(len1, len2);
       if (sig2 > 0) {
-        for (int i = 0; i < mlen; ++i)
-          val[i] ^= mask[i];
+        xorLimbs(val, mask, 0, mlen);
       }
       else {
         int a = val[off], b = mask[off], j = 1 + off;
@@ -1046,8 +1131,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           }
         }
 
-        for (; j < mlen; ++j)
-          val[j] ^= mask[j]; // ~(dig[j]^~dig2[j]);
+        xorLimbs(val, mask, j, mlen); // ~(dig[j]^~dig2[j]);
 
         sig1 = -1;
       }
@@ -1108,8 +1192,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           }
         }
 
-        for (; j < mlen; j++)
-          val[j] ^= mask[j]; // ~(~dig[j]^dig2[j]);
+        xorLimbs(val, mask, j, mlen); // ~(~dig[j]^dig2[j]);
       }
       else {
         int a = val[off], b = mask[off], j = 1 + off;
@@ -1143,8 +1226,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           val[j - 1] = -a ^ -b;
         }
 
-        for (; j < mlen; ++j)
-          val[j] ^= mask[j]; // ~dig[j]^~dig2[j]
+        xorLimbs(val, mask, j, mlen); // ~dig[j]^~dig2[j]
 
         sig1 = 1;
       }
@@ -1191,17 +1273,17 @@ abstract class BigIntBinary extends BigIntMagnitude {
     final int mlen = Math.min(len1, len2);
     if (sig1 > 0) {
       if (sig2 > 0) {
-        for (int i = off; i < mlen; ++i)
-          val[i] &= ~mask[i];
+        andNotLimbs(val, mask, off, mlen);
       }
       else {
         int j = off;
         while (j < mlen && mask[j] == 0)
           ++j;
 
-        if (j < mlen)
-          for (val[j] &= ~-mask[j]; ++j < mlen;)
-            val[j] &= mask[j]; // ~~val2[j]
+        if (j < mlen) {
+          val[j] &= ~-mask[j];
+          andLimbs(val, mask, j + 1, mlen); // ~~val2[j]
+        }
 
         len1 = mlen;
       }
@@ -1246,8 +1328,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
             ++j;
           }
 
-          for (; j < mlen; ++j)
-            val[j] |= mask[j]; // ~(~dig[j]&~val2[j]);
+          orLimbs(val, mask, j, mlen); // ~(~dig[j]&~val2[j]);
 
           if (len2 > len1)
             len1 = len2;
@@ -1279,8 +1360,7 @@ abstract class BigIntBinary extends BigIntMagnitude {
           val[j - 1] = -a & ~-b;
         }
 
-        for (; j < mlen; ++j)
-          val[j] = ~val[j] & mask[j];
+        notAndLimbs(val, mask, j, mlen);
 
         // FIXME: This was hacked together...
         if (len2 > 2 && val[len2 - 1] == 0)
@@ -1321,6 +1401,9 @@ abstract class BigIntBinary extends BigIntMagnitude {
   public static int[] not(int[] val) {
     final int len = val[0];
     if (len == 0) {
+      if (val.length < 2)
+        val = alloc(2);
+
       val[0] = -1;
       val[1] = 1;
       // _debugLenSig(val);
@@ -1394,6 +1477,185 @@ abstract class BigIntBinary extends BigIntMagnitude {
     return bytes;
   }
 
+  /**
+   * Returns the number of bytes of the compact binary representation of the
+   * provided {@linkplain BigInt#val() value-encoded number}, as written by
+   * {@link #write(int[],ByteBuffer)}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return The number of bytes of the compact binary representation of the
+   *         provided {@linkplain BigInt#val() value-encoded number}.
+   * @complexity O(1)
+   */
+  public static int binarySize(final int[] val) {
+    final int len = val[0];
+    return FastMath.varintLength(FastMath.zigZag(len)) + Math.abs(len) * Integer.BYTES;
+  }
+
+  /**
+   * Puts the compact binary representation of the provided
+   * {@linkplain BigInt#val() value-encoded number} into the provided
+   * {@link ByteBuffer} at its position, and advances the position, without
+   * allocation.
+   * <p>
+   * The binary representation is the signed length {@code val[0]} as a
+   * zig-zag varint, followed by the limbs in little-endian order, each in 4
+   * little-endian bytes, regardless of the {@link ByteBuffer#order() order} of
+   * the buffer. A number of up to 63 limbs thereby has a header of one byte,
+   * and zero is encoded in a single byte.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws BufferOverflowException If the binary representation does not fit
+   *           in the remaining space of {@code dst}, in which case nothing is
+   *           written.
+   * @complexity O(n)
+   */
+  public static int write(final int[] val, final ByteBuffer dst) {
+    final int len = val[0];
+    final long header = FastMath.zigZag(len);
+    final int abs = Math.abs(len);
+    final int n = FastMath.varintLength(header) + abs * Integer.BYTES;
+    if (dst.remaining() < n)
+      throw new BufferOverflowException();
+
+    FastMath.putVarint(header, dst);
+    if (dst.order() == ByteOrder.LITTLE_ENDIAN)
+      for (int i = 1; i <= abs; ++i)
+        dst.putInt(val[i]);
+    else
+      for (int i = 1; i <= abs; ++i)
+        dst.putInt(Integer.reverseBytes(val[i]));
+
+    return n;
+  }
+
+  /**
+   * Gets the {@linkplain BigInt#val() value-encoded number} of the compact
+   * binary representation (i.e. that of {@link #write(int[],ByteBuffer)}) at
+   * the position of the provided {@link ByteBuffer}, and advances the position
+   * past it.
+   * <p>
+   * <i><b>Note:</b> The number is read into {@code reuse} if its length is
+   * sufficient, or otherwise into a new {@code int[]}, so a stream of numbers
+   * can be read without allocation.</i>
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @param reuse The {@code int[]} to reuse for the returned number, or
+   *          {@code null}.
+   * @return The {@linkplain BigInt#val() value-encoded number}, which is
+   *         {@code reuse} if its length is sufficient, or otherwise a
+   *         {@code new int[]}.
+   * @throws BufferUnderflowException If the binary representation is truncated
+   *           by the limit of {@code src}, in which case the position is not
+   *           changed.
+   * @throws IllegalArgumentException If the binary representation is malformed,
+   *           in which case the position is not changed.
+   * @complexity O(n)
+   */
+  public static int[] read(final ByteBuffer src, int[] reuse) {
+    final int pos = src.position();
+    final long header = FastMath.getVarint(src);
+    if (header > 2L * MAX_VAL_LENGTH) {
+      src.position(pos);
+      throw new IllegalArgumentException("Length out of range: " + FastMath.unZigZag(header));
+    }
+
+    final int len = (int)FastMath.unZigZag(header);
+    final int abs = Math.abs(len);
+    final int off = src.position();
+    if (src.limit() - off < abs * Integer.BYTES) {
+      src.position(pos);
+      throw new BufferUnderflowException();
+    }
+
+    if (abs > 0 && src.getInt(off + (abs - 1) * Integer.BYTES) == 0) {
+      src.position(pos);
+      throw new IllegalArgumentException("Most significant limb is zero at " + pos);
+    }
+
+    if (reuse == null || reuse.length <= abs)
+      reuse = alloc(abs + 1);
+
+    if (src.order() == ByteOrder.LITTLE_ENDIAN)
+      for (int i = 1; i <= abs; ++i)
+        reuse[i] = src.getInt();
+    else
+      for (int i = 1; i <= abs; ++i)
+        reuse[i] = Integer.reverseBytes(src.getInt());
+
+    reuse[0] = len;
+    // _debugLenSig(reuse);
+    return reuse;
+  }
+
+  /**
+   * Writes the compact binary representation of the provided
+   * {@linkplain BigInt#val() value-encoded number} (i.e. that of
+   * {@link #write(int[],ByteBuffer)}) to the provided {@link DataOutput},
+   * without allocation.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param out The target {@link DataOutput}.
+   * @return The number of bytes written.
+   * @throws IOException If an I/O error has occurred.
+   * @complexity O(n)
+   */
+  public static int write(final int[] val, final DataOutput out) throws IOException {
+    final int len = val[0];
+    final long header = FastMath.zigZag(len);
+    final int abs = Math.abs(len);
+    FastMath.writeVarint(header, out);
+    for (int i = 1; i <= abs; ++i)
+      out.writeInt(Integer.reverseBytes(val[i]));
+
+    return FastMath.varintLength(header) + abs * Integer.BYTES;
+  }
+
+  /**
+   * Reads the {@linkplain BigInt#val() value-encoded number} of the compact
+   * binary representation (i.e. that of {@link #write(int[],DataOutput)}) from
+   * the provided {@link DataInput}.
+   * <p>
+   * <i><b>Note:</b> The number is read into {@code reuse} if its length is
+   * sufficient, or otherwise into a new {@code int[]}. If an exception is
+   * thrown, the limbs of {@code reuse} are undefined.</i>
+   *
+   * @param in The source {@link DataInput}.
+   * @param reuse The {@code int[]} to reuse for the returned number, or
+   *          {@code null}.
+   * @return The {@linkplain BigInt#val() value-encoded number}, which is
+   *         {@code reuse} if its length is sufficient, or otherwise a
+   *         {@code new int[]}.
+   * @throws java.io.EOFException If the end of the input is reached before the
+   *           end of the binary representation.
+   * @throws StreamCorruptedException If the binary representation is
+   *           malformed.
+   * @throws IOException If an I/O error has occurred.
+   * @complexity O(n)
+   */
+  public static int[] read(final DataInput in, int[] reuse) throws IOException {
+    final long header = FastMath.readVarint(in);
+    if (header > 2L * MAX_VAL_LENGTH)
+      throw new StreamCorruptedException("Length out of range: " + FastMath.unZigZag(header));
+
+    final int len = (int)FastMath.unZigZag(header);
+    final int abs = Math.abs(len);
+    if (reuse == null || reuse.length <= abs)
+      reuse = alloc(abs + 1);
+
+    for (int i = 1; i <= abs; ++i)
+      reuse[i] = Integer.reverseBytes(in.readInt());
+
+    if (abs > 0 && reuse[abs] == 0)
+      throw new StreamCorruptedException("Most significant limb is zero");
+
+    reuse[0] = len;
+    // _debugLenSig(reuse);
+    return reuse;
+  }
+
   /**
    * Returns a {@link BigInteger} representation of the provided
    * {@linkplain BigInt#val() value-encoded number}.
@@ -0,0 +1,561 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+
+package org.libj.math;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Arithmetic on {@linkplain BigInt#val() value-encoded numbers} that are
+ * stored off the heap in a {@link ByteBuffer}, such as a direct buffer, a
+ * {@link java.nio.MappedByteBuffer} of a file, or the
+ * {@code asByteBuffer()} view of a {@code MemorySegment} of an arena.
+ * <p>
+ * A number occupies a slot of {@link #size(int) size(cap)} bytes at a byte
+ * offset in the buffer, with the same layout as the {@linkplain BigInt#val()
+ * value-encoded <code>int[]</code>}: the signed length, followed by up to
+ * {@code cap} limbs from the least significant, each as an {@code int} in the
+ * {@link ByteBuffer#order() order} of the buffer. The buffer is accessed with
+ * absolute reads and writes, so its position and limit are not used.
+ * <p>
+ * The addition, subtraction and comparison read and write the limbs of the
+ * slot in place, and do not allocate. The multiplication computes the product
+ * in an array of the current thread that is reused across calls, and writes it
+ * back to the slot. An operation of which the result exceeds the capacity of
+ * the slot throws a {@link BufferOverflowException}, and leaves the slot
+ * unchanged.
+ * <p>
+ * The operations are not atomic: concurrent operations on the same slot must
+ * be synchronized by the caller.
+ */
+public final class BigIntBuffer {
+  private static final long LONG_MASK = BigIntValue.LONG_MASK;
+  private static final BigIntValue.LocalArray localOperand = new BigIntValue.LocalArray();
+  private static final BigIntValue.LocalArray localProduct = new BigIntValue.LocalArray();
+
+  /**
+   * Returns the number of bytes of a slot with a capacity of {@code cap}
+   * limbs.
+   *
+   * @param cap The capacity of the slot in limbs.
+   * @return The number of bytes of a slot with a capacity of {@code cap}
+   *         limbs.
+   */
+  public static int size(final int cap) {
+    return (cap + 1) * Integer.BYTES;
+  }
+
+  private static int limb(final ByteBuffer buf, final int off, final int i) {
+    return buf.getInt(off + (i + 1) * Integer.BYTES);
+  }
+
+  private static void limb(final ByteBuffer buf, final int off, final int i, final int limb) {
+    buf.putInt(off + (i + 1) * Integer.BYTES, limb);
+  }
+
+  private static void checkCapacity(final int len, final int cap) {
+    if (len > cap)
+      throw new BufferOverflowException();
+  }
+
+  /**
+   * Assigns the provided {@linkplain BigInt#val() value-encoded number} to the
+   * slot at {@code off}.
+   *
+   * <pre>
+   * buf[off] = val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @throws BufferOverflowException If the number exceeds the capacity of the
+   *           slot.
+   * @complexity O(n)
+   */
+  public static void assign(final ByteBuffer buf, final int off, final int cap, final int[] val) {
+    final int len = val[0];
+    final int abs = len < 0 ? -len : len;
+    checkCapacity(abs, cap);
+    for (int i = 0; i < abs; ++i)
+      limb(buf, off, i, val[i + 1]);
+
+    buf.putInt(off, len);
+  }
+
+  /**
+   * Assigns the provided {@code long} to the slot at {@code off}.
+   *
+   * <pre>
+   * buf[off] = val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The value.
+   * @throws BufferOverflowException If the value exceeds the capacity of the
+   *           slot.
+   * @complexity O(1)
+   */
+  public static void assign(final ByteBuffer buf, final int off, final int cap, final long val) {
+    assign(buf, off, cap, operand(val));
+  }
+
+  /**
+   * Returns the number in the slot at {@code off} as a
+   * {@linkplain BigInt#val() value-encoded number} in the provided array.
+   *
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the number requires a larger array.</i>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param val The target array.
+   * @return The number in the slot at {@code off} as a
+   *         {@linkplain BigInt#val() value-encoded number}.
+   * @complexity O(n)
+   */
+  public static int[] get(final ByteBuffer buf, final int off, int[] val) {
+    final int len = buf.getInt(off);
+    final int abs = len < 0 ? -len : len;
+    if (abs + 1 > val.length)
+      val = BigIntValue.alloc(abs + 1);
+
+    for (int i = 0; i < abs; ++i)
+      val[i + 1] = limb(buf, off, i);
+
+    val[0] = len;
+    return val;
+  }
+
+  /**
+   * Returns the signum of the number in the slot at {@code off}.
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @return -1, 0 or 1 as the number in the slot is negative, zero or
+   *         positive.
+   * @complexity O(1)
+   */
+  public static int signum(final ByteBuffer buf, final int off) {
+    return Integer.signum(buf.getInt(off));
+  }
+
+  /**
+   * Compares the number in the slot at {@code off} with the provided
+   * {@linkplain BigInt#val() value-encoded number}.
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return -1, 0 or 1 as the number in the slot is less than, equal to, or
+   *         greater than {@code val}.
+   * @complexity O(n)
+   */
+  public static int compareTo(final ByteBuffer buf, final int off, final int[] val) {
+    final int len = buf.getInt(off);
+    final int vlen = val[0];
+    if (len != vlen)
+      return len < vlen ? -1 : 1;
+
+    final int cmp = compareMag(buf, off, val, len < 0 ? -len : len);
+    return len < 0 ? -cmp : cmp;
+  }
+
+  /**
+   * Compares the numbers in the slots at {@code off1} and {@code off2}.
+   *
+   * @param buf1 The {@link ByteBuffer} of the first slot.
+   * @param off1 The byte offset of the first slot.
+   * @param buf2 The {@link ByteBuffer} of the second slot.
+   * @param off2 The byte offset of the second slot.
+   * @return -1, 0 or 1 as the number in the first slot is less than, equal to,
+   *         or greater than the number in the second slot.
+   * @complexity O(n)
+   */
+  public static int compareTo(final ByteBuffer buf1, final int off1, final ByteBuffer buf2, final int off2) {
+    final int len1 = buf1.getInt(off1);
+    final int len2 = buf2.getInt(off2);
+    if (len1 != len2)
+      return len1 < len2 ? -1 : 1;
+
+    for (int i = (len1 < 0 ? -len1 : len1) - 1; i >= 0; --i) {
+      final int a = limb(buf1, off1, i);
+      final int b = limb(buf2, off2, i);
+      if (a != b)
+        return (Integer.compareUnsigned(a, b) < 0) == len1 > 0 ? -1 : 1;
+    }
+
+    return 0;
+  }
+
+  /**
+   * Compares the magnitude of {@code len} limbs in the slot at {@code off} with
+   * the magnitude of the same length of the provided number.
+   */
+  private static int compareMag(final ByteBuffer buf, final int off, final int[] val, final int len) {
+    for (int i = len - 1; i >= 0; --i) {
+      final int a = limb(buf, off, i);
+      final int b = val[i + 1];
+      if (a != b)
+        return Integer.compareUnsigned(a, b);
+    }
+
+    return 0;
+  }
+
+  /**
+   * Adds the provided {@linkplain BigInt#val() value-encoded number} to the
+   * number in the slot at {@code off}, in place.
+   *
+   * <pre>
+   * buf[off] = buf[off] + val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The {@linkplain BigInt#val() value-encoded addend}.
+   * @throws BufferOverflowException If the sum exceeds the capacity of the
+   *           slot, in which case the slot is unchanged.
+   * @complexity O(n)
+   */
+  public static void add(final ByteBuffer buf, final int off, final int cap, final int[] val) {
+    add(buf, off, cap, val, false);
+  }
+
+  /**
+   * Adds the provided {@code long} to the number in the slot at {@code off},
+   * in place.
+   *
+   * <pre>
+   * buf[off] = buf[off] + val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The addend.
+   * @throws BufferOverflowException If the sum exceeds the capacity of the
+   *           slot, in which case the slot is unchanged.
+   * @complexity O(n)
+   */
+  public static void add(final ByteBuffer buf, final int off, final int cap, final long val) {
+    add(buf, off, cap, operand(val), false);
+  }
+
+  /**
+   * Adds the number in the slot at {@code srcOff} of {@code src} to the
+   * number in the slot at {@code off} of {@code buf}, in place. The number in
+   * the source slot is read into an array of the current thread.
+   *
+   * <pre>
+   * buf[off] = buf[off] + src[srcOff]
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param src The {@link ByteBuffer} of the source slot.
+   * @param srcOff The byte offset of the source slot.
+   * @throws BufferOverflowException If the sum exceeds the capacity of the
+   *           slot, in which case the slot is unchanged.
+   * @complexity O(n)
+   */
+  public static void add(final ByteBuffer buf, final int off, final int cap, final ByteBuffer src, final int srcOff) {
+    add(buf, off, cap, operand(src, srcOff), false);
+  }
+
+  /**
+   * Subtracts the provided {@linkplain BigInt#val() value-encoded number} from
+   * the number in the slot at {@code off}, in place.
+   *
+   * <pre>
+   * buf[off] = buf[off] - val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The {@linkplain BigInt#val() value-encoded subtrahend}.
+   * @throws BufferOverflowException If the difference exceeds the capacity of
+   *           the slot, in which case the slot is unchanged.
+   * @complexity O(n)
+   */
+  public static void sub(final ByteBuffer buf, final int off, final int cap, final int[] val) {
+    add(buf, off, cap, val, true);
+  }
+
+  /**
+   * Subtracts the provided {@code long} from the number in the slot at
+   * {@code off}, in place.
+   *
+   * <pre>
+   * buf[off] = buf[off] - val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The subtrahend.
+   * @throws BufferOverflowException If the difference exceeds the capacity of
+   *           the slot, in which case the slot is unchanged.
+   * @complexity O(n)
+   */
+  public static void sub(final ByteBuffer buf, final int off, final int cap, final long val) {
+    add(buf, off, cap, operand(val), true);
+  }
+
+  /**
+   * Subtracts the number in the slot at {@code srcOff} of {@code src} from the
+   * number in the slot at {@code off} of {@code buf}, in place. The number in
+   * the source slot is read into an array of the current thread.
+   *
+   * <pre>
+   * buf[off] = buf[off] - src[srcOff]
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param src The {@link ByteBuffer} of the source slot.
+   * @param srcOff The byte offset of the source slot.
+   * @throws BufferOverflowException If the difference exceeds the capacity of
+   *           the slot, in which case the slot is unchanged.
+   * @complexity O(n)
+   */
+  public static void sub(final ByteBuffer buf, final int off, final int cap, final ByteBuffer src, final int srcOff) {
+    add(buf, off, cap, operand(src, srcOff), true);
+  }
+
+  /**
+   * Multiplies the number in the slot at {@code off} by the provided
+   * {@linkplain BigInt#val() value-encoded number}. The product is computed in
+   * an array of the current thread, and is written back to the slot.
+   *
+   * <pre>
+   * buf[off] = buf[off] * val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @throws BufferOverflowException If the product exceeds the capacity of the
+   *           slot, in which case the slot is unchanged.
+   * @complexity O(n^2) - O(n log n)
+   */
+  public static void mul(final ByteBuffer buf, final int off, final int cap, final int[] val) {
+    final int len = Math.abs(buf.getInt(off));
+    final int[] product = localProduct.take(len + Math.abs(val[0]) + 3);
+    final int[] result = BigIntMultiplication.mul(get(buf, off, product), val);
+    try {
+      assign(buf, off, cap, result);
+    }
+    finally {
+      localProduct.release(product);
+    }
+  }
+
+  /**
+   * Multiplies the number in the slot at {@code off} by the provided
+   * {@code long}. The product is computed in an array of the current thread,
+   * and is written back to the slot.
+   *
+   * <pre>
+   * buf[off] = buf[off] * val
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param off The byte offset of the slot.
+   * @param cap The capacity of the slot in limbs.
+   * @param val The multiplier.
+   * @throws BufferOverflowException If the product exceeds the capacity of the
+   *           slot, in which case the slot is unchanged.
+   * @complexity O(n)
+   */
+  public static void mul(final ByteBuffer buf, final int off, final int cap, final long val) {
+    final int len = Math.abs(buf.getInt(off));
+    final int[] product = localProduct.take(len + 4);
+    final int[] result = BigIntMultiplication.mul(get(buf, off, product), val);
+    try {
+      assign(buf, off, cap, result);
+    }
+    finally {
+      localProduct.release(product);
+    }
+  }
+
+  private static int[] operand(final long val) {
+    return BigIntValue.assign(localOperand.get(3), val);
+  }
+
+  private static int[] operand(final ByteBuffer src, final int srcOff) {
+    return get(src, srcOff, localOperand.get(Math.abs(src.getInt(srcOff)) + 1));
+  }
+
+  /**
+   * Adds or subtracts the provided {@linkplain BigInt#val() value-encoded
+   * number} to or from the number in the slot at {@code off}, in place.
+   */
+  private static void add(final ByteBuffer buf, final int off, final int cap, final int[] val, final boolean sub) {
+    int vlen = val[0];
+    if (vlen == 0)
+      return;
+
+    final boolean vsig = vlen > 0 != sub;
+    if (vlen < 0)
+      vlen = -vlen;
+
+    int len = buf.getInt(off);
+    if (len == 0) {
+      checkCapacity(vlen, cap);
+      for (int i = 0; i < vlen; ++i)
+        limb(buf, off, i, val[i + 1]);
+
+      buf.putInt(off, vsig ? vlen : -vlen);
+      return;
+    }
+
+    boolean sig = len > 0;
+    if (!sig)
+      len = -len;
+
+    if (sig == vsig) {
+      len = addMag(buf, off, cap, len, val, vlen);
+    }
+    else {
+      final int cmp = len != vlen ? (len < vlen ? -1 : 1) : compareMag(buf, off, val, len);
+      if (cmp == 0) {
+        buf.putInt(off, 0);
+        return;
+      }
+
+      if (cmp > 0) {
+        len = subMag(buf, off, len, val, vlen);
+      }
+      else {
+        len = subMagReverse(buf, off, cap, len, val, vlen);
+        sig = vsig;
+      }
+    }
+
+    buf.putInt(off, sig ? len : -len);
+  }
+
+  /**
+   * Adds the magnitude of {@code val} to the magnitude in the slot, and
+   * returns the length of the sum.
+   */
+  private static int addMag(final ByteBuffer buf, final int off, final int cap, final int len, final int[] val, final int vlen) {
+    final int max = Math.max(len, vlen);
+    checkCapacity(max, cap);
+    if (max == cap) {
+      // Dry run of the carry, to leave the slot unchanged on overflow
+      long carry = 0;
+      for (int i = 0; i < max; ++i)
+        carry = ((i < len ? limb(buf, off, i) & LONG_MASK : 0) + (i < vlen ? val[i + 1] & LONG_MASK : 0) + carry) >>> 32;
+
+      if (carry != 0)
+        throw new BufferOverflowException();
+    }
+
+    long carry = 0;
+    int i = 0;
+    for (; i < vlen; ++i) {
+      carry += (i < len ? limb(buf, off, i) & LONG_MASK : 0) + (val[i + 1] & LONG_MASK);
+      limb(buf, off, i, (int)carry);
+      carry >>>= 32;
+    }
+
+    for (; carry != 0 && i < len; ++i) {
+      carry += limb(buf, off, i) & LONG_MASK;
+      limb(buf, off, i, (int)carry);
+      carry >>>= 32;
+    }
+
+    if (carry != 0) {
+      limb(buf, off, max, 1);
+      return max + 1;
+    }
+
+    return max;
+  }
+
+  /**
+   * Subtracts the smaller magnitude of {@code val} from the magnitude in the
+   * slot, and returns the length of the difference.
+   */
+  private static int subMag(final ByteBuffer buf, final int off, int len, final int[] val, final int vlen) {
+    long borrow = 0;
+    int i = 0;
+    for (; i < vlen; ++i) {
+      borrow = (limb(buf, off, i) & LONG_MASK) - (val[i + 1] & LONG_MASK) + borrow;
+      limb(buf, off, i, (int)borrow);
+      borrow >>= 32;
+    }
+
+    for (; borrow != 0 && i < len; ++i) {
+      borrow = (limb(buf, off, i) & LONG_MASK) + borrow;
+      limb(buf, off, i, (int)borrow);
+      borrow >>= 32;
+    }
+
+    while (len > 0 && limb(buf, off, len - 1) == 0)
+      --len;
+
+    return len;
+  }
+
+  /**
+   * Subtracts the smaller magnitude in the slot from the magnitude of
+   * {@code val} into the slot, and returns the length of the difference.
+   */
+  private static int subMagReverse(final ByteBuffer buf, final int off, final int cap, final int len, final int[] val, final int vlen) {
+    long borrow;
+    if (vlen > cap) {
+      // Dry run of the limbs above the capacity, to leave the slot unchanged on overflow
+      borrow = 0;
+      for (int i = 0; i < vlen; ++i) {
+        borrow = (val[i + 1] & LONG_MASK) - (i < len ? limb(buf, off, i) & LONG_MASK : 0) + borrow;
+        if (i >= cap && (int)borrow != 0)
+          throw new BufferOverflowException();
+
+        borrow >>= 32;
+      }
+    }
+
+    int end = Math.min(vlen, cap);
+    borrow = 0;
+    for (int i = 0; i < end; ++i) {
+      borrow = (val[i + 1] & LONG_MASK) - (i < len ? limb(buf, off, i) & LONG_MASK : 0) + borrow;
+      limb(buf, off, i, (int)borrow);
+      borrow >>= 32;
+    }
+
+    while (end > 0 && limb(buf, off, end - 1) == 0)
+      --end;
+
+    return end;
+  }
+
+  private BigIntBuffer() {
+  }
+}
@@ -29,9 +29,103 @@
 
 package org.libj.math;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
 abstract class BigIntDivision extends BigIntMultiplication {
   private static final long serialVersionUID = -4156041218135948540L;
 
+  /**
+   * The threshold value for using Burnikel-Ziegler division. If the number of
+   * ints in the divisor is greater than this number, and the number of ints in
+   * the dividend exceeds that of the divisor by at least
+   * {@link #BURNIKEL_ZIEGLER_OFFSET}, then Burnikel-Ziegler division will be
+   * used instead of Knuth's Algorithm D.
+   * <p>
+   * Burnikel-Ziegler divides recursively into halves, with the quotient of each
+   * half computed from the division of the upper part of the dividend, and the
+   * remainder corrected with a multiplication of the quotient by the lower
+   * half of the divisor. The algorithm thus runs in the time of the
+   * multiplication algorithm ({@code O(n^1.58)} with Karatsuba), instead of
+   * {@code O(n^2)}. The time of one level of Burnikel-Ziegler relative to
+   * Knuth's Algorithm D for a dividend of {@code 2 * len} ints is (where
+   * {@code <1} favors Burnikel-Ziegler):
+   *
+   * <pre>
+   * len   | 60   | 80   | 100  | 120  | 140  | 150
+   * ------+------+------+------+------+------+------
+   * Java  | 1.23 | 1.02 | 0.90 | 1.05 | 0.89 | 0.91
+   * JNI   | 1.27 | 1.19 | 1.20 | 1.04 | 1.00 | 0.94
+   * </pre>
+   */
+  static final int BURNIKEL_ZIEGLER_THRESHOLD = (int)(BigIntThresholds.get("BURNIKEL_ZIEGLER_THRESHOLD", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 100 : 120) * THRESHOLD_FACTOR); // 100 : 120
+
+  /**
+   * The minimum number of ints by which the dividend must exceed the divisor
+   * for Burnikel-Ziegler division to be used.
+   *
+   * @see #BURNIKEL_ZIEGLER_THRESHOLD
+   */
+  static final int BURNIKEL_ZIEGLER_OFFSET = BigIntThresholds.get("BURNIKEL_ZIEGLER_OFFSET", 40);
+
+  /**
+   * The number of limbs at or above which a number is converted to a string of
+   * radix 10, or of another radix that is not a power of two, recursively (see
+   * {@link #toStringRecursive(int[],int,int,int,int)}), instead of with the
+   * repeated division by {@code 10^13}. The recursion
+   * splits the number by a power of ten into halves that are converted
+   * independently, such that the conversion runs in the time of the division,
+   * instead of {@code O(n^2)}.
+   */
+  static final int TOSTRING_THRESHOLD = (int)(BigIntThresholds.get("TOSTRING_THRESHOLD", 100) * THRESHOLD_FACTOR);
+
+  /**
+   * The number of limbs at or above which the halves of the recursive
+   * conversion to a string of radix 10 are converted in parallel on the
+   * {@link #getForkJoinPool() ForkJoinPool}.
+   */
+  static final int PARALLEL_TOSTRING_THRESHOLD = BigIntThresholds.get("PARALLEL_TOSTRING_THRESHOLD", 4096);
+
+  /**
+   * The number of decimal digits at or above which a string of radix 10 is
+   * parsed recursively (see {@link #parseRecursive(char[],int,int,int,int)}),
+   * instead of with the repeated multiplication by {@code 10^9}. The recursion
+   * parses the halves of the digits independently, and combines them with the
+   * multiplication of the upper half by a power of ten, such that the parsing
+   * runs in the time of the multiplication, instead of {@code O(n^2)}.
+   */
+  static final int PARSE_THRESHOLD = (int)(BigIntThresholds.get("PARSE_THRESHOLD", 4000) * THRESHOLD_FACTOR);
+
+  /**
+   * The number of digits of each radix in the first power of
+   * {@link #squaredPows}, which is the largest power of the radix that is less
+   * than <code>2<sup>63</sup></code> (i.e. {@code 18} for radix 10).
+   */
+  private static final byte[] longDigits = new byte[Character.MAX_RADIX + 1];
+
+  /**
+   * The powers <code>radix<sup>longDigits[radix] * 2<sup>i</sup></sup></code>
+   * of each radix by which the numbers are split in
+   * {@link #toStringRecursive(int[],int,int,int,int)}, and combined in
+   * {@link #parseRecursive(char[],int,int,int,int)}. The powers of a radix are
+   * computed by squaring when they are first needed, and are published with a
+   * copy of the outer array. {@link FastMath#E10(int)} is not used for radix
+   * 10, because it retains all of the powers of ten up to the one requested.
+   */
+  private static volatile int[][][] squaredPows = new int[Character.MAX_RADIX + 1][][];
+
+  static {
+    for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; ++radix) {
+      byte digits = 1;
+      for (long pow = radix; pow <= Long.MAX_VALUE / radix; pow *= radix)
+        ++digits;
+
+      longDigits[radix] = digits;
+    }
+  }
+
   /**
    * Divides the provided {@linkplain BigInt#val() value-encoded dividend} by
    * the specified <i>unsigned</i> {@code int} divisor.
@@ -348,13 +442,15 @@ abstract class BigIntDivision extends BigIntMultiplication {
    * quotient in {@code q}. The remainder will be stored in array of the
    * dividend ({@code val}).
    * <p>
-   * <i>Hacker's Delight's implementation of Knuth's Algorithm D.</i>
+   * <i>Hacker's Delight's implementation of Knuth's Algorithm D, or
+   * Burnikel-Ziegler division if the divisor is longer than
+   * {@link #BURNIKEL_ZIEGLER_THRESHOLD}.</i>
    *
    * @param val The {@linkplain BigInt#val() value-encoded dividend}.
    * @param div The {@linkplain BigInt#val() value-encoded divisor}.
    * @param q An array to store the quotient, which must be at least of length
    *          {@code Math.abs(val[0]) - Math.abs(div[0]) + 1}.
-   * @complexity O(|val[0]|*|div[0]|)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public static void div(final int[] val, final int[] div, final int[] q) {
     int sig1 = 1, len1 = val[0]; if (len1 < 0) { len1 = -len1; sig1 = -1; }
@@ -362,7 +458,14 @@ abstract class BigIntDivision extends BigIntMultiplication {
     div0(val, len1, sig1, div, len2, sig2, q);
   }
 
-  private static void div0(final int[] val, int len1, final int sig1, final int[] div, int len2, final int sig2, final int[] q) {
+  private static void div0(final int[] val, final int len1, final int sig1, final int[] div, final int len2, final int sig2, final int[] q) {
+    if (len2 >= BURNIKEL_ZIEGLER_THRESHOLD && len1 - len2 >= BURNIKEL_ZIEGLER_OFFSET)
+      divBurnikelZiegler(val, len1, sig1, div, len2, sig2, q, BURNIKEL_ZIEGLER_THRESHOLD);
+    else
+      divKnuth(val, len1, sig1, div, len2, sig2, q);
+  }
+
+  static void divKnuth(final int[] val, int len1, final int sig1, final int[] div, int len2, final int sig2, final int[] q) {
     ++len1;
     ++len2;
 
@@ -395,6 +498,9 @@ abstract class BigIntDivision extends BigIntMultiplication {
 
       val[fromIndex] = val[fromIndex] << s;
     }
+    else {
+      val[len1] = 0;
+    }
 
     final long dh = div[len2 - 1] & LONG_MASK;
     final long dl = div[len2 - 2] & LONG_MASK;
@@ -472,6 +578,231 @@ abstract class BigIntDivision extends BigIntMultiplication {
     // _debugLenSig(val);
   }
 
+  /**
+   * Divides the first {@linkplain BigInt#val() value-encoded dividend} by the
+   * second {@linkplain BigInt#val() value-encoded divisor} with the recursive
+   * algorithm of Burnikel and Ziegler, and stores the quotient in {@code q}.
+   * The remainder will be stored in array of the dividend ({@code val}).
+   * <p>
+   * The divisor is normalized to {@code n = j * 2^k} limbs, and the dividend is
+   * divided in blocks of {@code n} limbs from the most significant block, with
+   * each step dividing a {@code 2n} limb number by the {@code n} limb divisor
+   * (Algorithm 2 of Burnikel and Ziegler, "Fast Recursive Division", 1998).
+   * The divisor is not modified.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}.
+   * @param len1 The number of limbs of the dividend.
+   * @param sig1 The sign of the dividend.
+   * @param div The {@linkplain BigInt#val() value-encoded divisor}.
+   * @param len2 The number of limbs of the divisor.
+   * @param sig2 The sign of the divisor.
+   * @param q An array to store the quotient, which must be at least of length
+   *          {@code len1 - len2 + 2}.
+   * @param threshold The number of limbs of the divisor below which the
+   *          recursion continues with Knuth's Algorithm D.
+   * @complexity O(n^1.58)
+   */
+  static void divBurnikelZiegler(final int[] val, final int len1, final int sig1, final int[] div, final int len2, final int sig2, final int[] q, final int threshold) {
+    final int m = 1 << 32 - Integer.numberOfLeadingZeros(len2 / threshold);
+    final int n = (len2 + m - 1) / m * m;
+    final int sigma = n * 32 - ((len2 - 1) * 32 + 32 - Integer.numberOfLeadingZeros(div[len2]));
+
+    int[] b = alloc(n + 2);
+    System.arraycopy(div, 1, b, 1, len2);
+    b[0] = len2;
+    b = shiftLeft(b, sigma);
+
+    int[] a = alloc(len1 + n + 2);
+    System.arraycopy(val, 1, a, 1, len1);
+    a[0] = len1;
+    a = shiftLeft(a, sigma);
+
+    // The number of blocks of the dividend, such that the most significant block has its highest bit clear
+    final int alen = a[0];
+    final int t = Math.max(2, ((alen - 1) * 32 + 32 - Integer.numberOfLeadingZeros(a[alen]) + n * 32) / (n * 32));
+
+    final int qlen = len1 - len2 + 1;
+    Arrays.fill(q, 1, qlen + 1, 0);
+
+    final int[][] r = {block(a, alen, (t - 2) * n, t * n)};
+    for (int i = t - 2;; --i) {
+      final int[] qi = divide2n1n(r, b, n, threshold);
+      System.arraycopy(qi, 1, q, i * n + 1, qi[0]);
+      if (i == 0)
+        break;
+
+      r[0] = shiftAdd(r[0], a, alen, (i - 1) * n, n);
+    }
+
+    int len = qlen;
+    for (; len > 0 && q[len] == 0; --len);
+    q[0] = sig1 != sig2 ? -len : len;
+
+    // _debugLenSig(q);
+
+    final int[] rem = shiftRight(r[0], sigma);
+    len = rem[0];
+    System.arraycopy(rem, 1, val, 1, len);
+    // Sign of remainder does not depend on the sign of the operand
+    val[0] = sig1 < 0 ? -len : len;
+
+    // _debugLenSig(val);
+  }
+
+  /**
+   * Divides the non-negative {@linkplain BigInt#val() value-encoded number} in
+   * {@code r[0]} of at most {@code 2n} limbs by the normalized divisor of
+   * {@code n} limbs, replaces {@code r[0]} with the remainder, and returns the
+   * quotient.
+   *
+   * @param r The holder of the dividend and the remainder, where the dividend
+   *          must be less than {@code b * 2^(32n)}.
+   * @param b The normalized divisor, with the highest bit of its {@code n}
+   *          limbs set.
+   * @param n The number of limbs of the divisor.
+   * @param threshold The number of limbs of the divisor below which the
+   *          recursion continues with Knuth's Algorithm D.
+   * @return The quotient, which is less than {@code 2^(32n)}.
+   */
+  private static int[] divide2n1n(final int[][] r, final int[] b, final int n, final int threshold) {
+    if ((n & 1) != 0 || n < threshold) {
+      int[] a = r[0];
+      final int alen = a[0];
+      final int c = compareToAbs(a, alen, b, n);
+      if (c < 0)
+        return alloc(1);
+
+      if (c == 0) {
+        setToZeroInPlace(a);
+        return assignInPlace(alloc(2), 1, 1);
+      }
+
+      if (alen + 2 > a.length)
+        r[0] = a = realloc(a, alen + 1, alen + 2);
+
+      a[alen + 1] = 0;
+      final int[] q = alloc(alen - n + 2);
+      divKnuth(a, alen, 1, b, n, 1, q);
+      return q;
+    }
+
+    final int h = n / 2;
+    final int[] a = r[0];
+    final int alen = a[0];
+
+    // [a1,a2,a3] / [b1,b2], and then [r1,r2,a4] / [b1,b2]
+    r[0] = block(a, alen, h, n * 2);
+    final int[] q1 = divide3n2n(r, b, h, threshold);
+    r[0] = shiftAdd(r[0], a, alen, 0, h);
+    final int[] q2 = divide3n2n(r, b, h, threshold);
+    return shiftAdd(q1, q2, q2[0], 0, h);
+  }
+
+  /**
+   * Divides the non-negative {@linkplain BigInt#val() value-encoded number} in
+   * {@code r[0]} of at most {@code 3h} limbs by the normalized divisor of
+   * {@code 2h} limbs, replaces {@code r[0]} with the remainder, and returns the
+   * quotient.
+   *
+   * @param r The holder of the dividend and the remainder, where the dividend
+   *          must be less than {@code b * 2^(32h)}.
+   * @param b The normalized divisor, with the highest bit of its {@code 2h}
+   *          limbs set.
+   * @param h The number of limbs of the halves of the divisor.
+   * @param threshold The number of limbs of the divisor below which the
+   *          recursion continues with Knuth's Algorithm D.
+   * @return The quotient, which is less than {@code 2^(32h)}.
+   */
+  private static int[] divide3n2n(final int[][] r, final int[] b, final int h, final int threshold) {
+    final int[] a = r[0];
+    final int alen = a[0];
+    final int[] b1 = block(b, b[0], h, h * 2);
+
+    int[] q;
+    int[] r1;
+    if (compareToAbs(block(a, alen, h * 2, h * 3), b1) < 0) {
+      r[0] = block(a, alen, h, h * 3);
+      q = divide2n1n(r, b1, h, threshold);
+      r1 = r[0];
+    }
+    else {
+      // q = 2^(32h) - 1, and r1 = [a1,a2] - q * b1 = [a1,a2] - [b1,0] + b1
+      q = alloc(h + 1);
+      Arrays.fill(q, 1, h + 1, -1);
+      q[0] = h;
+      r1 = sub(block(a, alen, h, h * 3), shiftAdd(b1, b1, 0, 0, h));
+      r1 = add(r1, b1);
+    }
+
+    // r = [r1,a3] - q * b2
+    final int[] d = mul(copy(q, q[0] + 1, alloc(q[0] + h + 2), 0), block(b, b[0], 0, h));
+    int[] rem = sub(shiftAdd(r1, a, alen, 0, h), d);
+    while (rem[0] < 0) {
+      rem = add(rem, b);
+      q = sub(q, 1);
+    }
+
+    r[0] = rem;
+    return q;
+  }
+
+  /**
+   * Returns a new non-negative {@linkplain BigInt#val() value-encoded number}
+   * of the limbs of the provided magnitude in the range {@code [from, to)}.
+   *
+   * @param mag The {@linkplain BigInt#val() value-encoded number}.
+   * @param len The number of limbs of the number.
+   * @param from The index of the first limb (inclusive, from {@code 0}).
+   * @param to The index of the last limb (exclusive, from {@code 0}).
+   * @return A new non-negative {@linkplain BigInt#val() value-encoded number}
+   *         of the limbs of the provided magnitude in the range
+   *         {@code [from, to)}.
+   */
+  private static int[] block(final int[] mag, final int len, final int from, int to) {
+    if (to > len)
+      to = len;
+
+    int blen = to - from;
+    if (blen <= 0)
+      return alloc(1);
+
+    final int[] block = alloc(blen + 2);
+    System.arraycopy(mag, from + 1, block, 1, blen);
+    for (; blen > 0 && block[blen] == 0; --blen);
+    block[0] = blen;
+    return block;
+  }
+
+  /**
+   * Returns a new non-negative {@linkplain BigInt#val() value-encoded number}
+   * of {@code hi * 2^(32n)} plus the limbs of the provided magnitude in the
+   * range {@code [from, from + n)}.
+   *
+   * @param hi The non-negative {@linkplain BigInt#val() value-encoded number}
+   *          of the high limbs.
+   * @param mag The {@linkplain BigInt#val() value-encoded number} of the low
+   *          limbs.
+   * @param len The number of limbs of {@code mag}.
+   * @param from The index of the first of the low limbs (from {@code 0}).
+   * @param n The number of low limbs.
+   * @return A new non-negative {@linkplain BigInt#val() value-encoded number}
+   *         of {@code hi * 2^(32n)} plus the limbs of the provided magnitude in
+   *         the range {@code [from, from + n)}.
+   */
+  private static int[] shiftAdd(final int[] hi, final int[] mag, final int len, final int from, final int n) {
+    final int hlen = hi[0];
+    final int[] val = alloc(hlen + n + 2);
+    final int lo = Math.min(n, len - from);
+    if (lo > 0)
+      System.arraycopy(mag, from + 1, val, 1, lo);
+
+    System.arraycopy(hi, 1, val, n + 1, hlen);
+    int vlen = hlen + n;
+    for (; vlen > 0 && val[vlen] == 0; --vlen);
+    val[0] = vlen;
+    return val;
+  }
+
   /**
    * Divides the provided {@linkplain BigInt#val() value-encoded dividend} by
    * the specified {@linkplain BigInt#val() value-encoded divisor}.
@@ -488,7 +819,7 @@ abstract class BigIntDivision extends BigIntMultiplication {
    * @return The provided {@linkplain BigInt#val() value-encoded dividend},
    *         divided by the specified {@linkplain BigInt#val() value-encoded
    *         divisor}.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public static int[] div(int[] val, final int[] div) {
     int len1 = val[0];
@@ -546,7 +877,7 @@ abstract class BigIntDivision extends BigIntMultiplication {
    * @return The remainder resulting from the division of the provided
    *         {@linkplain BigInt#val() value-encoded dividend} by the specified
    *         {@linkplain BigInt#val() value-encoded divisor}.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public static int[] divRem(int[] val, int[] div) {
     int len1 = val[0];
@@ -812,7 +1143,7 @@ abstract class BigIntDivision extends BigIntMultiplication {
    *         resulting from the division of the provided
    *         {@linkplain BigInt#val() value-encoded dividend} by the specified
    *         {@linkplain BigInt#val() value-encoded divisor}.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public static int[] rem(int[] val, final int[] div) {
     return isZero(val) ? val : rem0(val, div);
@@ -931,7 +1262,7 @@ abstract class BigIntDivision extends BigIntMultiplication {
    *         from the division of the provided {@linkplain BigInt#val()
    *         value-encoded dividend} by the specified {@linkplain BigInt#val()
    *         value-encoded divisor}.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58)
    */
   public static int[] mod(int[] val, final int[] div) {
     int len = val[0];
@@ -1018,4 +1349,211 @@ abstract class BigIntDivision extends BigIntMultiplication {
     mulInPlace(t, 10);
     return (int)q;
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns <code>radix<sup>longDigits[radix] * 2<sup>i</sup></sup></code>,
+   * as a {@linkplain BigInt#val() value-encoded number}, expanding the
+   * underlying {@link #squaredPows} array by squaring if necessary.
+   *
+   * @param radix The radix.
+   * @param i The index of the power.
+   * @return <code>radix<sup>longDigits[radix] * 2<sup>i</sup></sup></code>, as
+   *         a {@linkplain BigInt#val() value-encoded number}.
+   */
+  private static int[] squaredPow(final int radix, final int i) {
+    int[][] pows = squaredPows[radix];
+    if (pows != null && i < pows.length)
+      return pows[i];
+
+    synchronized (longDigits) {
+      final int[][][] all = squaredPows.clone();
+      pows = all[radix];
+      if (pows == null) {
+        long pow = radix;
+        for (int j = 1; j < longDigits[radix]; ++j)
+          pow *= radix;
+
+        pows = new int[][] {assign(alloc(3), pow)};
+      }
+
+      if (i >= pows.length) {
+        int len = pows.length;
+        pows = Arrays.copyOf(pows, i + 1);
+        for (; len <= i; ++len) {
+          final int[] pow = pows[len - 1];
+          pows[len] = mul(copy(pow, pow[0] + 1, new int[pow[0] * 2 + 2], pow[0] * 2 + 2), pow);
+        }
+      }
+
+      all[radix] = pows;
+      squaredPows = all;
+      return pows[i];
+    }
+  }
+
+  /**
+   * Parses the unsigned digits of the provided radix in the provided
+   * {@code char[]} between {@code fromIndex} and {@code toIndex} recursively.
+   * The lower <code>d * 2<sup>i</sup></code> digits of about half of the
+   * length, where {@code d} is the number of digits in a {@code long} (i.e.
+   * {@code 18} for radix 10), and the upper digits are parsed independently,
+   * and are combined with the multiplication of the upper part by the power
+   * <code>radix<sup>d * 2<sup>i</sup></sup></code>. Parts below
+   * {@code threshold} digits are parsed with
+   * {@link BigIntValue#parseQuad(int[],char[],int,int,int)}.
+   *
+   * @param s The digits as a {@code char[]}.
+   * @param fromIndex The index (inclusive) of the most significant digit.
+   * @param toIndex The index (exclusive) of the least significant digit.
+   * @param radix The radix of the digits.
+   * @param threshold The number of digits below which the parts are parsed
+   *          with the repeated multiplication by a power of the radix.
+   * @return A non-negative {@linkplain BigInt#val() value-encoded number} of
+   *         the parsed digits.
+   * @throws NumberFormatException If a char is not a digit of the radix.
+   * @complexity O(n^1.58 log n)
+   */
+  static int[] parseRecursive(final char[] s, final int fromIndex, final int toIndex, final int radix, final int threshold) {
+    final int len = toIndex - fromIndex;
+    final int digits = longDigits[radix];
+    if (len < Math.max(digits * 2, threshold)) {
+      final int[] val = alloc(parseAlloc(len, radix));
+      val[0] = parseQuad(val, s, fromIndex, toIndex, radix);
+      return val;
+    }
+
+    // The largest power that is at most of half of the length
+    int i = 0;
+    while (digits << i + 2 <= len)
+      ++i;
+
+    final int mid = toIndex - (digits << i);
+    final int[] low = parseRecursive(s, mid, toIndex, radix, threshold);
+    final int[] high = parseRecursive(s, fromIndex, mid, radix, threshold);
+    return add(mul(high, squaredPow(radix, i)), low);
+  }
+
+  /**
+   * Converts the provided {@linkplain BigInt#val() value-encoded number} into a
+   * string of the provided radix recursively. The number is divided by the
+   * power <code>radix<sup>d * 2<sup>i</sup></sup></code> of about half of its
+   * length, where {@code d} is the number of digits in a {@code long} (i.e.
+   * {@code 18} for radix 10), and the digits of the quotient and the remainder
+   * are written into their positions in a shared {@code '0'}-filled
+   * {@code char[]}, such that the leading zeros of the remainder need no
+   * padding. Parts below {@code threshold} limbs are converted with
+   * {@link BigIntValue#toStringQuad(int[],int,int,char[],int)}, and the parts
+   * of numbers of at least {@link #PARALLEL_TOSTRING_THRESHOLD} limbs are
+   * converted in parallel.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param len The number of limbs in {@code val}.
+   * @param sig The sign of {@code val}.
+   * @param radix The radix of the string.
+   * @param threshold The number of limbs below which the parts are converted
+   *          with the repeated division by a power of the radix.
+   * @return The string representation of the provided {@linkplain BigInt#val()
+   *         value-encoded number} in the provided radix.
+   * @complexity O(n^1.58 log n)
+   */
+  static String toStringRecursive(final int[] val, final int len, final int sig, final int radix, final int threshold) {
+    // 32 / log2(radix) digits per limb (i.e. 9.63 for radix 10), with room for the sign
+    final char[] chars = new char[(int)(len * 32 / (Math.log(radix) / Math.log(2))) + 3];
+    Arrays.fill(chars, '0');
+    final int[] mag = copy(val, len + 1, alloc(len + 2), len + 2);
+    mag[0] = len;
+    toStringRecursive(mag, chars, chars.length, radix, Math.max(4, threshold), getForkJoinPool());
+
+    int top = 0;
+    while (chars[top] == '0')
+      ++top;
+
+    if (sig < 0)
+      chars[--top] = '-';
+
+    return new String(chars, top, chars.length - top);
+  }
+
+  /**
+   * Writes the digits of the provided radix of the provided non-negative
+   * {@linkplain BigInt#val() value-encoded number} into the provided
+   * {@code '0'}-filled {@code char[]}, such that the least significant digit
+   * is at {@code top - 1}. The number is destroyed.
+   *
+   * @param val The non-negative {@linkplain BigInt#val() value-encoded number}.
+   * @param chars The {@code '0'}-filled {@code char[]}.
+   * @param top The index after the least significant digit.
+   * @param radix The radix of the digits.
+   * @param threshold The number of limbs below which the digits are written
+   *          with the repeated division by a power of the radix.
+   * @param pool The {@link ForkJoinPool} on which the parts are converted in
+   *          parallel.
+   */
+  private static void toStringRecursive(final int[] val, final char[] chars, final int top, final int radix, final int threshold, final ForkJoinPool pool) {
+    final int len = val[0];
+    if (len < threshold) {
+      if (len > 0) {
+        final int[] mag = new int[len];
+        System.arraycopy(val, 1, mag, 0, len);
+        toStringQuad(mag, len, radix, chars, top);
+      }
+
+      return;
+    }
+
+    // The largest power that is at most of half of the length
+    int i = 0;
+    while (squaredPow(radix, i + 1)[0] * 2 <= len + 1)
+      ++i;
+
+    // The division normalizes the divisor in place, so the shared power is copied
+    final int[] rem = divRem(val, squaredPow(radix, i).clone());
+    final int mid = top - (longDigits[radix] << i);
+    if (len >= PARALLEL_TOSTRING_THRESHOLD && isParallel(pool)) {
+      final ToStringTask t1 = new ToStringTask(rem, chars, top, radix, threshold, pool);
+      final ToStringTask t2 = new ToStringTask(val, chars, mid, radix, threshold, pool);
+      if (ForkJoinTask.getPool() == pool) {
+        ForkJoinTask.invokeAll(t1, t2);
+      }
+      else {
+        pool.execute(t2);
+        t1.invoke();
+        t2.join();
+      }
+    }
+    else {
+      toStringRecursive(rem, chars, top, radix, threshold, pool);
+      toStringRecursive(val, chars, mid, radix, threshold, pool);
+    }
+  }
+
+  /**
+   * A {@link RecursiveAction} that computes
+   * {@link #toStringRecursive(int[],char[],int,int,int,ForkJoinPool)} for one
+   * part of a number.
+   */
+  private static final class ToStringTask extends RecursiveAction {
+    private static final long serialVersionUID = -4379645326408719152L;
+
+    private final int[] val;
+    private final char[] chars;
+    private final int top;
+    private final int radix;
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    private ToStringTask(final int[] val, final char[] chars, final int top, final int radix, final int threshold, final ForkJoinPool pool) {
+      this.val = val;
+      this.chars = chars;
+      this.top = top;
+      this.radix = radix;
+      this.threshold = threshold;
+      this.pool = pool;
+    }
+
+    @Override
+    protected void compute() {
+      toStringRecursive(val, chars, top, radix, threshold, pool);
+    }
+  }
+}
@@ -0,0 +1,495 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+/**
+ * A divisor that is precomputed for the repeated division of
+ * {@linkplain BigInt#val() value-encoded numbers} by the same {@code int},
+ * {@code long} or {@linkplain BigInt#val() value-encoded} value.
+ * <p>
+ * The normalization shift of the divisor and the reciprocal of its most
+ * significant limbs are computed once, upon construction. Each quotient limb
+ * is then computed with multiplications by the reciprocal instead of a
+ * hardware division, as described in Möller and Granlund, "Improved division
+ * by invariant integers", 2011:
+ * <ul>
+ * <li>For divisors of 1 limb, with the 2-by-1 division (Algorithm 4).</li>
+ * <li>For divisors of 2 limbs, with the 3-by-2 division (Algorithm 5).</li>
+ * <li>For longer divisors, with Knuth's Algorithm D, of which the estimate of
+ * each quotient limb is computed with the 3-by-2 division of the most
+ * significant limbs.</li>
+ * </ul>
+ * The division of divisors of 1 and 2 limbs is performed in-place, and the
+ * normalized dividend of longer divisors is computed in an array of the current
+ * thread that is reused across calls. None of the operations allocate, unless
+ * the provided arrays are too short for the result.
+ * <p>
+ * Instances of {@link BigIntDivisor} are immutable, and can be shared between
+ * threads.
+ */
+public final class BigIntDivisor {
+  private static final long LONG_MASK = BigIntValue.LONG_MASK;
+  private static final long hbit = Long.MIN_VALUE;
+  private static final BigIntValue.LocalArray localDividend = new BigIntValue.LocalArray();
+
+  private final int[] val;
+  private final boolean sig;
+  private final int len;
+  private final int shift;
+
+  /** The normalized magnitude, of which the highest bit is set. */
+  private final int[] norm;
+
+  /** The most significant limbs of the normalized magnitude. */
+  private final long d1;
+  private final long d0;
+
+  /** The 2-by-1 reciprocal of {@code d1} if {@code len == 1}, or the 3-by-2 reciprocal of {@code d1:d0} otherwise. */
+  private final long inv;
+
+  /**
+   * Creates a new {@link BigIntDivisor} for the provided {@code int} divisor.
+   *
+   * @param div The divisor.
+   * @throws ArithmeticException If {@code div} is zero.
+   */
+  public BigIntDivisor(final int div) {
+    this(BigInt.valueOf(div));
+  }
+
+  /**
+   * Creates a new {@link BigIntDivisor} for the provided {@code long} divisor.
+   *
+   * @param div The divisor.
+   * @throws ArithmeticException If {@code div} is zero.
+   */
+  public BigIntDivisor(final long div) {
+    this(BigInt.valueOf(div));
+  }
+
+  /**
+   * Creates a new {@link BigIntDivisor} for the provided {@link BigInt}
+   * divisor.
+   *
+   * @param div The divisor.
+   * @throws ArithmeticException If {@code div} is zero.
+   * @throws NullPointerException If {@code div} is null.
+   */
+  public BigIntDivisor(final BigInt div) {
+    this(div.val());
+  }
+
+  /**
+   * Creates a new {@link BigIntDivisor} for the provided
+   * {@linkplain BigInt#val() value-encoded divisor}.
+   *
+   * @param div The {@linkplain BigInt#val() value-encoded divisor}.
+   * @throws ArithmeticException If {@code div} is zero.
+   * @throws NullPointerException If {@code div} is null.
+   */
+  public BigIntDivisor(final int[] div) {
+    int len = div[0];
+    if (len == 0)
+      throw new ArithmeticException("Divide by zero");
+
+    this.sig = len > 0;
+    if (len < 0)
+      len = -len;
+
+    this.len = len;
+    this.val = new int[len + 1];
+    System.arraycopy(div, 1, val, 1, len);
+    val[0] = len;
+
+    this.shift = Integer.numberOfLeadingZeros(div[len]);
+    this.norm = new int[len + 1];
+    for (int i = len; i >= 1; --i)
+      norm[i] = (int)(limb(div, i) << shift | limb(div, i - 1) >>> 32 - shift);
+
+    norm[0] = len;
+    this.d1 = norm[len] & LONG_MASK;
+    this.d0 = len > 1 ? norm[len - 1] & LONG_MASK : 0;
+    this.inv = len == 1 ? reciprocal(d1) : reciprocal(d1, d0);
+  }
+
+  /**
+   * Returns the limb at the specified index of the provided
+   * {@linkplain BigInt#val() value-encoded number} as an unsigned
+   * {@code long}, or {@code 0} if the index is {@code 0}.
+   */
+  private static long limb(final int[] val, final int i) {
+    return i == 0 ? 0 : val[i] & LONG_MASK;
+  }
+
+  /**
+   * Returns the 2-by-1 reciprocal of the provided normalized limb, which is
+   * {@code floor((2^64 - 1) / d) - 2^32}.
+   *
+   * @param d The normalized limb (unsigned).
+   * @return The 2-by-1 reciprocal of the provided normalized limb.
+   */
+  private static long reciprocal(final long d) {
+    return Long.divideUnsigned(-1L, d) - (1L << 32);
+  }
+
+  /**
+   * Returns the 3-by-2 reciprocal of the provided normalized limbs, which is
+   * {@code floor((2^96 - 1) / (d1:d0)) - 2^32} (Algorithm 6 of Möller and
+   * Granlund).
+   *
+   * @param d1 The most significant normalized limb (unsigned).
+   * @param d0 The second most significant normalized limb (unsigned).
+   * @return The 3-by-2 reciprocal of the provided normalized limbs.
+   */
+  private static long reciprocal(final long d1, final long d0) {
+    long v = reciprocal(d1);
+    long p = (d1 * v + d0) & LONG_MASK;
+    if (p < d0) {
+      --v;
+      if (p >= d1) {
+        --v;
+        p -= d1;
+      }
+
+      p = (p - d1) & LONG_MASK;
+    }
+
+    final long t = v * d0;
+    final long t1 = t >>> 32;
+    p = (p + t1) & LONG_MASK;
+    if (p < t1) {
+      --v;
+      if ((p << 32 | t & LONG_MASK) + hbit >= (d1 << 32 | d0) + hbit)
+        --v;
+    }
+
+    return v;
+  }
+
+  /**
+   * Returns the limb at the specified index of the provided magnitude shifted
+   * left by {@link #shift}, with the bits of the next lower limb.
+   */
+  private long shifted(final int[] val, final int i, final int len) {
+    return (i > len ? 0 : (val[i] & LONG_MASK) << shift & LONG_MASK) | limb(val, i - 1) >>> 32 - shift;
+  }
+
+  /**
+   * Divides the provided {@linkplain BigInt#val() value-encoded dividend} by
+   * this divisor.
+   *
+   * <pre>
+   * val = val / div
+   * </pre>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}.
+   * @return The provided {@linkplain BigInt#val() value-encoded dividend},
+   *         divided by this divisor.
+   * @complexity O(n) - O(n^2)
+   */
+  public int[] div(final int[] val) {
+    divRem(val, null, true);
+    return val;
+  }
+
+  /**
+   * Divides the provided {@linkplain BigInt#val() value-encoded dividend} by
+   * this divisor, and sets the dividend's value to the remainder.
+   *
+   * <pre>
+   * val = val % div
+   * </pre>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}.
+   * @return The provided {@linkplain BigInt#val() value-encoded dividend}, with
+   *         its value replaced by the remainder resulting from the division by
+   *         this divisor.
+   * @complexity O(n) - O(n^2)
+   */
+  public int[] rem(final int[] val) {
+    return divRem(val, val, false);
+  }
+
+  /**
+   * Divides the provided {@linkplain BigInt#val() value-encoded dividend} by
+   * this divisor, and sets the value of {@code rem} to the remainder.
+   *
+   * <pre>
+   * rem = val % div
+   * val = val / div
+   * return rem
+   * </pre>
+   *
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the length of {@code rem} is not sufficient for the remainder, which
+   * requires at most {@code n + 1} ints, where {@code n} is the number of limbs
+   * of this divisor.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}.
+   * @param rem The array in which to store the
+   *          {@linkplain BigInt#val() value-encoded remainder}.
+   * @return The {@linkplain BigInt#val() value-encoded remainder} resulting
+   *         from the division of the provided {@linkplain BigInt#val()
+   *         value-encoded dividend} by this divisor.
+   * @complexity O(n) - O(n^2)
+   */
+  public int[] divRem(final int[] val, final int[] rem) {
+    return divRem(val, rem, true);
+  }
+
+  private int[] divRem(final int[] val, int[] rem, final boolean quotient) {
+    int len1 = val[0];
+    final boolean sig1 = len1 >= 0;
+    if (!sig1)
+      len1 = -len1;
+
+    if (len1 < len || len1 == len && BigIntValue.compareToAbs(val, len1, this.val, len) < 0) {
+      if (rem != null && rem != val) {
+        if (rem.length <= len1)
+          rem = BigIntValue.alloc(len1 + 1);
+
+        System.arraycopy(val, 0, rem, 0, len1 + 1);
+      }
+
+      if (quotient)
+        val[0] = 0;
+
+      return rem;
+    }
+
+    final boolean sigq = sig1 == sig;
+    if (len <= 2) {
+      final long r = len == 1 ? divRem1(val, len1) : divRem2(val, len1);
+      if (quotient) {
+        for (; len1 > 0 && val[len1] == 0; --len1);
+        val[0] = sigq ? len1 : -len1;
+      }
+
+      if (rem != null) {
+        final int rlen = r >>> 32 != 0 ? 2 : r != 0 ? 1 : 0;
+        if (rem.length <= rlen)
+          rem = BigIntValue.alloc(rlen + 1);
+
+        rem[0] = sig1 ? rlen : -rlen;
+        if (rlen > 0)
+          rem[1] = (int)r;
+
+        if (rlen > 1)
+          rem[2] = (int)(r >>> 32);
+      }
+
+      return rem;
+    }
+
+    // The normalized dividend, with 1 extra limb for the bits shifted out of the most significant limb
+    final int[] u = localDividend.take(len1 + 2);
+    try {
+      for (int i = len1 + 1; i >= 1; --i)
+        u[i] = (int)shifted(val, i, len1);
+
+      divRemN(u, len1 + 1, val);
+      if (quotient) {
+        int qlen = len1 + 1 - len;
+        for (; qlen > 0 && val[qlen] == 0; --qlen);
+        val[0] = sigq ? qlen : -qlen;
+      }
+
+      if (rem != null) {
+        if (rem.length <= len)
+          rem = BigIntValue.alloc(len + 1);
+
+        int rlen = len;
+        for (int i = 1; i <= len; ++i)
+          rem[i] = (int)((u[i] & LONG_MASK) >>> shift | (u[i + 1] & LONG_MASK) << 32 - shift);
+
+        for (; rlen > 0 && rem[rlen] == 0; --rlen);
+        rem[0] = sig1 ? rlen : -rlen;
+      }
+
+      return rem;
+    }
+    finally {
+      localDividend.release(u);
+    }
+  }
+
+  /**
+   * Divides the magnitude of the provided dividend by the divisor of 1 limb
+   * with the 2-by-1 division, replacing the limbs of the dividend with the
+   * limbs of the quotient, and returns the remainder.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}.
+   * @param len The number of limbs of the dividend.
+   * @return The remainder (unsigned).
+   */
+  private long divRem1(final int[] val, final int len) {
+    final long d = d1, v = inv;
+    long r = shifted(val, len + 1, len);
+    for (int i = len; i >= 1; --i) {
+      final long u0 = shifted(val, i, len);
+
+      // <q1,q0> = v * r + <r,u0>
+      final long q = v * r + (r << 32 | u0);
+      long q1 = (q >>> 32) + 1 & LONG_MASK;
+      r = u0 - q1 * d & LONG_MASK;
+      if (r > (q & LONG_MASK)) {
+        q1 = q1 - 1 & LONG_MASK;
+        r = r + d & LONG_MASK;
+      }
+
+      if (r >= d) {
+        ++q1;
+        r -= d;
+      }
+
+      val[i] = (int)q1;
+    }
+
+    return r >>> shift;
+  }
+
+  /**
+   * Divides the magnitude of the provided dividend by the divisor of 2 limbs
+   * with the 3-by-2 division, replacing the limbs of the dividend with the
+   * limbs of the quotient, and returns the remainder.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}.
+   * @param len The number of limbs of the dividend.
+   * @return The remainder (unsigned).
+   */
+  private long divRem2(final int[] val, final int len) {
+    long r = shifted(val, len + 1, len);
+    for (int i = len; i >= 1; --i)
+      r = div3by2(r >>> 32, r & LONG_MASK, shifted(val, i, len), val, i);
+
+    return r >>> shift;
+  }
+
+  /**
+   * Divides the normalized dividend by the normalized divisor of more than 2
+   * limbs with Knuth's Algorithm D, of which the estimate of each quotient limb
+   * is computed with the 3-by-2 division of the most significant limbs. The
+   * normalized remainder is left in the least significant limbs of {@code u}.
+   *
+   * @param u The normalized dividend (from index {@code 1}).
+   * @param m The number of limbs of the normalized dividend, of which the most
+   *          significant limbs are less than the divisor.
+   * @param q The array in which to store the limbs of the quotient (from index
+   *          {@code 1}).
+   */
+  private void divRemN(final int[] u, final int m, final int[] q) {
+    final int n = len;
+    final int[] d = norm;
+    long k, p, t;
+    int i;
+    for (int j = m - n; j >= 1; --j) {
+      final int top = j + n;
+      final long u2 = u[top] & LONG_MASK;
+      final long u1 = u[top - 1] & LONG_MASK;
+      if (u2 == d1 && u1 == d0) {
+        // The quotient limb is 2^32 - 1, and the window is reduced by the full divisor
+        for (k = 0, i = 1; i <= n; ++i) {
+          p = LONG_MASK * (d[i] & LONG_MASK);
+          t = (u[j + i - 1] & LONG_MASK) - k - (p & LONG_MASK);
+          u[j + i - 1] = (int)t;
+          k = (p >>> 32) - (t >> 32);
+        }
+
+        u[top] -= (int)k;
+        q[j] = -1;
+        continue;
+      }
+
+      long r = div3by2(u2, u1, u[top - 2] & LONG_MASK, q, j);
+      final long qj = q[j] & LONG_MASK;
+
+      // Multiply and subtract the limbs below the 2 most significant limbs of the divisor
+      for (k = 0, i = 1; i <= n - 2; ++i) {
+        p = qj * (d[i] & LONG_MASK);
+        t = (u[j + i - 1] & LONG_MASK) - k - (p & LONG_MASK);
+        u[j + i - 1] = (int)t;
+        k = (p >>> 32) - (t >> 32);
+      }
+
+      // If the remainder of the 3-by-2 division is less than the borrow, the quotient limb is 1 too large
+      final boolean add = r + hbit < k + hbit;
+      r -= k;
+      if (add) {
+        --q[j];
+        for (k = 0, i = 1; i <= n - 2; ++i) {
+          t = (u[j + i - 1] & LONG_MASK) + (d[i] & LONG_MASK) + k;
+          u[j + i - 1] = (int)t;
+          k = t >>> 32;
+        }
+
+        r += (d1 << 32 | d0) + k;
+      }
+
+      u[top - 2] = (int)r;
+      u[top - 1] = (int)(r >>> 32);
+      u[top] = 0;
+    }
+  }
+
+  /**
+   * Divides {@code <u2,u1,u0>} by the 2 most significant limbs of the
+   * normalized divisor {@code <d1,d0>}, where {@code <u2,u1> < <d1,d0>}
+   * (Algorithm 5 of Möller and Granlund), stores the quotient limb in
+   * {@code q[i]}, and returns the remainder.
+   *
+   * @param u2 The most significant limb of the dividend (unsigned).
+   * @param u1 The middle limb of the dividend (unsigned).
+   * @param u0 The least significant limb of the dividend (unsigned).
+   * @param q The array in which to store the quotient limb.
+   * @param i The index at which to store the quotient limb.
+   * @return The remainder {@code <r1,r0>}.
+   */
+  private long div3by2(final long u2, final long u1, final long u0, final int[] q, final int i) {
+    final long d = d1 << 32 | d0;
+
+    // <q1,q0> = v * u2 + <u2,u1>
+    final long q10 = inv * u2 + (u2 << 32 | u1);
+    long q1 = q10 >>> 32;
+    final long r1 = u1 - q1 * d1 & LONG_MASK;
+
+    // <r1,r0> = <r1,u0> - d0 * q1 - <d1,d0>
+    long r = (r1 << 32 | u0) - d0 * q1 - d;
+    q1 = q1 + 1 & LONG_MASK;
+    if (r >>> 32 >= (q10 & LONG_MASK)) {
+      q1 = q1 - 1 & LONG_MASK;
+      r += d;
+    }
+
+    if (r + hbit >= d + hbit) {
+      ++q1;
+      r -= d;
+    }
+
+    q[i] = (int)q1;
+    return r;
+  }
+
+  /**
+   * Returns the string representation of this divisor in base 10.
+   *
+   * @return The string representation of this divisor in base 10.
+   */
+  @Override
+  public String toString() {
+    return BigInt.toString(val);
+  }
+}
@@ -0,0 +1,74 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+/**
+ * Bindings of the native kernels of {@link BigIntMultiplication} with the
+ * Foreign Function &amp; Memory API ({@code java.lang.foreign}), which are used
+ * in {@link NativeMath.Mode#FOREIGN} mode.
+ * <p>
+ * This class is the baseline implementation for Java versions that precede
+ * the Foreign Function &amp; Memory API, which is never linked. The
+ * implementation for Java 22 and above is provided in the
+ * {@code META-INF/versions/22} directory of the multi-release JAR.
+ */
+final class BigIntForeign {
+  /**
+   * Returns whether the Foreign Function &amp; Memory API is supported by the
+   * runtime, and is not disabled with {@code -Dorg.libj.math.foreign=false}.
+   *
+   * @return Whether the Foreign Function &amp; Memory API is supported by the
+   *         runtime, and is not disabled with
+   *         {@code -Dorg.libj.math.foreign=false}.
+   */
+  static boolean isSupported() {
+    return false;
+  }
+
+  /**
+   * Links the native kernels of the library at the specified path.
+   *
+   * @param path The path of the native library.
+   * @return Whether the native kernels were linked.
+   */
+  static boolean link(final String path) {
+    return false;
+  }
+
+  static void mulQuad(final int[] x, final int xlen, final int[] y, final int ylen, final int[] z) {
+    throw new UnsupportedOperationException();
+  }
+
+  static void mulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen) {
+    throw new UnsupportedOperationException();
+  }
+
+  static void karatsuba(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int zlength, final int off, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+    throw new UnsupportedOperationException();
+  }
+
+  static void squareKaratsuba(final int[] x, final int len, final int[] z, final int zlen, final int zlength, final boolean yCopy, final int parallelThreshold, final int parallelThresholdZ) {
+    throw new UnsupportedOperationException();
+  }
+
+  static void squareQuad(final int[] x, final int xoff, final int xlen, final int[] z, final int zoff, final int zlen) {
+    throw new UnsupportedOperationException();
+  }
+
+  private BigIntForeign() {
+  }
+}
@@ -102,7 +102,9 @@ abstract class BigIntMagnitude extends BigIntValue {
 
       --val[i];
     }
-    else if (val[len] == 0) {
+
+    // Only the top limb can become zero, be it by the borrow or the subtraction
+    if (val[len] == 0) {
       --len;
       val[0] = sig ? len : -len;
     }
@@ -122,7 +124,7 @@ abstract class BigIntMagnitude extends BigIntValue {
    * @complexity O(n)
    * @amortized O(1)
    */
-  static int[] uaddVal(final int[] val, int len, final boolean sig, final long addl, final long addh) {
+  static int[] uaddVal(int[] val, int len, final boolean sig, final long addl, final long addh) {
     final long val0 = val[1] & LONG_MASK;
     final long val1 = val[2] & LONG_MASK;
     long carry = val0 + addl;
@@ -137,8 +139,8 @@ abstract class BigIntMagnitude extends BigIntValue {
       int i = 3;
       for (; i <= len && ++val[i] == 0; ++i);
       if (i > len) {
-//        if (i == val.length)
-//          val = realloc(val, len + 1, i + 1);
+        if (i == val.length)
+          val = realloc(val, len + 1, i + 1);
 
         len = i;
         val[len] = 1;
@@ -218,10 +220,15 @@ abstract class BigIntMagnitude extends BigIntValue {
 
     long carry = 0;
     int i = 1;
-    for (; i <= len1; ++i) {
-      carry += (val1[i] & LONG_MASK) + (add[i] & LONG_MASK);
-      val[i] = (int)carry;
-      carry >>>= 32;
+    if (len1 >= BigIntVector.ADD_THRESHOLD) {
+      carry = BigIntVector.add(val1, add, val, i, i = len1 + 1);
+    }
+    else {
+      for (; i <= len1; ++i) {
+        carry += (val1[i] & LONG_MASK) + (add[i] & LONG_MASK);
+        val[i] = (int)carry;
+        carry >>>= 32;
+      }
     }
 
     if (alen > len) {
@@ -260,18 +267,24 @@ abstract class BigIntMagnitude extends BigIntValue {
     // Assumes len == len2
     long dif = 0;
     int i = 1;
-    for (; i <= slen; ++i) {
-      dif += (val[i] & LONG_MASK) - (sub[i] & LONG_MASK);
-      val[i] = (int)dif;
-      dif >>= 32;
+    if (slen >= BigIntVector.ADD_THRESHOLD) {
+      dif = -BigIntVector.sub(val, sub, val, i, i = slen + 1);
+    }
+    else {
+      for (; i <= slen; ++i) {
+        dif += (val[i] & LONG_MASK) - (sub[i] & LONG_MASK);
+        val[i] = (int)dif;
+        dif >>= 32;
+      }
     }
 
     if (dif != 0) {
       for (; val[i] == 0; ++i)
         --val[i];
 
-      if (--val[i] == 0 && i + 1 == len)
-        len = slen;
+      // The limbs above slen through which the borrow propagated are now nonzero,
+      // so only the top limb can become zero, which is trimmed below
+      --val[i];
     }
 
     while (val[len] == 0 && --len > 0);
@@ -30,12 +30,29 @@
 package org.libj.math;
 
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.libj.lang.Constants;
 
 abstract class BigIntMath extends BigIntDivision {
   private static final long serialVersionUID = 8389568864770712429L;
 
+  /**
+   * The number of ints of the value, at or above which the square root is
+   * computed with Zimmermann's Karatsuba square root (see
+   * {@link #sqrtRem(int[],int[])}) instead of Newton's method on a
+   * double-precision approximation.
+   * <p>
+   * Each Newton iteration is a full division of the value by the approximation,
+   * whereas the Karatsuba square root performs a single division of half of the
+   * length at each level of recursion, and thus runs in the time of the
+   * division.
+   */
+  static final int KARATSUBA_SQRT_THRESHOLD = (int)(BigIntThresholds.get("KARATSUBA_SQRT_THRESHOLD", 10) * THRESHOLD_FACTOR);
+
   /**
    * Returns the square root of the specified {@code int}, rounded with the
    * provided {@link RoundingMode}; or {@code -1} if {@code x <= 0} or
@@ -187,32 +204,17 @@ abstract class BigIntMath extends BigIntDivision {
     if (len < 0)
       return null;
 
-    if (fitsInLong(val, len))
-      return assign(val, sqrt(longValue(val), rm));
-
-    final int[] sqrtApprox = sqrtApprox(val, rm);
-    if (rm == RoundingMode.FLOOR || rm == RoundingMode.DOWN)
-      return sqrtApprox;
-
-    if (rm == RoundingMode.CEILING || rm == RoundingMode.UP) {
-      final int sqrtFloorInt = intValue(sqrtApprox);
-      if (sqrtFloorInt * sqrtFloorInt != intValue(val)) // fast check mod 2^32
-        return addInPlace(sqrtApprox, 1, 1);
-
-      final int[] tmp = sqrtApprox.clone();
-      return equals(mulInPlace(tmp, tmp), val) ? sqrtApprox : addInPlace(sqrtApprox, 1, 1); // slow exact check
+    if (fitsInLong(val, len)) {
+      final long sqrt = sqrt(longValue(val), rm == null ? RoundingMode.UNNECESSARY : rm);
+      return sqrt < 0 ? null : assign(val, sqrt);
     }
 
-    final int[] tmp = sqrtApprox.clone();
-    mulInPlace(tmp, tmp);
-    if (rm == RoundingMode.UNNECESSARY || rm == null)
-      return equals(tmp, val) ? sqrtApprox : null;
+    // Below the threshold, the Newton iteration is faster for the floor, but
+    // every other rounding is decided by the remainder of sqrtRem
+    if (len < KARATSUBA_SQRT_THRESHOLD && (rm == RoundingMode.FLOOR || rm == RoundingMode.DOWN))
+      return sqrtApprox(val, rm);
 
-    final int[] halfSquare = addInPlace(tmp, sqrtApprox);
-    /* Test whether or not x <= (sqrtFloor + 0.5)^2 = halfSquare + 0.25. Since
-     * both x and halfSquare are integers, this is equivalent to testing whether
-     * or not x <= halfSquare. */
-    return compareToAbs(halfSquare, val) >= 0 ? sqrtApprox : addInPlace(sqrtApprox, 1, 1);
+    return sqrtRound(val, len, rm);
   }
 
   /**
@@ -233,7 +235,7 @@ abstract class BigIntMath extends BigIntDivision {
    * iteration until we reach a fixed point.
    */
   // FIXME: Perhaps it's possible to yet remove more realloc(s). Use ThreadLocal.
-  private static int[] sqrtApprox(final int[] val, final RoundingMode rm) {
+  static int[] sqrtApprox(final int[] val, final RoundingMode rm) {
     int[] res;
     final int log2 = log2(val, RoundingMode.FLOOR);
     if (log2 < Double.MAX_EXPONENT) {
@@ -246,13 +248,13 @@ abstract class BigIntMath extends BigIntDivision {
       res = shiftLeft(sqrtApproxDoubleInPlace(shiftRight(val.clone(), shift), rm), shift >> 1);
     }
 
-    int[] tmp = shiftRight(addInPlace(div(val.clone(), res), res), 1);
+    int[] tmp = shiftRight(add(div(val.clone(), res), res), 1);
     if (equals(res, tmp))
       return res;
 
     do {
       res = tmp;
-      tmp = shiftRight(addInPlace(div(val.clone(), res), res), 1);
+      tmp = shiftRight(add(div(val.clone(), res), res), 1);
     }
     while (compareToAbs(tmp, res) < 0);
     return res;
@@ -262,6 +264,353 @@ abstract class BigIntMath extends BigIntDivision {
     return assignInPlace(val, Math.sqrt(doubleValue(val)), rm);
   }
 
+  /**
+   * Computes the square root of the provided positive
+   * {@linkplain BigInt#val() value-encoded number} in place with
+   * {@link #sqrtRem(int[],int[])}, and rounds it by the given
+   * {@link RoundingMode} with the remainder.
+   */
+  private static int[] sqrtRound(final int[] val, final int len, final RoundingMode rm) {
+    final int[] rem = alloc((len + 1) / 2 + 2);
+    sqrtRem(val, rem);
+    if (rem[0] == 0 || rm == RoundingMode.FLOOR || rm == RoundingMode.DOWN)
+      return val;
+
+    if (rm == RoundingMode.UNNECESSARY || rm == null)
+      return null;
+
+    // Round up if val > (s + 1/2)^2 = s^2 + s + 1/4, i.e. if rem > s
+    if (rm == RoundingMode.CEILING || rm == RoundingMode.UP || compareToAbs(rem, val) > 0)
+      return add(val, 1, 1);
+
+    return val;
+  }
+
+  /**
+   * Computes the integer square root of the provided {@linkplain BigInt#val()
+   * value-encoded number}, and sets the provided {@code rem} array to the
+   * remainder.
+   *
+   * <blockquote>
+   * <code>val = |val<sup>1/2</sup>|</code><br>
+   * <code>rem = val - |val<sup>1/2</sup>|<sup>2</sup></code>
+   * </blockquote>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param rem The array in which to store the {@linkplain BigInt#val()
+   *          value-encoded remainder}, which must be at least of length
+   *          {@code (|val[0]| + 1) / 2 + 2}.
+   * @return {@code val} with its value replaced with its integer square root,
+   *         or {@code null} if {@code val} is negative.
+   * @implNote The implementation is Paul Zimmermann's Karatsuba square root,
+   *           as described in Richard P. Brent and Paul Zimmermann, <i>Modern
+   *           Computer Arithmetic</i> (Cambridge University Press, 2010),
+   *           1.5.2, Algorithm 1.12. The square root of the upper half of the
+   *           number is computed recursively, and the lower half of the root
+   *           with a division by twice the upper half, such that the
+   *           algorithm runs in the time of the division.
+   * @complexity O(n^1.58) - O(n log n)
+   */
+  public static int[] sqrtRem(final int[] val, final int[] rem) {
+    final int len = val[0];
+    if (len == 0) {
+      rem[0] = 0;
+      return val;
+    }
+
+    if (len < 0)
+      return null;
+
+    // Normalize to an even number of limbs with one of the 2 highest bits set
+    final int shift = (Integer.numberOfLeadingZeros(val[len]) & ~1) + ((len & 1) << 5);
+    final int[] m = shiftLeft(copy(val, len + 1, alloc(len + 2), len + 2), shift);
+    final int[] r = alloc(m[0] / 2 + 2);
+    int[] s = sqrtRemKaratsuba(m, 1, m[0], r);
+    final int half = shift >> 1;
+    if (half == 0) {
+      System.arraycopy(s, 0, val, 0, s[0] + 1);
+      System.arraycopy(r, 0, rem, 0, r[0] + 1);
+      return val;
+    }
+
+    // With s0 = s * 2^half + t, the remainder of val is (r0 + t * (s0 + s * 2^half)) / 2^shift
+    final int t = s[1] & ((1 << half) - 1);
+    final int[] w = s.clone();
+    s = shiftRight(s, half);
+    System.arraycopy(s, 0, val, 0, s[0] + 1);
+    final int[] x = add(mul(add(w, shiftLeft(s.clone(), half)), 1, t), r);
+    final int[] y = shiftRight(x, shift);
+    System.arraycopy(y, 0, rem, 0, y[0] + 1);
+    return val;
+  }
+
+  /**
+   * Returns the {@linkplain BigInt#val() value-encoded} square root of the
+   * normalized magnitude in the provided array, and sets the provided
+   * {@code rem} array to the remainder.
+   *
+   * @param mag The magnitude array.
+   * @param off The offset of the first limb of the magnitude.
+   * @param len The even number of limbs of the magnitude, of which the most
+   *          significant has one of its 2 highest bits set.
+   * @param rem The array in which to store the {@linkplain BigInt#val()
+   *          value-encoded remainder}, which must be at least of length
+   *          {@code len / 2 + 2}.
+   * @return The {@linkplain BigInt#val() value-encoded} square root of the
+   *         normalized magnitude in the provided array.
+   */
+  private static int[] sqrtRemKaratsuba(final int[] mag, final int off, final int len, final int[] rem) {
+    if (len == 2) {
+      final long x = (mag[off + 1] & LONG_MASK) << 32 | mag[off] & LONG_MASK;
+      long s = Math.min((long)Math.sqrt((x >>> 1) * 2d), LONG_MASK);
+      while (Long.compareUnsigned(s * s, x) > 0)
+        --s;
+
+      while (s < LONG_MASK && Long.compareUnsigned((s + 1) * (s + 1), x) <= 0)
+        ++s;
+
+      final long r = x - s * s;
+      rem[1] = (int)r;
+      rem[2] = (int)(r >>> 32);
+      rem[0] = rem[2] != 0 ? 2 : r != 0 ? 1 : 0;
+      final int[] root = alloc(3);
+      root[0] = 1;
+      root[1] = (int)s;
+      return root;
+    }
+
+    // With b = 2^(32 * l): mag = a3 * b^3 + a2 * b^2 + a1 * b + a0
+    final int h = len >> 1, l = h >> 1;
+    final int[] s1 = sqrtRemKaratsuba(mag, off + 2 * l, len - 2 * l, rem);
+
+    // (q, u) = divRem(r' * b + a1, 2 * s')
+    final int rlen = rem[0];
+    int[] q = alloc(rlen + l + 2);
+    System.arraycopy(mag, off + l, q, 1, l);
+    System.arraycopy(rem, 1, q, l + 1, rlen);
+    q[0] = rlen + l;
+    for (; q[0] > 0 && q[q[0]] == 0; --q[0]);
+    final int[] u = divRem(q, shiftLeft(s1.clone(), 1));
+
+    // s = s' * b + q
+    final int slen = s1[0];
+    int[] s = alloc(slen + l + 2);
+    System.arraycopy(s1, 1, s, l + 1, slen);
+    s[0] = slen + l;
+    s = add(s, q);
+
+    // r = u * b + a0 - q^2
+    final int ulen = u[0];
+    int[] r = alloc(Math.max(ulen + l, h + 1) + 2);
+    System.arraycopy(mag, off, r, 1, l);
+    System.arraycopy(u, 1, r, l + 1, ulen);
+    r[0] = ulen + l;
+    for (; r[0] > 0 && r[r[0]] == 0; --r[0]);
+    r = sub(r, mul(q, q));
+    if (r[0] < 0) {
+      // r = r + 2 * s - 1, s = s - 1
+      r = sub(add(add(r, s), s), 1);
+      s = sub(s, 1);
+    }
+
+    System.arraycopy(r, 0, rem, 0, r[0] + 1);
+    return s;
+  }
+
+  /**
+   * Computes the {@code k}-th root of the provided {@linkplain BigInt#val()
+   * value-encoded number}, rounded by {@link RoundingMode#DOWN}.
+   *
+   * <blockquote>
+   * <code>val = |val<sup>1/k</sup>|</code>
+   * </blockquote>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param k The degree of the root.
+   * @return {@code val} with its value replaced with its integer {@code k}-th
+   *         root, or {@code null} if {@code val} is negative and {@code k} is
+   *         even.
+   * @throws ArithmeticException If {@code k} is not positive.
+   * @complexity O(n^2 log n) - O(n log^2 n)
+   */
+  public static int[] nthRoot(final int[] val, final int k) {
+    return nthRoot(val, k, RoundingMode.DOWN);
+  }
+
+  /**
+   * Computes the {@code k}-th root of the provided {@linkplain BigInt#val()
+   * value-encoded number}, rounded by the given {@link RoundingMode}. With
+   * {@link RoundingMode#UNNECESSARY}, this method is the test of whether the
+   * number is a perfect {@code k}-th power.
+   *
+   * <blockquote>
+   * <code>val = |val<sup>1/k</sup>|</code>
+   * </blockquote>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param k The degree of the root.
+   * @param rm The {@link RoundingMode}.
+   * @return {@code val} with its value replaced with its rounded {@code k}-th
+   *         root, or {@code null} if {@code val} is negative and {@code k} is
+   *         even, or {@code rm == RoundingMode.UNNECESSARY || rm == null} yet
+   *         rounding is necessary.
+   * @throws ArithmeticException If {@code k} is not positive.
+   * @implNote The root is computed with Newton's method on integers, which
+   *           starts from an overestimate that is accurate to the precision
+   *           of a {@code double}, and converges to the floor of the root from
+   *           above.
+   * @complexity O(n^2 log n) - O(n log^2 n)
+   */
+  public static int[] nthRoot(final int[] val, final int k, RoundingMode rm) {
+    if (k <= 0)
+      throw new ArithmeticException("Non-positive root: " + k);
+
+    int len = val[0];
+    if (len == 0 || k == 1)
+      return val;
+
+    final boolean sig = len > 0;
+    if (!sig) {
+      if ((k & 1) == 0)
+        return null;
+
+      len = -len;
+      // The magnitude of the root is rounded in the opposite direction
+      if (rm == RoundingMode.FLOOR)
+        rm = RoundingMode.CEILING;
+      else if (rm == RoundingMode.CEILING)
+        rm = RoundingMode.FLOOR;
+    }
+    else if (k == 2) {
+      return sqrt(val, rm);
+    }
+
+    final int[] mag = copy(val, len + 1, alloc(len + 2), len + 2);
+    mag[0] = len;
+    int[] root = rootFloor(mag, len, k);
+    if (rm != RoundingMode.FLOOR && rm != RoundingMode.DOWN) {
+      final int c = compareToAbs(pow(copy(root, root[0] + 1, alloc(root[0] * k + 2), root[0] * k + 2), k), mag);
+      if (c != 0) {
+        if (rm == RoundingMode.UNNECESSARY || rm == null)
+          return null;
+
+        if (rm == RoundingMode.CEILING || rm == RoundingMode.UP) {
+          root = add(root, 1, 1);
+        }
+        else {
+          // Round up if mag > (root + 1/2)^k, i.e. mag * 2^k > (2 * root + 1)^k, which cannot be equal
+          final int[] half = pow(add(shiftLeft(copy(root, root[0] + 1, alloc(root[0] * k + 3), root[0] * k + 3), 1), 1, 1), k);
+          if (compareToAbs(shiftLeft(mag, k), half) > 0)
+            root = add(root, 1, 1);
+        }
+      }
+    }
+
+    System.arraycopy(root, 0, val, 0, root[0] + 1);
+    if (!sig)
+      val[0] = -val[0];
+
+    return val;
+  }
+
+  /**
+   * Returns the {@linkplain BigInt#val() value-encoded} floor of the
+   * {@code k}-th root of the provided positive magnitude.
+   *
+   * @param mag The magnitude array, starting at index {@code 1}, with
+   *          {@code mag[0] == len}.
+   * @param len The number of limbs in {@code mag}.
+   * @param k The degree of the root, which is at least {@code 2}.
+   * @return The {@linkplain BigInt#val() value-encoded} floor of the
+   *         {@code k}-th root of the provided positive magnitude.
+   */
+  private static int[] rootFloor(final int[] mag, final int len, final int k) {
+    final int bits = ((len - 1) << 5) + bitLengthForInt(mag[len]);
+    if (k >= bits)
+      return assign(alloc(2), 1, 1);
+
+    // The initial overestimate is (floor((top + 1)^(1/k)) + 1) * 2^e, where top = mag >> (k * e)
+    int[] x;
+    final int e = Math.max(0, bits - 62) / k;
+    if (bits - e * k < 1000) {
+      final double top = doubleValue(shiftRight(copy(mag, len + 1, alloc(len + 1), len + 1), e * k)) + 1;
+      x = shiftLeft(assign(alloc(len + 2), 1, (long)(Math.pow(top, 1d / k) * (1 + 0x1p-40)) + 1), e);
+    }
+    else {
+      x = shiftLeft(assign(alloc(len + 2), 1, 1), (bits + k - 1) / k);
+    }
+
+    final int[] kval = assign(alloc(2), 1, k);
+    while (true) {
+      // y = ((k - 1) * x + mag / x^(k - 1)) / k
+      final int[] p = pow(copy(x, x[0] + 1, alloc(x[0] * (k - 1) + 2), x[0] * (k - 1) + 2), k - 1);
+      int[] y = div(copy(mag, len + 1, alloc(len + 2), len + 2), p);
+      y = add(y, mul(copy(x, x[0] + 1, alloc(x[0] + 2), x[0] + 2), 1, k - 1));
+      y = div(y, kval);
+      if (compareToAbs(y, x) >= 0)
+        return x;
+
+      x = y;
+    }
+  }
+
+  /**
+   * Returns whether the provided {@linkplain BigInt#val() value-encoded
+   * number} is a perfect power, i.e. whether it is equal to
+   * <code>a<sup>k</sup></code> for an integer {@code a} and {@code k > 1}.
+   * The numbers {@code 0}, {@code 1} and {@code -1} are perfect powers.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return Whether the provided {@linkplain BigInt#val() value-encoded
+   *         number} is a perfect power.
+   * @implNote The test is {@link #nthRoot(int[],int,RoundingMode)} with
+   *           {@link RoundingMode#UNNECESSARY} for each prime {@code k} up to
+   *           the bit length of the number, of which the candidates are first
+   *           filtered by the multiplicity of the factor {@code 2}.
+   * @complexity O(n^3 log n)
+   */
+  public static boolean isPerfectPower(final int[] val) {
+    int len = val[0];
+    final boolean sig = len >= 0;
+    if (!sig)
+      len = -len;
+
+    if (len == 0 || len == 1 && val[1] == 1)
+      return true;
+
+    final int bits = ((len - 1) << 5) + bitLengthForInt(val[len]);
+    final int tz = getLowestSetBit(val);
+    final int[] root = alloc(len + 2);
+    for (int k = sig ? 2 : 3; k < bits; k = k == 2 ? 3 : k + 2) {
+      if (tz != 0 && tz % k != 0 || !isPrime(k))
+        continue;
+
+      System.arraycopy(val, 0, root, 0, len + 1);
+      if (nthRoot(root, k, RoundingMode.UNNECESSARY) != null)
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns whether the specified positive {@code int} is prime, by trial
+   * division.
+   */
+  private static boolean isPrime(final int n) {
+    if (n < 4)
+      return n > 1;
+
+    if ((n & 1) == 0)
+      return false;
+
+    for (int d = 3; d * d <= n; d += 2)
+      if (n % d == 0)
+        return false;
+
+    return true;
+  }
+
   /**
    * Returns {@code 1} if {@code x < y} as unsigned longs, and 0 otherwise.
    * Assumes that x - y fits into a signed long. The implementation is
@@ -494,6 +843,1193 @@ abstract class BigIntMath extends BigIntDivision {
     return (int)SafeMath.round(log0(val, Math.log(b)), rm);
   }
 
+  /**
+   * Computes the provided {@linkplain BigInt#val() value-encoded base} raised
+   * to the power of the provided {@linkplain BigInt#val() value-encoded
+   * exponent}, modulo the provided {@linkplain BigInt#val() value-encoded
+   * modulus}.
+   *
+   * <blockquote>
+   * <code>val = val<sup>exp</sup> mod m</code>
+   * </blockquote>
+   *
+   * The result is nonnegative, regardless of the sign of {@code val}. If
+   * {@code exp} is negative, the inverse of {@code val} modulo {@code m} is
+   * raised to the power of {@code -exp}.
+   * <p>
+   * <i><b>Note:</b> The Montgomery constants of the modulus are computed with
+   * each call. For repeated exponentiation modulo the same modulus, the
+   * {@link BigIntModulus} should be constructed once, and reused.</i>
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the length of {@code val} is not sufficient for the result.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded base}.
+   * @param exp The {@linkplain BigInt#val() value-encoded exponent}.
+   * @param mod The {@linkplain BigInt#val() value-encoded modulus}.
+   * @return The provided {@linkplain BigInt#val() value-encoded base}, with its
+   *         value replaced by <code>val<sup>exp</sup> mod m</code>.
+   * @throws ArithmeticException If {@code mod} is not positive, or
+   *           {@code exp} is negative and {@code val} is not relatively prime
+   *           to {@code mod}.
+   * @see BigIntModulus#modPow(int[],int[])
+   * @complexity O(n^2 log exp)
+   */
+  public static int[] modPow(final int[] val, final int[] exp, final int[] mod) {
+    return new BigIntModulus(mod).modPow(val, exp);
+  }
+
+  private static final LocalArray localGcdA = new LocalArray();
+  private static final LocalArray localGcdB = new LocalArray();
+  private static final LocalArray localGcdU0 = new LocalArray();
+  private static final LocalArray localGcdU1 = new LocalArray();
+  private static final LocalArray localGcdQ = new LocalArray();
+  private static final LocalArray localGcdX = new LocalArray();
+
+  /**
+   * Computes the greatest common divisor of the provided
+   * {@linkplain BigInt#val() value-encoded numbers}.
+   *
+   * <blockquote>
+   * <code>val = gcd(|val|, |val2|)</code>
+   * </blockquote>
+   *
+   * The result is nonnegative, and is {@code 0} only if both numbers are
+   * {@code 0}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the length of {@code val} is not sufficient for the result, which is only
+   * possible if {@code val} is {@code 0}.</i>
+   *
+   * @param val The first {@linkplain BigInt#val() value-encoded number}.
+   * @param val2 The second {@linkplain BigInt#val() value-encoded number}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number}, with
+   *         its value replaced by the greatest common divisor of {@code |val|}
+   *         and {@code |val2|}.
+   * @implNote The implementation is Lehmer's algorithm, as described in Donald
+   *           E. Knuth, <i>The Art of Computer Programming, Vol. 2 (3rd
+   *           ed.)</i> (Addison Wesley, 1997), 4.5.2, Algorithm L, which
+   *           reduces the numbers with the single-precision simulation of the
+   *           Euclidean algorithm on their leading 32 bits. Once the smaller
+   *           number fits in a {@code long}, the remaining steps are performed
+   *           with the binary GCD algorithm.
+   * @complexity O(n^2)
+   */
+  public static int[] gcd(int[] val, final int[] val2) {
+    final int len1 = Math.abs(val[0]), len2 = Math.abs(val2[0]);
+    final int len = Math.max(len1, len2) + 2;
+    final int[] a = localGcdA.take(len);
+    final int[] b = localGcdB.take(len);
+    try {
+      System.arraycopy(val, 1, a, 1, len1);
+      a[0] = len1;
+      System.arraycopy(val2, 1, b, 1, len2);
+      b[0] = len2;
+      return assign(val, gcd0(a, b, null));
+    }
+    finally {
+      localGcdA.release(a);
+      localGcdB.release(b);
+    }
+  }
+
+  /**
+   * Computes the greatest common divisor of the provided
+   * {@linkplain BigInt#val() value-encoded numbers}, and the B&eacute;zout
+   * coefficient {@code x} of {@code val}, such that
+   * <code>val * x &equiv; gcd(val, val2) (mod val2)</code>.
+   *
+   * <blockquote>
+   * <code>val = gcd(|val|, |val2|) = val * x + val2 * y</code>
+   * </blockquote>
+   *
+   * The coefficient {@code y} of {@code val2} follows as
+   * {@code (gcd - val * x) / val2}. If {@code val2} is not {@code 0}, then
+   * {@code |x| <= |val2| / gcd}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the length of {@code val} is not sufficient for the result, which is only
+   * possible if {@code val} is {@code 0}.</i>
+   *
+   * @param val The first {@linkplain BigInt#val() value-encoded number}.
+   * @param val2 The second {@linkplain BigInt#val() value-encoded number}.
+   * @param x An array to store the {@linkplain BigInt#val() value-encoded}
+   *          B&eacute;zout coefficient of {@code val}, which must be at least
+   *          of length {@code Math.abs(val2[0]) + 2}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number}, with
+   *         its value replaced by the greatest common divisor of {@code |val|}
+   *         and {@code |val2|}.
+   * @see #gcd(int[],int[])
+   * @complexity O(n^2)
+   */
+  public static int[] gcdExt(int[] val, final int[] val2, final int[] x) {
+    int len1 = val[0];
+    final boolean sig = len1 >= 0;
+    if (!sig)
+      len1 = -len1;
+
+    final int len2 = Math.abs(val2[0]);
+    final int len = Math.max(len1, len2) + 2;
+    final int[] a = localGcdA.take(len);
+    final int[] b = localGcdB.take(len);
+    try {
+      System.arraycopy(val, 1, a, 1, len1);
+      a[0] = len1;
+      System.arraycopy(val2, 1, b, 1, len2);
+      b[0] = len2;
+      val = assign(val, gcd0(a, b, x));
+      if (!sig)
+        x[0] = -x[0];
+
+      return val;
+    }
+    finally {
+      localGcdA.release(a);
+      localGcdB.release(b);
+    }
+  }
+
+  /**
+   * Computes the inverse of the provided {@linkplain BigInt#val() value-encoded
+   * number} modulo the provided {@linkplain BigInt#val() value-encoded
+   * modulus}.
+   *
+   * <blockquote>
+   * <code>val = val<sup>-1</sup> mod m</code>
+   * </blockquote>
+   *
+   * The result is nonnegative, and less than {@code m}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the length of {@code val} is not sufficient for the result.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param mod The {@linkplain BigInt#val() value-encoded modulus}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number}, with
+   *         its value replaced by its inverse modulo {@code mod}.
+   * @throws ArithmeticException If {@code mod} is not positive, or {@code val}
+   *           is not relatively prime to {@code mod}.
+   * @see #gcdExt(int[],int[],int[])
+   * @complexity O(n^2)
+   */
+  public static int[] modInverse(int[] val, final int[] mod) {
+    final int len2 = mod[0];
+    if (len2 <= 0)
+      throw new ArithmeticException("Modulus not positive");
+
+    if (len2 == 1 && mod[1] == 1)
+      return setToZero(val);
+
+    final int len1 = Math.abs(val[0]);
+    final int len = Math.max(len1, len2) + 2;
+    final int[] a = localGcdA.take(len);
+    final int[] b = localGcdB.take(len);
+    final int[] x = localGcdX.take(len);
+    try {
+      // a = val mod m
+      System.arraycopy(val, 0, a, 0, len1 + 1);
+      rem(a, mod);
+      if (a[0] < 0)
+        subInPlace(mod, len2, a, -a[0]);
+
+      System.arraycopy(mod, 0, b, 0, len2 + 1);
+      final int[] g = gcd0(a, b, x);
+      if (g[0] != 1 || g[1] != 1)
+        throw new ArithmeticException("Not invertible");
+
+      // x = x mod m
+      if (x[0] < 0)
+        subInPlace(mod, len2, x, -x[0]);
+
+      return assign(val, x);
+    }
+    finally {
+      localGcdA.release(a);
+      localGcdB.release(b);
+      localGcdX.release(x);
+    }
+  }
+
+  /**
+   * Replaces the magnitude in {@code x} with {@code m - x}, where
+   * {@code x <= m}.
+   */
+  private static void subInPlace(final int[] m, final int mlen, final int[] x, final int xlen) {
+    long c = 0;
+    for (int i = 1; i <= mlen; ++i) {
+      c += (m[i] & LONG_MASK) - (i <= xlen ? x[i] & LONG_MASK : 0);
+      x[i] = (int)c;
+      c >>= 32;
+    }
+
+    int len = mlen;
+    for (; len > 0 && x[len] == 0; --len);
+    x[0] = len;
+  }
+
+  /**
+   * Computes the greatest common divisor of the nonnegative numbers in
+   * {@code a} and {@code b}, which are overwritten in the process.
+   *
+   * @param a The first nonnegative {@linkplain BigInt#val() value-encoded
+   *          number}, of which the length must be at least
+   *          {@code Math.max(a[0], b[0]) + 2}.
+   * @param b The second nonnegative {@linkplain BigInt#val() value-encoded
+   *          number}, of which the length must be at least
+   *          {@code Math.max(a[0], b[0]) + 2}.
+   * @param x An array to store the B&eacute;zout coefficient of {@code a}, or
+   *          {@code null} if the coefficient is not to be computed.
+   * @return The array ({@code a} or {@code b}) that holds the greatest common
+   *         divisor.
+   */
+  private static int[] gcd0(int[] a, int[] b, final int[] x) {
+    int[] t;
+    final boolean swapped = compareToAbs(a, b) < 0;
+    if (swapped) {
+      t = a; a = b; b = t;
+    }
+
+    if (x == null) {
+      while (b[0] > 2) {
+        if (lehmer(a, b, null, null) != 0)
+          continue;
+
+        // The quotient does not fit in the leading 32 bits, so divide
+        rem(a, b);
+        t = a; a = b; b = t;
+      }
+
+      if (b[0] != 0) {
+        final long bl = longValueUnsigned(b);
+        assignUnsigned(a, binaryGcd(a[0] > 2 ? rem(a, 1, bl) : longValueUnsigned(a), bl));
+      }
+
+      return a;
+    }
+
+    // The magnitudes of the cofactors of a and b, of which the signs alternate with each step of the Euclidean algorithm
+    final int len = a.length + 1;
+    int[] u0 = localGcdU0.take(len);
+    int[] u1 = localGcdU1.take(len);
+    final int[] q = localGcdQ.take(len);
+    try {
+      // If a < b, then the first step has the quotient 0, which swaps a and b, and the cofactors
+      boolean neg = swapped;
+      u0[0] = swapped ? 0 : 1;
+      u0[1] = 1;
+      u1[0] = swapped ? 1 : 0;
+      u1[1] = 1;
+      while (b[0] > 2) {
+        final int steps = lehmer(a, b, u0, u1);
+        if (steps != 0) {
+          if (steps < 0)
+            neg = !neg;
+
+          continue;
+        }
+
+        // The quotient does not fit in the leading 32 bits, so divide
+        if (compareToAbs(a, b) == 0) {
+          a[0] = 0;
+          q[0] = 1;
+          q[1] = 1;
+        }
+        else {
+          div(a, b, q);
+        }
+
+        addMul(u0, u1, q);
+        t = a; a = b; b = t;
+        t = u0; u0 = u1; u1 = t;
+        neg = !neg;
+      }
+
+      if (b[0] != 0) {
+        long al, bl = longValueUnsigned(b);
+        if (a[0] > 2) {
+          final long r = divRem(a, 1, bl);
+          addMul(u0, u1, a);
+          t = u0; u0 = u1; u1 = t;
+          neg = !neg;
+          al = bl;
+          bl = r;
+        }
+        else {
+          al = longValueUnsigned(a);
+        }
+
+        while (bl != 0) {
+          final long qq = Long.divideUnsigned(al, bl);
+          final long r = al - qq * bl;
+          addMul(u0, u1, qq & LONG_MASK, 0);
+          addMul(u0, u1, qq >>> 32, 1);
+          t = u0; u0 = u1; u1 = t;
+          neg = !neg;
+          al = bl;
+          bl = r;
+        }
+
+        assignUnsigned(a, al);
+      }
+
+      System.arraycopy(u0, 0, x, 0, u0[0] + 1);
+      if (neg)
+        x[0] = -x[0];
+
+      return a;
+    }
+    finally {
+      localGcdU0.release(u0);
+      localGcdU1.release(u1);
+      localGcdQ.release(q);
+    }
+  }
+
+  /**
+   * Performs a step of Lehmer's algorithm on the nonnegative numbers in
+   * {@code a} and {@code b}, where {@code a >= b}, by simulating the steps of
+   * the Euclidean algorithm on their leading 32 bits, and applying the
+   * accumulated cofactors to {@code a} and {@code b} (and to the magnitudes of
+   * their cofactors in {@code u0} and {@code u1}, if not null).
+   *
+   * @return {@code 0} if the first quotient cannot be determined from the
+   *         leading 32 bits, in which case {@code a} and {@code b} are not
+   *         modified; otherwise {@code 1} if an even number of steps was
+   *         simulated, or {@code -1} if an odd number of steps was simulated.
+   */
+  private static int lehmer(final int[] a, final int[] b, final int[] u0, final int[] u1) {
+    final int alen = a[0], blen = b[0];
+    final int shift = Integer.numberOfLeadingZeros(a[alen]);
+    long ah = leading(a, alen, alen, shift);
+    long bh = blen < alen - 1 ? 0 : leading(b, blen, alen, shift);
+    long A = 1, B = 0, C = 0, D = 1, q, t;
+    while (bh + C != 0 && bh + D != 0) {
+      q = (ah + A) / (bh + C);
+      if (q != (ah + B) / (bh + D))
+        break;
+
+      t = A - q * C; A = C; C = t;
+      t = B - q * D; B = D; D = t;
+      t = ah - q * bh; ah = bh; bh = t;
+    }
+
+    if (B == 0)
+      return 0;
+
+    // a = A * a + B * b, and b = C * a + D * b, where the signs of A and B, and of C and D are opposite
+    final boolean posA = A > 0, posC = C > 0;
+    final long mA = Math.abs(A), mB = Math.abs(B), mC = Math.abs(C), mD = Math.abs(D);
+    long p1 = 0, n1 = 0, c1 = 0, p2 = 0, n2 = 0, c2 = 0;
+    for (int i = 1; i <= alen; ++i) {
+      final long x = a[i] & LONG_MASK, y = i <= blen ? b[i] & LONG_MASK : 0;
+      final long xA = x * mA, yB = y * mB, xC = x * mC, yD = y * mD;
+      if (posA) { p1 += xA; n1 += yB; } else { p1 += yB; n1 += xA; }
+      if (posC) { p2 += xC; n2 += yD; } else { p2 += yD; n2 += xC; }
+      c1 += (p1 & LONG_MASK) - (n1 & LONG_MASK);
+      c2 += (p2 & LONG_MASK) - (n2 & LONG_MASK);
+      a[i] = (int)c1;
+      b[i] = (int)c2;
+      c1 >>= 32; p1 >>>= 32; n1 >>>= 32;
+      c2 >>= 32; p2 >>>= 32; n2 >>>= 32;
+    }
+
+    int len;
+    for (len = alen; len > 0 && a[len] == 0; --len);
+    a[0] = len;
+    for (len = alen; len > 0 && b[len] == 0; --len);
+    b[0] = len;
+
+    if (u0 != null) {
+      // u0 = |A| * u0 + |B| * u1, and u1 = |C| * u0 + |D| * u1, as the signs of the terms are the same
+      final int len0 = u0[0], len1 = u1[0], top = Math.max(len0, len1) + 2;
+      for (int i = len0 + 1; i <= top; ++i)
+        u0[i] = 0;
+
+      for (int i = len1 + 1; i <= top; ++i)
+        u1[i] = 0;
+
+      long t1, t2;
+      c1 = c2 = 0;
+      for (int i = 1; i <= top; ++i) {
+        final long x = u0[i] & LONG_MASK, y = u1[i] & LONG_MASK;
+        t1 = x * mA + (c1 & LONG_MASK);
+        t2 = y * mB + (t1 & LONG_MASK);
+        u0[i] = (int)t2;
+        c1 = (t1 >>> 32) + (t2 >>> 32) + (c1 >>> 32);
+        t1 = x * mC + (c2 & LONG_MASK);
+        t2 = y * mD + (t1 & LONG_MASK);
+        u1[i] = (int)t2;
+        c2 = (t1 >>> 32) + (t2 >>> 32) + (c2 >>> 32);
+      }
+
+      for (len = top; len > 0 && u0[len] == 0; --len);
+      u0[0] = len;
+      for (len = top; len > 0 && u1[len] == 0; --len);
+      u1[0] = len;
+    }
+
+    return B > 0 ? -1 : 1;
+  }
+
+  /**
+   * Returns the 32 bits of the provided nonnegative number at the limb
+   * {@code at}, shifted left by {@code shift} with the bits of the next lower
+   * limb.
+   */
+  private static long leading(final int[] val, final int len, final int at, final int shift) {
+    final int hi = at <= len ? val[at] : 0;
+    if (shift == 0)
+      return hi & LONG_MASK;
+
+    final int lo = at - 1 <= len ? val[at - 1] : 0;
+    return (hi << shift | lo >>> 32 - shift) & LONG_MASK;
+  }
+
+  /**
+   * Adds the product of the magnitude in {@code x} and the unsigned
+   * {@code int} {@code m}, shifted left by {@code off} limbs, to the magnitude
+   * in {@code z}.
+   */
+  private static void addMul(final int[] z, final int[] x, final long m, final int off) {
+    final int zlen = z[0], xlen = x[0];
+    if (m == 0 || xlen == 0)
+      return;
+
+    final int top = Math.max(zlen, off + xlen) + 1;
+    for (int i = zlen + 1; i <= top; ++i)
+      z[i] = 0;
+
+    long c = 0;
+    int i = 1, k = 1 + off;
+    for (; i <= xlen; ++i, ++k) {
+      c += (z[k] & LONG_MASK) + (x[i] & LONG_MASK) * m;
+      z[k] = (int)c;
+      c >>>= 32;
+    }
+
+    for (; c != 0; ++k) {
+      c += z[k] & LONG_MASK;
+      z[k] = (int)c;
+      c >>>= 32;
+    }
+
+    int len = top;
+    for (; len > 0 && z[len] == 0; --len);
+    z[0] = len;
+  }
+
+  /**
+   * Adds the product of the magnitudes in {@code x} and {@code m} to the
+   * magnitude in {@code z}.
+   */
+  private static void addMul(final int[] z, final int[] x, final int[] m) {
+    for (int j = 1, len = m[0]; j <= len; ++j)
+      addMul(z, x, m[j] & LONG_MASK, j - 1);
+  }
+
+  private static void assignUnsigned(final int[] val, final long mag) {
+    val[1] = (int)mag;
+    val[2] = (int)(mag >>> 32);
+    val[0] = mag >>> 32 != 0 ? 2 : mag != 0 ? 1 : 0;
+  }
+
+  /**
+   * Returns the greatest common divisor of the provided <i>unsigned</i>
+   * {@code long} numbers, with Stein's binary GCD algorithm.
+   */
+  private static long binaryGcd(long a, long b) {
+    if (a == 0)
+      return b;
+
+    if (b == 0)
+      return a;
+
+    final int shift = Long.numberOfTrailingZeros(a | b);
+    a >>>= Long.numberOfTrailingZeros(a);
+    do {
+      b >>>= Long.numberOfTrailingZeros(b);
+      if (Long.compareUnsigned(a, b) > 0) {
+        final long t = a; a = b; b = t;
+      }
+
+      b -= a;
+    }
+    while (b != 0);
+    return a << shift;
+  }
+
+  /** The upper bound (exclusive) of {@link #smallPrimes}. */
+  private static final int SMALL_PRIME_LIMIT = 2048;
+
+  /**
+   * The square of {@link #SMALL_PRIME_LIMIT}, below which a number that has no
+   * factor in {@link #smallPrimes} is prime.
+   */
+  private static final long SMALL_PRIME_LIMIT_SQUARED = (long)SMALL_PRIME_LIMIT * SMALL_PRIME_LIMIT;
+
+  /** The odd primes below {@link #SMALL_PRIME_LIMIT}. */
+  private static final int[] smallPrimes;
+
+  /**
+   * The products of consecutive runs of {@link #smallPrimes} that fit in a
+   * positive {@code int}, such that the residues of a number modulo all of the
+   * small primes are computed with one pass over its limbs per product.
+   */
+  private static final int[] smallPrimeProducts;
+
+  /**
+   * The index in {@link #smallPrimes} (exclusive) of the last prime of each
+   * product in {@link #smallPrimeProducts}.
+   */
+  private static final int[] smallPrimeProductEnds;
+
+  static {
+    final boolean[] composite = new boolean[SMALL_PRIME_LIMIT];
+    int count = 0;
+    for (int i = 3; i < SMALL_PRIME_LIMIT; i += 2) {
+      if (!composite[i]) {
+        ++count;
+        for (int j = i * i; j < SMALL_PRIME_LIMIT; j += 2 * i)
+          composite[j] = true;
+      }
+    }
+
+    smallPrimes = new int[count];
+    for (int i = 3, j = 0; i < SMALL_PRIME_LIMIT; i += 2)
+      if (!composite[i])
+        smallPrimes[j++] = i;
+
+    final int[] products = new int[count];
+    final int[] ends = new int[count];
+    int groups = 0;
+    long product = 1;
+    for (int i = 0; i < count; ++i) {
+      if (product * smallPrimes[i] > Integer.MAX_VALUE) {
+        products[groups] = (int)product;
+        ends[groups++] = i;
+        product = 1;
+      }
+
+      product *= smallPrimes[i];
+    }
+
+    products[groups] = (int)product;
+    ends[groups++] = count;
+    smallPrimeProducts = Arrays.copyOf(products, groups);
+    smallPrimeProductEnds = Arrays.copyOf(ends, groups);
+  }
+
+  private static final LocalArray localPrime = new LocalArray();
+  private static final LocalArray localPrimeResidues = new LocalArray();
+
+  /**
+   * Sets the residues of the provided magnitude modulo each of the
+   * {@link #smallPrimes} in the provided array.
+   *
+   * @param mag The magnitude array, starting at index {@code 1}.
+   * @param len The number of limbs in {@code mag}.
+   * @param res The array in which to set the residues.
+   */
+  private static void smallPrimeResidues(final int[] mag, final int len, final int[] res) {
+    for (int g = 0, i = 0; g < smallPrimeProducts.length; ++g) {
+      final int r = rem(mag, 1, len, smallPrimeProducts[g]);
+      for (final int end = smallPrimeProductEnds[g]; i < end; ++i)
+        res[i] = r % smallPrimes[i];
+    }
+  }
+
+  /**
+   * Returns {@code 1} if the provided odd magnitude is determined to be prime
+   * by trial division with the {@link #smallPrimes}, {@code 0} if it is
+   * determined to be composite, and {@code -1} if it is undetermined.
+   *
+   * @param mag The magnitude array, starting at index {@code 1}.
+   * @param len The number of limbs in {@code mag}.
+   */
+  private static int trialDivision(final int[] mag, final int len) {
+    final long small = len == 1 ? mag[1] & LONG_MASK : -1;
+    if (small == 1)
+      return 0;
+
+    for (int g = 0, i = 0; g < smallPrimeProducts.length; ++g) {
+      final int r = rem(mag, 1, len, smallPrimeProducts[g]);
+      for (final int end = smallPrimeProductEnds[g]; i < end; ++i) {
+        final int p = smallPrimes[i];
+        if (r % p == 0)
+          return small == p ? 1 : 0;
+      }
+    }
+
+    return small >= 0 && small < SMALL_PRIME_LIMIT_SQUARED ? 1 : -1;
+  }
+
+  /**
+   * Returns whether the provided odd magnitude, which has no factor in
+   * {@link #smallPrimes}, and is not less than
+   * {@link #SMALL_PRIME_LIMIT_SQUARED}, passes the Baillie-PSW test.
+   *
+   * @param mag The magnitude array, starting at index {@code 1}, with a
+   *          positive {@code mag[0]}.
+   * @param len The number of limbs in {@code mag}.
+   */
+  private static boolean bpsw(final int[] mag, final int len) {
+    final BigIntModulus mod = new BigIntModulus(mag);
+    if (!mod.isStrongProbablePrime2())
+      return false;
+
+    // Selfridge's Method A: the first D in 5, -7, 9, -11, ... with (D/n) = -1
+    int d = 5;
+    for (int i = 0;; ++i, d = d > 0 ? -d - 2 : -d + 2) {
+      final int j = jacobi(d, mag, len);
+      if (j == -1)
+        break;
+
+      // n > |D|, so (D/n) = 0 means that n has a factor in common with D
+      if (j == 0)
+        return false;
+
+      // No such D exists if n is a perfect square, which is only worth
+      // checking if one is not quickly found
+      if (i == 8 && isSquare(mag, len))
+        return false;
+    }
+
+    return mod.isStrongLucasProbablePrime(d);
+  }
+
+  /**
+   * Returns the Jacobi symbol {@code (d/n)} of the specified {@code int} and
+   * the provided odd magnitude.
+   */
+  private static int jacobi(final int d, final int[] mag, final int len) {
+    final int a = Math.abs(d);
+    final int n3 = mag[1] & 3;
+    int j = d < 0 && n3 == 3 ? -1 : 1;
+    // Quadratic reciprocity: (a/n) = (n/a), unless a = n = 3 (mod 4)
+    if ((a & 3) == 3 && n3 == 3)
+      j = -j;
+
+    return j * jacobi(rem(mag, 1, len, a), a);
+  }
+
+  /**
+   * Returns the Jacobi symbol {@code (a/b)} of the specified nonnegative
+   * {@code a}, and odd positive {@code b}.
+   */
+  private static int jacobi(int a, int b) {
+    int j = 1;
+    while (a != 0) {
+      final int z = Integer.numberOfTrailingZeros(a);
+      a >>>= z;
+      if ((z & 1) != 0 && ((b & 7) == 3 || (b & 7) == 5))
+        j = -j;
+
+      if ((a & 3) == 3 && (b & 3) == 3)
+        j = -j;
+
+      final int t = a;
+      a = b % a;
+      b = t;
+    }
+
+    return b == 1 ? j : 0;
+  }
+
+  /**
+   * Returns whether the provided positive magnitude is a perfect square.
+   */
+  private static boolean isSquare(final int[] mag, final int len) {
+    // The copy has room for the dividends of the Newton steps of sqrt
+    final int[] root = sqrt(copy(mag, len + 1, alloc(len + 3), len + 1), RoundingMode.DOWN);
+    return compareToAbs(mul(root, root.clone()), mag) == 0;
+  }
+
+  /**
+   * Returns whether the absolute value of the provided
+   * {@linkplain BigInt#val() value-encoded number} is probably prime.
+   *
+   * The test is deterministic below <code>2<sup>64</sup></code>, and no
+   * composite number is known to pass it.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return Whether the absolute value of the provided
+   *         {@linkplain BigInt#val() value-encoded number} is probably prime.
+   * @implNote The implementation is the Baillie-PSW test, which follows trial
+   *           division by the odd primes below {@value #SMALL_PRIME_LIMIT}
+   *           with a strong probable prime test to base 2, and a strong Lucas
+   *           probable prime test with the parameters of Selfridge's Method
+   *           A, as described in Robert Baillie and Samuel S. Wagstaff, Jr.,
+   *           <i>Lucas Pseudoprimes</i>, Mathematics of Computation 35 (1980),
+   *           1391-1417.
+   * @complexity O(n^3)
+   */
+  public static boolean isProbablePrime(final int[] val) {
+    int len = val[0];
+    if (len == 0)
+      return false;
+
+    if ((val[1] & 1) == 0)
+      return (len == 1 || len == -1) && val[1] == 2;
+
+    if (len > 0) {
+      final int t = trialDivision(val, len);
+      return t < 0 ? bpsw(val, len) : t == 1;
+    }
+
+    // The sign of val is not changed in place, because val may be shared
+    len = -len;
+    final int[] mag = localPrime.take(len + 1);
+    try {
+      System.arraycopy(val, 1, mag, 1, len);
+      mag[0] = len;
+      final int t = trialDivision(mag, len);
+      return t < 0 ? bpsw(mag, len) : t == 1;
+    }
+    finally {
+      localPrime.release(mag);
+    }
+  }
+
+  /**
+   * Sets the value of the provided {@linkplain BigInt#val() value-encoded
+   * number} to the first probable prime that is greater than it.
+   *
+   * <blockquote>
+   * <code>val = nextProbablePrime(val)</code>
+   * </blockquote>
+   *
+   * The candidates are sieved with residues modulo the odd primes below
+   * {@value #SMALL_PRIME_LIMIT} that are updated incrementally, so that only
+   * the candidates without a small factor are tested with
+   * {@link #isProbablePrime(int[])}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the length of {@code val} is not sufficient for the result.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number}, with
+   *         its value replaced by the first probable prime that is greater
+   *         than it.
+   * @throws ArithmeticException If {@code val} is negative.
+   * @complexity O(n^4)
+   */
+  public static int[] nextProbablePrime(int[] val) {
+    int len = val[0];
+    if (len < 0)
+      throw new ArithmeticException("start < 0");
+
+    if (len == 0 || len == 1 && val[1] == 1)
+      return assign(val, 1, 2);
+
+    val = add(val, 1, (val[1] & 1) == 0 ? 1 : 2);
+    final int[] res = localPrimeResidues.take(smallPrimes.length);
+    try {
+      smallPrimeResidues(val, len = val[0], res);
+      while (true) {
+        boolean candidate = true;
+        for (int i = 0; i < smallPrimes.length; ++i) {
+          if (res[i] == 0 && (len != 1 || val[1] != smallPrimes[i])) {
+            candidate = false;
+            break;
+          }
+        }
+
+        if (candidate && (len == 1 && (val[1] & LONG_MASK) < SMALL_PRIME_LIMIT_SQUARED || bpsw(val, len)))
+          return val;
+
+        val = add(val, 1, 2);
+        len = val[0];
+        for (int i = 0; i < smallPrimes.length; ++i)
+          if ((res[i] += 2) >= smallPrimes[i])
+            res[i] -= smallPrimes[i];
+      }
+    }
+    finally {
+      localPrimeResidues.release(res);
+    }
+  }
+
+  /**
+   * Returns the offsets of the probable primes in the range of {@code len}
+   * numbers starting at the provided nonnegative {@linkplain BigInt#val()
+   * value-encoded number}, in ascending order.
+   *
+   * <blockquote>
+   * <code>{ i : 0 &le; i &lt; len, isProbablePrime(from + i) }</code>
+   * </blockquote>
+   *
+   * The range is sieved with the odd primes below {@value #SMALL_PRIME_LIMIT},
+   * and the candidates that remain are tested with
+   * {@link #isProbablePrime(int[])} in parallel on the
+   * {@link #getForkJoinPool() ForkJoinPool}.
+   *
+   * @param from The {@linkplain BigInt#val() value-encoded number} at the
+   *          start of the range.
+   * @param len The number of numbers in the range.
+   * @return The offsets of the probable primes in the range of {@code len}
+   *         numbers starting at the provided {@linkplain BigInt#val()
+   *         value-encoded number}, in ascending order.
+   * @throws ArithmeticException If {@code from} is negative.
+   * @throws IllegalArgumentException If {@code len} is negative.
+   * @complexity O(len * n^3 / log(len))
+   */
+  public static int[] probablePrimes(final int[] from, final int len) {
+    final int flen = from[0];
+    if (flen < 0)
+      throw new ArithmeticException("from < 0");
+
+    if (len < 0)
+      throw new IllegalArgumentException("len < 0: " + len);
+
+    final boolean[] composite = new boolean[len];
+    // The value of from if it is of at most 1 limb, or -1 for multi-limb values
+    // of which no candidate is a small prime
+    final long small = flen == 0 ? 0 : flen == 1 ? from[1] & LONG_MASK : -1;
+    if (small >= 0)
+      for (int i = 0; i < len && small + i < 2; ++i)
+        composite[i] = true;
+
+    for (int i = flen == 0 || (from[1] & 1) == 0 ? 0 : 1; i < len; i += 2)
+      if (small < 0 || small + i != 2)
+        composite[i] = true;
+
+    final int[] res = localPrimeResidues.take(smallPrimes.length);
+    try {
+      smallPrimeResidues(from, flen, res);
+      for (int i = 0; i < smallPrimes.length; ++i) {
+        final int p = smallPrimes[i];
+        for (long j = res[i] == 0 ? 0 : p - res[i]; j < len; j += p)
+          if (small < 0 || small + j != p)
+            composite[(int)j] = true;
+      }
+    }
+    finally {
+      localPrimeResidues.release(res);
+    }
+
+    // The candidates below SMALL_PRIME_LIMIT_SQUARED that remain are prime
+    int count = 0;
+    final int[] offsets = new int[len];
+    for (int i = 0; i < len; ++i)
+      if (!composite[i] && (small < 0 || small + i >= SMALL_PRIME_LIMIT_SQUARED))
+        offsets[count++] = i;
+
+    if (count > 0) {
+      final ForkJoinPool pool = getForkJoinPool();
+      final ProbablePrimeTask task = new ProbablePrimeTask(from, offsets, 0, count, composite, pool.getParallelism() > 1);
+      if (ForkJoinTask.getPool() == pool)
+        task.invoke();
+      else
+        pool.invoke(task);
+    }
+
+    count = 0;
+    for (int i = 0; i < len; ++i)
+      if (!composite[i])
+        offsets[count++] = i;
+
+    return Arrays.copyOf(offsets, count);
+  }
+
+  /**
+   * A {@link RecursiveAction} that tests the candidates of
+   * {@link #probablePrimes(int[],int)} at a range of offsets with the
+   * Baillie-PSW test, and marks the ones that fail it as composite.
+   */
+  private static final class ProbablePrimeTask extends RecursiveAction {
+    private static final long serialVersionUID = -5405423526125330717L;
+
+    private final int[] from;
+    private final int[] offsets;
+    private final int fromIndex;
+    private final int toIndex;
+    private final boolean[] composite;
+    private final boolean parallel;
+
+    private ProbablePrimeTask(final int[] from, final int[] offsets, final int fromIndex, final int toIndex, final boolean[] composite, final boolean parallel) {
+      this.from = from;
+      this.offsets = offsets;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.composite = composite;
+      this.parallel = parallel;
+    }
+
+    @Override
+    protected void compute() {
+      if (parallel && toIndex - fromIndex > 1) {
+        final int mid = (fromIndex + toIndex) >>> 1;
+        invokeAll(new ProbablePrimeTask(from, offsets, fromIndex, mid, composite, true), new ProbablePrimeTask(from, offsets, mid, toIndex, composite, true));
+        return;
+      }
+
+      final int flen = from[0];
+      final int[] val = localPrime.take(flen + 2);
+      try {
+        for (int i = fromIndex; i < toIndex; ++i) {
+          final int offset = offsets[i];
+          System.arraycopy(from, 0, val, 0, flen + 1);
+          val[flen + 1] = 0;
+          long carry = offset;
+          for (int j = 1; carry != 0; ++j) {
+            val[j] = (int)(carry += val[j] & LONG_MASK);
+            carry >>>= 32;
+          }
+
+          final int len = val[flen + 1] != 0 ? flen + 1 : flen;
+          val[0] = len;
+          if (!bpsw(val, len))
+            composite[offset] = true;
+        }
+      }
+      finally {
+        localPrime.release(val);
+      }
+    }
+  }
+
+  /**
+   * The number of limbs of the operands of a product or sum tree (see
+   * {@link #product(int[][])} and {@link #sum(int[][])}), at or below which
+   * they are reduced sequentially.
+   */
+  private static final int TREE_LEAF_THRESHOLD = 64;
+
+  /**
+   * The number of limbs of the operands of a subtree of a product, sum or
+   * remainder tree (see {@link BigIntModuli}), above which its halves are
+   * processed in parallel on the {@link #getForkJoinPool() ForkJoinPool}.
+   */
+  static final int PARALLEL_TREE_THRESHOLD = BigIntThresholds.get("PARALLEL_TREE_THRESHOLD", 2048);
+
+  /**
+   * Returns the product of the provided {@linkplain BigInt#val() value-encoded
+   * numbers}, which is computed by a balanced product tree: the numbers are
+   * split into two halves of equal total length, the product of each half is
+   * computed recursively, and the two products are multiplied. The factors at
+   * each level are thereby balanced, for the benefit of the Karatsuba,
+   * Toom-Cook and NTT multiplication of large numbers, and the halves of large
+   * subtrees are computed in parallel on the {@link #getForkJoinPool()
+   * ForkJoinPool}.
+   * <p>
+   * The provided numbers are not modified.
+   *
+   * @param vals The {@linkplain BigInt#val() value-encoded numbers}.
+   * @return The product of the provided {@linkplain BigInt#val() value-encoded
+   *         numbers} as a {@code new int[]}, or {@code 1} if none are
+   *         provided.
+   * @complexity O(M(n) log(k))
+   */
+  public static int[] product(final int[][] vals) {
+    return vals.length == 0 ? valueOf(1) : tree(true, vals, null, null, prefixLengths(vals), 0, vals.length, getForkJoinPool());
+  }
+
+  /**
+   * Returns the product of the provided {@code long} values, which is computed
+   * by a balanced product tree (see {@link #product(int[][])}).
+   *
+   * @param vals The values.
+   * @return The product of the provided {@code long} values as a
+   *         {@linkplain BigInt#val() value-encoded number}, or {@code 1} if
+   *         none are provided.
+   * @complexity O(M(n) log(k))
+   */
+  public static int[] product(final long[] vals) {
+    return vals.length == 0 ? valueOf(1) : tree(true, null, vals, null, null, 0, vals.length, getForkJoinPool());
+  }
+
+  /**
+   * Returns the product of the provided {@code int} values, which is computed
+   * by a balanced product tree (see {@link #product(int[][])}).
+   * <p>
+   * <i><b>Note:</b> The provided array is an array of values, not a
+   * {@linkplain BigInt#val() value-encoded number}.</i>
+   *
+   * @param vals The values.
+   * @return The product of the provided {@code int} values as a
+   *         {@linkplain BigInt#val() value-encoded number}, or {@code 1} if
+   *         none are provided.
+   * @complexity O(M(n) log(k))
+   */
+  public static int[] product(final int[] vals) {
+    return vals.length == 0 ? valueOf(1) : tree(true, null, null, vals, null, 0, vals.length, getForkJoinPool());
+  }
+
+  /**
+   * Returns the sum of the provided {@linkplain BigInt#val() value-encoded
+   * numbers}, which is computed by a balanced sum tree (see
+   * {@link #product(int[][])}), of which the halves of large subtrees are
+   * computed in parallel on the {@link #getForkJoinPool() ForkJoinPool}.
+   * <p>
+   * The provided numbers are not modified.
+   *
+   * @param vals The {@linkplain BigInt#val() value-encoded numbers}.
+   * @return The sum of the provided {@linkplain BigInt#val() value-encoded
+   *         numbers} as a {@code new int[]}, or {@code 0} if none are
+   *         provided.
+   * @complexity O(n)
+   */
+  public static int[] sum(final int[][] vals) {
+    return vals.length == 0 ? alloc(1) : tree(false, vals, null, null, prefixLengths(vals), 0, vals.length, getForkJoinPool());
+  }
+
+  /**
+   * Returns the sum of the provided {@code long} values, which is computed by a
+   * balanced sum tree (see {@link #sum(int[][])}).
+   *
+   * @param vals The values.
+   * @return The sum of the provided {@code long} values as a
+   *         {@linkplain BigInt#val() value-encoded number}, or {@code 0} if
+   *         none are provided.
+   * @complexity O(n)
+   */
+  public static int[] sum(final long[] vals) {
+    return vals.length == 0 ? alloc(1) : tree(false, null, vals, null, null, 0, vals.length, getForkJoinPool());
+  }
+
+  /**
+   * Returns the sum of the provided {@code int} values, which is computed by a
+   * balanced sum tree (see {@link #sum(int[][])}).
+   * <p>
+   * <i><b>Note:</b> The provided array is an array of values, not a
+   * {@linkplain BigInt#val() value-encoded number}.</i>
+   *
+   * @param vals The values.
+   * @return The sum of the provided {@code int} values as a
+   *         {@linkplain BigInt#val() value-encoded number}, or {@code 0} if
+   *         none are provided.
+   * @complexity O(n)
+   */
+  public static int[] sum(final int[] vals) {
+    return vals.length == 0 ? alloc(1) : tree(false, null, null, vals, null, 0, vals.length, getForkJoinPool());
+  }
+
+  /**
+   * Returns the running total of the lengths of the provided
+   * {@linkplain BigInt#val() value-encoded numbers}, of which
+   * {@code [to] - [from]} is the number of limbs of {@code vals[from,to)}.
+   */
+  private static long[] prefixLengths(final int[][] vals) {
+    final long[] prefix = new long[vals.length + 1];
+    for (int i = 0; i < vals.length; ++i)
+      prefix[i + 1] = prefix[i] + Math.abs(vals[i][0]);
+
+    return prefix;
+  }
+
+  /**
+   * Reduces the numbers of {@code vals}, {@code longs} or {@code ints} (of
+   * which one is not null) from {@code from} to {@code to} by multiplication or
+   * addition, recursively in two halves of equal number of limbs.
+   */
+  private static int[] tree(final boolean mul, final int[][] vals, final long[] longs, final int[] ints, final long[] prefix, final int from, final int to, final ForkJoinPool pool) {
+    final long limbs = prefix != null ? prefix[to] - prefix[from] : longs != null ? 2L * (to - from) : to - from;
+    if (to - from == 1 || limbs <= TREE_LEAF_THRESHOLD)
+      return leaf(mul, vals, longs, ints, from, to);
+
+    int mid = (from + to) >>> 1;
+    if (prefix != null) {
+      // Split at the first index of which the running total reaches the half
+      final long half = prefix[from] + (limbs >> 1);
+      int lo = from + 1, hi = to - 1;
+      while (lo < hi) {
+        final int m = (lo + hi) >>> 1;
+        if (prefix[m] < half)
+          lo = m + 1;
+        else
+          hi = m;
+      }
+
+      mid = lo;
+    }
+
+    final int[] a, b;
+    if (limbs > PARALLEL_TREE_THRESHOLD && isParallel(pool)) {
+      final TreeTask t1 = new TreeTask(mul, vals, longs, ints, prefix, from, mid, pool);
+      final TreeTask t2 = new TreeTask(mul, vals, longs, ints, prefix, mid, to, pool);
+      if (ForkJoinTask.getPool() == pool) {
+        ForkJoinTask.invokeAll(t1, t2);
+      }
+      else {
+        pool.execute(t2);
+        t1.invoke();
+        t2.join();
+      }
+
+      a = t1.result;
+      b = t2.result;
+    }
+    else {
+      a = tree(mul, vals, longs, ints, prefix, from, mid, pool);
+      b = tree(mul, vals, longs, ints, prefix, mid, to, pool);
+    }
+
+    return mul ? mul(a, b) : add(a, b);
+  }
+
+  /**
+   * Reduces the numbers of {@code vals}, {@code longs} or {@code ints} (of
+   * which one is not null) from {@code from} to {@code to} by multiplication or
+   * addition, sequentially into a {@code new int[]}.
+   */
+  private static int[] leaf(final boolean mul, final int[][] vals, final long[] longs, final int[] ints, final int from, final int to) {
+    int[] acc;
+    if (vals != null) {
+      final int n = Math.abs(vals[from][0]) + 1;
+      acc = alloc(n);
+      System.arraycopy(vals[from], 0, acc, 0, n);
+      for (int i = from + 1; i < to; ++i)
+        acc = mul ? mul(acc, vals[i]) : add(acc, vals[i]);
+    }
+    else if (longs != null) {
+      acc = valueOf(longs[from]);
+      for (int i = from + 1; i < to; ++i)
+        acc = mul ? mul(acc, longs[i]) : add(acc, longs[i]);
+    }
+    else {
+      acc = valueOf(ints[from]);
+      for (int i = from + 1; i < to; ++i)
+        acc = mul ? mul(acc, ints[i]) : add(acc, ints[i]);
+    }
+
+    return acc;
+  }
+
+  /**
+   * A {@link RecursiveAction} that computes the product or sum of one half of a
+   * product or sum tree (see {@link #product(int[][])} and
+   * {@link #sum(int[][])}).
+   */
+  private static final class TreeTask extends RecursiveAction {
+    private static final long serialVersionUID = 2946310529537839151L;
+
+    private final boolean mul;
+    private final int[][] vals;
+    private final long[] longs;
+    private final int[] ints;
+    private final long[] prefix;
+    private final int from;
+    private final int to;
+    private final ForkJoinPool pool;
+    private int[] result;
+
+    private TreeTask(final boolean mul, final int[][] vals, final long[] longs, final int[] ints, final long[] prefix, final int from, final int to, final ForkJoinPool pool) {
+      this.mul = mul;
+      this.vals = vals;
+      this.longs = longs;
+      this.ints = ints;
+      this.prefix = prefix;
+      this.from = from;
+      this.to = to;
+      this.pool = pool;
+    }
+
+    @Override
+    protected void compute() {
+      result = tree(mul, vals, longs, ints, prefix, from, to, pool);
+    }
+  }
+
   private static double log0(final int[] val) {
     final int len = val[0];
     return len <= 0 ? -1 : log0(val, len);
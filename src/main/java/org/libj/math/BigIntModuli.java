@@ -0,0 +1,440 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A vector of {@code int} moduli that is precomputed for the reduction of
+ * {@linkplain BigInt#val() value-encoded numbers} to their residues modulo each
+ * of the moduli, and for the reconstruction of numbers from their residues with
+ * the Chinese Remainder Theorem (CRT).
+ * <p>
+ * The product tree of the moduli is computed once, upon construction: the
+ * leaves are the moduli, and each node is the product of its two children.
+ * <ul>
+ * <li>{@link #rem(int[])} reduces a number modulo the root, and then the
+ * remainder of each node modulo each of its children, down the tree (a
+ * remainder tree). The length of the remainders thereby halves at each level,
+ * and the residues are computed in {@code O(M(n) log(k))}, instead of the
+ * {@code O(n k)} of the division of the whole number by each of the {@code k}
+ * moduli.</li>
+ * <li>{@link #crt(int[])} combines the residues up the tree, with the products
+ * of the tree, into the unique number in {@code [0, m)}, where {@code m} is the
+ * product of the moduli. The CRT coefficients {@code (m / m_i)^-1 mod m_i} are
+ * computed with a remainder tree upon the first reconstruction, and require the
+ * moduli to be pairwise coprime.</li>
+ * </ul>
+ * Numbers in residue form are added, subtracted and multiplied residue by
+ * residue, without carries between the residues, and may thereby be computed
+ * in parallel, before they are reconstructed.
+ * <p>
+ * The halves of the subtrees of more than {@code PARALLEL_TREE_THRESHOLD}
+ * limbs are computed in parallel on the {@link BigInt#getForkJoinPool()
+ * ForkJoinPool}.
+ * <p>
+ * Instances of {@link BigIntModuli} are immutable, and can be shared between
+ * threads.
+ */
+public final class BigIntModuli {
+  /** The number of limbs of a node, at or below which its moduli are processed directly. */
+  private static final int LEAF_THRESHOLD = 16;
+
+  /** The level of the tree, above which the nodes are not processed directly. */
+  private static final int LEAF_LEVEL = 4;
+
+  private static final int REM = 0;
+  private static final int INVERSE = 1;
+  private static final int CRT = 2;
+
+  private final int[] moduli;
+
+  /** The product tree, of which {@code tree[0]} are the moduli, and {@code tree[tree.length - 1][0]} is their product. */
+  private final int[][][] tree;
+
+  /** The CRT coefficients {@code (m / m_i)^-1 mod m_i}, computed upon the first reconstruction. */
+  private volatile int[] coefficients;
+
+  /**
+   * Creates a new {@link BigIntModuli} for the provided {@code int} moduli.
+   *
+   * @param moduli The moduli.
+   * @throws ArithmeticException If a modulus is not positive.
+   * @throws IllegalArgumentException If no moduli are provided.
+   * @throws NullPointerException If {@code moduli} is null.
+   */
+  public BigIntModuli(final int ... moduli) {
+    final int n = moduli.length;
+    if (n == 0)
+      throw new IllegalArgumentException("No moduli");
+
+    this.moduli = moduli.clone();
+    final int[][] leaves = new int[n][];
+    for (int i = 0; i < n; ++i) {
+      if (moduli[i] <= 0)
+        throw new ArithmeticException("Modulus not positive");
+
+      leaves[i] = BigInt.valueOf(moduli[i]);
+    }
+
+    int height = 1;
+    for (int w = n; w > 1; w = (w + 1) >> 1)
+      ++height;
+
+    this.tree = new int[height][][];
+    tree[0] = leaves;
+    for (int k = 1; k < height; ++k) {
+      final int[][] below = tree[k - 1];
+      final int[][] level = tree[k] = new int[(below.length + 1) >> 1][];
+      for (int j = 0; j < level.length; ++j) {
+        final int c = j << 1;
+        level[j] = c + 1 == below.length ? below[c] : BigInt.mul(copy(below[c]), below[c + 1]);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of moduli.
+   *
+   * @return The number of moduli.
+   */
+  public int size() {
+    return moduli.length;
+  }
+
+  /**
+   * Returns the modulus at the provided index.
+   *
+   * @param index The index of the modulus.
+   * @return The modulus at the provided index.
+   * @throws ArrayIndexOutOfBoundsException If {@code index} is out of bounds.
+   */
+  public int getModulus(final int index) {
+    return moduli[index];
+  }
+
+  /**
+   * Returns the product of the moduli as a {@linkplain BigInt#val()
+   * value-encoded number}, which bounds the range {@code [0, product)} of the
+   * numbers that are represented by their residues.
+   *
+   * @return The product of the moduli as a {@code new int[]}.
+   */
+  public int[] product() {
+    return copy(tree[tree.length - 1][0]);
+  }
+
+  /**
+   * Returns the residues of the provided {@linkplain BigInt#val()
+   * value-encoded number} modulo each of the moduli, which are computed with a
+   * remainder tree.
+   * <p>
+   * The provided number is not modified.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return The <i>non-negative</i> residues of the provided
+   *         {@linkplain BigInt#val() value-encoded number} modulo each of the
+   *         moduli, as a {@code new int[]}.
+   * @throws NullPointerException If {@code val} is null.
+   * @complexity O(M(n) log(k))
+   */
+  public int[] rem(final int[] val) {
+    return rem(val, null);
+  }
+
+  /**
+   * Computes the residues of the provided {@linkplain BigInt#val()
+   * value-encoded number} modulo each of the moduli with a remainder tree, and
+   * returns them in the provided array, or in a {@code new int[]} if the
+   * provided array is null or shorter than {@link #size()}.
+   * <p>
+   * The provided number is not modified.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param residues The array into which the residues are to be written, or
+   *          {@code null}.
+   * @return The <i>non-negative</i> residues of the provided
+   *         {@linkplain BigInt#val() value-encoded number} modulo each of the
+   *         moduli.
+   * @throws NullPointerException If {@code val} is null.
+   * @complexity O(M(n) log(k))
+   */
+  public int[] rem(final int[] val, int[] residues) {
+    final int n = moduli.length;
+    if (residues == null || residues.length < n)
+      residues = new int[n];
+
+    final int top = tree.length - 1;
+    descend(REM, top, 0, BigInt.mod(copy(val), tree[top][0]), residues, BigInt.getForkJoinPool());
+    return residues;
+  }
+
+  /**
+   * Returns the residues of each of the provided {@linkplain BigInt#val()
+   * value-encoded numbers} modulo each of the moduli (see {@link #rem(int[])}),
+   * which share the product tree of the moduli.
+   * <p>
+   * The provided numbers are not modified.
+   *
+   * @param vals The {@linkplain BigInt#val() value-encoded numbers}.
+   * @return The <i>non-negative</i> residues of each of the provided
+   *         {@linkplain BigInt#val() value-encoded numbers}, of which
+   *         {@code [i][j]} is the residue of {@code vals[i]} modulo the
+   *         {@code j}th modulus.
+   * @throws NullPointerException If {@code vals} or a value is null.
+   * @complexity O(M(n) log(k))
+   */
+  public int[][] rem(final int[][] vals) {
+    final int[][] residues = new int[vals.length][];
+    for (int i = 0; i < vals.length; ++i)
+      residues[i] = rem(vals[i], null);
+
+    return residues;
+  }
+
+  /**
+   * Returns the unique number in {@code [0, m)} of which the residues modulo
+   * each of the moduli are the provided residues, where {@code m} is the
+   * {@linkplain #product() product} of the moduli, as reconstructed with the
+   * Chinese Remainder Theorem up the product tree.
+   * <p>
+   * The residues may be any {@code int} values, which are reduced modulo their
+   * moduli.
+   *
+   * @param residues The residues, of which {@code [i]} is the residue modulo
+   *          the {@code i}th modulus.
+   * @return The unique number in {@code [0, m)} of which the residues modulo
+   *         each of the moduli are the provided residues, as a
+   *         {@code new int[]}.
+   * @throws ArithmeticException If the moduli are not pairwise coprime.
+   * @throws IllegalArgumentException If {@code residues} is shorter than
+   *           {@link #size()}.
+   * @throws NullPointerException If {@code residues} is null.
+   * @complexity O(M(n) log(k))
+   */
+  public int[] crt(final int[] residues) {
+    if (residues.length < moduli.length)
+      throw new IllegalArgumentException("residues.length (" + residues.length + ") < size() (" + moduli.length + ")");
+
+    final int top = tree.length - 1;
+    final int[] val = descend(CRT, top, 0, coefficients(), residues, BigInt.getForkJoinPool());
+    return BigInt.mod(val, tree[top][0]);
+  }
+
+  /**
+   * Returns the CRT coefficients {@code (m / m_i)^-1 mod m_i}, which are
+   * computed upon the first call.
+   *
+   * @throws ArithmeticException If the moduli are not pairwise coprime.
+   */
+  private int[] coefficients() {
+    int[] c = coefficients;
+    if (c == null) {
+      // (m / m) mod m at the root
+      final int top = tree.length - 1;
+      final int[] root = tree[top][0];
+      final int[] one = BigInt.mod(BigInt.valueOf(1), root);
+      descend(INVERSE, top, 0, one, c = new int[moduli.length], BigInt.getForkJoinPool());
+      coefficients = c;
+    }
+
+    return c;
+  }
+
+  /**
+   * Processes the node {@code j} of level {@code k} of the product tree:
+   * <ul>
+   * <li>{@code REM}: Writes the residues of {@code val}, which is reduced
+   * modulo the node, into {@code out}.</li>
+   * <li>{@code INVERSE}: Writes the CRT coefficients of the moduli of the
+   * node into {@code out}, given {@code val = (m / node) mod node}.</li>
+   * <li>{@code CRT}: Returns {@code sum(s_i * node / m_i)} for the moduli of
+   * the node, where {@code s_i = out[i] * val[i] mod m_i}.</li>
+   * </ul>
+   * The arrays of {@code val} in {@code REM} and {@code INVERSE} are consumed
+   * by the call.
+   */
+  private int[] descend(final int mode, final int k, final int j, final int[] val, final int[] out, final ForkJoinPool pool) {
+    final int[] node = tree[k][j];
+    if (k == 0 || k <= LEAF_LEVEL && node[0] <= LEAF_THRESHOLD)
+      return leaf(mode, j << k, Math.min((j + 1) << k, moduli.length), val, out);
+
+    final int[][] below = tree[k - 1];
+    final int c = j << 1;
+
+    // A node without a sibling is carried up to the next level as is
+    if (c + 1 == below.length)
+      return descend(mode, k - 1, c, val, out, pool);
+
+    final int[] a, b;
+    if (mode == REM) {
+      a = BigInt.rem(copy(val), below[c]);
+      b = BigInt.rem(val, below[c + 1]);
+    }
+    else if (mode == INVERSE) {
+      // (m / left) mod left = ((m / node) mod left) * (right mod left) mod left
+      a = BigInt.rem(BigInt.mul(BigInt.rem(copy(val), below[c]), BigInt.rem(copy(below[c + 1]), below[c])), below[c]);
+      b = BigInt.rem(BigInt.mul(BigInt.rem(val, below[c + 1]), BigInt.rem(copy(below[c]), below[c + 1])), below[c + 1]);
+    }
+    else {
+      a = b = val;
+    }
+
+    final int[] x, y;
+    if (node[0] > BigIntMath.PARALLEL_TREE_THRESHOLD && BigIntMultiplication.isParallel(pool)) {
+      final Task t1 = new Task(this, mode, k - 1, c, a, out, pool);
+      final Task t2 = new Task(this, mode, k - 1, c + 1, b, out, pool);
+      if (ForkJoinTask.getPool() == pool) {
+        ForkJoinTask.invokeAll(t1, t2);
+      }
+      else {
+        pool.execute(t2);
+        t1.invoke();
+        t2.join();
+      }
+
+      x = t1.result;
+      y = t2.result;
+    }
+    else {
+      x = descend(mode, k - 1, c, a, out, pool);
+      y = descend(mode, k - 1, c + 1, b, out, pool);
+    }
+
+    // node / m_i = (left / m_i) * right for the moduli of the left child, and vice versa
+    return mode != CRT ? null : BigInt.add(BigInt.mul(x, below[c + 1]), BigInt.mul(y, below[c]));
+  }
+
+  /**
+   * Processes the moduli from {@code from} to {@code to} of a node of the
+   * product tree directly (see
+   * {@link #descend(int,int,int,int[],int[],ForkJoinPool)}).
+   */
+  private int[] leaf(final int mode, final int from, final int to, final int[] val, final int[] out) {
+    if (mode == REM) {
+      final int len = val[0];
+      for (int i = from; i < to; ++i)
+        out[i] = BigIntDivision.rem(val, 1, len, 1, moduli[i]);
+
+      return null;
+    }
+
+    if (mode == INVERSE) {
+      final int len = val[0];
+      for (int i = from; i < to; ++i) {
+        final int m = moduli[i];
+        long u = BigIntDivision.rem(val, 1, len, 1, m);
+        for (int l = from; l < to; ++l)
+          if (l != i)
+            u = u * (moduli[l] % m) % m;
+
+        out[i] = inverse(u, m);
+      }
+
+      return null;
+    }
+
+    // s = s * m_i + s_i * p, p = p * m_i, where p is the product of the preceding moduli
+    int[] s = BigInt.valueOf(0);
+    int[] p = BigInt.valueOf(1);
+    for (int i = from; i < to; ++i) {
+      final int m = moduli[i];
+      final int si = (int)(Math.floorMod(out[i], m) * (val[i] & BigIntValue.LONG_MASK) % m);
+      s = BigInt.mulAdd(BigInt.mul(s, m), p, si);
+      p = BigInt.mul(p, m);
+    }
+
+    return s;
+  }
+
+  /**
+   * Returns {@code a^-1 mod m}, or {@code 0} if {@code m == 1}.
+   *
+   * @throws ArithmeticException If {@code a} and {@code m} are not coprime.
+   */
+  private static int inverse(final long a, final int m) {
+    if (m == 1)
+      return 0;
+
+    long r0 = m, r1 = a, t0 = 0, t1 = 1;
+    while (r1 != 0) {
+      final long q = r0 / r1;
+      long t = r0 - q * r1; r0 = r1; r1 = t;
+      t = t0 - q * t1; t0 = t1; t1 = t;
+    }
+
+    if (r0 != 1)
+      throw new ArithmeticException("Moduli not pairwise coprime");
+
+    return (int)(t0 < 0 ? t0 + m : t0);
+  }
+
+  private static int[] copy(final int[] val) {
+    final int len = Math.abs(val[0]) + 1;
+    final int[] copy = BigIntValue.alloc(len + 1);
+    System.arraycopy(val, 0, copy, 0, len);
+    return copy;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (int i = 0; i < moduli.length; ++i) {
+      if (i > 0)
+        builder.append(", ");
+
+      builder.append(moduli[i]);
+    }
+
+    return builder.append(']').toString();
+  }
+
+  /**
+   * A {@link RecursiveAction} that processes a subtree of the product tree
+   * (see {@link BigIntModuli#descend(int,int,int,int[],int[],ForkJoinPool)}).
+   */
+  private static final class Task extends RecursiveAction {
+    private static final long serialVersionUID = -5081297763315026174L;
+
+    private final BigIntModuli moduli;
+    private final int mode;
+    private final int k;
+    private final int j;
+    private final int[] val;
+    private final int[] out;
+    private final ForkJoinPool pool;
+    private int[] result;
+
+    private Task(final BigIntModuli moduli, final int mode, final int k, final int j, final int[] val, final int[] out, final ForkJoinPool pool) {
+      this.moduli = moduli;
+      this.mode = mode;
+      this.k = k;
+      this.j = j;
+      this.val = val;
+      this.out = out;
+      this.pool = pool;
+    }
+
+    @Override
+    protected void compute() {
+      result = moduli.descend(mode, k, j, val, out, pool);
+    }
+  }
+}
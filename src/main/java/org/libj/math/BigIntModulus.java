@@ -0,0 +1,895 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.util.Arrays;
+
+/**
+ * A modulus that is precomputed for the repeated modular exponentiation of
+ * {@linkplain BigInt#val() value-encoded numbers}.
+ * <p>
+ * The modulus {@code m} is factored into {@code q * 2^k}, where {@code q} is
+ * odd. The Montgomery constants of {@code q} (i.e. {@code -q^-1 mod 2^32} and
+ * {@code R^2 mod q}), and the inverse of {@code q} modulo {@code 2^k} are
+ * computed once, upon construction. Each exponentiation then scans the exponent
+ * from left to right with a sliding window over a table of the odd powers of
+ * the base:
+ * <ul>
+ * <li>Modulo {@code q}, with the Montgomery multiplication (CIOS), which
+ * replaces each division by {@code q} with a multiplication.</li>
+ * <li>Modulo {@code 2^k}, with multiplications truncated to {@code k}
+ * bits.</li>
+ * </ul>
+ * The two residues are recombined with the Chinese Remainder Theorem. The
+ * table, the accumulators and the reduced base are kept in arrays of the
+ * current thread that are reused across calls. None of the operations
+ * allocate, unless the provided array is too short for the result.
+ * <p>
+ * Instances of {@link BigIntModulus} are immutable, and can be shared between
+ * threads.
+ */
+public final class BigIntModulus {
+  private static final long LONG_MASK = BigIntValue.LONG_MASK;
+  private static final BigIntValue.LocalArray localScratch = new BigIntValue.LocalArray();
+  private static final BigIntValue.LocalArray localBase = new BigIntValue.LocalArray();
+
+  /** The exponent bit lengths up to which each window size is used. */
+  private static final int[] windowThresholds = {7, 25, 81, 241, 673, 1793, Integer.MAX_VALUE};
+
+  private final int[] val;
+
+  /** The number of limbs of the modulus. */
+  private final int len;
+
+  /** The limbs of the odd factor {@code q} (from index {@code 0}), or {@code null} if {@code q == 1}. */
+  private final int[] q;
+  private final int qlen;
+  private final BigIntDivisor qdiv;
+
+  /** {@code -q^-1 mod 2^32} */
+  private final int qinv;
+
+  /** {@code R^2 mod q}, where {@code R = 2^(32 * qlen)} (from index {@code 0}). */
+  private final int[] r2;
+
+  /** The number of trailing zero bits of the modulus, and the number of limbs they span. */
+  private final int k;
+  private final int klen;
+  private final int kmask;
+
+  /** {@code q^-1 mod 2^k} (from index {@code 0}). */
+  private final int[] qinvLow;
+
+  /**
+   * Creates a new {@link BigIntModulus} for the provided {@link BigInt}
+   * modulus.
+   *
+   * @param mod The modulus.
+   * @throws ArithmeticException If {@code mod} is not positive.
+   * @throws NullPointerException If {@code mod} is null.
+   */
+  public BigIntModulus(final BigInt mod) {
+    this(mod.val());
+  }
+
+  /**
+   * Creates a new {@link BigIntModulus} for the provided
+   * {@linkplain BigInt#val() value-encoded modulus}.
+   *
+   * @param mod The {@linkplain BigInt#val() value-encoded modulus}.
+   * @throws ArithmeticException If {@code mod} is not positive.
+   * @throws NullPointerException If {@code mod} is null.
+   */
+  public BigIntModulus(final int[] mod) {
+    final int len = mod[0];
+    if (len <= 0)
+      throw new ArithmeticException("Modulus not positive");
+
+    this.len = len;
+    this.val = new int[len + 1];
+    System.arraycopy(mod, 0, val, 0, len + 1);
+
+    this.k = BigIntValue.getLowestSetBit(mod);
+    this.klen = (k + 31) >>> 5;
+    this.kmask = (k & 31) == 0 ? -1 : (1 << (k & 31)) - 1;
+
+    // q = mod >> k
+    final int[] qval = BigIntBinary.shiftRight(val.clone(), k);
+    if (qval[0] == 1 && qval[1] == 1) {
+      this.q = null;
+      this.qlen = 0;
+      this.qdiv = null;
+      this.qinv = 0;
+      this.r2 = null;
+    }
+    else {
+      this.qlen = qval[0];
+      this.q = Arrays.copyOfRange(qval, 1, qlen + 1);
+      this.qdiv = new BigIntDivisor(qval);
+      this.qinv = -inverse(q[0]);
+      this.r2 = residue(2 * qlen + 1);
+    }
+
+    this.qinvLow = k == 0 || q == null ? null : inverseLow();
+  }
+
+  /**
+   * Returns {@code 2^(32 * (limb - 1)) mod q} with {@link #qlen} limbs (from
+   * index {@code 0}).
+   */
+  private int[] residue(final int limb) {
+    final int[] pow = new int[limb + 1];
+    pow[0] = limb;
+    pow[limb] = 1;
+    final int[] rem = qdiv.rem(pow);
+    final int[] res = new int[qlen];
+    System.arraycopy(rem, 1, res, 0, rem[0]);
+    return res;
+  }
+
+  /**
+   * Returns the inverse of the provided odd {@code int} modulo {@code 2^32}.
+   */
+  private static int inverse(final int d) {
+    // Newton's iteration, of which each step doubles the number of correct low bits (starting with 3)
+    int x = d;
+    for (int i = 0; i < 4; ++i)
+      x *= 2 - d * x;
+
+    return x;
+  }
+
+  /**
+   * Returns {@code q^-1 mod 2^k} with {@link #klen} limbs (from index
+   * {@code 0}), computed with Newton's iteration
+   * {@code x = x * (2 - q * x) mod 2^k}.
+   */
+  private int[] inverseLow() {
+    final int n = klen;
+    final int[] s = new int[5 * n];
+    final int qlo = 0, x = n, y = 2 * n, t = 3 * n;
+    System.arraycopy(q, 0, s, qlo, Math.min(n, qlen));
+    s[x] = inverse(q[0]);
+    s[x + n - 1] &= kmask;
+    for (int bits = 32; bits < k; bits <<= 1) {
+      // y = 2 - q * x = ~(q * x) + 3
+      mulLow(s, qlo, x, y, t);
+      long c = 3;
+      for (int i = 0; i < n; ++i) {
+        c += ~s[y + i] & LONG_MASK;
+        s[y + i] = (int)c;
+        c >>>= 32;
+      }
+
+      s[y + n - 1] &= kmask;
+      mulLow(s, x, y, x, t);
+    }
+
+    return Arrays.copyOfRange(s, x, x + n);
+  }
+
+  /**
+   * Returns the size of the window for an exponent of the provided bit length.
+   */
+  private static int windowSize(final int bits) {
+    int w = 1;
+    while (bits > windowThresholds[w - 1])
+      ++w;
+
+    return w;
+  }
+
+  /**
+   * Computes the provided {@linkplain BigInt#val() value-encoded base} raised
+   * to the power of the provided {@linkplain BigInt#val() value-encoded
+   * exponent}, modulo this modulus.
+   *
+   * <blockquote>
+   * <code>val = val<sup>exp</sup> mod m</code>
+   * </blockquote>
+   *
+   * The result is nonnegative, regardless of the sign of {@code val}. If
+   * {@code exp} is negative, the inverse of {@code val} modulo {@code m} is
+   * raised to the power of {@code -exp}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the length of {@code val} is not sufficient for the result, which requires
+   * at most {@code n + 1} ints, where {@code n} is the number of limbs of this
+   * modulus.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded base}.
+   * @param exp The {@linkplain BigInt#val() value-encoded exponent}.
+   * @return The provided {@linkplain BigInt#val() value-encoded base}, with its
+   *         value replaced by <code>val<sup>exp</sup> mod m</code>.
+   * @throws ArithmeticException If {@code exp} is negative, and {@code val} is
+   *           not relatively prime to this modulus.
+   * @complexity O(n^2 log exp)
+   */
+  public int[] modPow(int[] val, final int[] exp) {
+    if (len == 1 && this.val[1] == 1)
+      return BigIntValue.setToZero(val);
+
+    int elen = exp[0];
+    if (elen == 0)
+      return BigIntValue.assign(val, 1);
+
+    if (elen < 0) {
+      val = BigInt.modInverse(val, this.val);
+      elen = -elen;
+    }
+
+    if (val[0] == 0)
+      return val;
+
+    final int ebits = (int)BigIntValue.bitLength(exp, elen);
+    final int w = windowSize(ebits);
+    final int tsize = 1 << (w - 1);
+
+    // Montgomery: x, table, z, t
+    final int monty = q == null ? 0 : (tsize + 4) * qlen + 1;
+    // Low: x, table, z, t
+    final int low = k == 0 ? 0 : (tsize + 3) * klen;
+    // Combine: h, t, product
+    final int combine = q == null || k == 0 ? 0 : 2 * klen + qlen + klen + 1;
+
+    // The residue modulo q, and the residue modulo 2^k, followed by the work area
+    final int a1 = 0, a2 = qlen, work = qlen + klen;
+    final int[] s = localScratch.take(work + Math.max(Math.max(monty, low), combine));
+    try {
+      if (q != null)
+        powMontgomery(s, val, exp, ebits, w, a1, work);
+
+      if (k != 0)
+        powLow(s, val, exp, ebits, w, a2, work);
+
+      if (q == null)
+        return result(val, s, a2, klen);
+
+      if (k == 0)
+        return result(val, s, a1, qlen);
+
+      // CRT: res = a1 + q * ((a2 - a1) * q^-1 mod 2^k)
+      final int h = work, t = h + klen, p = t + klen;
+      long c = 0;
+      for (int i = 0; i < klen; ++i) {
+        c += (s[a2 + i] & LONG_MASK) - (i < qlen ? s[a1 + i] & LONG_MASK : 0);
+        s[t + i] = (int)c;
+        c >>= 32;
+      }
+
+      s[t + klen - 1] &= kmask;
+      System.arraycopy(qinvLow, 0, s, h, klen);
+      mulLow(s, t, h, h, p);
+
+      final int plen = qlen + klen;
+      Arrays.fill(s, p, p + plen, 0);
+      for (int i = 0; i < klen; ++i) {
+        final long hi = s[h + i] & LONG_MASK;
+        if (hi == 0)
+          continue;
+
+        c = 0;
+        for (int j = 0; j < qlen; ++j) {
+          c += (s[p + i + j] & LONG_MASK) + (q[j] & LONG_MASK) * hi;
+          s[p + i + j] = (int)c;
+          c >>>= 32;
+        }
+
+        s[p + i + qlen] = (int)c;
+      }
+
+      c = 0;
+      for (int i = 0; i < plen; ++i) {
+        c += (s[p + i] & LONG_MASK) + (i < qlen ? s[a1 + i] & LONG_MASK : 0);
+        s[p + i] = (int)c;
+        c >>>= 32;
+      }
+
+      return result(val, s, p, plen);
+    }
+    finally {
+      localScratch.release(s);
+    }
+  }
+
+  /**
+   * Computes <code>val<sup>exp</sup> mod q</code> into {@code s[a1]}.
+   */
+  private void powMontgomery(final int[] s, final int[] val, final int[] exp, final int ebits, final int w, final int a1, final int work) {
+    final int n = qlen;
+    final int x = work, t = x + n, z = t + 2 * n + 1, tab = z + n;
+
+    // x = |val| mod q, in the array of the current thread that is reused across calls
+    int vlen = val[0];
+    final boolean sig = vlen > 0;
+    if (!sig)
+      vlen = -vlen;
+
+    int[] b = localBase.take(vlen + 2);
+    try {
+      System.arraycopy(val, 0, b, 0, vlen + 1);
+      b[0] = vlen;
+      b = qdiv.rem(b);
+      Arrays.fill(s, x, x + n, 0);
+      System.arraycopy(b, 1, s, x, b[0]);
+      final boolean zero = b[0] == 0;
+      if (!sig && !zero)
+        subFrom(s, x, q, n);
+    }
+    finally {
+      localBase.release(b);
+    }
+
+    // x = x * R mod q
+    System.arraycopy(r2, 0, s, z, n);
+    montMul(s, x, z, x, t);
+
+    powWindow(s, x, exp, ebits, w, tab, z, t, n, true);
+
+    // a1 = z * R^-1 mod q
+    Arrays.fill(s, x, x + n, 0);
+    s[x] = 1;
+    montMul(s, z, x, a1, t);
+  }
+
+  /**
+   * Computes <code>val<sup>exp</sup> mod 2^k</code> into {@code s[a2]}.
+   */
+  private void powLow(final int[] s, final int[] val, final int[] exp, final int ebits, final int w, final int a2, final int work) {
+    final int n = klen;
+    final int x = work, t = x + n, z = t + n, tab = z + n;
+
+    // x = val mod 2^k
+    int vlen = val[0];
+    final boolean sig = vlen > 0;
+    if (!sig)
+      vlen = -vlen;
+
+    Arrays.fill(s, x, x + n, 0);
+    System.arraycopy(val, 1, s, x, Math.min(vlen, n));
+    if (!sig) {
+      long c = 1;
+      for (int i = 0; i < n; ++i) {
+        c += ~s[x + i] & LONG_MASK;
+        s[x + i] = (int)c;
+        c >>>= 32;
+      }
+    }
+
+    s[x + n - 1] &= kmask;
+    powWindow(s, x, exp, ebits, w, tab, z, t, n, false);
+    System.arraycopy(s, z, s, a2, n);
+  }
+
+  /**
+   * Raises the number at {@code s[x]} to the power of {@code exp} by scanning
+   * the exponent from left to right with a sliding window of {@code w} bits,
+   * and stores the result at {@code s[z]}.
+   *
+   * @param s The scratch array.
+   * @param x The offset of the base.
+   * @param exp The {@linkplain BigInt#val() value-encoded exponent}.
+   * @param ebits The bit length of the exponent.
+   * @param w The size of the window.
+   * @param tab The offset of the table of the {@code 2^(w-1)} odd powers of the
+   *          base.
+   * @param z The offset of the result.
+   * @param t The offset of the temporary product.
+   * @param n The number of limbs of each number.
+   * @param mont Whether to multiply with {@link #montMul(int[],int,int,int,int)}
+   *          or {@link #mulLow(int[],int,int,int,int)}.
+   */
+  private void powWindow(final int[] s, final int x, final int[] exp, final int ebits, final int w, final int tab, final int z, final int t, final int n, final boolean mont) {
+    // tab[i] = x^(2i+1)
+    System.arraycopy(s, x, s, tab, n);
+    if (w > 1) {
+      mulMod(s, x, x, z, t, mont);
+      for (int i = 1, tsize = 1 << (w - 1); i < tsize; ++i)
+        mulMod(s, tab + (i - 1) * n, z, tab + i * n, t, mont);
+    }
+
+    boolean first = true;
+    for (int i = ebits - 1; i >= 0;) {
+      if (!testBit(exp, i)) {
+        mulMod(s, z, z, z, t, mont);
+        --i;
+        continue;
+      }
+
+      // The longest window of at most w bits that ends with a set bit
+      int l = Math.max(i - w + 1, 0);
+      while (!testBit(exp, l))
+        ++l;
+
+      int u = 0;
+      for (int j = i; j >= l; --j)
+        u = u << 1 | (testBit(exp, j) ? 1 : 0);
+
+      final int p = tab + (u >>> 1) * n;
+      if (first) {
+        System.arraycopy(s, p, s, z, n);
+        first = false;
+      }
+      else {
+        for (int j = i; j >= l; --j)
+          mulMod(s, z, z, z, t, mont);
+
+        mulMod(s, z, p, z, t, mont);
+      }
+
+      i = l - 1;
+    }
+  }
+
+  /**
+   * Returns whether this modulus is a strong probable prime to the base
+   * {@code 2}, with the Miller-Rabin test. This modulus must be odd, and
+   * greater than {@code 2}.
+   *
+   * @return Whether this modulus is a strong probable prime to the base
+   *         {@code 2}.
+   */
+  boolean isStrongProbablePrime2() {
+    final int n = qlen;
+    // d = (m - 1) / 2^r, where d is odd
+    final int[] d = localBase.take(n + 2);
+    try {
+      System.arraycopy(val, 0, d, 0, n + 1);
+      --d[1];
+      final int r = BigIntValue.getLowestSetBit(d);
+      BigIntBinary.shiftRight(d, r);
+
+      final int ebits = (int)BigIntValue.bitLength(d, d[0]);
+      final int w = windowSize(ebits);
+      final int one = 0, mone = n, x = 2 * n, z = 3 * n, t = 4 * n, tab = 6 * n + 1;
+      final int[] s = localScratch.take(tab + (1 << (w - 1)) * n);
+      try {
+        // one = R mod m, mone = -R mod m, x = 2R mod m
+        toMontgomery(s, 1, one, x, t);
+        System.arraycopy(s, one, s, mone, n);
+        subFrom(s, mone, q, n);
+        addMod(s, one, one, x);
+
+        powWindow(s, x, d, ebits, w, tab, z, t, n, true);
+        if (equals(s, z, one, n) || equals(s, z, mone, n))
+          return true;
+
+        for (int i = 1; i < r; ++i) {
+          montSqr(s, z, z, t);
+          if (equals(s, z, mone, n))
+            return true;
+
+          if (equals(s, z, one, n))
+            return false;
+        }
+
+        return false;
+      }
+      finally {
+        localScratch.release(s);
+      }
+    }
+    finally {
+      localBase.release(d);
+    }
+  }
+
+  /**
+   * Returns whether this modulus is a strong Lucas probable prime with the
+   * parameters {@code P = 1} and {@code Q = (1 - D) / 4}, where the Jacobi
+   * symbol {@code (D/m)} is {@code -1}. This modulus must be odd, and greater
+   * than {@code |D|} and {@code |Q|}.
+   *
+   * @param D The discriminant, which is congruent to {@code 1} modulo
+   *          {@code 4}.
+   * @return Whether this modulus is a strong Lucas probable prime with the
+   *         parameters {@code P = 1} and {@code Q = (1 - D) / 4}.
+   */
+  boolean isStrongLucasProbablePrime(final int D) {
+    final int n = qlen;
+    final int Q = (1 - D) / 4;
+    // d = (m + 1) / 2^r, where d is odd
+    final int[] d = localBase.take(n + 3);
+    try {
+      long c = 1;
+      for (int i = 1; i <= n; ++i) {
+        c += val[i] & LONG_MASK;
+        d[i] = (int)c;
+        c >>>= 32;
+      }
+
+      d[n + 1] = (int)c;
+      d[0] = c != 0 ? n + 1 : n;
+      final int r = BigIntValue.getLowestSetBit(d);
+      BigIntBinary.shiftRight(d, r);
+
+      final int ebits = (int)BigIntValue.bitLength(d, d[0]);
+      final int dm = 0, qm = n, u = 2 * n, v = 3 * n, qk = 4 * n, x = 5 * n, t = 6 * n;
+      final int[] s = localScratch.take(8 * n + 1);
+      try {
+        // The Montgomery forms of D and Q, and U_1 = 1, V_1 = P = 1, Q^1 = Q
+        toMontgomery(s, Math.abs(D), dm, x, t);
+        if (D < 0)
+          subFrom(s, dm, q, n);
+
+        toMontgomery(s, Math.abs(Q), qm, x, t);
+        if (Q < 0)
+          subFrom(s, qm, q, n);
+
+        toMontgomery(s, 1, u, x, t);
+        System.arraycopy(s, u, s, v, n);
+        System.arraycopy(s, qm, s, qk, n);
+        for (int i = ebits - 2; i >= 0; --i) {
+          // U_2k = U_k * V_k, V_2k = V_k^2 - 2Q^k, Q^2k = (Q^k)^2
+          montMul(s, u, v, u, t);
+          montSqr(s, v, v, t);
+          subMod(s, v, qk, v);
+          subMod(s, v, qk, v);
+          montSqr(s, qk, qk, t);
+          if (testBit(d, i)) {
+            // U_k+1 = (P * U_k + V_k) / 2, V_k+1 = (D * U_k + P * V_k) / 2, Q^k+1 = Q^k * Q
+            montMul(s, dm, u, x, t);
+            addMod(s, u, v, u);
+            half(s, u);
+            addMod(s, x, v, v);
+            half(s, v);
+            montMul(s, qk, qm, qk, t);
+          }
+        }
+
+        if (isZero(s, u, n) || isZero(s, v, n))
+          return true;
+
+        for (int i = 1; i < r; ++i) {
+          // V_2k = V_k^2 - 2Q^k
+          montSqr(s, v, v, t);
+          subMod(s, v, qk, v);
+          subMod(s, v, qk, v);
+          if (isZero(s, v, n))
+            return true;
+
+          montSqr(s, qk, qk, t);
+        }
+
+        return false;
+      }
+      finally {
+        localScratch.release(s);
+      }
+    }
+    finally {
+      localBase.release(d);
+    }
+  }
+
+  /**
+   * Stores the Montgomery form {@code c * R mod q} of the provided unsigned
+   * {@code int} at {@code s[z]}.
+   */
+  private void toMontgomery(final int[] s, final int c, final int z, final int x, final int t) {
+    Arrays.fill(s, x, x + qlen, 0);
+    s[x] = c;
+    System.arraycopy(r2, 0, s, z, qlen);
+    montMul(s, x, z, z, t);
+  }
+
+  /**
+   * Computes {@code a + b mod q} of the numbers at {@code s[a]} and
+   * {@code s[b]}, and stores it at {@code s[z]}.
+   */
+  private void addMod(final int[] s, final int a, final int b, final int z) {
+    final int n = qlen;
+    long c = 0;
+    for (int i = 0; i < n; ++i) {
+      c += (s[a + i] & LONG_MASK) + (s[b + i] & LONG_MASK);
+      s[z + i] = (int)c;
+      c >>>= 32;
+    }
+
+    if (c != 0 || compare(s, z, q, n) >= 0) {
+      c = 0;
+      for (int i = 0; i < n; ++i) {
+        c += (s[z + i] & LONG_MASK) - (q[i] & LONG_MASK);
+        s[z + i] = (int)c;
+        c >>= 32;
+      }
+    }
+  }
+
+  /**
+   * Computes {@code a - b mod q} of the numbers at {@code s[a]} and
+   * {@code s[b]}, and stores it at {@code s[z]}.
+   */
+  private void subMod(final int[] s, final int a, final int b, final int z) {
+    final int n = qlen;
+    long c = 0;
+    for (int i = 0; i < n; ++i) {
+      c += (s[a + i] & LONG_MASK) - (s[b + i] & LONG_MASK);
+      s[z + i] = (int)c;
+      c >>= 32;
+    }
+
+    if (c != 0) {
+      c = 0;
+      for (int i = 0; i < n; ++i) {
+        c += (s[z + i] & LONG_MASK) + (q[i] & LONG_MASK);
+        s[z + i] = (int)c;
+        c >>>= 32;
+      }
+    }
+  }
+
+  /**
+   * Computes {@code a / 2 mod q} of the number at {@code s[a]} in place.
+   */
+  private void half(final int[] s, final int a) {
+    final int n = qlen;
+    long c = 0;
+    if ((s[a] & 1) != 0) {
+      for (int i = 0; i < n; ++i) {
+        c += (s[a + i] & LONG_MASK) + (q[i] & LONG_MASK);
+        s[a + i] = (int)c;
+        c >>>= 32;
+      }
+    }
+
+    for (int i = 0; i < n - 1; ++i)
+      s[a + i] = s[a + i] >>> 1 | s[a + i + 1] << 31;
+
+    s[a + n - 1] = s[a + n - 1] >>> 1 | (int)c << 31;
+  }
+
+  private static boolean isZero(final int[] s, final int a, final int n) {
+    for (int i = 0; i < n; ++i)
+      if (s[a + i] != 0)
+        return false;
+
+    return true;
+  }
+
+  private static boolean equals(final int[] s, final int a, final int b, final int n) {
+    for (int i = 0; i < n; ++i)
+      if (s[a + i] != s[b + i])
+        return false;
+
+    return true;
+  }
+
+  private static boolean testBit(final int[] val, final int bit) {
+    return (val[1 + (bit >>> 5)] & 1 << bit) != 0;
+  }
+
+  private void mulMod(final int[] s, final int a, final int b, final int z, final int t, final boolean mont) {
+    if (!mont)
+      mulLow(s, a, b, z, t);
+    else if (a == b)
+      montSqr(s, a, z, t);
+    else
+      montMul(s, a, b, z, t);
+  }
+
+  /**
+   * Computes the Montgomery product {@code a * b * R^-1 mod q} of the numbers
+   * of {@link #qlen} limbs at {@code s[a]} and {@code s[b]} with the Coarsely
+   * Integrated Operand Scanning method, and stores it at {@code s[z]}, which
+   * can be the same as {@code a} or {@code b}.
+   *
+   * @param s The scratch array.
+   * @param a The offset of the first factor.
+   * @param b The offset of the second factor.
+   * @param z The offset of the product.
+   * @param t The offset of the temporary product of {@code qlen + 2} limbs.
+   */
+  private void montMul(final int[] s, final int a, final int b, final int z, final int t) {
+    final int n = qlen;
+    final int[] m = q;
+    final int inv = qinv;
+    Arrays.fill(s, t, t + n + 2, 0);
+    long c;
+    for (int i = 0; i < n; ++i) {
+      // t += a * b[i]
+      final long bi = s[b + i] & LONG_MASK;
+      c = 0;
+      for (int j = 0; j < n; ++j) {
+        c += (s[t + j] & LONG_MASK) + (s[a + j] & LONG_MASK) * bi;
+        s[t + j] = (int)c;
+        c >>>= 32;
+      }
+
+      c += s[t + n] & LONG_MASK;
+      s[t + n] = (int)c;
+      s[t + n + 1] = (int)(c >>> 32);
+
+      // t = (t + m * u) / 2^32, where u = t[0] * -q^-1 mod 2^32
+      final long u = s[t] * inv & LONG_MASK;
+      c = ((s[t] & LONG_MASK) + (m[0] & LONG_MASK) * u) >>> 32;
+      for (int j = 1; j < n; ++j) {
+        c += (s[t + j] & LONG_MASK) + (m[j] & LONG_MASK) * u;
+        s[t + j - 1] = (int)c;
+        c >>>= 32;
+      }
+
+      c += s[t + n] & LONG_MASK;
+      s[t + n - 1] = (int)c;
+      s[t + n] = (int)((c >>> 32) + (s[t + n + 1] & LONG_MASK));
+    }
+
+    // t < 2q, so at most 1 subtraction is needed
+    if (s[t + n] != 0 || compare(s, t, m, n) >= 0) {
+      c = 0;
+      for (int j = 0; j < n; ++j) {
+        c += (s[t + j] & LONG_MASK) - (m[j] & LONG_MASK);
+        s[z + j] = (int)c;
+        c >>= 32;
+      }
+    }
+    else {
+      System.arraycopy(s, t, s, z, n);
+    }
+  }
+
+  /**
+   * Computes the Montgomery square {@code a * a * R^-1 mod q} of the number of
+   * {@link #qlen} limbs at {@code s[a]} with the Separated Operand Scanning
+   * method, of which the cross products are computed once and doubled, and
+   * stores it at {@code s[z]}, which can be the same as {@code a}.
+   *
+   * @param s The scratch array.
+   * @param a The offset of the number to square.
+   * @param z The offset of the square.
+   * @param t The offset of the temporary square of {@code 2 * qlen + 1} limbs.
+   */
+  private void montSqr(final int[] s, final int a, final int z, final int t) {
+    final int n = qlen, n2 = 2 * n;
+    final int[] m = q;
+    final int inv = qinv;
+    Arrays.fill(s, t, t + n2 + 1, 0);
+    long c;
+    int i, j;
+
+    // t = sum(a[i] * a[j] * 2^(32 * (i + j))) for i < j
+    for (i = 0; i < n - 1; ++i) {
+      final long ai = s[a + i] & LONG_MASK;
+      c = 0;
+      for (j = i + 1; j < n; ++j) {
+        c += (s[t + i + j] & LONG_MASK) + (s[a + j] & LONG_MASK) * ai;
+        s[t + i + j] = (int)c;
+        c >>>= 32;
+      }
+
+      s[t + i + n] = (int)c;
+    }
+
+    // t = 2 * t + sum(a[i]^2 * 2^(64 * i))
+    c = 0;
+    int hi = 0;
+    for (i = 0; i < n; ++i) {
+      final long ai = s[a + i] & LONG_MASK;
+      final long sq = ai * ai;
+      final int t0 = s[t + 2 * i], t1 = s[t + 2 * i + 1];
+      c += (sq & LONG_MASK) + ((t0 << 1 | hi) & LONG_MASK);
+      s[t + 2 * i] = (int)c;
+      c >>>= 32;
+      c += (sq >>> 32) + ((t1 << 1 | t0 >>> 31) & LONG_MASK);
+      s[t + 2 * i + 1] = (int)c;
+      c >>>= 32;
+      hi = t1 >>> 31;
+    }
+
+    // t = t / R mod q
+    for (i = 0; i < n; ++i) {
+      final long u = s[t + i] * inv & LONG_MASK;
+      c = 0;
+      for (j = 0; j < n; ++j) {
+        c += (s[t + i + j] & LONG_MASK) + (m[j] & LONG_MASK) * u;
+        s[t + i + j] = (int)c;
+        c >>>= 32;
+      }
+
+      for (j = i + n; c != 0; ++j) {
+        c += s[t + j] & LONG_MASK;
+        s[t + j] = (int)c;
+        c >>>= 32;
+      }
+    }
+
+    // t < 2q, so at most 1 subtraction is needed
+    if (s[t + n2] != 0 || compare(s, t + n, m, n) >= 0) {
+      c = 0;
+      for (j = 0; j < n; ++j) {
+        c += (s[t + n + j] & LONG_MASK) - (m[j] & LONG_MASK);
+        s[z + j] = (int)c;
+        c >>= 32;
+      }
+    }
+    else {
+      System.arraycopy(s, t + n, s, z, n);
+    }
+  }
+
+  /**
+   * Computes the product {@code a * b mod 2^k} of the numbers of
+   * {@link #klen} limbs at {@code s[a]} and {@code s[b]}, and stores it at
+   * {@code s[z]}, which can be the same as {@code a} or {@code b}.
+   *
+   * @param s The scratch array.
+   * @param a The offset of the first factor.
+   * @param b The offset of the second factor.
+   * @param z The offset of the product.
+   * @param t The offset of the temporary product of {@code klen} limbs.
+   */
+  private void mulLow(final int[] s, final int a, final int b, final int z, final int t) {
+    final int n = klen;
+    Arrays.fill(s, t, t + n, 0);
+    for (int i = 0; i < n; ++i) {
+      final long bi = s[b + i] & LONG_MASK;
+      if (bi == 0)
+        continue;
+
+      long c = 0;
+      for (int j = 0; j < n - i; ++j) {
+        c += (s[t + i + j] & LONG_MASK) + (s[a + j] & LONG_MASK) * bi;
+        s[t + i + j] = (int)c;
+        c >>>= 32;
+      }
+    }
+
+    System.arraycopy(s, t, s, z, n);
+    s[z + n - 1] &= kmask;
+  }
+
+  private static int compare(final int[] s, final int a, final int[] m, final int n) {
+    for (int i = n - 1; i >= 0; --i) {
+      final int x = s[a + i], y = m[i];
+      if (x != y)
+        return (x & LONG_MASK) < (y & LONG_MASK) ? -1 : 1;
+    }
+
+    return 0;
+  }
+
+  /**
+   * Replaces the number of {@code n} limbs at {@code s[x]} with {@code m - x}.
+   */
+  private static void subFrom(final int[] s, final int x, final int[] m, final int n) {
+    long c = 0;
+    for (int i = 0; i < n; ++i) {
+      c += (m[i] & LONG_MASK) - (s[x + i] & LONG_MASK);
+      s[x + i] = (int)c;
+      c >>= 32;
+    }
+  }
+
+  /**
+   * Assigns the number of {@code n} limbs at {@code s[off]} to the provided
+   * {@linkplain BigInt#val() value-encoded number}.
+   */
+  private static int[] result(int[] val, final int[] s, final int off, int n) {
+    for (; n > 0 && s[off + n - 1] == 0; --n);
+    if (val.length <= n)
+      val = BigIntValue.alloc(n + 1);
+
+    System.arraycopy(s, off, val, 1, n);
+    val[0] = n;
+    return val;
+  }
+
+  @Override
+  public String toString() {
+    return BigInt.toString(val);
+  }
+}
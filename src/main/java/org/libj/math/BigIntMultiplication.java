@@ -30,6 +30,9 @@
 package org.libj.math;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 abstract class BigIntMultiplication extends BigIntAddition {
   private static final long serialVersionUID = -4907342078241892616L;
@@ -49,8 +52,22 @@ abstract class BigIntMultiplication extends BigIntAddition {
    * Factor to be applied Karatsuba thresholds. This factor was determined
    * experimentally to produce better results in general applications than the
    * exact factors that were determined in isolated tests.
+   * <p>
+   * The thresholds of this class default to values that were measured on a
+   * reference machine, and can be overridden with a profile that is calibrated
+   * for the machine at hand with {@link BigIntThresholds}.
+   */
+  static final double THRESHOLD_FACTOR = BigIntThresholds.get("THRESHOLD_FACTOR", 1.2);
+
+  /**
+   * The minimum of {@link #KARATSUBA_THRESHOLD_X} and
+   * {@link #KARATSUBA_SQUARE_THRESHOLD}, to which lower values of the profile
+   * are raised. The Karatsuba algorithm computes partial arrays of up to
+   * {@code 32} limbs with long multiplication, which overwrites the operand that
+   * it reads when the product is computed in place, so the algorithm must not
+   * be entered with fewer than {@code 33} limbs.
    */
-  private static final double THRESHOLD_FACTOR = 1.2;
+  static final int KARATSUBA_MIN_THRESHOLD = 33;
 
   /**
    * The "z" threshold value for using Karatsuba multiplication. If the number
@@ -72,7 +89,7 @@ abstract class BigIntMultiplication extends BigIntAddition {
    *
    * @see #KARATSUBA_THRESHOLD_X
    */
-  static final int KARATSUBA_THRESHOLD_Z = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 135 : 80) * THRESHOLD_FACTOR); // 135 : 80
+  static final int KARATSUBA_THRESHOLD_Z = (int)(BigIntThresholds.get("KARATSUBA_THRESHOLD_Z", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 135 : 80) * THRESHOLD_FACTOR); // 135 : 80
 
   /**
    * The "x" threshold value for using Karatsuba multiplication. If the number
@@ -80,25 +97,147 @@ abstract class BigIntMultiplication extends BigIntAddition {
    * {@link #KARATSUBA_THRESHOLD_Z} will be evaluated to determine if Karatsuba
    * multiplication is to be used. This value is found experimentally to work
    * well.
+   * <p>
+   * Note: Values of {@code 32} or lower for this threshold result in errors for
+   * in-place execution of the Karatsuba algorithm, and are raised to
+   * {@link #KARATSUBA_MIN_THRESHOLD}.
    */
-  static final int KARATSUBA_THRESHOLD_X = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 70 : 50) * THRESHOLD_FACTOR); // 70 : 50
+  static final int KARATSUBA_THRESHOLD_X = Math.max(KARATSUBA_MIN_THRESHOLD, (int)(BigIntThresholds.get("KARATSUBA_THRESHOLD_X", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 70 : 50) * THRESHOLD_FACTOR)); // 70 : 50
 
   /**
    * The threshold value for using Karatsuba squaring. If the number of ints in
    * the magnitude array is greater than this value, Karatsuba squaring will be
    * used. This value is found experimentally to work well.
    * <p>
-   * Note: Values lower than {@code 30} for this threshold will result in errors
-   * for in-place execution of the Karatsuba algorithm.
+   * Note: Values of {@code 32} or lower for this threshold result in errors for
+   * in-place execution of the Karatsuba algorithm, and are raised to
+   * {@link #KARATSUBA_MIN_THRESHOLD}.
+   */
+  static final int KARATSUBA_SQUARE_THRESHOLD = Math.max(KARATSUBA_MIN_THRESHOLD, (int)(BigIntThresholds.get("KARATSUBA_SQUARE_THRESHOLD", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 640 : 400) * THRESHOLD_FACTOR)); // 640 : 400
+
+  /**
+   * The threshold value for using 3-way Toom-Cook multiplication. If the number
+   * of ints in both input arrays is greater than this number, then Toom-Cook
+   * multiplication will be used instead of Karatsuba multiplication.
+   * <p>
+   * Toom-Cook splits each operand into 3 parts, and requires 5 recursive
+   * multiplications of {@code 1/3} the size, instead of the 9 needed by long
+   * multiplication. The evaluation and interpolation steps, however, are performed with
+   * transient arrays, so the algorithm only pays off for magnitudes well above
+   * the Karatsuba threshold. This value is found experimentally to work well.
+   * The time of one level of Toom-Cook relative to Karatsuba for balanced
+   * operands is (where {@code <1} favors Toom-Cook):
+   *
+   * <pre>
+   * len   | 300  | 400  | 500  | 1000 | 1500 | 2000 | 3000 | 4000
+   * ------+------+------+------+------+------+------+------+------
+   * Java  | 0.90 | 0.92 | 1.05 | 0.76 | 0.80 | 0.79 | 0.66 | 0.69
+   * JNI   | 1.10 | 1.01 | 0.89 | 0.70 |      |      |      |
+   * </pre>
+   *
+   * @see #KARATSUBA_THRESHOLD_X
+   */
+  static final int TOOM_COOK_THRESHOLD = (int)(BigIntThresholds.get("TOOM_COOK_THRESHOLD", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 500 : 420) * THRESHOLD_FACTOR); // 500 : 420
+
+  /**
+   * The threshold value for using 3-way Toom-Cook squaring. If the number of
+   * ints in the magnitude array is greater than this value, Toom-Cook squaring
+   * will be used. This value is found experimentally to work well. The time of
+   * one level of Toom-Cook squaring relative to the algorithm otherwise chosen
+   * by {@link #square(int[],int)} is (where {@code <1} favors Toom-Cook):
+   *
+   * <pre>
+   * len   | 100  | 150  | 200  | 400  | 700  | 1300 | 1600 | 1900 | 2500
+   * ------+------+------+------+------+------+------+------+------+------
+   * Java  | 1.10 | 0.87 | 0.78 | 0.65 | 0.61 | 0.66 | 0.60 | 0.63 | 0.76
+   * JNI   |      |      |      | 0.58 | 1.37 | 1.58 | 0.87 | 0.61 | 0.71
+   * </pre>
+   *
+   * @see #KARATSUBA_SQUARE_THRESHOLD
+   */
+  static final int TOOM_COOK_SQUARE_THRESHOLD = (int)(BigIntThresholds.get("TOOM_COOK_SQUARE_THRESHOLD", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 150 : 1300) * THRESHOLD_FACTOR); // 150 : 1300
+
+  /**
+   * The threshold ratio of the lengths of the input arrays for using
+   * unbalanced multiplication. If the number of ints in the longer input array
+   * is at least this many times the number of ints in the shorter input array,
+   * then the longer input array is sliced into blocks with the length of the
+   * shorter, which are multiplied as balanced operands. Otherwise, Karatsuba
+   * and Toom-Cook multiplication pad the shorter input array to the length of
+   * the longer. This value is found experimentally to work well. The time of
+   * unbalanced multiplication relative to Karatsuba (or Toom-Cook if the
+   * shorter length is above {@link #TOOM_COOK_THRESHOLD}) is (where
+   * {@code <1} favors unbalanced multiplication):
+   *
+   * <pre>
+   * ratio      | 1.25 | 1.5  |  2   |  3   |  4   |  8
+   * -----------+------+------+------+------+------+------
+   * Java  150  | 1.39 | 0.97 | 0.67 | 0.50 | 0.43 | 0.30
+   * Java  600  | 1.60 | 1.78 | 0.85 | 0.73 | 0.58 | 0.68
+   * Java  1200 | 1.30 | 1.11 | 0.75 | 0.74 | 1.16 | 0.59
+   * JNI   150  | 1.15 | 1.03 | 0.67 | 0.51 | 0.47 | 0.30
+   * JNI   600  | 1.63 | 1.79 | 0.74 | 0.61 | 0.58 | 0.54
+   * JNI   1200 | 1.29 | 1.26 | 0.67 | 1.06 | 0.67 | 0.63
+   * </pre>
+   *
+   * The shorter input array is to be at least {@link #KARATSUBA_THRESHOLD_X},
+   * below which the quadratic algorithm is used regardless, as its cost is
+   * linear in the length of the longer input array.
+   */
+  static final int UNBALANCED_RATIO = BigIntThresholds.get("UNBALANCED_RATIO", 2);
+
+  /**
+   * The threshold value for using number-theoretic transform (NTT)
+   * multiplication. If the number of ints in both input arrays is greater than
+   * this number, then NTT multiplication will be used instead of Toom-Cook
+   * multiplication.
+   * <p>
+   * NTT multiplication computes the convolution of the magnitudes modulo 3
+   * primes, and reconstructs the product with the Chinese Remainder Theorem.
+   * Its complexity of O(n log n) has a large constant, and the algorithm is
+   * thus only beneficial for very large magnitudes. This value is found
+   * experimentally to work well. The time of NTT multiplication relative to
+   * one level of Toom-Cook for balanced operands is (where {@code <1} favors
+   * NTT):
+   *
+   * <pre>
+   * len   | 2000 | 4000 | 6000 | 8000 | 12000 | 16000 | 24000 | 32000
+   * ------+------+------+------+------+-------+-------+-------+-------
+   * Java  | 1.30 | 0.93 | 1.28 | 0.79 | 0.84  | 0.56  | 0.68  | 0.41
+   * JNI   | 1.90 | 1.33 | 1.57 | 1.07 | 1.03  | 0.80  | 0.90  | 0.56
+   * </pre>
+   *
+   * The ratios step with the length of the transform, which is the power of 2
+   * that is not less than the length of the product.
+   *
+   * @see #TOOM_COOK_THRESHOLD
+   */
+  static final int NTT_THRESHOLD = (int)(BigIntThresholds.get("NTT_THRESHOLD", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 6500 : 12000) * THRESHOLD_FACTOR); // 6500 : 12000
+
+  /**
+   * The threshold value for using number-theoretic transform (NTT) squaring.
+   * If the number of ints in the magnitude array is greater than this value,
+   * NTT squaring will be used. This value is found experimentally to work well.
+   * The time of NTT squaring relative to one level of Toom-Cook squaring is
+   * (where {@code <1} favors NTT):
+   *
+   * <pre>
+   * len   | 2000 | 4000 | 6000 | 8000 | 12000 | 16000 | 24000 | 32000
+   * ------+------+------+------+------+-------+-------+-------+-------
+   * Java  | 1.00 | 1.03 | 1.27 | 0.85 | 0.86  | 0.66  | 0.74  | 0.47
+   * JNI   | 1.31 | 0.96 | 1.13 | 0.51 | 1.18  | 0.58  | 0.59  | 0.40
+   * </pre>
+   *
+   * @see #TOOM_COOK_SQUARE_THRESHOLD
    */
-  static final int KARATSUBA_SQUARE_THRESHOLD = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 640 : 400) * THRESHOLD_FACTOR); // 640 : 400
+  static final int NTT_SQUARE_THRESHOLD = (int)(BigIntThresholds.get("NTT_SQUARE_THRESHOLD", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 7000 : 12000) * THRESHOLD_FACTOR); // 7000 : 12000
 
   /**
    * Factor to be applied Parallel Karatsuba thresholds. This factor was
    * determined experimentally to produce better results in general applications
    * than the exact factors that were determined in isolated manner.
    */
-  private static final double PARALLEL_THRESHOLD_FACTOR = 2;
+  private static final double PARALLEL_THRESHOLD_FACTOR = BigIntThresholds.get("PARALLEL_THRESHOLD_FACTOR", 2d);
 
   /**
    * The "z" threshold value for using Parallel Karatsuba multiplication. If the
@@ -120,7 +259,7 @@ abstract class BigIntMultiplication extends BigIntAddition {
    *
    * @see #PARALLEL_KARATSUBA_THRESHOLD_X
    */
-  static final int PARALLEL_KARATSUBA_THRESHOLD_Z = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 1500 : 850) * PARALLEL_THRESHOLD_FACTOR); // 1500 : 850
+  static final int PARALLEL_KARATSUBA_THRESHOLD_Z = (int)(BigIntThresholds.get("PARALLEL_KARATSUBA_THRESHOLD_Z", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 1500 : 850) * PARALLEL_THRESHOLD_FACTOR); // 1500 : 850
 
   /**
    * The "x" threshold value for using Parallel Karatsuba multiplication. If the
@@ -129,7 +268,71 @@ abstract class BigIntMultiplication extends BigIntAddition {
    * Parallel Karatsuba multiplication is to be used. This value is found
    * experimentally to work well.
    */
-  static final int PARALLEL_KARATSUBA_THRESHOLD_X = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 120 : 100) * PARALLEL_THRESHOLD_FACTOR); // 120 : 100
+  static final int PARALLEL_KARATSUBA_THRESHOLD_X = (int)(BigIntThresholds.get("PARALLEL_KARATSUBA_THRESHOLD_X", NATIVE_THRESHOLD == Integer.MAX_VALUE ? 120 : 100) * PARALLEL_THRESHOLD_FACTOR); // 120 : 100
+
+  /**
+   * The maximum number of surplus tasks queued by a worker thread of the
+   * {@link #getForkJoinPool() ForkJoinPool}, above which Parallel Karatsuba
+   * multiplication forks no further tasks, and proceeds sequentially instead.
+   */
+  private static final int PARALLEL_SURPLUS_THRESHOLD = 3;
+
+  private static volatile ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+  /**
+   * Returns the {@link ForkJoinPool} on which Parallel Karatsuba multiplication
+   * and squaring, the recursive conversion of large numbers to strings, and the
+   * batch primality tests are executed. Unless set with
+   * {@link #setForkJoinPool(ForkJoinPool)}, this is the
+   * {@linkplain ForkJoinPool#commonPool() common pool}.
+   *
+   * @return The {@link ForkJoinPool} on which the parallel operations are
+   *         executed.
+   */
+  public static ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Sets the {@link ForkJoinPool} on which Parallel Karatsuba multiplication
+   * and squaring, and the other parallel operations are to be executed. If the
+   * provided pool has a parallelism of {@code 1}, the operations are executed
+   * sequentially.
+   *
+   * @param pool The {@link ForkJoinPool}, or {@code null} to use the
+   *          {@linkplain ForkJoinPool#commonPool() common pool}.
+   */
+  public static void setForkJoinPool(final ForkJoinPool pool) {
+    forkJoinPool = pool != null ? pool : ForkJoinPool.commonPool();
+  }
+
+  /**
+   * The scratch space of the current thread for the temporaries of Karatsuba
+   * and Toom-Cook multiplication and squaring.
+   */
+  private static final LocalArray localScratch = new LocalArray();
+
+  /**
+   * Returns the length of the scratch array that is sufficient for the
+   * temporaries of the multiplication or squaring of
+   * {@linkplain BigInt#val() value-encoded numbers} with up to {@code len}
+   * limbs, which can be provided to {@link #mul(int[],int[],int[])}.
+   *
+   * @param len The maximum number of limbs of the multiplicand and the
+   *          multiplier.
+   * @return The length of the scratch array that is sufficient for the
+   *         temporaries of the multiplication or squaring of
+   *         {@linkplain BigInt#val() value-encoded numbers} with up to
+   *         {@code len} limbs.
+   * @complexity O(log n)
+   */
+  public static int scratchLength(final int len) {
+    final int slen = karatsubaScratchLength(len, Integer.MAX_VALUE, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+    if (len < TOOM_COOK_THRESHOLD && len < TOOM_COOK_SQUARE_THRESHOLD)
+      return slen + len;
+
+    return Math.max(slen, Math.max(toomCookScratchLength(len, false), toomCookScratchLength(len, true))) + len;
+  }
 
   static final int[] INT_5_POW = {
     1,
@@ -609,11 +812,48 @@ abstract class BigIntMultiplication extends BigIntAddition {
     return mul(val, mul, false);
   }
 
+  /**
+   * Multiplies the provided number by a {@linkplain BigInt#val() value-encoded
+   * multiplicand}, using the provided {@code scratch} array for the temporaries
+   * of the multiplication.
+   *
+   * <pre>
+   * val = val * mul
+   * </pre>
+   *
+   * If the length of the {@code scratch} array is at least
+   * {@link #scratchLength(int) scratchLength(n)}, where {@code n} is the
+   * greater of the number of limbs of {@code val} and {@code mul}, Karatsuba
+   * and Toom-Cook multiplication do not allocate temporary arrays. Otherwise,
+   * the scratch space of the current thread is used instead.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the multiplication of the provided number by the specified multiplier
+   * requires a larger array.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @param scratch The scratch array for the temporaries of the
+   *          multiplication.
+   * @return The result of the multiplication of the provided
+   *         {@linkplain BigInt#val() value-encoded number} by the
+   *         {@linkplain BigInt#val() value-encoded multiplier}.
+   * @complexity O(n^2) - O(n log n)
+   * @see #scratchLength(int)
+   */
+  public static int[] mul(final int[] val, final int[] mul, final int[] scratch) {
+    return mul(val, mul, false, scratch);
+  }
+
   protected static int[] mulInPlace(final int[] val, final int[] mul) {
     return mul(val, mul, false);
   }
 
-  static int[] mul(int[] val, int[] mul, final boolean allocExact) {
+  static int[] mul(final int[] val, final int[] mul, final boolean allocExact) {
+    return mul(val, mul, allocExact, null);
+  }
+
+  private static int[] mul(int[] val, final int[] mul, final boolean allocExact, final int[] scratch) {
     int len = val[0];
     if (len == 0)
       return val;
@@ -626,7 +866,7 @@ abstract class BigIntMultiplication extends BigIntAddition {
     if (len < 0) { len = -len; sig = false; }
 
     if (val == mul)
-      return square(val, len);
+      return square(val, len, scratch);
 
     if (mlen < 0) { mlen = -mlen; sig = !sig; }
 
@@ -663,166 +903,1562 @@ abstract class BigIntMultiplication extends BigIntAddition {
     if (len < KARATSUBA_THRESHOLD_X || mlen < KARATSUBA_THRESHOLD_X || zlen < KARATSUBA_THRESHOLD_Z)
       return mulQuad(val, len, mul, mlen, zlen, sig, allocExact);
 
-    return karatsuba(val, len, mul, mlen, zlen, sig);
-  }
-
-  private static int[] karatsuba(int[] x, int xlen, int[] y, int ylen, int zlen, final boolean sig) {
-    final int len = Math.max(xlen, ylen);
-    ++xlen;
-    ++ylen;
-
-    boolean yNew = false, xNew = false;
-    if (yNew = y.length < xlen)
-      y = reallocExact(y, ylen, xlen);
-    else if (xNew = x.length < ylen)
-      x = reallocExact(x, xlen, ylen);
-
-    if (!yNew && ylen < xlen)
-      for (--ylen; ++ylen < xlen; y[ylen] = 0);
-    else if (!xNew && xlen < ylen)
-      for (--xlen; ++xlen < ylen; x[xlen] = 0);
-
-    final int[] z;
-    final int inlineLen = zlen * 2 + 1;
-//    final boolean PARALLEL = len > PARALLEL_KARATSUBA_THRESHOLD_X && zlen > PARALLEL_KARATSUBA_THRESHOLD_Z;
-    if (!xNew && x.length > inlineLen) {
-//      if (record) { final int X[] = PARALLEL ? X_KPI : X_KI; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
-
-      z = x;
-      z[zlen] = 0;
-      karatsuba(x, y, z, inlineLen, len);
-    }
-    else {
-//      if (record) { final int X[] = PARALLEL ? X_KP : X_K; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
-
-      z = alloc(OFF + zlen * 2); // (OFF + zlen) is all that's needed, but increase to potentially reuse the original array
-      // z = alloc((OFF + zlen) * ((int)(1 + 10 * Math.random()))); // FIXME: Remove this!
-      if (xlen < ylen) {
-        karatsuba(x, y, z, zlen, len);
-      }
-      else {
-        karatsuba(y, x, z, zlen, len);
-      }
-    }
-
-    for (; z[zlen] == 0 && zlen > 0; --zlen);
-    z[0] = sig ? zlen : -zlen;
-    // _debugLenSig(res);
-    return z;
-  }
-
-  static int[] mulQuad(final int[] x, final int xlen, final int[] y, final int ylen, int zlen, final boolean sig, final boolean allocExact) {
-    final int[] z;
-    if (x.length >= zlen + xlen) {
-//      if (record) { final int X[] = xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD ? X_QI : X_QIN; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
-
-      z = x;
-      if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
-        javaMulQuadInPlace(y, ylen, z, xlen, zlen - 2);
-      else
-        nativeMulQuadInPlace(y, ylen, z, xlen, zlen - 2);
-    }
-    else {
-//      if (record) { final int X[] = xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD ? X_Q : X_QN; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
+    if ((len < mlen ? mlen / len : len / mlen) >= UNBALANCED_RATIO && Math.min(len, mlen) < NTT_THRESHOLD)
+      return mulUnbalanced(val, len, mul, mlen, zlen, sig, allocExact);
 
-      z = allocExact ? new int[zlen] : alloc(zlen);
-      if (xlen < ylen) {
-        if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
-          javaMulQuad(x, xlen, y, ylen, z);
-        else
-          nativeMulQuad(x, xlen, y, ylen, z);
-      }
-      else {
-        if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
-          javaMulQuad(y, ylen, x, xlen, z);
-        else
-          nativeMulQuad(y, ylen, x, xlen, z);
-      }
-    }
+    if (len >= NTT_THRESHOLD && mlen >= NTT_THRESHOLD && zlen - 2 <= NTT_MAX_LENGTH)
+      return javaNtt(val, len, mul, mlen, zlen, sig, allocExact);
 
-    if (z[--zlen] == 0)
-      --zlen;
+    if (len >= TOOM_COOK_THRESHOLD && mlen >= TOOM_COOK_THRESHOLD)
+      return javaToomCook3(val, len, mul, mlen, zlen, sig, allocExact, scratch);
 
-    z[0] = sig ? zlen : -zlen;
-    // _debugLenSig(z);
-    return z;
+    return karatsuba(val, len, mul, mlen, zlen, sig, scratch);
   }
 
-  private static native void nativeMulQuad(int[] x, int xlen, int[] y, int ylen, int[] z);
-
-  private static void javaMulQuad(final int[] x, final int xlen, final int[] y, final int ylen, final int[] z) {
-    int i, j, k;
-
-    long carry = 0, x0 = x[1] & LONG_MASK;
-    for (j = 1; j <= ylen; ++j) {
-      z[j] = (int)(carry += x0 * (y[j] & LONG_MASK));
-      carry >>>= 32;
-    }
-
-    z[j] = (int)carry;
-    for (i = 2; i <= xlen; ++i) {
-      x0 = x[i] & LONG_MASK;
-      for (carry = 0, j = 1, k = i; j <= ylen; ++j, ++k) {
-        z[k] = (int)(carry += x0 * (y[j] & LONG_MASK) + (z[k] & LONG_MASK));
-        carry >>>= 32;
-      }
+  /**
+   * The array of the current thread for the products and the copies of
+   * aliased operands of the fused {@code mulAdd} and {@code mulSub}
+   * operations.
+   */
+  private static final LocalArray localProduct = new LocalArray();
 
-      z[k] = (int)carry;
-    }
+  /**
+   * Adds the product of the provided number and an {@code int} multiplier to
+   * the provided accumulator.
+   *
+   * <pre>
+   * acc = acc + val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The multiplier.
+   * @return The result of the addition of the product of {@code val} and
+   *         {@code mul} to {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulAdd(final int[] acc, final int[] val, final int mul) {
+    return mul < 0 ? mulAddSub(acc, val, -1, -mul & LONG_MASK, true) : mulAddSub(acc, val, 1, mul, true);
   }
 
-  private static native void nativeMulQuadInPlace(int[] x, int xlen, int[] y, int ylen, int zlen);
-
-  private static void javaMulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, int zlen) {
-    int i, j, k, l;
-
-    long carry = 0, x0 = x[1] & LONG_MASK;
-    zlen += OFF;
-
-    for (j = OFF, l = zlen; j <= ylen; ++j, ++l) {
-      y[j] = (int)(carry += x0 * ((y[l] = y[j]) & LONG_MASK));
-      carry >>>= 32;
-    }
-
-    y[j] = (int)carry;
-    for (i = 2; i <= xlen; ++i) {
-      x0 = x[i] & LONG_MASK;
-      for (carry = 0, j = OFF, k = i, l = zlen; j <= ylen; ++j, ++k, ++l) {
-        y[k] = (int)(carry += x0 * (y[l] & LONG_MASK) + (y[k] & LONG_MASK));
-        carry >>>= 32;
-      }
-
-      y[k] = (int)carry;
-    }
+  /**
+   * Adds the product of the provided number and an <i>unsigned</i> {@code int}
+   * multiplier to the provided accumulator.
+   *
+   * <pre>
+   * acc = acc + val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param sig The sign of the unsigned {@code int} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return The result of the addition of the product of {@code val} and
+   *         {@code mul} to {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulAdd(final int[] acc, final int[] val, final int sig, final int mul) {
+    return mulAddSub(acc, val, sig, mul & LONG_MASK, true);
   }
 
-  private static void karatsuba(final int[] x, final int[] y, final int[] z, final int zlen, final int len) {
-    if (len < NATIVE_THRESHOLD)
-      javaKaratsuba(x, OFF, y, OFF, z, OFF, zlen, 0, len, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
-    else
-      nativeKaratsuba(x, OFF, y, OFF, z, OFF, zlen, z.length, 0, len, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+  /**
+   * Adds the product of the provided number and a {@code long} multiplier to
+   * the provided accumulator.
+   *
+   * <pre>
+   * acc = acc + val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The multiplier.
+   * @return The result of the addition of the product of {@code val} and
+   *         {@code mul} to {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulAdd(final int[] acc, final int[] val, final long mul) {
+    return mul < 0 ? mulAddSub(acc, val, -1, -mul, true) : mulAddSub(acc, val, 1, mul, true);
   }
 
-  private static native void nativeKaratsuba(int[] x, int xoff, int[] y, int yoff, int[] z, int zoff, int zlen, int zlength, int off, int len, int parallelThreshold, int parallelThresholdZ);
-
   /**
-   * Multiplies partial magnitude arrays x[off..off+n) and y[off...off+n) and
-   * puts the result in {@code z}. Algorithm: Karatsuba
+   * Adds the product of the provided number and an <i>unsigned</i>
+   * {@code long} multiplier to the provided accumulator.
    *
-   * @param x The first magnitude array.
-   * @param xoff Offset for {@code x}.
-   * @param y The second magnitude array.
-   * @param yoff Offset for {@code y}.
-   * @param z The array into which the result is to be put.
+   * <pre>
+   * acc = acc + val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param sig The sign of the unsigned {@code long} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return The result of the addition of the product of {@code val} and
+   *         {@code mul} to {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulAdd(final int[] acc, final int[] val, final int sig, final long mul) {
+    return mulAddSub(acc, val, sig, mul, true);
+  }
+
+  /**
+   * Adds the product of the provided {@linkplain BigInt#val() value-encoded
+   * numbers} to the provided accumulator.
+   *
+   * <pre>
+   * acc = acc + val * mul
+   * </pre>
+   *
+   * If the product would be computed with the quadratic algorithm, the
+   * partial products are accumulated directly into the limbs of {@code acc},
+   * without a temporary for the product. Otherwise, the product is computed in
+   * an array of the current thread that is reused across calls, and is then
+   * added to {@code acc}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @return The result of the addition of the product of {@code val} and
+   *         {@code mul} to {@code acc}.
+   * @complexity O(n^2) - O(n log n)
+   */
+  public static int[] mulAdd(final int[] acc, final int[] val, final int[] mul) {
+    return mulAddSub(acc, val, mul, true);
+  }
+
+  /**
+   * Subtracts the product of the provided number and an {@code int} multiplier
+   * from the provided accumulator.
+   *
+   * <pre>
+   * acc = acc - val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The multiplier.
+   * @return The result of the subtraction of the product of {@code val} and
+   *         {@code mul} from {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulSub(final int[] acc, final int[] val, final int mul) {
+    return mul < 0 ? mulAddSub(acc, val, -1, -mul & LONG_MASK, false) : mulAddSub(acc, val, 1, mul, false);
+  }
+
+  /**
+   * Subtracts the product of the provided number and an <i>unsigned</i>
+   * {@code int} multiplier from the provided accumulator.
+   *
+   * <pre>
+   * acc = acc - val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param sig The sign of the unsigned {@code int} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return The result of the subtraction of the product of {@code val} and
+   *         {@code mul} from {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulSub(final int[] acc, final int[] val, final int sig, final int mul) {
+    return mulAddSub(acc, val, sig, mul & LONG_MASK, false);
+  }
+
+  /**
+   * Subtracts the product of the provided number and a {@code long} multiplier
+   * from the provided accumulator.
+   *
+   * <pre>
+   * acc = acc - val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The multiplier.
+   * @return The result of the subtraction of the product of {@code val} and
+   *         {@code mul} from {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulSub(final int[] acc, final int[] val, final long mul) {
+    return mul < 0 ? mulAddSub(acc, val, -1, -mul, false) : mulAddSub(acc, val, 1, mul, false);
+  }
+
+  /**
+   * Subtracts the product of the provided number and an <i>unsigned</i>
+   * {@code long} multiplier from the provided accumulator.
+   *
+   * <pre>
+   * acc = acc - val * mul
+   * </pre>
+   *
+   * The partial products are accumulated directly into the limbs of
+   * {@code acc}, without a temporary for the product.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param sig The sign of the unsigned {@code long} multiplier.
+   * @param mul The multiplier (unsigned).
+   * @return The result of the subtraction of the product of {@code val} and
+   *         {@code mul} from {@code acc}.
+   * @complexity O(n)
+   */
+  public static int[] mulSub(final int[] acc, final int[] val, final int sig, final long mul) {
+    return mulAddSub(acc, val, sig, mul, false);
+  }
+
+  /**
+   * Subtracts the product of the provided {@linkplain BigInt#val()
+   * value-encoded numbers} from the provided accumulator.
+   *
+   * <pre>
+   * acc = acc - val * mul
+   * </pre>
+   *
+   * If the product would be computed with the quadratic algorithm, the
+   * partial products are accumulated directly into the limbs of {@code acc},
+   * without a temporary for the product. Otherwise, the product is computed in
+   * an array of the current thread that is reused across calls, and is then
+   * subtracted from {@code acc}.
+   * <p>
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the accumulation requires a larger array.</i>
+   *
+   * @param acc The {@linkplain BigInt#val() value-encoded accumulator}.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @return The result of the subtraction of the product of {@code val} and
+   *         {@code mul} from {@code acc}.
+   * @complexity O(n^2) - O(n log n)
+   */
+  public static int[] mulSub(final int[] acc, final int[] val, final int[] mul) {
+    return mulAddSub(acc, val, mul, false);
+  }
+
+  private static int[] mulAddSub(int[] acc, final int[] val, int sig, final long mul, final boolean addOrSub) {
+    int vlen = val[0];
+    if (vlen == 0 || mul == 0)
+      return acc;
+
+    if (vlen < 0) { vlen = -vlen; sig = -sig; }
+    final long mull = mul & LONG_MASK, mulh = mul >>> 32;
+    final boolean psig = sig >= 0 == addOrSub;
+
+    int len = acc[0];
+    boolean asig = psig;
+    if (len < 0) { len = -len; asig = false; }
+    else if (len > 0) { asig = true; }
+
+    // The value is accumulated in two's complement over the limbs [1, top]
+    final int top = Math.max(len, vlen + (mulh == 0 ? 1 : 2)) + 1;
+    final int[] x = acc == val ? copy(val, vlen + OFF, localProduct.take(vlen + OFF), 0) : val;
+    if (top >= acc.length)
+      acc = realloc(acc, len + OFF, top + 1);
+    else
+      Arrays.fill(acc, len + OFF, top + 1, 0);
+
+    if (asig == psig) {
+      umulAdd(acc, OFF, top + 1, x, vlen, mull);
+      if (mulh != 0)
+        umulAdd(acc, OFF + 1, top + 1, x, vlen, mulh);
+    }
+    else {
+      umulSub(acc, OFF, top + 1, x, vlen, mull);
+      if (mulh != 0)
+        umulSub(acc, OFF + 1, top + 1, x, vlen, mulh);
+    }
+
+    if (x != val)
+      localProduct.release(x);
+
+    return mulAddSubEnd(acc, top, asig);
+  }
+
+  private static int[] mulAddSub(int[] acc, final int[] val, final int[] mul, final boolean addOrSub) {
+    int vlen = val[0], mlen = mul[0];
+    if (vlen == 0 || mlen == 0)
+      return acc;
+
+    boolean psig = addOrSub;
+    if (vlen < 0) { vlen = -vlen; psig = !psig; }
+    if (mlen < 0) { mlen = -mlen; psig = !psig; }
+
+    int len = acc[0];
+    boolean asig = psig;
+    if (len < 0) { len = -len; asig = false; }
+    else if (len > 0) { asig = true; }
+
+    final int min = Math.min(vlen, mlen);
+    if (min >= NATIVE_THRESHOLD || min >= BigIntVector.MUL_THRESHOLD || min >= KARATSUBA_THRESHOLD_X && vlen + mlen + 1 >= KARATSUBA_THRESHOLD_Z) {
+      int[] p = localProduct.take(2 * (vlen + mlen) + 2);
+      System.arraycopy(val, 0, p, 0, vlen + OFF);
+      p = mul(p, mul, false);
+      if (len == 0) {
+        len = Math.abs(p[0]) + OFF;
+        acc = copy(p, len, acc, len);
+        if (!addOrSub)
+          acc[0] = -acc[0];
+      }
+      else {
+        acc = addSub0(acc, len, asig, p, addOrSub, false);
+      }
+
+      localProduct.release(p);
+      return acc;
+    }
+
+    // The value is accumulated in two's complement over the limbs [1, top]
+    final int top = Math.max(len, vlen + mlen) + 1;
+
+    // Make the longer of the operands the multiplicand, to accumulate fewer and longer rows
+    int[] x = val, y = mul;
+    if (vlen < mlen) { x = mul; y = val; final int t = vlen; vlen = mlen; mlen = t; }
+
+    int[] copy = null;
+    if (acc == x || acc == y) {
+      copy = copy(acc, len + OFF, localProduct.take(len + OFF), 0);
+      if (acc == x)
+        x = copy;
+
+      if (acc == y)
+        y = copy;
+    }
+
+    if (top >= acc.length)
+      acc = realloc(acc, len + OFF, top + 1);
+    else
+      Arrays.fill(acc, len + OFF, top + 1, 0);
+
+    if (asig == psig) {
+      for (int j = 1; j <= mlen; ++j)
+        if (y[j] != 0)
+          umulAdd(acc, j, top + 1, x, vlen, y[j] & LONG_MASK);
+    }
+    else {
+      for (int j = 1; j <= mlen; ++j)
+        if (y[j] != 0)
+          umulSub(acc, j, top + 1, x, vlen, y[j] & LONG_MASK);
+    }
+
+    if (copy != null)
+      localProduct.release(copy);
+
+    return mulAddSubEnd(acc, top, asig);
+  }
+
+  /**
+   * Adds the product of the provided magnitude and an <i>unsigned</i>
+   * {@code int} multiplier to the limbs of {@code z} starting at {@code off},
+   * propagating the carry up to (but not including) {@code to}.
+   *
+   * @param z The accumulator (little-endian).
+   * @param off The offset of the limb in {@code z} at which to add.
+   * @param to The index in {@code z} beyond which the carry is discarded.
+   * @param x The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param xlen The number of limbs of the multiplicand.
+   * @param mul The multiplier (unsigned).
+   */
+  private static void umulAdd(final int[] z, int off, final int to, final int[] x, final int xlen, final long mul) {
+    long carry = 0;
+    for (int i = 1; i <= xlen; ++i, ++off) {
+      carry += (x[i] & LONG_MASK) * mul + (z[off] & LONG_MASK);
+      z[off] = (int)carry;
+      carry >>>= 32;
+    }
+
+    for (; carry != 0 && off < to; ++off) {
+      carry += z[off] & LONG_MASK;
+      z[off] = (int)carry;
+      carry >>>= 32;
+    }
+  }
+
+  /**
+   * Subtracts the product of the provided magnitude and an <i>unsigned</i>
+   * {@code int} multiplier from the limbs of {@code z} starting at {@code off},
+   * propagating the borrow up to (but not including) {@code to}.
+   *
+   * @param z The accumulator (little-endian).
+   * @param off The offset of the limb in {@code z} at which to subtract.
+   * @param to The index in {@code z} beyond which the borrow is discarded.
+   * @param x The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param xlen The number of limbs of the multiplicand.
+   * @param mul The multiplier (unsigned).
+   */
+  private static void umulSub(final int[] z, int off, final int to, final int[] x, final int xlen, final long mul) {
+    long carry = 0, dif = 0;
+    for (int i = 1; i <= xlen; ++i, ++off) {
+      carry += (x[i] & LONG_MASK) * mul;
+      dif += (z[off] & LONG_MASK) - (carry & LONG_MASK);
+      z[off] = (int)dif;
+      dif >>= 32;
+      carry >>>= 32;
+    }
+
+    for (dif -= carry; dif != 0 && off < to; ++off) {
+      dif += z[off] & LONG_MASK;
+      z[off] = (int)dif;
+      dif >>= 32;
+    }
+  }
+
+  private static int[] mulAddSubEnd(final int[] acc, int top, boolean sig) {
+    if (acc[top] < 0) {
+      long carry = 1;
+      for (int i = 1; i <= top; ++i) {
+        carry += ~acc[i] & LONG_MASK;
+        acc[i] = (int)carry;
+        carry >>>= 32;
+      }
+
+      sig = !sig;
+    }
+
+    while (top > 0 && acc[top] == 0)
+      --top;
+
+    acc[0] = sig ? top : -top;
+    // _debugLenSig(acc);
+    return acc;
+  }
+
+  /**
+   * Multiplies the magnitudes of the provided {@linkplain BigInt#val()
+   * value-encoded numbers} of unbalanced lengths, and returns the product with
+   * the specified sign. If the length of {@code x} is sufficient to hold the
+   * product, and {@code x} is the longer operand, the product is computed in
+   * place in {@code x}.
+   * <p>
+   * The longer operand is sliced into blocks with the length of the shorter
+   * operand, and each block is multiplied by the shorter operand with
+   * {@link #mul(int[],int[])}, which thus engages the algorithm for balanced
+   * operands as per its thresholds. The blocks are processed from the most
+   * significant to the least significant, and the partial products are
+   * accumulated in place in the product, whose region of each block of the
+   * longer operand is not needed after the block has been multiplied.
+   *
+   * @param x The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param xlen The number of limbs of the multiplicand.
+   * @param y The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @param ylen The number of limbs of the multiplier.
+   * @param zlen The length of the array needed for the product.
+   * @param sig The sign of the product.
+   * @param allocExact Whether the array of the product, if a new one is needed,
+   *          is to be allocated with exact length.
+   * @return The product, which may be {@code x}, or a {@code new int[]}
+   *         instance if {@code x} is not long enough to hold the product.
+   * @complexity O(n * m^0.585) - O(n log m)
+   */
+  static int[] mulUnbalanced(final int[] x, final int xlen, final int[] y, final int ylen, int zlen, final boolean sig, final boolean allocExact) {
+    final int[] l, s;
+    final int llen, slen;
+    if (xlen >= ylen) {
+      l = x;
+      llen = xlen;
+      s = y;
+      slen = ylen;
+    }
+    else {
+      l = y;
+      llen = ylen;
+      s = x;
+      slen = xlen;
+    }
+
+    final int[] z = l == x && x.length >= zlen ? x : allocExact ? new int[zlen] : alloc(zlen);
+    int[] t = alloc(slen * 4 + 4); // Long enough for the block products to be computed in place
+    for (int off = (llen - 1) / slen * slen, to = zlen, blen; off >= 0; to = OFF + off, off -= slen) {
+      for (blen = Math.min(slen, llen - off); blen > 0 && l[off + blen] == 0; --blen);
+      System.arraycopy(l, OFF + off, t, OFF, blen);
+      Arrays.fill(z, OFF + off, to, 0);
+      if (blen > 0) {
+        t[0] = blen;
+        t = mul(t, s);
+        if (t[0] < 0) // The sign of the product is applied at the end
+          t[0] = -t[0];
+
+        toomAddAt(z, OFF + off, t);
+      }
+    }
+
+    for (--zlen; z[zlen] == 0 && zlen > 0; --zlen);
+    z[0] = sig ? zlen : -zlen;
+    // _debugLenSig(z);
+    return z;
+  }
+
+  static int[] javaToomCook3(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen, final boolean sig, final boolean allocExact) {
+    return javaToomCook3(x, xlen, y, ylen, zlen, sig, allocExact, null);
+  }
+
+  /**
+   * Multiplies the magnitudes of the provided {@linkplain BigInt#val()
+   * value-encoded numbers} with the 3-way Toom-Cook algorithm, and returns the
+   * product with the specified sign. If the length of {@code x} is sufficient
+   * to hold the product, the product is computed in place in {@code x}.
+   * <p>
+   * The evaluation points are {@code 0}, {@code 1}, {@code -1}, {@code 2} and
+   * {@code inf}, and the interpolation sequence is that of Marco Bodrato, as
+   * described in "Towards Optimal Toom-Cook Multiplication for Univariate and
+   * Multivariate Polynomials in Characteristic 2 and 0". The evaluations of the
+   * operands, the 5 point-wise products and the interpolation are computed in
+   * the {@code scratch} array, which is sized with
+   * {@link #toomCookScratchLength(int,boolean)} for the whole recursion tree.
+   * The point-wise products engage Karatsuba (or Toom-Cook) multiplication as
+   * per their own thresholds.
+   *
+   * @param x The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param xlen The number of limbs of the multiplicand.
+   * @param y The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @param ylen The number of limbs of the multiplier.
+   * @param zlen The length of the array needed for the product.
+   * @param sig The sign of the product.
+   * @param allocExact Whether the array of the product, if a new one is needed,
+   *          is to be allocated with exact length.
+   * @param scratch The scratch array for the temporaries, or {@code null} to
+   *          use the scratch space of the current thread.
+   * @return The product, which may be {@code x}, or a {@code new int[]}
+   *         instance if {@code x} is not long enough to hold the product.
+   * @complexity O(n^1.465)
+   */
+  static int[] javaToomCook3(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen, final boolean sig, final boolean allocExact, final int[] scratch) {
+    final int len = Math.max(xlen, ylen);
+    final int slen = toomCookScratchLength(len, false) + len;
+    final int[] s = scratch != null && scratch.length >= slen ? scratch : localScratch.take(slen);
+
+    // The shorter operand is padded with zeros to the length of the longer one
+    final int[] a, b;
+    final int aoff, boff;
+    if (xlen < len) {
+      System.arraycopy(x, OFF, s, 0, xlen);
+      Arrays.fill(s, xlen, len, 0);
+      a = s;
+      aoff = 0;
+    }
+    else {
+      a = x;
+      aoff = OFF;
+    }
+
+    if (ylen < len) {
+      System.arraycopy(y, OFF, s, 0, ylen);
+      Arrays.fill(s, ylen, len, 0);
+      b = s;
+      boff = 0;
+    }
+    else {
+      b = y;
+      boff = OFF;
+    }
+
+    final int[] z = x.length >= zlen ? x : allocExact ? new int[zlen] : alloc(zlen);
+    int plen = xlen + ylen;
+    javaToomCook3(a, aoff, b, boff, z, OFF, len, plen, s, len);
+    if (s != scratch)
+      localScratch.release(s);
+
+    for (; z[plen] == 0 && plen > 0; --plen);
+    z[0] = sig ? plen : -plen;
+    // _debugLenSig(z);
+    return z;
+  }
+
+  static int[] javaSquareToomCook3(final int[] x, final int len) {
+    return javaSquareToomCook3(x, len, null);
+  }
+
+  /**
+   * Squares the magnitude of the provided {@linkplain BigInt#val()
+   * value-encoded number} with the 3-way Toom-Cook algorithm. If the length of
+   * {@code x} is sufficient to hold the square, the square is computed in place
+   * in {@code x}.
+   *
+   * @param x The {@linkplain BigInt#val() value-encoded number}.
+   * @param len The number of limbs of the number.
+   * @param scratch The scratch array for the temporaries, or {@code null} to
+   *          use the scratch space of the current thread.
+   * @return The square, which may be {@code x}, or a {@code new int[]}
+   *         instance if {@code x} is not long enough to hold the square.
+   * @complexity O(n^1.465)
+   * @see #javaToomCook3(int[],int,int[],int,int,boolean,boolean,int[])
+   */
+  static int[] javaSquareToomCook3(final int[] x, final int len, final int[] scratch) {
+    final int slen = toomCookScratchLength(len, true);
+    final int[] s = scratch != null && scratch.length >= slen ? scratch : localScratch.take(slen);
+
+    int zlen = len * 2;
+    final int[] z = x.length > zlen ? x : alloc(zlen + OFF);
+    javaToomCook3(x, OFF, x, OFF, z, OFF, len, zlen, s, 0);
+    if (s != scratch)
+      localScratch.release(s);
+
+    for (; z[zlen] == 0 && zlen > 0; --zlen);
+    z[0] = zlen;
+    // _debugLenSig(z);
+    return z;
+  }
+
+  /**
+   * Returns the length of the scratch space needed by
+   * {@link #javaToomCook3(int[],int,int[],int,int[],int,int,int,int[],int)}
+   * for the temporaries of the whole recursion tree of a multiplication (or
+   * squaring) of partial arrays of length {@code len}.
+   * <p>
+   * Each level of the recursion uses {@code 5 * (2 * w + 2)} ints for the 5
+   * point-wise products, and {@code 4 * w} (or {@code 2 * w} for squaring) ints
+   * for the evaluations of the operands, where {@code w} is the length of each
+   * evaluation, after which its point-wise products are computed one after the
+   * other with the scratch space that follows.
+   *
+   * @param len The length of each of the two partial arrays.
+   * @param square Whether the product is a square.
+   * @return The length of the scratch space needed by
+   *         {@link #javaToomCook3(int[],int,int[],int,int[],int,int,int,int[],int)}.
+   */
+  private static int toomCookScratchLength(final int len, final boolean square) {
+    final int k = (len + 2) / 3, h = len - k * 2, w = k + 1, p = w * 2 + 2;
+    int slen = Math.max(toomProductScratchLength(w, square), toomProductScratchLength(k, square));
+    if (h > 0)
+      slen = Math.max(slen, toomProductScratchLength(h, square));
+
+    return p * 5 + w * (square ? 2 : 4) + slen;
+  }
+
+  private static int toomProductScratchLength(final int len, final boolean square) {
+    if (len >= (square ? TOOM_COOK_SQUARE_THRESHOLD : TOOM_COOK_THRESHOLD))
+      return toomCookScratchLength(len, square);
+
+    if (square && len < KARATSUBA_SQUARE_THRESHOLD)
+      return 0;
+
+    return karatsubaScratchLength(len, len * 2, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+  }
+
+  /**
+   * Multiplies partial magnitude arrays x[xoff..xoff+len) and y[yoff..yoff+len)
+   * with the 3-way Toom-Cook algorithm, and puts the low {@code zlen} limbs of
+   * the product in {@code z}, which must be sufficient to hold the product. If
+   * {@code x} and {@code y} are the same array at the same offset, the product
+   * is computed as a square.
+   * <p>
+   * The operands are read before {@code z} is written, so {@code z} may
+   * overlap {@code x} or {@code y}.
+   *
+   * @param x The first magnitude array.
+   * @param xoff Offset for {@code x}.
+   * @param y The second magnitude array.
+   * @param yoff Offset for {@code y}.
+   * @param z The array into which the result is to be put.
+   * @param zoff Offset for {@code z}.
+   * @param len The length of each of the two partial arrays.
+   * @param zlen The number of limbs of the product to put in {@code z}.
+   * @param s The scratch array for the temporaries, with at least
+   *          {@link #toomCookScratchLength(int,boolean)} ints available from
+   *          {@code soff}.
+   * @param soff Offset for {@code s}.
+   */
+  private static void javaToomCook3(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int len, final int zlen, final int[] s, final int soff) {
+    final boolean square = x == y && xoff == yoff;
+    final int k = (len + 2) / 3, k2 = k * 2, h = len - k2, w = k + 1, p = w * 2 + 2;
+
+    // Offsets of the point-wise products, the evaluations of the operands at
+    // the current point, and the scratch space of the point-wise products
+    final int v0 = soff, v1 = v0 + p, vm1 = v1 + p, v2 = vm1 + p, vinf = v2 + p;
+    final int xe = vinf + p, xd = xe + w, ye = square ? xe : xd + w, yd = square ? xd : ye + w;
+    final int soff1 = (square ? xd : yd) + w;
+
+    // Evaluate at -1: |a0 - a1 + a2|, whereby the sign of a square is positive
+    toomSum(x, xoff, k, h, s, xe, w);
+    boolean neg = toomDiff(s, xe, x, xoff + k, k, s, xd, w);
+    if (square) {
+      neg = false;
+    }
+    else {
+      toomSum(y, yoff, k, h, s, ye, w);
+      neg ^= toomDiff(s, ye, y, yoff + k, k, s, yd, w);
+    }
+
+    toomProduct(s, xd, s, yd, s, vm1, w, s, soff1);
+
+    // Evaluate at 1: a0 + a1 + a2
+    toomAdd(s, xe, w, x, xoff + k, k);
+    if (!square)
+      toomAdd(s, ye, w, y, yoff + k, k);
+
+    toomProduct(s, xe, s, ye, s, v1, w, s, soff1);
+
+    // Evaluate at 2: a0 + 2 * a1 + 4 * a2 = 2 * (a0 + a1 + a2 + a2) - a0
+    toomAdd(s, xe, w, x, xoff + k2, h);
+    toomShiftLeft(s, xe, w);
+    toomSub(s, xe, w, x, xoff, k);
+    if (!square) {
+      toomAdd(s, ye, w, y, yoff + k2, h);
+      toomShiftLeft(s, ye, w);
+      toomSub(s, ye, w, y, yoff, k);
+    }
+
+    toomProduct(s, xe, s, ye, s, v2, w, s, soff1);
+
+    // Evaluate at 0 and inf
+    toomProduct(x, xoff, y, yoff, s, v0, k, s, soff1);
+    Arrays.fill(s, v0 + k2, v1, 0);
+    if (h > 0) {
+      toomProduct(x, xoff + k2, y, yoff + k2, s, vinf, h, s, soff1);
+      Arrays.fill(s, vinf + h * 2, vinf + p, 0);
+    }
+    else {
+      Arrays.fill(s, vinf, vinf + p, 0);
+    }
+
+    Arrays.fill(s, v1 + w * 2, v1 + p, 0);
+    Arrays.fill(s, vm1 + w * 2, vm1 + p, 0);
+    Arrays.fill(s, v2 + w * 2, v2 + p, 0);
+
+    // Interpolate, wherein each of the coefficients is non-negative:
+    // t2 = (v2 - vm1) / 3
+    if (neg)
+      toomAdd(s, v2, p, s, vm1, p);
+    else
+      toomSub(s, v2, p, s, vm1, p);
+
+    toomDivideExactBy3(s, v2, p);
+
+    // tm1 = (v1 - vm1) / 2
+    if (neg)
+      toomAdd(s, vm1, p, s, v1, p);
+    else
+      toomSubFrom(s, vm1, p, s, v1);
+
+    toomShiftRight(s, vm1, p);
+
+    // t1 = v1 - v0
+    toomSub(s, v1, p, s, v0, p);
+
+    // t2 = (t2 - t1) / 2
+    toomSub(s, v2, p, s, v1, p);
+    toomShiftRight(s, v2, p);
+
+    // t1 = t1 - tm1 - vinf
+    toomSub(s, v1, p, s, vm1, p);
+    toomSub(s, v1, p, s, vinf, p);
+
+    // t2 = t2 - 2 * vinf
+    toomSub(s, v2, p, s, vinf, p);
+    toomSub(s, v2, p, s, vinf, p);
+
+    // tm1 = tm1 - t2
+    toomSub(s, vm1, p, s, v2, p);
+
+    // The coefficients v0 and vinf do not overlap, so they can be copied before
+    // the others are added at their respective offsets. The high limbs of each
+    // coefficient that are beyond the end of the product are zero.
+    final int zend = zoff + zlen;
+    Arrays.fill(z, zoff, zend, 0);
+    System.arraycopy(s, v0, z, zoff, Math.min(k2, zlen));
+    if (h > 0 && k2 * 2 < zlen)
+      System.arraycopy(s, vinf, z, zoff + k2 * 2, Math.min(h * 2, zlen - k2 * 2));
+
+    toomAddAt(z, zoff + k, zend, s, vm1, p);
+    toomAddAt(z, zoff + k2, zend, s, v1, p);
+    toomAddAt(z, zoff + k2 + k, zend, s, v2, p);
+  }
+
+  /**
+   * Multiplies partial magnitude arrays x[xoff..xoff+len) and y[yoff..yoff+len),
+   * and puts the {@code 2 * len} limbs of the product in z[zoff..zoff+2*len),
+   * with the algorithm chosen as per the thresholds of {@code len}. If
+   * {@code x} and {@code y} are the same array at the same offset, the product
+   * is computed as a square.
+   *
+   * @param x The first magnitude array.
+   * @param xoff Offset for {@code x}.
+   * @param y The second magnitude array.
+   * @param yoff Offset for {@code y}.
+   * @param z The array into which the result is to be put, which must not
+   *          overlap {@code x} or {@code y}.
+   * @param zoff Offset for {@code z}.
+   * @param len The length of each of the two partial arrays.
+   * @param s The scratch array for the temporaries.
+   * @param soff Offset for {@code s}.
+   */
+  private static void toomProduct(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int len, final int[] s, final int soff) {
+    final int zlen = len * 2;
+    if (x == y && xoff == yoff) {
+      if (len >= TOOM_COOK_SQUARE_THRESHOLD) {
+        javaToomCook3(x, xoff, y, yoff, z, zoff, len, zlen, s, soff);
+        return;
+      }
+
+      if (len < KARATSUBA_SQUARE_THRESHOLD) {
+        if (len < NATIVE_THRESHOLD)
+          javaSquareQuad(x, xoff, len, z, zoff, zlen);
+        else if (FOREIGN)
+          BigIntForeign.squareQuad(x, xoff, len, z, zoff, zlen);
+        else
+          nativeSquareQuad(x, xoff, len, z, zoff, zlen);
+
+        return;
+      }
+    }
+    else if (len >= TOOM_COOK_THRESHOLD) {
+      javaToomCook3(x, xoff, y, yoff, z, zoff, len, zlen, s, soff);
+      return;
+    }
+
+    // The native kernel uses the limbs of z beyond zlength as its temporary
+    // space, which here are the evaluations and the other point-wise products
+    if (len < NATIVE_THRESHOLD)
+      javaKaratsuba(x, xoff, y, yoff, z, zoff, zlen, 0, len, s, soff, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+    else if (FOREIGN)
+      BigIntForeign.karatsuba(x, xoff, y, yoff, z, zoff, zlen, zoff + zlen, 0, len, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+    else
+      nativeKaratsuba(x, xoff, y, yoff, z, zoff, zlen, zoff + zlen, 0, len, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+  }
+
+  /**
+   * Puts the sum of the partial magnitude arrays x[off..off+k) and
+   * x[off+2k..off+2k+h) in z[zoff..zoff+zlen).
+   */
+  private static void toomSum(final int[] x, final int off, final int k, final int h, final int[] z, final int zoff, final int zlen) {
+    System.arraycopy(x, off, z, zoff, k);
+    Arrays.fill(z, zoff + k, zoff + zlen, 0);
+    toomAdd(z, zoff, zlen, x, off + k * 2, h);
+  }
+
+  /**
+   * Puts the absolute difference of the partial magnitude arrays
+   * x[xoff..xoff+len) and y[yoff..yoff+ylen) in z[zoff..zoff+len), and returns
+   * whether the difference is negative.
+   */
+  private static boolean toomDiff(final int[] x, final int xoff, final int[] y, final int yoff, final int ylen, final int[] z, final int zoff, final int len) {
+    for (int i = len - 1, a, b; i >= 0; --i) {
+      a = x[xoff + i];
+      b = i < ylen ? y[yoff + i] : 0;
+      if (a != b) {
+        if (Integer.compareUnsigned(a, b) > 0) {
+          System.arraycopy(x, xoff, z, zoff, len);
+          toomSub(z, zoff, len, y, yoff, ylen);
+          return false;
+        }
+
+        System.arraycopy(y, yoff, z, zoff, ylen);
+        Arrays.fill(z, zoff + ylen, zoff + len, 0);
+        toomSub(z, zoff, len, x, xoff, len);
+        return true;
+      }
+    }
+
+    Arrays.fill(z, zoff, zoff + len, 0);
+    return false;
+  }
+
+  /**
+   * Adds the partial magnitude array y[yoff..yoff+ylen) to z[zoff..zoff+zlen),
+   * where {@code ylen <= zlen}, and the sum fits in {@code zlen} limbs.
+   */
+  private static void toomAdd(final int[] z, int zoff, final int zlen, final int[] y, int yoff, final int ylen) {
+    long carry = 0;
+    final int yend = yoff + ylen, zend = zoff + zlen;
+    for (; yoff < yend; ++yoff, ++zoff) {
+      z[zoff] = (int)(carry += (z[zoff] & LONG_MASK) + (y[yoff] & LONG_MASK));
+      carry >>>= 32;
+    }
+
+    for (; carry != 0 && zoff < zend; ++zoff)
+      carry = ++z[zoff] == 0 ? 1 : 0;
+  }
+
+  /**
+   * Subtracts the partial magnitude array y[yoff..yoff+ylen) from
+   * z[zoff..zoff+zlen), where {@code ylen <= zlen}, and the difference is not
+   * negative.
+   */
+  private static void toomSub(final int[] z, int zoff, final int zlen, final int[] y, int yoff, final int ylen) {
+    long borrow = 0;
+    final int yend = yoff + ylen, zend = zoff + zlen;
+    for (; yoff < yend; ++yoff, ++zoff) {
+      z[zoff] = (int)(borrow += (z[zoff] & LONG_MASK) - (y[yoff] & LONG_MASK));
+      borrow >>= 32;
+    }
+
+    for (; borrow != 0 && zoff < zend; ++zoff)
+      borrow = z[zoff]-- == 0 ? -1 : 0;
+  }
+
+  /**
+   * Puts the difference of the partial magnitude arrays y[yoff..yoff+len) and
+   * z[zoff..zoff+len) in z[zoff..zoff+len), where the difference is not
+   * negative.
+   */
+  private static void toomSubFrom(final int[] z, final int zoff, final int len, final int[] y, final int yoff) {
+    long borrow = 0;
+    for (int i = 0; i < len; ++i) {
+      z[zoff + i] = (int)(borrow += (y[yoff + i] & LONG_MASK) - (z[zoff + i] & LONG_MASK));
+      borrow >>= 32;
+    }
+  }
+
+  private static void toomShiftLeft(final int[] z, final int zoff, final int len) {
+    for (int i = zoff + len - 1; i > zoff; --i)
+      z[i] = (z[i] << 1) | (z[i - 1] >>> 31);
+
+    z[zoff] <<= 1;
+  }
+
+  private static void toomShiftRight(final int[] z, final int zoff, final int len) {
+    final int end = zoff + len - 1;
+    for (int i = zoff; i < end; ++i)
+      z[i] = (z[i] >>> 1) | (z[i + 1] << 31);
+
+    z[end] >>>= 1;
+  }
+
+  /**
+   * Divides the partial magnitude array z[zoff..zoff+len) by {@code 3} in
+   * place, assuming the division is exact.
+   */
+  private static void toomDivideExactBy3(final int[] z, final int zoff, final int len) {
+    long rem = 0;
+    for (int i = zoff + len - 1; i >= zoff; --i) {
+      final long div = (rem << 32) | (z[i] & LONG_MASK);
+      final long q = div / 3;
+      z[i] = (int)q;
+      rem = div - q * 3;
+    }
+  }
+
+  /**
+   * Adds the partial magnitude array s[soff..soff+len) to the magnitude in
+   * {@code z} starting at index {@code off}, wherein the limbs at and beyond
+   * {@code end} are not written, as the sum is known to fit before them.
+   *
+   * @param z The magnitude array to which to add.
+   * @param off The index in {@code z} at which to add.
+   * @param end The index in {@code z} of the end of the sum.
+   * @param s The partial magnitude array to add.
+   * @param soff Offset for {@code s}.
+   * @param len The length of the partial magnitude array to add.
+   */
+  private static void toomAddAt(final int[] z, final int off, final int end, final int[] s, final int soff, final int len) {
+    if (off < end)
+      toomAdd(z, off, end - off, s, soff, Math.min(len, end - off));
+  }
+
+  /**
+   * Adds the magnitude of the provided {@linkplain BigInt#val() value-encoded
+   * number} to the magnitude in {@code z} starting at index {@code off}.
+   *
+   * @param z The magnitude array to which to add.
+   * @param off The index in {@code z} at which to add.
+   * @param val The {@linkplain BigInt#val() value-encoded number} to add.
+   */
+  private static void toomAddAt(final int[] z, int off, final int[] val) {
+    long carry = 0;
+    for (int i = 1, len = val[0]; i <= len; ++i, ++off) {
+      z[off] = (int)(carry += (z[off] & LONG_MASK) + (val[i] & LONG_MASK));
+      carry >>>= 32;
+    }
+
+    for (; carry != 0; ++off) {
+      z[off] = (int)(carry += z[off] & LONG_MASK);
+      carry >>>= 32;
+    }
+  }
+
+  /**
+   * The moduli of the number-theoretic transforms. Each modulus is a prime of
+   * the form <code>c * 2<sup>k</sup> + 1</code> with {@code k >= 24}, and the
+   * product of the 3 moduli (<code>~2<sup>89</sup></code>) is greater than the
+   * largest coefficient of the convolution of two magnitudes that fit in a
+   * transform of {@link #NTT_MAX_LENGTH}.
+   */
+  private static final int[] NTT_P = {2013265921, 469762049, 754974721};
+
+  /**
+   * The primitive roots of the moduli in {@link #NTT_P}.
+   */
+  private static final int[] NTT_G = {31, 3, 11};
+
+  /**
+   * The maximum length of the transform, which is the greatest power of 2 that
+   * divides {@code p - 1} for all moduli in {@link #NTT_P}.
+   */
+  static final int NTT_MAX_LENGTH = 1 << 24;
+
+  // p^-1 mod 2^32, and 2^64 mod p, for Montgomery multiplication
+  private static final int[] NTT_PINV = new int[NTT_P.length];
+  private static final long[] NTT_R2 = new long[NTT_P.length];
+
+  // Constants for Garner's algorithm to reconstruct the coefficients
+  private static final long NTT_P01 = (long)NTT_P[0] * NTT_P[1];
+  private static final long NTT_P01L = NTT_P01 & LONG_MASK;
+  private static final long NTT_P01H = NTT_P01 >>> 32;
+  private static final long NTT_P0_INV_P1 = nttPow(NTT_P[0], NTT_P[1] - 2, NTT_P[1]);
+  private static final long NTT_P01_INV_P2 = nttPow(NTT_P01 % NTT_P[2], NTT_P[2] - 2, NTT_P[2]);
+
+  static {
+    for (int i = 0; i < NTT_P.length; ++i) {
+      final int p = NTT_P[i];
+      int inv = p;
+      for (int j = 0; j < 5; ++j) // Newton's iteration doubles the bits each step
+        inv *= 2 - p * inv;
+
+      NTT_PINV[i] = inv;
+      final long r = (1L << 32) % p;
+      NTT_R2[i] = r * r % p;
+    }
+  }
+
+  /**
+   * Multiplies the magnitudes of the provided {@linkplain BigInt#val()
+   * value-encoded numbers} with number-theoretic transforms (NTT), and returns
+   * the product with the specified sign. If the length of {@code x} is
+   * sufficient to hold the product, the product is computed in place in
+   * {@code x}.
+   * <p>
+   * The limbs of the magnitudes are the coefficients of polynomials, whose
+   * product is computed with an NTT modulo each of the 3 primes in
+   * {@link #NTT_P}. The coefficients of the product are then reconstructed with
+   * Garner's algorithm, and the carries are propagated as the limbs of the
+   * result are written.
+   *
+   * @param x The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param xlen The number of limbs of the multiplicand.
+   * @param y The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @param ylen The number of limbs of the multiplier.
+   * @param zlen The length of the array needed for the product.
+   * @param sig The sign of the product.
+   * @param allocExact Whether the array of the product, if a new one is needed,
+   *          is to be allocated with exact length.
+   * @return The product, which may be {@code x}, or a {@code new int[]}
+   *         instance if {@code x} is not long enough to hold the product.
+   * @complexity O(n log n)
+   */
+  static int[] javaNtt(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen, final boolean sig, final boolean allocExact) {
+    final int clen = xlen + ylen - 1;
+    final int n = nttLength(clen);
+    final int[] r0 = new int[n];
+    final int[] r1 = new int[n];
+    final int[] r2 = new int[n];
+    final int[] t = new int[n];
+    final int[] rt = new int[n];
+    nttConvolve(x, xlen, y, ylen, r0, t, rt, n, 0);
+    nttConvolve(x, xlen, y, ylen, r1, t, rt, n, 1);
+    nttConvolve(x, xlen, y, ylen, r2, t, rt, n, 2);
+
+    final int[] z = x.length >= zlen ? x : allocExact ? new int[zlen] : alloc(zlen);
+    return nttCarry(r0, r1, r2, clen, z, zlen, sig);
+  }
+
+  /**
+   * Squares the magnitude of the provided {@linkplain BigInt#val()
+   * value-encoded number} with number-theoretic transforms (NTT). If the
+   * length of {@code x} is sufficient to hold the square, the square is
+   * computed in place in {@code x}.
+   *
+   * @param x The {@linkplain BigInt#val() value-encoded number}.
+   * @param len The number of limbs of the number.
+   * @return The square, which may be {@code x}, or a {@code new int[]}
+   *         instance if {@code x} is not long enough to hold the square.
+   * @complexity O(n log n)
+   * @see #javaNtt(int[],int,int[],int,int,boolean,boolean)
+   */
+  static int[] javaSquareNtt(final int[] x, final int len) {
+    final int clen = len * 2 - 1;
+    final int n = nttLength(clen);
+    final int[] r0 = new int[n];
+    final int[] r1 = new int[n];
+    final int[] r2 = new int[n];
+    final int[] rt = new int[n];
+    nttConvolve(x, len, null, 0, r0, null, rt, n, 0);
+    nttConvolve(x, len, null, 0, r1, null, rt, n, 1);
+    nttConvolve(x, len, null, 0, r2, null, rt, n, 2);
+
+    final int zlen = len * 2 + 1;
+    final int[] z = x.length >= zlen ? x : alloc(zlen);
+    return nttCarry(r0, r1, r2, clen, z, zlen, true);
+  }
+
+  /**
+   * Returns the length of the transform for a convolution with {@code clen}
+   * coefficients.
+   *
+   * @param clen The number of coefficients of the convolution.
+   * @return The length of the transform for a convolution with {@code clen}
+   *         coefficients.
+   */
+  private static int nttLength(final int clen) {
+    return clen <= 1 ? 1 : Integer.highestOneBit(clen - 1) << 1;
+  }
+
+  /**
+   * Computes the convolution of the magnitudes of {@code x} and {@code y}
+   * modulo the prime at index {@code i} of {@link #NTT_P}, and puts the result
+   * in {@code r}. If {@code y} is null, the square of {@code x} is computed.
+   *
+   * @param x The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param xlen The number of limbs of the multiplicand.
+   * @param y The {@linkplain BigInt#val() value-encoded multiplier}, or
+   *          {@code null} to compute the square of {@code x}.
+   * @param ylen The number of limbs of the multiplier.
+   * @param r The array of length {@code n} into which the result is to be put.
+   * @param t The scratch array of length {@code n} for the transform of
+   *          {@code y}.
+   * @param rt The scratch array of length {@code n} for the roots of unity.
+   * @param n The length of the transform.
+   * @param i The index of the modulus in {@link #NTT_P}.
+   */
+  private static void nttConvolve(final int[] x, final int xlen, final int[] y, final int ylen, final int[] r, final int[] t, final int[] rt, final int n, final int i) {
+    final int p = NTT_P[i], pinv = NTT_PINV[i];
+
+    // Roots of unity in Montgomery form: w^j in [0, n/2), and w^-j in [n/2, n)
+    final int h = n >> 1;
+    if (h > 0) {
+      final int w = nttMul((int)nttPow(NTT_G[i], (p - 1) / n, p), (int)NTT_R2[i], p, pinv);
+      rt[0] = rt[h] = (int)((1L << 32) % p);
+      for (int j = 1; j < h; ++j)
+        rt[j] = nttMul(rt[j - 1], w, p, pinv);
+
+      for (int j = 1; j < h; ++j)
+        rt[h + j] = p - rt[h - j];
+    }
+
+    nttLoad(x, xlen, r, n, p);
+    nttForward(r, n, rt, p, pinv);
+
+    // Fold the scaling by n^-1 into the point-wise products
+    final int scale = (int)(NTT_R2[i] * nttPow(n, p - 2, p) % p);
+    if (y == null) {
+      for (int j = 0; j < n; ++j)
+        r[j] = nttMul(nttMul(r[j], r[j], p, pinv), scale, p, pinv);
+    }
+    else {
+      nttLoad(y, ylen, t, n, p);
+      nttForward(t, n, rt, p, pinv);
+      for (int j = 0; j < n; ++j)
+        r[j] = nttMul(nttMul(r[j], t[j], p, pinv), scale, p, pinv);
+    }
+
+    nttInverse(r, n, rt, p, pinv);
+  }
+
+  private static void nttLoad(final int[] val, final int len, final int[] a, final int n, final int p) {
+    for (int j = 0; j < len; ++j)
+      a[j] = (int)((val[j + OFF] & LONG_MASK) % p);
+
+    Arrays.fill(a, len, n, 0);
+  }
+
+  /**
+   * Computes the forward transform of {@code a} in place with the
+   * decimation-in-frequency algorithm. The input is in natural order, and the
+   * output is in bit-reversed order.
+   *
+   * @param a The array to transform.
+   * @param n The length of the transform.
+   * @param rt The roots of unity in Montgomery form.
+   * @param p The modulus.
+   * @param pinv The inverse of the modulus {@code mod 2^32}.
+   */
+  private static void nttForward(final int[] a, final int n, final int[] rt, final int p, final int pinv) {
+    for (int len = n, step = 1; len >= 2; len >>= 1, step <<= 1) {
+      final int half = len >> 1;
+      for (int i = 0; i < n; i += len) {
+        for (int j = 0, k = i, l = i + half; j < half; ++j, ++k, ++l) {
+          final int u = a[k], v = a[l];
+          int s = u - (p - v);
+          if (s < 0)
+            s += p;
+
+          int d = u - v;
+          if (d < 0)
+            d += p;
+
+          a[k] = s;
+          a[l] = nttMul(d, rt[j * step], p, pinv);
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes the (unscaled) inverse transform of {@code a} in place with the
+   * decimation-in-time algorithm. The input is in bit-reversed order, and the
+   * output is in natural order.
+   *
+   * @param a The array to transform.
+   * @param n The length of the transform.
+   * @param rt The roots of unity in Montgomery form.
+   * @param p The modulus.
+   * @param pinv The inverse of the modulus {@code mod 2^32}.
+   */
+  private static void nttInverse(final int[] a, final int n, final int[] rt, final int p, final int pinv) {
+    final int h = n >> 1;
+    for (int len = 2, step = h; len <= n; len <<= 1, step >>= 1) {
+      final int half = len >> 1;
+      for (int i = 0; i < n; i += len) {
+        for (int j = 0, k = i, l = i + half; j < half; ++j, ++k, ++l) {
+          final int u = a[k], v = nttMul(a[l], rt[h + j * step], p, pinv);
+          int s = u - (p - v);
+          if (s < 0)
+            s += p;
+
+          int d = u - v;
+          if (d < 0)
+            d += p;
+
+          a[k] = s;
+          a[l] = d;
+        }
+      }
+    }
+  }
+
+  /**
+   * Reconstructs the coefficients of the convolution from their residues
+   * modulo the primes in {@link #NTT_P} with Garner's algorithm, and assembles
+   * the result in {@code z} by propagating the carries.
+   *
+   * @param r0 The residues modulo {@code NTT_P[0]}.
+   * @param r1 The residues modulo {@code NTT_P[1]}.
+   * @param r2 The residues modulo {@code NTT_P[2]}.
+   * @param clen The number of coefficients of the convolution.
+   * @param z The array into which the result is to be put.
+   * @param zlen The length of the array needed for the result.
+   * @param sig The sign of the result.
+   * @return The provided array {@code z} containing the result.
+   */
+  private static int[] nttCarry(final int[] r0, final int[] r1, final int[] r2, final int clen, final int[] z, int zlen, final boolean sig) {
+    final long p0 = NTT_P[0], p1 = NTT_P[1], p2 = NTT_P[2];
+    long c0 = 0, c1 = 0;
+    int i = 0;
+    for (long a0, a1, a2, v, l, h; i < clen; ++i) {
+      a0 = r0[i];
+      a1 = (r1[i] - a0 % p1 + p1) % p1 * NTT_P0_INV_P1 % p1;
+      v = a0 + a1 * p0;
+      a2 = (r2[i] - v % p2 + p2) % p2 * NTT_P01_INV_P2 % p2;
+
+      // coefficient = v + a2 * NTT_P01 < 2^89, accumulated in 32-bit columns
+      l = a2 * NTT_P01L;
+      h = a2 * NTT_P01H;
+      c0 += (v & LONG_MASK) + (l & LONG_MASK);
+      c1 += (v >>> 32) + (l >>> 32) + (h & LONG_MASK) + (c0 >>> 32);
+      z[i + OFF] = (int)c0;
+      c0 = c1;
+      c1 = h >>> 32;
+    }
+
+    for (++i; i < zlen; ++i) {
+      z[i] = (int)c0;
+      c0 = (c0 >>> 32) + c1;
+      c1 = 0;
+    }
+
+    for (--zlen; z[zlen] == 0 && zlen > 0; --zlen);
+    z[0] = sig ? zlen : -zlen;
+    // _debugLenSig(z);
+    return z;
+  }
+
+  /**
+   * Returns the Montgomery product <code>a * b * 2<sup>-32</sup> mod p</code>.
+   *
+   * @param a The multiplicand (less than {@code p}).
+   * @param b The multiplier (less than {@code p}).
+   * @param p The modulus (less than <code>2<sup>31</sup></code>).
+   * @param pinv The inverse of the modulus {@code mod 2^32}.
+   * @return The Montgomery product <code>a * b * 2<sup>-32</sup> mod p</code>.
+   */
+  private static int nttMul(final int a, final int b, final int p, final int pinv) {
+    final long t = (long)a * b;
+    final int u = (int)((t >>> 32) - (((int)t * pinv & LONG_MASK) * p >>> 32));
+    return u < 0 ? u + p : u;
+  }
+
+  private static long nttPow(long b, long e, final long p) {
+    long r = 1;
+    for (b %= p; e > 0; e >>= 1, b = b * b % p)
+      if ((e & 1) != 0)
+        r = r * b % p;
+
+    return r;
+  }
+
+  static int[] karatsuba(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen, final boolean sig) {
+    return karatsuba(x, xlen, y, ylen, zlen, sig, null);
+  }
+
+  private static int[] karatsuba(int[] x, int xlen, int[] y, int ylen, int zlen, final boolean sig, final int[] scratch) {
+    final int len = Math.max(xlen, ylen);
+    ++xlen;
+    ++ylen;
+
+    boolean yNew = false, xNew = false;
+    if (yNew = y.length < xlen)
+      y = reallocExact(y, ylen, xlen);
+    else if (xNew = x.length < ylen)
+      x = reallocExact(x, xlen, ylen);
+
+    if (!yNew && ylen < xlen)
+      for (--ylen; ++ylen < xlen; y[ylen] = 0);
+    else if (!xNew && xlen < ylen)
+      for (--xlen; ++xlen < ylen; x[xlen] = 0);
+
+    final int[] z;
+    final int inlineLen = zlen * 2 + 1;
+//    final boolean PARALLEL = len > PARALLEL_KARATSUBA_THRESHOLD_X && zlen > PARALLEL_KARATSUBA_THRESHOLD_Z;
+    if (!xNew && x.length > inlineLen) {
+//      if (record) { final int X[] = PARALLEL ? X_KPI : X_KI; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
+
+      z = x;
+      z[zlen] = 0;
+      karatsuba(x, y, z, inlineLen, len, scratch);
+    }
+    else {
+//      if (record) { final int X[] = PARALLEL ? X_KP : X_K; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
+
+      z = alloc(OFF + zlen * 2); // (OFF + zlen) is all that's needed, but increase to potentially reuse the original array
+      // z = alloc((OFF + zlen) * ((int)(1 + 10 * Math.random()))); // FIXME: Remove this!
+      if (xlen < ylen) {
+        karatsuba(x, y, z, zlen, len, scratch);
+      }
+      else {
+        karatsuba(y, x, z, zlen, len, scratch);
+      }
+    }
+
+    for (; z[zlen] == 0 && zlen > 0; --zlen);
+    z[0] = sig ? zlen : -zlen;
+    // _debugLenSig(res);
+    return z;
+  }
+
+  static int[] mulQuad(final int[] x, final int xlen, final int[] y, final int ylen, int zlen, final boolean sig, final boolean allocExact) {
+    final int[] z;
+    if (x.length >= zlen + xlen) {
+//      if (record) { final int X[] = xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD ? X_QI : X_QIN; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
+
+      z = x;
+      if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
+        javaMulQuadInPlace(y, ylen, z, xlen, zlen - 2);
+      else if (FOREIGN)
+        BigIntForeign.mulQuadInPlace(y, ylen, z, xlen, zlen - 2);
+      else
+        nativeMulQuadInPlace(y, ylen, z, xlen, zlen - 2);
+    }
+    else {
+//      if (record) { final int X[] = xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD ? X_Q : X_QN; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
+
+      z = allocExact ? new int[zlen] : alloc(zlen);
+      if (xlen < ylen) {
+        if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
+          javaMulQuad(x, xlen, y, ylen, z);
+        else if (FOREIGN)
+          BigIntForeign.mulQuad(x, xlen, y, ylen, z);
+        else
+          nativeMulQuad(x, xlen, y, ylen, z);
+      }
+      else {
+        if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
+          javaMulQuad(y, ylen, x, xlen, z);
+        else if (FOREIGN)
+          BigIntForeign.mulQuad(y, ylen, x, xlen, z);
+        else
+          nativeMulQuad(y, ylen, x, xlen, z);
+      }
+    }
+
+    if (z[--zlen] == 0)
+      --zlen;
+
+    z[0] = sig ? zlen : -zlen;
+    // _debugLenSig(z);
+    return z;
+  }
+
+  static native void nativeMulQuad(int[] x, int xlen, int[] y, int ylen, int[] z);
+
+  static void javaMulQuad(final int[] x, final int xlen, final int[] y, final int ylen, final int[] z) {
+    if (xlen >= BigIntVector.MUL_THRESHOLD && ylen >= BigIntVector.MUL_THRESHOLD) {
+      BigIntVector.mulQuad(x, OFF, xlen, y, OFF, ylen, z, OFF);
+      return;
+    }
+
+    int i, j, k;
+
+    long carry = 0, x0 = x[1] & LONG_MASK;
+    for (j = 1; j <= ylen; ++j) {
+      z[j] = (int)(carry += x0 * (y[j] & LONG_MASK));
+      carry >>>= 32;
+    }
+
+    z[j] = (int)carry;
+    for (i = 2; i <= xlen; ++i) {
+      x0 = x[i] & LONG_MASK;
+      for (carry = 0, j = 1, k = i; j <= ylen; ++j, ++k) {
+        z[k] = (int)(carry += x0 * (y[j] & LONG_MASK) + (z[k] & LONG_MASK));
+        carry >>>= 32;
+      }
+
+      z[k] = (int)carry;
+    }
+  }
+
+  private static native void nativeMulQuadInPlace(int[] x, int xlen, int[] y, int ylen, int zlen);
+
+  private static void javaMulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, int zlen) {
+    if (xlen >= BigIntVector.MUL_THRESHOLD && ylen >= BigIntVector.MUL_THRESHOLD) {
+      BigIntVector.mulQuad(x, OFF, xlen, y, OFF, ylen, y, OFF);
+      return;
+    }
+
+    int i, j, k, l;
+
+    long carry = 0, x0 = x[1] & LONG_MASK;
+    zlen += OFF;
+
+    for (j = OFF, l = zlen; j <= ylen; ++j, ++l) {
+      y[j] = (int)(carry += x0 * ((y[l] = y[j]) & LONG_MASK));
+      carry >>>= 32;
+    }
+
+    y[j] = (int)carry;
+    for (i = 2; i <= xlen; ++i) {
+      x0 = x[i] & LONG_MASK;
+      for (carry = 0, j = OFF, k = i, l = zlen; j <= ylen; ++j, ++k, ++l) {
+        y[k] = (int)(carry += x0 * (y[l] & LONG_MASK) + (y[k] & LONG_MASK));
+        carry >>>= 32;
+      }
+
+      y[k] = (int)carry;
+    }
+  }
+
+  private static void karatsuba(final int[] x, final int[] y, final int[] z, final int zlen, final int len, final int[] scratch) {
+    karatsuba(x, y, z, zlen, len, scratch, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+  }
+
+  static void karatsuba(final int[] x, final int[] y, final int[] z, final int zlen, final int len, final int[] scratch, final int parallelThreshold, final int parallelThresholdZ) {
+    if (len < NATIVE_THRESHOLD) {
+      final int slen = karatsubaScratchLength(len, zlen, parallelThreshold, parallelThresholdZ);
+      final int[] s = scratch != null && scratch.length >= slen ? scratch : localScratch.take(slen);
+      javaKaratsuba(x, OFF, y, OFF, z, OFF, zlen, 0, len, s, 0, parallelThreshold, parallelThresholdZ);
+      if (s != scratch)
+        localScratch.release(s);
+    }
+    else if (FOREIGN) {
+      BigIntForeign.karatsuba(x, OFF, y, OFF, z, OFF, zlen, z.length, 0, len, parallelThreshold, parallelThresholdZ);
+    }
+    else {
+      nativeKaratsuba(x, OFF, y, OFF, z, OFF, zlen, z.length, 0, len, parallelThreshold, parallelThresholdZ);
+    }
+  }
+
+  /**
+   * Returns the length of the scratch space needed by
+   * {@link #javaKaratsuba(int[],int,int[],int,int[],int,int,int,int,int[],int,int,int)}
+   * for the temporaries of the whole recursion tree of a multiplication of
+   * partial arrays of length {@code len}.
+   * <p>
+   * Each level of the recursion uses {@code 4 * len + 4} ints for the 3
+   * sub-products and the sums of the halves of the operands, after which its
+   * sub-products are computed with the scratch space that follows. The
+   * sequential sub-products are computed one after the other, and thus share
+   * the same scratch space, but parallel sub-products are each given their
+   * own.
+   *
+   * @param len The length of each of the two partial arrays.
+   * @param zlen Length of the product.
+   * @param parallelThreshold Threshold of {@code len} for parallel execution.
+   * @param parallelThresholdZ Threshold of {@code zlen} for parallel
+   *          execution.
+   * @return The length of the scratch space needed by
+   *         {@link #javaKaratsuba(int[],int,int[],int,int[],int,int,int,int,int[],int,int,int)}.
+   */
+  private static int karatsubaScratchLength(final int len, final int zlen, final int parallelThreshold, final int parallelThresholdZ) {
+    if (len <= 32)
+      return 0;
+
+    final int b = len >> 1, l_b = len - b, l_b2 = l_b * 2;
+    final int tmplen = l_b2 * 2 + 4;
+    final int slen = len * 2 + tmplen;
+    if (len > parallelThreshold && zlen > parallelThresholdZ)
+      return slen + karatsubaScratchLength(l_b + 1, tmplen, parallelThreshold * 2, parallelThresholdZ * 2) + karatsubaScratchLength(b, tmplen, parallelThreshold * 2, parallelThresholdZ * 2) + karatsubaScratchLength(l_b, tmplen, parallelThreshold * 2, parallelThresholdZ * 2);
+
+    return slen + karatsubaScratchLength(l_b + 1, tmplen, Integer.MAX_VALUE, Integer.MAX_VALUE);
+  }
+
+  private static native void nativeKaratsuba(int[] x, int xoff, int[] y, int yoff, int[] z, int zoff, int zlen, int zlength, int off, int len, int parallelThreshold, int parallelThresholdZ);
+
+  /**
+   * Multiplies partial magnitude arrays x[off..off+n) and y[off...off+n) and
+   * puts the result in {@code z}. Algorithm: Karatsuba
+   *
+   * @param x The first magnitude array.
+   * @param xoff Offset for {@code x}.
+   * @param y The second magnitude array.
+   * @param yoff Offset for {@code y}.
+   * @param z The array into which the result is to be put.
    * @param zoff Offset for {@code z}.
    * @param zlen Length of {@code z}.
    * @param off Offset for {@code x}, {@code y} and {@code z}.
    * @param len The length of each of the two partial arrays.
+   * @param s The scratch array for the temporaries, with at least
+   *          {@link #karatsubaScratchLength(int,int,int,int)} ints available
+   *          from {@code soff}.
+   * @param soff Offset for {@code s}.
    * @param parallelThreshold Threshold of {@code len} for parallel execution.
    * @param parallelThresholdZ Threshold of {@code zlen} for parallel execution.
    * @complexity O(n^1.585)
    */
-  private static void javaKaratsuba(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int off, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+  private static void javaKaratsuba(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int off, final int len, final int[] s, final int soff, final int parallelThreshold, final int parallelThresholdZ) {
     int i, j, k, l, m;
 
     final int xoffoff = xoff + off, yoffoff = yoff + off;
@@ -850,25 +2486,13 @@ abstract class BigIntMultiplication extends BigIntAddition {
       }
     }
     else {
-      final boolean parallel = len > parallelThreshold && zlen > parallelThresholdZ;
+      final ForkJoinPool pool = forkJoinPool;
+      final boolean parallel = len > parallelThreshold && zlen > parallelThresholdZ && isParallel(pool);
       final int b = len >> 1, b2 = b * 2, ll = len * 2, l_b = len - b, l_b2 = l_b * 2;
-      final int tmpoff, x2offl_b2, y2offl_b2;
-      final int[] tmp;
-
-      j = ll + l_b2 + 2; // length needed for (x2) computation
-      k = j + l_b2 + 1;  // length needed for (y2) computation
-      if (!parallel && z.length >= (i = zoff + zlen) + k + 1) {
-        tmpoff = i;
-        x2offl_b2 = j + i;
-        y2offl_b2 = k + i;
-        tmp = z;
-      }
-      else {
-        tmpoff = 0;
-        x2offl_b2 = j;
-        y2offl_b2 = k;
-        tmp = new int[y2offl_b2 + 1];
-      }
+      final int[] tmp = s;
+      final int tmpoff = soff;
+      final int x2offl_b2 = tmpoff + ll + l_b2 + 2; // offset of (x2) computation
+      final int y2offl_b2 = x2offl_b2 + l_b2 + 1;   // offset of end of (y2) computation
 
       final int x2offl_b2b = x2offl_b2 + b, y2offl_b = x2offl_b2 + l_b, y2offl_b1 = y2offl_b + 1, y2offl_b1b = y2offl_b1 + b;
       tmp[x2offl_b2b] = tmp[y2offl_b1b] = tmp[y2offl_b] = tmp[y2offl_b2] = 0;
@@ -901,54 +2525,36 @@ abstract class BigIntMultiplication extends BigIntAddition {
       }
 
       final int tmpoffl_b2 = tmpoff + l_b2;
-      final int tmplen = tmpoffl_b2 + l_b2 + 4;
+      final int tmplen = l_b2 * 2 + 4;
+      final int soff1 = y2offl_b2 + 1; // scratch for the sub-products
       final int r = l_b + (tmp[y2offl_b] != 0 || tmp[y2offl_b2] != 0 ? 1 : 0);
 
       final int tmpoffrr = tmpoff + r * 2, tmpoffbb = tmpoff + b2, tmpoffrrbb = tmpoffrr + b2;
       if (!parallel) {
-        javaKaratsuba(tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, 0, r, Integer.MAX_VALUE, Integer.MAX_VALUE);
-        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, off, b, Integer.MAX_VALUE, Integer.MAX_VALUE);
-        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, off + b, l_b, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        javaKaratsuba(tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, 0, r, s, soff1, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, off, b, s, soff1, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, off + b, l_b, s, soff1, Integer.MAX_VALUE, Integer.MAX_VALUE);
       }
       else {
-        final Thread t1 = new Thread() {
-          @Override
-          public void run() {
-            // System.err.print(".");
-            javaKaratsuba(tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, 0, r, parallelThreshold * 2, parallelThresholdZ * 2);
-          }
-        };
-
-        final Thread t2 = new Thread() {
-          @Override
-          public void run() {
-            javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, off, b, parallelThreshold * 2, parallelThresholdZ * 2);
-          }
-        };
-
-        final Thread t3 = new Thread() {
-          @Override
-          public void run() {
-            javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, off + b, l_b, parallelThreshold * 2, parallelThresholdZ * 2);
-          }
-        };
-
-        t1.setDaemon(true);
-        t2.setDaemon(true);
-        t3.setDaemon(true);
-
-        t1.start();
-        t2.start();
-        t3.start();
-
-        try {
-          t1.join();
+        // Each of the parallel sub-products is given its own scratch space
+        final int pt = parallelThreshold * 2, ptz = parallelThresholdZ * 2;
+        final int soff2 = soff1 + karatsubaScratchLength(l_b + 1, tmplen, pt, ptz);
+        final int soff3 = soff2 + karatsubaScratchLength(b, tmplen, pt, ptz);
+        final KaratsubaTask t1 = new KaratsubaTask(tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, 0, r, s, soff1, pt, ptz);
+        final KaratsubaTask t2 = new KaratsubaTask(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, off, b, s, soff2, pt, ptz);
+        final KaratsubaTask t3 = new KaratsubaTask(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, off + b, l_b, s, soff3, pt, ptz);
+        if (ForkJoinTask.getPool() == pool) {
+          ForkJoinTask.invokeAll(t1, t2, t3);
+        }
+        else {
+          // The calling thread is not a worker of the pool, so it computes one
+          // of the tasks itself while the pool computes the others
+          pool.execute(t2);
+          pool.execute(t3);
+          t1.invoke();
           t2.join();
           t3.join();
         }
-        catch (final InterruptedException e) {
-          throw new RuntimeException(e);
-        }
       }
 
       System.arraycopy(tmp, tmpoffrr, z, zoff, ll);
@@ -975,44 +2581,134 @@ abstract class BigIntMultiplication extends BigIntAddition {
     }
   }
 
+  /**
+   * Returns whether Parallel Karatsuba multiplication, or another parallel
+   * operation, is to fork tasks onto the provided {@link ForkJoinPool}. Tasks
+   * are not forked if the pool has a parallelism of {@code 1}, or if the
+   * current thread is a worker of the pool that already has more than
+   * {@link #PARALLEL_SURPLUS_THRESHOLD} surplus tasks queued for other workers
+   * to steal.
+   *
+   * @param pool The {@link ForkJoinPool}.
+   * @return Whether Parallel Karatsuba multiplication, or another parallel
+   *         operation, is to fork tasks onto the provided {@link ForkJoinPool}.
+   */
+  static boolean isParallel(final ForkJoinPool pool) {
+    if (pool.getParallelism() <= 1)
+      return false;
+
+    return ForkJoinTask.getPool() != pool || ForkJoinTask.getSurplusQueuedTaskCount() <= PARALLEL_SURPLUS_THRESHOLD;
+  }
+
+  /**
+   * A {@link RecursiveAction} that computes
+   * {@link #javaKaratsuba(int[],int,int[],int,int[],int,int,int,int,int[],int,int,int)}
+   * as a subtask of Parallel Karatsuba multiplication.
+   */
+  private static final class KaratsubaTask extends RecursiveAction {
+    private static final long serialVersionUID = 2919207936384385126L;
+
+    private final int[] x;
+    private final int xoff;
+    private final int[] y;
+    private final int yoff;
+    private final int[] z;
+    private final int zoff;
+    private final int zlen;
+    private final int off;
+    private final int len;
+    private final int[] s;
+    private final int soff;
+    private final int parallelThreshold;
+    private final int parallelThresholdZ;
+
+    private KaratsubaTask(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int off, final int len, final int[] s, final int soff, final int parallelThreshold, final int parallelThresholdZ) {
+      this.x = x;
+      this.xoff = xoff;
+      this.y = y;
+      this.yoff = yoff;
+      this.z = z;
+      this.zoff = zoff;
+      this.zlen = zlen;
+      this.off = off;
+      this.len = len;
+      this.s = s;
+      this.soff = soff;
+      this.parallelThreshold = parallelThreshold;
+      this.parallelThresholdZ = parallelThresholdZ;
+    }
+
+    @Override
+    protected void compute() {
+      javaKaratsuba(x, xoff, y, yoff, z, zoff, zlen, off, len, s, soff, parallelThreshold, parallelThresholdZ);
+    }
+  }
+
   static int[] square(final int[] x, final int len) {
+    return square(x, len, null);
+  }
+
+  private static int[] square(final int[] x, final int len, final int[] scratch) {
+    if (len >= NTT_SQUARE_THRESHOLD && len * 2 - 1 <= NTT_MAX_LENGTH)
+      return javaSquareNtt(x, len);
+
+    if (len >= TOOM_COOK_SQUARE_THRESHOLD)
+      return javaSquareToomCook3(x, len, scratch);
+
+    return len < KARATSUBA_SQUARE_THRESHOLD ? squareQuad(x, len) : squareKaratsuba(x, len, scratch);
+  }
+
+  static int[] squareQuad(final int[] x, final int len) {
     final int[] z;
     int zlen = len * 2;
-    if (len < KARATSUBA_SQUARE_THRESHOLD) {
-      final int xoff;
-      if (x.length >= len + zlen + OFF) {
-        xoff = zlen + OFF;
-        System.arraycopy(x, OFF, x, xoff, len);
-        z = x;
-      }
-      else {
-        xoff = OFF;
-        z = new int[zlen + xoff];
-      }
+    final int xoff;
+    if (x.length >= len + zlen + OFF) {
+      xoff = zlen + OFF;
+      System.arraycopy(x, OFF, x, xoff, len);
+      z = x;
+    }
+    else {
+      xoff = OFF;
+      z = new int[zlen + xoff];
+    }
+
+    if (len < NATIVE_THRESHOLD)
+      javaSquareQuad(x, xoff, len, z, OFF, zlen);
+    else if (FOREIGN)
+      BigIntForeign.squareQuad(x, xoff, len, z, OFF, zlen);
+    else
+      nativeSquareQuad(x, xoff, len, z, OFF, zlen);
+
+    for (; z[zlen] == 0 && zlen > 0; --zlen);
+    z[0] = zlen;
+
+    // _debugLenSig(z);
+    return z;
+  }
+
+  static int[] squareKaratsuba(final int[] x, final int len, final int[] scratch) {
+    final int[] z;
+    int zlen = len * 2;
+    final int fullLen = zlen * 2;
+    if (x.length > fullLen) {
+      z = x;
 
       if (len < NATIVE_THRESHOLD)
-        javaSquareQuad(x, xoff, len, z, OFF, zlen);
+        javaSquareKaratsuba(x, len, x, fullLen, true, scratch, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+      else if (FOREIGN)
+        BigIntForeign.squareKaratsuba(x, len, x, fullLen, x.length, true, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
       else
-        nativeSquareQuad(x, xoff, len, z, OFF, zlen);
+        nativeSquareKaratsuba(x, len, x, fullLen, x.length, true, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
     }
     else {
-      final int fullLen = zlen * 2;
-      if (x.length > fullLen) {
-        z = x;
-
-        if (len < NATIVE_THRESHOLD)
-          javaSquareKaratsuba(x, len, x, fullLen, true, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
-        else
-          nativeSquareKaratsuba(x, len, x, fullLen, x.length, true, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
-      }
-      else {
-        z = alloc(OFF + zlen * 2); // (OFF + zlen) is all that's needed, but increase to potentially reuse the original array
-        // z = alloc((OFF + zlen) * ((int)(1 + 10 * Math.random()))); // FIXME: Remove this!
-        if (len < NATIVE_THRESHOLD)
-          javaSquareKaratsuba(x, len, z, zlen, false, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
-        else
-          nativeSquareKaratsuba(x, len, z, zlen, z.length, false, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
-      }
+      z = alloc(OFF + zlen * 2); // (OFF + zlen) is all that's needed, but increase to potentially reuse the original array
+      // z = alloc((OFF + zlen) * ((int)(1 + 10 * Math.random()))); // FIXME: Remove this!
+      if (len < NATIVE_THRESHOLD)
+        javaSquareKaratsuba(x, len, z, zlen, false, scratch, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+      else if (FOREIGN)
+        BigIntForeign.squareKaratsuba(x, len, z, zlen, z.length, false, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+      else
+        nativeSquareKaratsuba(x, len, z, zlen, z.length, false, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
     }
 
     for (; z[zlen] == 0 && zlen > 0; --zlen);
@@ -1024,19 +2720,26 @@ abstract class BigIntMultiplication extends BigIntAddition {
 
   private static native void nativeSquareKaratsuba(int[] x, int len, int[] z, int zlen, int zlength, boolean yCopy, int parallelThreshold, int parallelThresholdZ);
 
-  private static void javaSquareKaratsuba(final int[] x, final int len, final int[] z, final int zlen, final boolean yCopy, final int parallelThreshold, final int parallelThresholdZ) {
+  private static void javaSquareKaratsuba(final int[] x, final int len, final int[] z, final int zlen, final boolean yCopy, final int[] scratch, final int parallelThreshold, final int parallelThresholdZ) {
+    final int slen = karatsubaScratchLength(len, zlen, parallelThreshold, parallelThresholdZ);
+    final int[] s = scratch != null && scratch.length >= slen + len ? scratch : localScratch.take(slen + len);
     final int[] y;
+    final int yoff;
     if (yCopy) {
       // "In place" computation for (mag) requires a copy for (y), otherwise
       // we're reading and writing from the same array for (x) (y) and (z)
-      y = new int[len + OFF];
-      System.arraycopy(x, 0, y, 0, len + OFF);
+      y = s;
+      yoff = slen;
+      System.arraycopy(x, OFF, y, yoff, len);
     }
     else {
       y = x;
+      yoff = OFF;
     }
 
-    javaKaratsuba(x, OFF, y, OFF, z, OFF, zlen, 0, len, parallelThreshold, parallelThresholdZ);
+    javaKaratsuba(x, OFF, y, yoff, z, OFF, zlen, 0, len, s, 0, parallelThreshold, parallelThresholdZ);
+    if (s != scratch)
+      localScratch.release(s);
   }
 
   private static native void nativeSquareQuad(int[] x, int xoff, int xlen, int[] z, int zoff, int zlen);
@@ -1045,6 +2748,11 @@ abstract class BigIntMultiplication extends BigIntAddition {
    * The algorithm used here is adapted from Colin Plumb's C library.
    */
   private static void javaSquareQuad(final int[] x, final int xoff, int xlen, final int[] z, final int zoff, int zlen) {
+    if (xlen >= BigIntVector.SQUARE_THRESHOLD) {
+      BigIntVector.mulQuad(x, xoff, xlen, x, xoff, xlen, z, zoff);
+      return;
+    }
+
     int i, j, k, off;
     long x0 = 0;
 
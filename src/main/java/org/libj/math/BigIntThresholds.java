@@ -0,0 +1,392 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.RoundingMode;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Profile of the thresholds at which {@link BigInt} transitions from one
+ * algorithm to another.
+ * <p>
+ * The crossover points between the algorithms depend on the CPU, the JVM, and
+ * on whether the JNI bindings are used. The thresholds default to values that
+ * were measured on a reference machine. A profile calibrated for the machine at
+ * hand can be produced by running this class:
+ *
+ * <pre>
+ * java -cp ... org.libj.math.BigIntThresholds thresholds.properties
+ * </pre>
+ *
+ * The calibration measures the crossover of each pair of algorithms with a
+ * micro-benchmark of one level of the faster-growing algorithm relative to the
+ * algorithm it replaces, and writes the lengths at which the former starts to
+ * win to the profile. The thresholds are calibrated for the mode in which the
+ * calibration is run (i.e. {@code -Dorg.libj.math.noNative} for Java, or with
+ * the JNI or FFM bindings otherwise), and the values for other modes that are
+ * present in the profile are retained. The profile is loaded at startup if its
+ * path is specified with the {@code org.libj.math.thresholds} system property:
+ *
+ * <pre>
+ * java -Dorg.libj.math.thresholds=thresholds.properties ...
+ * </pre>
+ *
+ * Thresholds of the profile that are below the minimum for which an algorithm
+ * computes correct results (e.g. the Karatsuba thresholds below {@code 33}, with
+ * the {@code THRESHOLD_FACTOR} applied) are raised to that minimum.
+ */
+public final class BigIntThresholds {
+  /** The system property specifying the path of the profile to be loaded. */
+  public static final String PROPERTY = "org.libj.math.thresholds";
+
+  private static final String prefix = NativeMath.loadNative().name().toLowerCase() + ".";
+  private static final Properties profile = new Properties();
+
+  static {
+    final String path = System.getProperty(PROPERTY);
+    if (path != null) {
+      try (final InputStream in = new FileInputStream(path)) {
+        profile.load(in);
+      }
+      catch (final IOException e) {
+        throw new ExceptionInInitializerError(e);
+      }
+    }
+  }
+
+  private static String get(final String name) {
+    final String value = profile.getProperty(prefix + name);
+    return value == null ? null : value.trim();
+  }
+
+  /**
+   * Returns the value of the threshold with the specified name for the current
+   * {@link NativeMath.Mode}, or {@code defaultValue} if the profile does not
+   * specify it.
+   *
+   * @param name The name of the threshold.
+   * @param defaultValue The value to return if the profile does not specify
+   *          the threshold.
+   * @return The value of the threshold with the specified name for the current
+   *         {@link NativeMath.Mode}, or {@code defaultValue} if the profile
+   *         does not specify it.
+   * @throws ExceptionInInitializerError If the value in the profile is not a
+   *           non-negative integer.
+   */
+  static int get(final String name, final int defaultValue) {
+    final String value = get(name);
+    if (value == null)
+      return defaultValue;
+
+    try {
+      final int threshold = Integer.parseInt(value);
+      if (threshold >= 0)
+        return threshold;
+    }
+    catch (final NumberFormatException e) {
+    }
+
+    throw new ExceptionInInitializerError("Invalid value of " + prefix + name + ": " + value);
+  }
+
+  /**
+   * Returns the value of the factor with the specified name for the current
+   * {@link NativeMath.Mode}, or {@code defaultValue} if the profile does not
+   * specify it.
+   *
+   * @param name The name of the factor.
+   * @param defaultValue The value to return if the profile does not specify
+   *          the factor.
+   * @return The value of the factor with the specified name for the current
+   *         {@link NativeMath.Mode}, or {@code defaultValue} if the profile
+   *         does not specify it.
+   * @throws ExceptionInInitializerError If the value in the profile is not a
+   *           positive number.
+   */
+  static double get(final String name, final double defaultValue) {
+    final String value = get(name);
+    if (value == null)
+      return defaultValue;
+
+    try {
+      final double factor = Double.parseDouble(value);
+      if (factor > 0)
+        return factor;
+    }
+    catch (final NumberFormatException e) {
+    }
+
+    throw new ExceptionInInitializerError("Invalid value of " + prefix + name + ": " + value);
+  }
+
+  @FunctionalInterface
+  private interface Algorithm {
+    int[] apply(int[] x, int xlen, int[] y, int ylen);
+  }
+
+  private static final int ROUNDS = 7;
+  private static final long ROUND_NANOS = 2000000;
+  private static final Random random = new Random();
+  private static int sink;
+
+  private static int[] newMagnitude(final int len) {
+    final int[] val = new int[len + 1];
+    for (int i = 1; i <= len; ++i)
+      val[i] = random.nextInt();
+
+    if (val[len] == 0)
+      val[len] = 1;
+
+    val[0] = len;
+    return val;
+  }
+
+  private static char[] digits(final int[] x, final int xlen) {
+    final char[] digits = new char[xlen * 9];
+    for (int i = 0, j = 0; i < xlen; ++i)
+      for (int d = Integer.remainderUnsigned(x[i + 1], 1000000000), k = 0; k < 9; ++k, d /= 10)
+        digits[j++] = (char)('0' + d % 10);
+
+    return digits;
+  }
+
+  private static long time(final Algorithm algorithm, final int[] x, final int xlen, final int[] y, final int ylen, final int iterations) {
+    long min = Long.MAX_VALUE;
+    for (int r = 0; r < ROUNDS; ++r) {
+      final long ts = System.nanoTime();
+      for (int i = 0; i < iterations; ++i)
+        sink ^= algorithm.apply(x, xlen, y, ylen)[0];
+
+      min = Math.min(min, System.nanoTime() - ts);
+    }
+
+    return min;
+  }
+
+  /**
+   * Returns the length at which {@code a} starts to be faster than {@code b},
+   * or {@code -1} if {@code a} is not faster than {@code b} for lengths in the
+   * specified range. The crossover is the first length at which {@code a} is
+   * faster, provided that it is also faster at the next length in the range.
+   *
+   * @param name The name of the threshold.
+   * @param from The first length of the range.
+   * @param to The last length of the range.
+   * @param step The step of the lengths in the range.
+   * @param ylen The length of the second operand, with which the length of the
+   *          first operand is multiplied, or {@code 0} for operands that are
+   *          both of the length being measured.
+   * @param a The algorithm that replaces {@code b} above the threshold.
+   * @param b The algorithm that is used below the threshold.
+   * @return The length at which {@code a} starts to be faster than {@code b},
+   *         or {@code -1} if {@code a} is not faster than {@code b} for
+   *         lengths in the specified range.
+   */
+  private static int crossover(final String name, final int from, final int to, final int step, final int ylen, final Algorithm a, final Algorithm b) {
+    // Warm up the JIT with the largest operands of the range
+    for (int i = 0; i < 2; ++i) {
+      final int[] x = newMagnitude(ylen == 0 ? to : to * ylen);
+      final int[] y = ylen == 0 ? newMagnitude(to) : newMagnitude(ylen);
+      time(a, x, x[0], y, y[0], 1);
+      time(b, x, x[0], y, y[0], 1);
+    }
+
+    System.out.print(name + ":");
+    int candidate = -1;
+    for (int len = from; len <= to; len += step) {
+      final int[] x = newMagnitude(ylen == 0 ? len : len * ylen);
+      final int[] y = ylen == 0 ? newMagnitude(len) : newMagnitude(ylen);
+
+      long ts = System.nanoTime();
+      sink ^= b.apply(x, x[0], y, y[0])[0];
+      ts = System.nanoTime() - ts;
+      final int iterations = (int)Math.max(1, ROUND_NANOS / Math.max(1, ts));
+
+      final double ratio = (double)time(a, x, x[0], y, y[0], iterations) / time(b, x, x[0], y, y[0], iterations);
+      System.out.print(" " + len + "=" + String.format("%.2f", ratio));
+      if (ratio >= 1)
+        candidate = -1;
+      else if (candidate != -1)
+        break;
+      else
+        candidate = len;
+    }
+
+    System.out.println(" -> " + candidate);
+    return candidate;
+  }
+
+  private static void put(final Properties properties, final String name, final int value) {
+    if (value > 0)
+      properties.setProperty(prefix + name, String.valueOf(value));
+  }
+
+  /**
+   * Calibrates the thresholds for the current {@link NativeMath.Mode}, and puts
+   * the measured values into the provided {@link Properties}.
+   *
+   * @param properties The {@link Properties} into which the measured values are
+   *          to be put.
+   */
+  private static void calibrate(final Properties properties) {
+    final double factor = get("THRESHOLD_FACTOR", 1.2);
+    final double parallelFactor = get("PARALLEL_THRESHOLD_FACTOR", 2d);
+
+    final NativeMath.Mode mode = NativeMath.loadNative();
+    if (mode == NativeMath.Mode.NATIVE || mode == NativeMath.Mode.FOREIGN) {
+      put(properties, "NATIVE_THRESHOLD", crossover("NATIVE_THRESHOLD", 2, 64, 1, 0, (x, xlen, y, ylen) -> {
+        final int[] z = new int[xlen + ylen + 1];
+        if (mode == NativeMath.Mode.FOREIGN)
+          BigIntForeign.mulQuad(x, xlen, y, ylen, z);
+        else
+          BigIntMultiplication.nativeMulQuad(x, xlen, y, ylen, z);
+
+        return z;
+      }, (x, xlen, y, ylen) -> {
+        final int[] z = new int[xlen + ylen + 1];
+        BigIntMultiplication.javaMulQuad(x, xlen, y, ylen, z);
+        return z;
+      }));
+    }
+
+    final Algorithm mulQuad = (x, xlen, y, ylen) -> BigIntMultiplication.mulQuad(x, xlen, y, ylen, xlen + ylen + 1, true, false);
+    final Algorithm karatsuba = (x, xlen, y, ylen) -> BigIntMultiplication.karatsuba(x, xlen, y, ylen, xlen + ylen + 1, true);
+    final Algorithm toomCook = (x, xlen, y, ylen) -> BigIntMultiplication.javaToomCook3(x, xlen, y, ylen, xlen + ylen + 1, true, false);
+
+    // The balanced crossover defines the "z" threshold, and the "x" threshold retains its ratio to the "z" threshold
+    // The sweep starts above BigIntMultiplication.KARATSUBA_MIN_THRESHOLD, below which in-place execution of the Karatsuba algorithm results in errors
+    final int karatsubaZ = crossover("KARATSUBA_THRESHOLD", 40, 400, 8, 0, karatsuba, mulQuad) * 2;
+    if (karatsubaZ > 0) {
+      put(properties, "KARATSUBA_THRESHOLD_Z", karatsubaZ);
+      put(properties, "KARATSUBA_THRESHOLD_X", Math.max(BigIntMultiplication.KARATSUBA_MIN_THRESHOLD, karatsubaZ * BigIntMultiplication.KARATSUBA_THRESHOLD_X / BigIntMultiplication.KARATSUBA_THRESHOLD_Z));
+    }
+
+    // Values of 32 or lower result in errors for in-place execution of the Karatsuba algorithm, so the sweep starts above BigIntMultiplication.KARATSUBA_MIN_THRESHOLD
+    final int karatsubaSquare = crossover("KARATSUBA_SQUARE_THRESHOLD", 64, 2048, 32, 0, (x, xlen, y, ylen) -> BigIntMultiplication.squareKaratsuba(x, xlen, null), (x, xlen, y, ylen) -> BigIntMultiplication.squareQuad(x, xlen));
+    put(properties, "KARATSUBA_SQUARE_THRESHOLD", karatsubaSquare);
+
+    put(properties, "TOOM_COOK_THRESHOLD", crossover("TOOM_COOK_THRESHOLD", 100, 3000, 100, 0, toomCook, karatsuba));
+
+    final int squareThreshold = karatsubaSquare > 0 ? Math.max(BigIntMultiplication.KARATSUBA_MIN_THRESHOLD, (int)(karatsubaSquare * factor)) : BigIntMultiplication.KARATSUBA_SQUARE_THRESHOLD;
+    put(properties, "TOOM_COOK_SQUARE_THRESHOLD", crossover("TOOM_COOK_SQUARE_THRESHOLD", 50, 3000, 50, 0, (x, xlen, y, ylen) -> BigIntMultiplication.javaSquareToomCook3(x, xlen), (x, xlen, y, ylen) -> xlen < squareThreshold ? BigIntMultiplication.squareQuad(x, xlen) : BigIntMultiplication.squareKaratsuba(x, xlen, null)));
+
+    // The crossover of the ratio of the lengths is measured with the shorter operand above the Karatsuba threshold
+    put(properties, "UNBALANCED_RATIO", crossover("UNBALANCED_RATIO", 2, 8, 1, Math.max(150, BigIntMultiplication.KARATSUBA_THRESHOLD_Z), (x, xlen, y, ylen) -> BigIntMultiplication.mulUnbalanced(x, xlen, y, ylen, xlen + ylen + 1, true, false), karatsuba));
+
+    put(properties, "NTT_THRESHOLD", crossover("NTT_THRESHOLD", 2000, 32000, 2000, 0, (x, xlen, y, ylen) -> BigIntMultiplication.javaNtt(x, xlen, y, ylen, xlen + ylen + 1, true, false), toomCook));
+    put(properties, "NTT_SQUARE_THRESHOLD", crossover("NTT_SQUARE_THRESHOLD", 2000, 32000, 2000, 0, (x, xlen, y, ylen) -> BigIntMultiplication.javaSquareNtt(x, xlen), (x, xlen, y, ylen) -> BigIntMultiplication.javaSquareToomCook3(x, xlen)));
+
+    // Division is measured for a dividend of twice the length of the divisor, with one level of Burnikel-Ziegler recursion
+    put(properties, "BURNIKEL_ZIEGLER_THRESHOLD", crossover("BURNIKEL_ZIEGLER_THRESHOLD", 20, 400, 10, 0, (x, xlen, y, ylen) -> {
+      final int[] q = new int[xlen + 2];
+      BigIntDivision.divBurnikelZiegler(dividend(x, xlen, y, ylen), xlen + ylen, 1, y, ylen, 1, q, ylen);
+      return q;
+    }, (x, xlen, y, ylen) -> {
+      final int[] q = new int[xlen + 2];
+      BigIntDivision.divKnuth(dividend(x, xlen, y, ylen), xlen + ylen, 1, y, ylen, 1, q);
+      return q;
+    }));
+
+    // The square root is measured on a copy with room for the dividends of the Newton iterations, since both algorithms replace the value
+    put(properties, "KARATSUBA_SQRT_THRESHOLD", crossover("KARATSUBA_SQRT_THRESHOLD", 4, 64, 2, 0, (x, xlen, y, ylen) -> BigIntMath.sqrtRem(BigIntValue.copy(x, xlen + 1, new int[xlen + 3], xlen + 3), new int[xlen / 2 + 3]), (x, xlen, y, ylen) -> BigIntMath.sqrtApprox(BigIntValue.copy(x, xlen + 1, new int[xlen + 3], xlen + 3), RoundingMode.DOWN)));
+
+    // The conversion to a string is measured with one level of recursion
+    put(properties, "TOSTRING_THRESHOLD", crossover("TOSTRING_THRESHOLD", 40, 400, 20, 0, (x, xlen, y, ylen) -> new int[] {BigIntDivision.toStringRecursive(x, xlen, 1, 10, xlen).length()}, (x, xlen, y, ylen) -> new int[] {BigIntValue.toStringQuad(x, xlen, 1).length()}));
+
+    // The parsing is measured with one level of recursion on 9 digits per limb
+    put(properties, "PARSE_THRESHOLD", 9 * crossover("PARSE_THRESHOLD", 100, 2000, 100, 0, (x, xlen, y, ylen) -> BigIntDivision.parseRecursive(digits(x, xlen), 0, xlen * 9, 10, xlen * 9), (x, xlen, y, ylen) -> {
+      final int[] val = new int[BigIntValue.parseAlloc(xlen * 9)];
+      BigIntValue.parseQuad(val, digits(x, xlen), 0, xlen * 9);
+      return val;
+    }));
+
+    // Parallel Karatsuba is measured with one level of parallel recursion
+    if (BigIntMultiplication.getForkJoinPool().getParallelism() > 1) {
+      final int parallelZ = crossover("PARALLEL_KARATSUBA_THRESHOLD", 200, 4000, 200, 0, (x, xlen, y, ylen) -> parallelKaratsuba(x, y, xlen, xlen - 1, 0), (x, xlen, y, ylen) -> parallelKaratsuba(x, y, xlen, Integer.MAX_VALUE, Integer.MAX_VALUE)) * 2;
+      if (parallelZ > 0) {
+        put(properties, "PARALLEL_KARATSUBA_THRESHOLD_Z", parallelZ);
+        put(properties, "PARALLEL_KARATSUBA_THRESHOLD_X", Math.max(1, parallelZ * BigIntMultiplication.PARALLEL_KARATSUBA_THRESHOLD_X / BigIntMultiplication.PARALLEL_KARATSUBA_THRESHOLD_Z));
+      }
+    }
+    else {
+      System.out.println("PARALLEL_KARATSUBA_THRESHOLD: skipped with parallelism of 1");
+    }
+
+    if (parallelFactor != 2d)
+      properties.setProperty(prefix + "PARALLEL_THRESHOLD_FACTOR", String.valueOf(parallelFactor));
+
+    if (factor != 1.2)
+      properties.setProperty(prefix + "THRESHOLD_FACTOR", String.valueOf(factor));
+  }
+
+  private static int[] dividend(final int[] x, final int xlen, final int[] y, final int ylen) {
+    final int[] val = new int[xlen + ylen + 2];
+    System.arraycopy(y, 1, val, 1, ylen);
+    System.arraycopy(x, 1, val, ylen + 1, xlen);
+    val[0] = xlen + ylen;
+    return val;
+  }
+
+  private static int[] parallelKaratsuba(final int[] x, final int[] y, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+    final int zlen = len * 2 + 1;
+    final int[] z = new int[zlen * 2 + 1];
+    BigIntMultiplication.karatsuba(x, y, z, zlen, len, null, parallelThreshold, parallelThresholdZ);
+    return z;
+  }
+
+  /**
+   * Calibrates the thresholds for the current mode, and writes the profile to
+   * the file at the path specified by the first argument, or by the
+   * {@code org.libj.math.thresholds} system property. The values for other
+   * modes in an existing profile are retained. If no path is specified, the
+   * profile is written to {@link System#out}.
+   *
+   * @param args The arguments.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static void main(final String[] args) throws IOException {
+    final String path = args.length > 0 ? args[0] : System.getProperty(PROPERTY);
+    final File file = path == null ? null : new File(path);
+    final Properties properties = new Properties();
+    if (file != null && file.exists()) {
+      try (final InputStream in = new FileInputStream(file)) {
+        properties.load(in);
+      }
+    }
+
+    calibrate(properties);
+    final String comment = "BigInt thresholds calibrated on " + System.getProperty("os.arch") + " with " + Runtime.getRuntime().availableProcessors() + " processors, Java " + System.getProperty("java.version");
+    if (file == null) {
+      properties.store(System.out, comment);
+    }
+    else {
+      try (final OutputStream out = new FileOutputStream(file)) {
+        properties.store(out, comment);
+      }
+    }
+  }
+
+  private BigIntThresholds() {
+  }
+}
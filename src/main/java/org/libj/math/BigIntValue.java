@@ -29,6 +29,7 @@
 
 package org.libj.math;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.libj.lang.Numbers;
@@ -37,15 +38,19 @@ abstract class BigIntValue extends Number {
   private static final long serialVersionUID = -5274535682246497862L;
 
   static final int NATIVE_THRESHOLD;
+  static final boolean FOREIGN;
 
   static {
     final NativeMath.Mode mode = NativeMath.loadNative();
+    FOREIGN = mode == NativeMath.Mode.FOREIGN;
     if (mode == NativeMath.Mode.JAVA)
       NATIVE_THRESHOLD = Integer.MAX_VALUE;
     else if (mode == NativeMath.Mode.NATIVE)
-      NATIVE_THRESHOLD = 15;
+      NATIVE_THRESHOLD = BigIntThresholds.get("NATIVE_THRESHOLD", 15);
     else if (mode == NativeMath.Mode.CRITICAL)
       NATIVE_THRESHOLD = 0;
+    else if (mode == NativeMath.Mode.FOREIGN)
+      NATIVE_THRESHOLD = BigIntThresholds.get("NATIVE_THRESHOLD", 0);
     else
       throw new UnsupportedOperationException("Unsupported mode: " + mode);
   }
@@ -78,27 +83,105 @@ abstract class BigIntValue extends Number {
 
       return array;
     }
+
+    /**
+     * Takes the array of the current thread for exclusive use, until it is
+     * given back with {@link #release(int[])}. If the array of the current
+     * thread is shorter than {@code len}, or has already been taken (i.e. by
+     * a reentrant call), a {@code new int[]} is returned instead.
+     *
+     * @param len The minimal length of the returned {@code int[]}.
+     * @return The array of the current thread, or a {@code new int[]} with a
+     *         length that is at least {@code len}.
+     */
+    int[] take(final int len) {
+      final int[] array = super.get();
+      if (array.length < len)
+        return new int[len];
+
+      set(emptyVal);
+      return array;
+    }
+
+    /**
+     * Gives back an array taken with {@link #take(int)}, which is retained as
+     * the array of the current thread if it is not shorter than the array the
+     * current thread currently has.
+     *
+     * @param array The array taken with {@link #take(int)}.
+     */
+    void release(final int[] array) {
+      if (array.length >= super.get().length)
+        set(array);
+    }
+  }
+
+  private static volatile BigIntAllocator allocator = BigIntAllocator.DEFAULT;
+
+  /**
+   * Returns the {@link BigIntAllocator} of the arrays of
+   * {@linkplain BigInt#val() value-encoded numbers}. Unless set with
+   * {@link #setAllocator(BigIntAllocator)}, this is a
+   * {@linkplain BigIntAllocator#heap(int) heap} allocator with
+   * {@link BigIntAllocator#DEFAULT_PADDING} surplus limbs, or the number of
+   * limbs of the {@code -Dorg.libj.math.padding} system property.
+   *
+   * @return The {@link BigIntAllocator} of the arrays of
+   *         {@linkplain BigInt#val() value-encoded numbers}.
+   */
+  public static BigIntAllocator getAllocator() {
+    return allocator;
+  }
+
+  /**
+   * Sets the {@link BigIntAllocator} of the arrays of {@linkplain BigInt#val()
+   * value-encoded numbers}, such as a {@linkplain BigIntAllocator#pool(int,int,int)
+   * pool} of which the arrays are given back with {@link #release(int[])}.
+   *
+   * @param allocator The {@link BigIntAllocator}, or {@code null} to use the
+   *          default heap allocator.
+   */
+  public static void setAllocator(final BigIntAllocator allocator) {
+    BigIntValue.allocator = allocator != null ? allocator : BigIntAllocator.DEFAULT;
+  }
+
+  /**
+   * Gives back the array of a {@linkplain BigInt#val() value-encoded number}
+   * that is no longer used to the {@linkplain #getAllocator() allocator}, for
+   * its reuse by a subsequent allocation.
+   * <p>
+   * <i><b>Note:</b> No reference to the array may be used after it is released,
+   * including the {@link BigInt} of which it is the {@linkplain BigInt#val()
+   * value}.</i>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number} that is no
+   *          longer used.
+   */
+  public static void release(final int[] val) {
+    allocator.release(val);
   }
 
   /**
    * Creates a new {@code int[]} with length that is at least {@code len}.
    * <p>
-   * This method can return longer arrays tuned for optimal performance.
+   * This method can return longer arrays tuned for optimal performance, as
+   * padded by the {@linkplain #getAllocator() allocator}.
    *
    * @param len The minimal length of the returned {@code int[]}.
    * @return A new {@code int[]} with a length that is at least {@code len}.
    * @complexity O(1)
    */
   static int[] alloc(final int len) {
-//    System.err.println("alloc");
-    return new int[32 + len];
+    return allocator.alloc(len);
   }
 
   /**
    * Reallocates the provided array up to <i>a minimum</i> length {@code len} to
    * a new array of length {@code newLen}.
    * <p>
-   * This method can return longer arrays tuned for optimal performance.
+   * This method can return longer arrays tuned for optimal performance, as
+   * padded by the {@linkplain #getAllocator() allocator}. The provided array is
+   * not released, as it may still be referenced by the caller.
    *
    * @param array The array to reallocate.
    * @param len The number of elements in the original array to copy to the
@@ -109,7 +192,7 @@ abstract class BigIntValue extends Number {
    * @complexity O(n)
    */
   static int[] realloc(final int[] array, final int len, final int newLen) {
-    final int[] v = new int[32 + newLen];
+    final int[] v = allocator.alloc(newLen);
     System.arraycopy(array, 0, v, 0, len);
     return v;
   }
@@ -396,7 +479,7 @@ abstract class BigIntValue extends Number {
   public static int[] assign(int[] val, final int[] src) {
     final int len = Math.abs(src[0]);
     if (val.length <= len)
-      val = alloc(len);
+      val = alloc(len + 1);
 
     return assignInPlace(val, src, len);
   }
@@ -650,7 +733,7 @@ abstract class BigIntValue extends Number {
    * @return The result of assigning the specified number as a string to the
    *         provided {@linkplain BigInt#val() value-encoded
    *         <code>int[]</code>}.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58 log n)
    */
   public static int[] assign(final int[] val, final String s) {
     return assign(val, s.toCharArray());
@@ -666,45 +749,88 @@ abstract class BigIntValue extends Number {
    *
    * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
    * the assignment requires a larger array.</i>
+   * <p>
+   * Numbers of at least {@link BigIntDivision#PARSE_THRESHOLD} digits are
+   * parsed recursively, by the multiplication of the upper half by a power of
+   * ten (see {@link BigIntDivision#parseRecursive(char[],int,int,int,int)}).
    *
    * @param val The target array of the assignment.
    * @param s The number as a {@code char[]}.
    * @return The result of assigning the specified number as a {@code char[]} to
    *         the provided {@linkplain BigInt#val() value-encoded
    *         <code>int[]</code>}.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58 log n)
    */
   public static int[] assign(int[] val, final char[] s) {
     final int sig = s[0] == '-' ? -1 : 1;
 
     final int length = s.length;
-    final int from = sig - 1 >> 1;
+    final int from = sig < 0 || s[0] == '+' ? -1 : 0;
     final int len = length + from;
+    if (len >= BigIntDivision.PARSE_THRESHOLD) {
+      final int[] mag = BigIntDivision.parseRecursive(s, -from, length, 10, BigIntDivision.PARSE_THRESHOLD);
+      if (mag[0] + 1 > val.length)
+        val = mag;
+      else
+        System.arraycopy(mag, 0, val, 0, mag[0] + 1);
+    }
+    else {
+      final int alloc = parseAlloc(len);
+      if (alloc > val.length)
+        val = alloc(alloc);
+
+      val[0] = parseQuad(val, s, -from, length);
+    }
+
+    if (sig < 0)
+      val[0] = -val[0];
+
+    // _debugLenSig(val);
+    return val;
+  }
+
+  /**
+   * Returns the number of limbs, plus one for the length, that is sufficient
+   * to hold a number of the specified number of decimal digits.
+   *
+   * @param len The number of decimal digits.
+   * @return The number of limbs, plus one for the length, that is sufficient
+   *         to hold a number of the specified number of decimal digits.
+   * @complexity O(1)
+   */
+  static int parseAlloc(final int len) {
     // 3402 = bits per digit * 1024
-    final int alloc = (len < 10 ? 1 : (int)(len * 3402L >>> 10) + 32 >>> 5) + 1;
-    if (alloc > val.length)
-      val = alloc(alloc);
+    return (len < 10 ? 1 : (int)(len * 3402L >>> 10) + 32 >>> 5) + 1;
+  }
 
-    int j = len % 9;
+  /**
+   * Parses the unsigned decimal digits of the provided {@code char[]} between
+   * {@code fromIndex} and {@code toIndex} into the magnitude of the provided
+   * array, starting at index 1, with the repeated multiplication by
+   * {@code 10^9}.
+   *
+   * @param val The target array, with room for at least
+   *          {@link #parseAlloc(int) parseAlloc(toIndex - fromIndex)} ints.
+   * @param s The digits as a {@code char[]}.
+   * @param fromIndex The index (inclusive) of the most significant digit.
+   * @param toIndex The index (exclusive) of the least significant digit.
+   * @return The number of limbs of the parsed magnitude.
+   * @complexity O(n^2)
+   */
+  static int parseQuad(final int[] val, final char[] s, final int fromIndex, final int toIndex) {
+    int j = (toIndex - fromIndex) % 9;
     if (j == 0)
       j = 9;
 
-    j -= from;
+    j += fromIndex;
 
-    if ((val[1] = parse(s, -from, j)) != 0) {
-      int toIndex = 2;
-      while (j < length)
-        toIndex = mulAdd(val, 1, toIndex, 1_000_000_000, parse(s, j, j += 9));
+    val[1] = parse(s, fromIndex, j);
+    int end = 2;
+    while (j < toIndex)
+      end = mulAdd(val, 1, end, 1_000_000_000, parse(s, j, j += 9));
 
-      --toIndex;
-      val[0] = sig < 0 ? -toIndex : toIndex;
-    }
-    else {
-      val[0] = 0;
-    }
-
-    // _debugLenSig(val);
-    return val;
+    // Leading zeros leave a single limb of zero
+    return end == 2 && val[1] == 0 ? 0 : end - 1;
   }
 
   /**
@@ -724,6 +850,244 @@ abstract class BigIntValue extends Number {
     return v;
   }
 
+  /** The digits of the radixes up to {@link Character#MAX_RADIX}. */
+  private static final char[] radixDigits = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+  /**
+   * The number of digits of each radix in {@link #intRadix}, which is the
+   * largest power of the radix that is less than <code>2<sup>31</sup></code>
+   * (i.e. {@code 9} for radix 10).
+   */
+  private static final byte[] intDigits = new byte[Character.MAX_RADIX + 1];
+
+  /**
+   * The largest power of each radix that is less than
+   * <code>2<sup>31</sup></code> (i.e. {@code 10^9} for radix 10).
+   */
+  private static final int[] intRadix = new int[Character.MAX_RADIX + 1];
+
+  static {
+    for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; ++radix) {
+      byte digits = 1;
+      int pow = radix;
+      for (; pow <= Integer.MAX_VALUE / radix; pow *= radix)
+        ++digits;
+
+      intDigits[radix] = digits;
+      intRadix[radix] = pow;
+    }
+  }
+
+  /**
+   * Assigns the specified number as a string of the provided radix to the
+   * provided {@linkplain BigInt#val() value-encoded <code>int[]</code>}.
+   *
+   * <pre>
+   * val = s
+   * </pre>
+   *
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the assignment requires a larger array.</i>
+   *
+   * @param val The target array of the assignment.
+   * @param s The number as a string.
+   * @param radix The radix of the string, between {@link Character#MIN_RADIX}
+   *          and {@link Character#MAX_RADIX}.
+   * @return The result of assigning the specified number as a string to the
+   *         provided {@linkplain BigInt#val() value-encoded
+   *         <code>int[]</code>}.
+   * @throws NumberFormatException If {@code radix} is out of range, or if a
+   *           char of {@code s} is not a digit of the radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public static int[] assign(final int[] val, final String s, final int radix) {
+    return assign(val, s.toCharArray(), radix);
+  }
+
+  /**
+   * Assigns the specified number as a {@code char[]} of the provided radix to
+   * the provided {@linkplain BigInt#val() value-encoded <code>int[]</code>}.
+   *
+   * <pre>
+   * val = s
+   * </pre>
+   *
+   * <i><b>Note:</b> The returned number may be a {@code new int[]} instance if
+   * the assignment requires a larger array.</i>
+   * <p>
+   * The digits of radixes that are powers of two are sliced directly into the
+   * bits of the limbs. The digits of other radixes are parsed with the
+   * repeated multiplication by a power of the radix, or recursively above the
+   * length that corresponds to {@link BigIntDivision#PARSE_THRESHOLD} decimal
+   * digits (see {@link BigIntDivision#parseRecursive(char[],int,int,int,int)}).
+   *
+   * @param val The target array of the assignment.
+   * @param s The number as a {@code char[]}.
+   * @param radix The radix of the {@code char[]}, between
+   *          {@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}.
+   * @return The result of assigning the specified number as a {@code char[]} to
+   *         the provided {@linkplain BigInt#val() value-encoded
+   *         <code>int[]</code>}.
+   * @throws NumberFormatException If {@code radix} is out of range, or if a
+   *           char of {@code s} is not a digit of the radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public static int[] assign(int[] val, final char[] s, final int radix) {
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      throw new NumberFormatException("Radix out of range: " + radix);
+
+    final int sig = s.length > 0 && s[0] == '-' ? -1 : 1;
+    final int fromIndex = sig < 0 || s.length > 0 && s[0] == '+' ? 1 : 0;
+    final int len = s.length - fromIndex;
+    if (len == 0)
+      throw new NumberFormatException("Zero length number");
+
+    if (radix == 10)
+      return assign(val, s);
+
+    if ((radix & radix - 1) == 0) {
+      final int alloc = parseAlloc(len, radix) + 1;
+      if (alloc > val.length)
+        val = alloc(alloc);
+
+      val[0] = parsePow2(val, s, fromIndex, s.length, Integer.numberOfTrailingZeros(radix));
+    }
+    else if (len >= BigIntDivision.PARSE_THRESHOLD * Math.log(10) / Math.log(radix)) {
+      final int[] mag = BigIntDivision.parseRecursive(s, fromIndex, s.length, radix, (int)(BigIntDivision.PARSE_THRESHOLD * Math.log(10) / Math.log(radix)));
+      if (mag[0] + 1 > val.length)
+        val = mag;
+      else
+        System.arraycopy(mag, 0, val, 0, mag[0] + 1);
+    }
+    else {
+      final int alloc = parseAlloc(len, radix);
+      if (alloc > val.length)
+        val = alloc(alloc);
+
+      val[0] = parseQuad(val, s, fromIndex, s.length, radix);
+    }
+
+    if (sig < 0)
+      val[0] = -val[0];
+
+    // _debugLenSig(val);
+    return val;
+  }
+
+  /**
+   * Returns the number of limbs, plus one for the length, that is sufficient
+   * to hold a number of the specified number of digits of the provided radix.
+   *
+   * @param len The number of digits.
+   * @param radix The radix of the digits.
+   * @return The number of limbs, plus one for the length, that is sufficient
+   *         to hold a number of the specified number of digits of the
+   *         provided radix.
+   * @complexity O(1)
+   */
+  static int parseAlloc(final int len, final int radix) {
+    return radix == 10 ? parseAlloc(len) : (int)(len * (Math.log(radix) / Math.log(2)) / 32) + 2;
+  }
+
+  /**
+   * Parses the unsigned digits of the provided radix in the provided
+   * {@code char[]} between {@code fromIndex} and {@code toIndex} into the
+   * magnitude of the provided array, starting at index 1, with the repeated
+   * multiplication by the largest power of the radix that fits in an
+   * {@code int}.
+   *
+   * @param val The target array, with room for at least
+   *          {@link #parseAlloc(int,int) parseAlloc(toIndex - fromIndex,
+   *          radix)} ints.
+   * @param s The digits as a {@code char[]}.
+   * @param fromIndex The index (inclusive) of the most significant digit.
+   * @param toIndex The index (exclusive) of the least significant digit.
+   * @param radix The radix of the digits.
+   * @return The number of limbs of the parsed magnitude.
+   * @throws NumberFormatException If a char is not a digit of the radix.
+   * @complexity O(n^2)
+   */
+  static int parseQuad(final int[] val, final char[] s, final int fromIndex, final int toIndex, final int radix) {
+    if (radix == 10)
+      return parseQuad(val, s, fromIndex, toIndex);
+
+    final int digits = intDigits[radix];
+    int j = (toIndex - fromIndex) % digits;
+    if (j == 0)
+      j = digits;
+
+    j += fromIndex;
+
+    val[1] = parse(s, fromIndex, j, radix);
+    int end = 2;
+    while (j < toIndex)
+      end = mulAdd(val, 1, end, intRadix[radix], parse(s, j, j += digits, radix));
+
+    // Leading zeros leave a single limb of zero
+    return end == 2 && val[1] == 0 ? 0 : end - 1;
+  }
+
+  /**
+   * Parses a part of a char array as an unsigned number of the provided radix.
+   *
+   * @param s A char array representing the number in the provided radix.
+   * @param fromIndex The index (inclusive) where we start parsing.
+   * @param toIndex The index (exclusive) where we stop parsing.
+   * @param radix The radix of the digits.
+   * @return The parsed {@code int}.
+   * @throws NumberFormatException If a char is not a digit of the radix.
+   * @complexity O(n)
+   */
+  private static int parse(final char[] s, int fromIndex, final int toIndex, final int radix) {
+    int v = 0;
+    for (int d; fromIndex < toIndex; ++fromIndex) {
+      if ((d = Character.digit(s[fromIndex], radix)) < 0)
+        throw new NumberFormatException("Illegal digit of radix " + radix + ": " + s[fromIndex]);
+
+      v = v * radix + d;
+    }
+
+    return v;
+  }
+
+  /**
+   * Parses the unsigned digits of the provided radix that is a power of two in
+   * the provided {@code char[]} between {@code fromIndex} and {@code toIndex}
+   * into the magnitude of the provided array, starting at index 1, by slicing
+   * the bits of each digit directly into the limbs.
+   *
+   * @param val The target array, with room for at least
+   *          {@link #parseAlloc(int,int) parseAlloc(toIndex - fromIndex,
+   *          radix)} plus one ints.
+   * @param s The digits as a {@code char[]}.
+   * @param fromIndex The index (inclusive) of the most significant digit.
+   * @param toIndex The index (exclusive) of the least significant digit.
+   * @param bits The number of bits per digit, which is the base 2 logarithm
+   *          of the radix.
+   * @return The number of limbs of the parsed magnitude.
+   * @throws NumberFormatException If a char is not a digit of the radix.
+   * @complexity O(n)
+   */
+  private static int parsePow2(final int[] val, final char[] s, final int fromIndex, int toIndex, final int bits) {
+    final int radix = 1 << bits;
+    int i = 1, shift = 0;
+    val[1] = 0;
+    for (int d; toIndex > fromIndex;) {
+      final char c = s[--toIndex];
+      if ((d = Character.digit(c, radix)) < 0)
+        throw new NumberFormatException("Illegal digit of radix " + radix + ": " + c);
+
+      val[i] |= d << shift;
+      if ((shift += bits) >= 32)
+        val[++i] = (shift -= 32) == 0 ? 0 : d >>> bits - shift;
+    }
+
+    while (i > 0 && val[i] == 0)
+      --i;
+
+    return i;
+  }
+
   /**
    * Multiplies the provided {@linkplain BigInt#val() value-encoded number} with
    * {@code mul}, adds {@code add}, and returns the carry.
@@ -1387,11 +1751,15 @@ abstract class BigIntValue extends Number {
   /**
    * Converts the provided {@linkplain BigInt#val() value-encoded number} into a
    * string of radix 10.
+   * <p>
+   * Numbers of at least {@link BigIntDivision#TOSTRING_THRESHOLD} limbs are
+   * converted recursively, by division by a power of ten that splits the digits
+   * in halves (see {@link BigIntDivision#toStringRecursive(int[],int,int,int,int)}).
    *
    * @param val The {@linkplain BigInt#val() value-encoded number}.
    * @return The string representation of the provided {@linkplain BigInt#val()
    *         value-encoded number} in radix 10.
-   * @complexity O(n^2)
+   * @complexity O(n^2) - O(n^1.58 log n)
    */
   public static String toString(final int[] val) {
     if (val == null)
@@ -1401,12 +1769,50 @@ abstract class BigIntValue extends Number {
       return "0";
 
     int sig = 1, len = val[0]; if (len < 0) { len = -len; sig = -1; }
+    if (len >= BigIntDivision.TOSTRING_THRESHOLD)
+      return BigIntDivision.toStringRecursive(val, len, sig, 10, BigIntDivision.TOSTRING_THRESHOLD);
+
+    return toStringQuad(val, len, sig);
+  }
 
-    int j, top = len * 10 + 3;
-    final char[] chars = new char[top];
+  /**
+   * Converts the provided {@linkplain BigInt#val() value-encoded number} into a
+   * string of radix 10, by repeated division by {@code 10^13}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param len The number of limbs in {@code val}.
+   * @param sig The sign of {@code val}.
+   * @return The string representation of the provided {@linkplain BigInt#val()
+   *         value-encoded number} in radix 10.
+   * @complexity O(n^2)
+   */
+  static String toStringQuad(final int[] val, final int len, final int sig) {
+    final char[] chars = new char[len * 10 + 3];
     Arrays.fill(chars, '0');
     final int[] mag = new int[len];
     System.arraycopy(val, 1, mag, 0, len);
+    int top = toStringQuad(mag, len, chars, chars.length);
+    if (sig < 0)
+      chars[--top] = '-';
+
+    return new String(chars, top, chars.length - top);
+  }
+
+  /**
+   * Writes the decimal digits of the provided non-zero magnitude into the
+   * provided {@code '0'}-filled {@code char[]}, such that the least
+   * significant digit is at {@code top - 1}, by repeated division by
+   * {@code 10^13}. The magnitude is destroyed.
+   *
+   * @param mag The magnitude array, starting at index {@code 0}.
+   * @param len The number of limbs in {@code mag}.
+   * @param chars The {@code '0'}-filled {@code char[]}.
+   * @param top The index after the least significant digit.
+   * @return The index of the most significant digit.
+   * @complexity O(n^2)
+   */
+  static int toStringQuad(final int[] mag, int len, final char[] chars, int top) {
+    int j;
     long tmp;
     while (true) {
       j = top;
@@ -1418,17 +1824,254 @@ abstract class BigIntValue extends Number {
         chars[--top] += tmp % 10; // TODO: Optimize
 
       if (len == 1 && mag[0] == 0)
-        break;
+        return top;
 
       top = j - 13;
     }
+  }
+
+  /**
+   * Converts the provided {@linkplain BigInt#val() value-encoded number} into a
+   * string of the provided radix. If the radix is outside the range from
+   * {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}, radix 10 is
+   * used, as in {@link java.math.BigInteger#toString(int)}.
+   * <p>
+   * The digits of radixes that are powers of two are sliced directly from the
+   * bits of the limbs. The digits of other radixes are converted with the
+   * repeated division by a power of the radix, or recursively for numbers of
+   * at least {@link BigIntDivision#TOSTRING_THRESHOLD} limbs (see
+   * {@link BigIntDivision#toStringRecursive(int[],int,int,int,int)}).
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param radix The radix of the string.
+   * @return The string representation of the provided {@linkplain BigInt#val()
+   *         value-encoded number} in the provided radix.
+   * @complexity O(n) - O(n^1.58 log n)
+   */
+  public static String toString(final int[] val, int radix) {
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      radix = 10;
+
+    if (radix == 10 || val == null || isZero(val))
+      return toString(val);
 
+    int sig = 1, len = val[0]; if (len < 0) { len = -len; sig = -1; }
+    if ((radix & radix - 1) == 0)
+      return toStringPow2(val, len, sig, Integer.numberOfTrailingZeros(radix));
+
+    if (len >= BigIntDivision.TOSTRING_THRESHOLD)
+      return BigIntDivision.toStringRecursive(val, len, sig, radix, BigIntDivision.TOSTRING_THRESHOLD);
+
+    // 32 / log2(radix) digits per limb, with room for the sign
+    final char[] chars = new char[(int)(len * 32 / (Math.log(radix) / Math.log(2))) + 3];
+    Arrays.fill(chars, '0');
+    final int[] mag = new int[len];
+    System.arraycopy(val, 1, mag, 0, len);
+    int top = toStringQuad(mag, len, radix, chars, chars.length);
     if (sig < 0)
       chars[--top] = '-';
 
     return new String(chars, top, chars.length - top);
   }
 
+  /**
+   * Writes the digits of the provided radix of the provided non-zero magnitude
+   * into the provided {@code '0'}-filled {@code char[]}, such that the least
+   * significant digit is at {@code top - 1}, by repeated division by the
+   * largest power of the radix that fits in an {@code int}. The magnitude is
+   * destroyed.
+   *
+   * @param mag The magnitude array, starting at index {@code 0}.
+   * @param len The number of limbs in {@code mag}.
+   * @param radix The radix of the digits.
+   * @param chars The {@code '0'}-filled {@code char[]}.
+   * @param top The index after the least significant digit.
+   * @return The index of the most significant digit.
+   * @complexity O(n^2)
+   */
+  static int toStringQuad(final int[] mag, int len, final int radix, final char[] chars, int top) {
+    if (radix == 10)
+      return toStringQuad(mag, len, chars, top);
+
+    final long div = intRadix[radix];
+    final int digits = intDigits[radix];
+    while (true) {
+      long r = 0;
+      for (int i = len - 1; i >= 0; --i) {
+        r = r << 32 | mag[i] & LONG_MASK;
+        final long q = r / div;
+        mag[i] = (int)q;
+        r -= q * div;
+      }
+
+      if (mag[len - 1] == 0)
+        --len;
+
+      final int j = top;
+      for (; r > 0; r /= radix)
+        chars[--top] = radixDigits[(int)(r % radix)];
+
+      if (len == 0)
+        return top;
+
+      top = j - digits;
+    }
+  }
+
+  /**
+   * Converts the provided magnitude into a string of the radix that is a power
+   * of two, by slicing the bits of each digit directly from the limbs.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param len The number of limbs in {@code val}.
+   * @param sig The sign of {@code val}.
+   * @param bits The number of bits per digit, which is the base 2 logarithm
+   *          of the radix.
+   * @return The string representation of the provided {@linkplain BigInt#val()
+   *         value-encoded number} in the radix.
+   * @complexity O(n)
+   */
+  private static String toStringPow2(final int[] val, final int len, final int sig, final int bits) {
+    final int bitLength = len * 32 - Integer.numberOfLeadingZeros(val[len]);
+    final int mask = (1 << bits) - 1;
+    final char[] chars = new char[(bitLength + bits - 1) / bits + (sig < 0 ? 1 : 0)];
+    int top = chars.length;
+    for (int bit = 0; bit < bitLength; bit += bits) {
+      final int i = (bit >>> 5) + 1;
+      final int shift = bit & 31;
+      int d = val[i] >>> shift;
+      if (shift + bits > 32 && i < len)
+        d |= val[i + 1] << 32 - shift;
+
+      chars[--top] = radixDigits[d & mask];
+    }
+
+    if (sig < 0)
+      chars[0] = '-';
+
+    return new String(chars);
+  }
+
+  /**
+   * The array of the current thread for the copy of the magnitude and the
+   * 9-digit chunks of the numbers written with {@code writeTo}.
+   */
+  private static final LocalArray localWrite = new LocalArray();
+
+  /**
+   * Writes the provided {@linkplain BigInt#val() value-encoded number} as a
+   * string of radix 10 in ASCII into the provided {@code byte[]}, starting at
+   * {@code off}.
+   * <p>
+   * Numbers below {@link BigIntDivision#TOSTRING_THRESHOLD} limbs are divided
+   * into chunks of 9 digits on an array that is reused per thread, and the
+   * chunks are written two digits at a time, such that nothing is allocated.
+   * Larger numbers are converted with {@link #toString(int[])}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param dst The target {@code byte[]}.
+   * @param off The index in {@code dst} at which to start writing.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the number does not fit in
+   *           {@code dst} at {@code off}, in which case nothing is written.
+   * @complexity O(n^2) - O(n^1.58 log n)
+   */
+  public static int writeTo(final int[] val, final byte[] dst, final int off) {
+    int len = val[0];
+    if (len == 0) {
+      dst[off] = '0';
+      return 1;
+    }
+
+    boolean sig = true; if (len < 0) { len = -len; sig = false; }
+    if (len >= BigIntDivision.TOSTRING_THRESHOLD) {
+      final String s = BigIntDivision.toStringRecursive(val, len, sig ? 1 : -1, 10, BigIntDivision.TOSTRING_THRESHOLD);
+      final int n = s.length();
+      if (off < 0 || off + n > dst.length)
+        throw new ArrayIndexOutOfBoundsException("Number of " + n + " digits does not fit at " + off + " in length " + dst.length);
+
+      for (int i = 0; i < n; ++i)
+        dst[off + i] = (byte)s.charAt(i);
+
+      return n;
+    }
+
+    // The chunks of 9 digits follow the copy of the magnitude, from the least significant
+    final int[] chunks = localWrite.take(len * 3 + 1);
+    System.arraycopy(val, 1, chunks, 0, len);
+    int end = len;
+    for (int mlen = len; mlen > 0; ++end) {
+      long r = 0;
+      for (int i = mlen - 1; i >= 0; --i) {
+        r = r << 32 | chunks[i] & LONG_MASK;
+        final long q = r / 1_000_000_000;
+        chunks[i] = (int)q;
+        r -= q * 1_000_000_000;
+      }
+
+      if (chunks[mlen - 1] == 0)
+        --mlen;
+
+      chunks[end] = (int)r;
+    }
+
+    final int top = chunks[--end];
+    final int precision = Numbers.precision(top);
+    final int n = (sig ? 0 : 1) + precision + (end - len) * 9;
+    if (off < 0 || off + n > dst.length) {
+      localWrite.release(chunks);
+      throw new ArrayIndexOutOfBoundsException("Number of " + n + " digits does not fit at " + off + " in length " + dst.length);
+    }
+
+    int i = off;
+    if (!sig)
+      dst[i++] = '-';
+
+    FastMath.putDigits(top, precision, dst, i += precision);
+    while (end > len)
+      FastMath.putDigits(chunks[--end], 9, dst, i += 9);
+
+    localWrite.release(chunks);
+    return n;
+  }
+
+  /**
+   * Appends the provided {@linkplain BigInt#val() value-encoded number} as a
+   * string of radix 10 to the provided {@link StringBuilder}, without the
+   * allocation of a {@link String} for numbers below
+   * {@link BigIntDivision#TOSTRING_THRESHOLD} limbs (see
+   * {@link #writeTo(int[],byte[],int)}).
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param dst The target {@link StringBuilder}.
+   * @return The number of chars appended.
+   * @complexity O(n^2) - O(n^1.58 log n)
+   */
+  public static int writeTo(final int[] val, final StringBuilder dst) {
+    final byte[] digits = FastMath.localDigits(Math.abs(val[0]) * 10 + 2);
+    return FastMath.append(digits, writeTo(val, digits, 0), dst);
+  }
+
+  /**
+   * Puts the provided {@linkplain BigInt#val() value-encoded number} as a
+   * string of radix 10 in ASCII into the provided {@link ByteBuffer} at its
+   * position, and advances the position, without allocation for numbers below
+   * {@link BigIntDivision#TOSTRING_THRESHOLD} limbs (see
+   * {@link #writeTo(int[],byte[],int)}).
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the number does not fit in
+   *           the remaining space of {@code dst}, in which case nothing is
+   *           written.
+   * @complexity O(n^2) - O(n^1.58 log n)
+   */
+  public static int writeTo(final int[] val, final ByteBuffer dst) {
+    final byte[] digits = FastMath.localDigits(Math.abs(val[0]) * 10 + 2);
+    return FastMath.put(digits, writeTo(val, digits, 0), dst);
+  }
+
   /**
    * Returns the number of bits in the minimal two's-complement representation
    * of the provided {@linkplain BigInt#val() value-encoded number},
@@ -0,0 +1,184 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+/**
+ * SIMD kernels of the limb loops of {@link BigInt}, implemented with the
+ * {@code jdk.incubator.vector} module.
+ * <p>
+ * This class is the baseline implementation for Java versions that precede the
+ * Vector API, wherein all thresholds are {@link Integer#MAX_VALUE}, and the
+ * scalar loops of the callers are thus always used. The implementation for
+ * Java 17 and above is provided in the {@code META-INF/versions/17} directory
+ * of the multi-release JAR, and is enabled if the {@code jdk.incubator.vector}
+ * module is resolved (i.e. {@code --add-modules jdk.incubator.vector}), and the
+ * {@code org.libj.math.noVector} system property is not set.
+ * <p>
+ * The kernels produce results that are bit-identical to those of the scalar
+ * loops.
+ */
+final class BigIntVector {
+  /**
+   * Whether the SIMD kernels are enabled.
+   */
+  static final boolean ENABLED = false;
+
+  /**
+   * The threshold of the number of limbs for using {@link #add(int[],int[],int[],int,int)}
+   * and {@link #sub(int[],int[],int[],int,int)}.
+   */
+  static final int ADD_THRESHOLD = Integer.MAX_VALUE;
+
+  /**
+   * The threshold of the number of limbs of the shorter operand for using
+   * {@link #mulQuad(int[],int,int,int[],int,int,int[],int)}.
+   */
+  static final int MUL_THRESHOLD = Integer.MAX_VALUE;
+
+  /**
+   * The threshold of the number of limbs for squaring with
+   * {@link #mulQuad(int[],int,int,int[],int,int,int[],int)}.
+   */
+  static final int SQUARE_THRESHOLD = Integer.MAX_VALUE;
+
+  /**
+   * The threshold of the number of limbs for using the bitwise kernels.
+   */
+  static final int BITWISE_THRESHOLD = Integer.MAX_VALUE;
+
+  /**
+   * Adds the limbs of {@code x} and {@code y} in the range
+   * {@code [from, to)} into {@code z}, and returns the carry.
+   *
+   * @param x The first addend.
+   * @param y The second addend.
+   * @param z The array into which the sum is to be written, which may be
+   *          {@code x} or {@code y}.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   * @return The carry out of the most significant limb, {@code 0} or
+   *         {@code 1}.
+   */
+  static int add(final int[] x, final int[] y, final int[] z, final int from, final int to) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Subtracts the limbs of {@code y} from {@code x} in the range
+   * {@code [from, to)} into {@code z}, and returns the borrow.
+   *
+   * @param x The minuend.
+   * @param y The subtrahend.
+   * @param z The array into which the difference is to be written, which may
+   *          be {@code x} or {@code y}.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   * @return The borrow out of the most significant limb, {@code 0} or
+   *         {@code 1}.
+   */
+  static int sub(final int[] x, final int[] y, final int[] z, final int from, final int to) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Multiplies the magnitudes {@code x} and {@code y} with the quadratic
+   * algorithm, and writes the {@code xlen + ylen} limbs of the product into
+   * {@code z} starting at {@code zoff}. The magnitudes are read entirely
+   * before {@code z} is written, so {@code z} may be {@code y}, or {@code x}
+   * if the product does not overlap it.
+   *
+   * @param x The first magnitude.
+   * @param xoff The offset of the first magnitude.
+   * @param xlen The number of limbs in the first magnitude.
+   * @param y The second magnitude.
+   * @param yoff The offset of the second magnitude.
+   * @param ylen The number of limbs in the second magnitude.
+   * @param z The array into which the product is to be written.
+   * @param zoff The offset of the product.
+   */
+  static void mulQuad(final int[] x, final int xoff, final int xlen, final int[] y, final int yoff, final int ylen, final int[] z, final int zoff) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Performs {@code val[i] &= mask[i]} for the limbs in the range
+   * {@code [from, to)}.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  static void and(final int[] val, final int[] mask, final int from, final int to) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Performs {@code val[i] &= ~mask[i]} for the limbs in the range
+   * {@code [from, to)}.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  static void andNot(final int[] val, final int[] mask, final int from, final int to) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Performs {@code val[i] = ~val[i] & mask[i]} for the limbs in the range
+   * {@code [from, to)}.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  static void notAnd(final int[] val, final int[] mask, final int from, final int to) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Performs {@code val[i] |= mask[i]} for the limbs in the range
+   * {@code [from, to)}.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  static void or(final int[] val, final int[] mask, final int from, final int to) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Performs {@code val[i] ^= mask[i]} for the limbs in the range
+   * {@code [from, to)}.
+   *
+   * @param val The array of limbs to be modified.
+   * @param mask The array of limbs of the mask.
+   * @param from The index of the first limb (inclusive).
+   * @param to The index of the last limb (exclusive).
+   */
+  static void xor(final int[] val, final int[] mask, final int from, final int to) {
+    throw new UnsupportedOperationException();
+  }
+
+  private BigIntVector() {
+  }
+}
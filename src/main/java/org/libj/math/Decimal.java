@@ -20,9 +20,19 @@ import static org.libj.math.DecimalAddition.*;
 import static org.libj.math.DecimalDivision.*;
 import static org.libj.math.DecimalMultiplication.*;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 
 import org.libj.lang.Numbers;
 
@@ -38,7 +48,7 @@ import org.libj.lang.Numbers;
  * <code>10<sup>-scale</sup></code>)</li>
  * </ul>
  */
-public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneable {
+public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneable, Externalizable {
   private static final long serialVersionUID = 3129168059597869867L;
 
   /**
@@ -376,6 +386,12 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   private String string;
   private String scientificString;
 
+  /**
+   * The maximum length of the string representation of a {@link Decimal}: the
+   * sign, 19 digits, the dot, and an exponent of {@code E-} and 5 digits.
+   */
+  private static final int MAX_STRING_LENGTH = 28;
+
   static final ThreadLocal<Decimal> threadLocal = new ThreadLocal<Decimal>() {
     @Override
     protected Decimal initialValue() {
@@ -419,7 +435,11 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
     this.scale = copy.scale;
   }
 
-  Decimal() {
+  /**
+   * Creates a new {@link Decimal} with the value of zero, as required for
+   * {@link Externalizable}.
+   */
+  public Decimal() {
   }
 
   Decimal error(final String error) {
@@ -1733,6 +1753,436 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
     return string == null ? string = toString(significand, scale) : string;
   }
 
+  /**
+   * Writes the string representation of the fixed point decimal specified by
+   * the provided {@code significand} and {@code scale} (i.e. that of
+   * {@link #toString(long,short)}) in ASCII into the provided {@code byte[]},
+   * starting at {@code off}. The digits are written two at a time, and nothing
+   * is allocated.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param dst The target {@code byte[]}.
+   * @param off The index in {@code dst} at which to start writing.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string representation does
+   *           not fit in {@code dst} at {@code off}, in which case nothing is
+   *           written.
+   * @complexity O(n)
+   */
+  public static int writeTo(final long significand, final short scale, final byte[] dst, final int off) {
+    if (significand == 0) {
+      dst[off] = '0';
+      return 1;
+    }
+
+    final byte precision = Numbers.precision(significand);
+    final int intDigits;
+    final int exp;
+    if (scale == 0) {
+      intDigits = precision;
+      exp = 0;
+    }
+    else if (scale > 0) {
+      intDigits = scale >= precision ? precision : precision - scale;
+      exp = scale >= precision ? -scale : 0;
+    }
+    else {
+      intDigits = 1;
+      exp = precision - 1 - scale;
+    }
+
+    final int fracDigits = precision - intDigits;
+    final int expDigits = exp == 0 ? 0 : Numbers.precision(exp);
+    final boolean isNeg = significand < 0;
+    final int n = (isNeg ? 1 : 0) + precision + (fracDigits > 0 ? 1 : 0) + (exp == 0 ? 0 : exp < 0 ? expDigits + 2 : expDigits + 1);
+    if (off < 0 || off + n > dst.length)
+      throw new ArrayIndexOutOfBoundsException("String of length " + n + " does not fit at " + off + " in length " + dst.length);
+
+    // The magnitude of Long.MIN_VALUE is unsigned
+    final long mag = isNeg ? -significand : significand;
+    int i = off;
+    if (isNeg)
+      dst[i++] = '-';
+
+    if (fracDigits > 0) {
+      final long pow = FastMath.longE10[fracDigits];
+      long hi = mag < 0 ? ((mag >>> 1) / pow) << 1 : mag / pow;
+      long lo = mag - hi * pow;
+      if (lo >= pow) {
+        ++hi;
+        lo -= pow;
+      }
+
+      FastMath.putDigits(hi, intDigits, dst, i += intDigits);
+      dst[i++] = '.';
+      FastMath.putDigits(lo, fracDigits, dst, i += fracDigits);
+    }
+    else {
+      FastMath.putDigits(mag, precision, dst, i += precision);
+    }
+
+    if (exp != 0) {
+      dst[i++] = 'E';
+      if (exp < 0)
+        dst[i++] = '-';
+
+      FastMath.putDigits(exp < 0 ? -exp : exp, expDigits, dst, i + expDigits);
+    }
+
+    return n;
+  }
+
+  /**
+   * Writes the string representation of the provided
+   * {@link Decimal#valueOf(long,int,long) encoded} value (i.e. that of
+   * {@link #toString(long)}) in ASCII into the provided {@code byte[]},
+   * starting at {@code off}, without allocation.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param dst The target {@code byte[]}.
+   * @param off The index in {@code dst} at which to start writing.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string representation does
+   *           not fit in {@code dst} at {@code off}, in which case nothing is
+   *           written.
+   * @complexity O(n)
+   */
+  public static int writeTo(final long dec, final byte[] dst, final int off) {
+    return writeTo(significand(dec), scale(dec), dst, off);
+  }
+
+  /**
+   * Appends the string representation of the provided
+   * {@link Decimal#valueOf(long,int,long) encoded} value (i.e. that of
+   * {@link #toString(long)}) to the provided {@link StringBuilder}, without
+   * the allocation of a {@link String}.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param dst The target {@link StringBuilder}.
+   * @return The number of chars appended.
+   * @complexity O(n)
+   */
+  public static int writeTo(final long dec, final StringBuilder dst) {
+    final byte[] digits = FastMath.localDigits(MAX_STRING_LENGTH);
+    return FastMath.append(digits, writeTo(dec, digits, 0), dst);
+  }
+
+  /**
+   * Puts the string representation of the provided
+   * {@link Decimal#valueOf(long,int,long) encoded} value (i.e. that of
+   * {@link #toString(long)}) in ASCII into the provided {@link ByteBuffer} at
+   * its position, and advances the position, without allocation.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the string representation
+   *           does not fit in the remaining space of {@code dst}, in which case
+   *           nothing is written.
+   * @complexity O(n)
+   */
+  public static int writeTo(final long dec, final ByteBuffer dst) {
+    final byte[] digits = FastMath.localDigits(MAX_STRING_LENGTH);
+    return FastMath.put(digits, writeTo(dec, digits, 0), dst);
+  }
+
+  /**
+   * Writes the string representation of this {@link Decimal} (i.e. that of
+   * {@link #toString()}) in ASCII into the provided {@code byte[]}, starting at
+   * {@code off}, without allocation.
+   *
+   * @param dst The target {@code byte[]}.
+   * @param off The index in {@code dst} at which to start writing.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string representation does
+   *           not fit in {@code dst} at {@code off}, in which case nothing is
+   *           written.
+   * @complexity O(n)
+   */
+  public int writeTo(final byte[] dst, final int off) {
+    return writeTo(significand, scale, dst, off);
+  }
+
+  /**
+   * Appends the string representation of this {@link Decimal} (i.e. that of
+   * {@link #toString()}) to the provided {@link StringBuilder}, without the
+   * allocation of a {@link String}.
+   *
+   * @param dst The target {@link StringBuilder}.
+   * @return The number of chars appended.
+   * @complexity O(n)
+   */
+  public int writeTo(final StringBuilder dst) {
+    final byte[] digits = FastMath.localDigits(MAX_STRING_LENGTH);
+    return FastMath.append(digits, writeTo(significand, scale, digits, 0), dst);
+  }
+
+  /**
+   * Puts the string representation of this {@link Decimal} (i.e. that of
+   * {@link #toString()}) in ASCII into the provided {@link ByteBuffer} at its
+   * position, and advances the position, without allocation.
+   *
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the string representation
+   *           does not fit in the remaining space of {@code dst}, in which case
+   *           nothing is written.
+   * @complexity O(n)
+   */
+  public int writeTo(final ByteBuffer dst) {
+    final byte[] digits = FastMath.localDigits(MAX_STRING_LENGTH);
+    return FastMath.put(digits, writeTo(significand, scale, digits, 0), dst);
+  }
+
+  /**
+   * Returns the number of bytes of the compact binary representation of the
+   * fixed point decimal specified by the provided {@code significand} and
+   * {@code scale}, as written by {@link #write(long,short,ByteBuffer)}.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @return The number of bytes of the compact binary representation.
+   */
+  public static int binarySize(final long significand, final short scale) {
+    return FastMath.varintLength(FastMath.zigZag(significand)) + FastMath.varintLength(FastMath.zigZag(scale));
+  }
+
+  /**
+   * Puts the compact binary representation of the fixed point decimal
+   * specified by the provided {@code significand} and {@code scale} into the
+   * provided {@link ByteBuffer} at its position, and advances the position,
+   * without allocation.
+   * <p>
+   * The binary representation is the significand as a zig-zag varint of 1 to
+   * 10 bytes, followed by the scale as a zig-zag varint of 1 to 3 bytes. A
+   * price such as {@code 123.45} (i.e. significand {@code 12345} and scale
+   * {@code 2}) is thereby encoded in 4 bytes.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws BufferOverflowException If the binary representation does not fit
+   *           in the remaining space of {@code dst}, in which case nothing is
+   *           written.
+   */
+  public static int write(final long significand, final short scale, final ByteBuffer dst) {
+    final long zSignificand = FastMath.zigZag(significand);
+    final long zScale = FastMath.zigZag(scale);
+    final int n = FastMath.varintLength(zSignificand) + FastMath.varintLength(zScale);
+    if (dst.remaining() < n)
+      throw new BufferOverflowException();
+
+    FastMath.putVarint(zSignificand, dst);
+    FastMath.putVarint(zScale, dst);
+    return n;
+  }
+
+  /**
+   * Puts the compact binary representation of the provided
+   * {@link Decimal#valueOf(long,int,long) encoded} value (i.e. that of
+   * {@link #write(long,short,ByteBuffer)}) into the provided
+   * {@link ByteBuffer} at its position, and advances the position, without
+   * allocation.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws BufferOverflowException If the binary representation does not fit
+   *           in the remaining space of {@code dst}, in which case nothing is
+   *           written.
+   */
+  public static int write(final long dec, final ByteBuffer dst) {
+    return write(significand(dec), scale(dec), dst);
+  }
+
+  /**
+   * Writes the compact binary representation of the fixed point decimal
+   * specified by the provided {@code significand} and {@code scale} (i.e. that
+   * of {@link #write(long,short,ByteBuffer)}) to the provided
+   * {@link DataOutput}, without allocation.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param out The target {@link DataOutput}.
+   * @return The number of bytes written.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static int write(final long significand, final short scale, final DataOutput out) throws IOException {
+    final long zSignificand = FastMath.zigZag(significand);
+    final long zScale = FastMath.zigZag(scale);
+    FastMath.writeVarint(zSignificand, out);
+    FastMath.writeVarint(zScale, out);
+    return FastMath.varintLength(zSignificand) + FastMath.varintLength(zScale);
+  }
+
+  /**
+   * Writes the compact binary representation of the provided
+   * {@link Decimal#valueOf(long,int,long) encoded} value (i.e. that of
+   * {@link #write(long,short,ByteBuffer)}) to the provided {@link DataOutput},
+   * without allocation.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param out The target {@link DataOutput}.
+   * @return The number of bytes written.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static int write(final long dec, final DataOutput out) throws IOException {
+    return write(significand(dec), scale(dec), out);
+  }
+
+  /**
+   * Gets the {@link Decimal#valueOf(long,int,long) encoded} value of the
+   * compact binary representation (i.e. that of
+   * {@link #write(long,short,ByteBuffer)}) at the position of the provided
+   * {@link ByteBuffer}, and advances the position past it.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @param defaultValue The value to be returned if the result cannot be
+   *          represented in {@link Decimal} encoding.
+   * @return The {@link Decimal#valueOf(long,int,long) encoded} value, or
+   *         {@code defaultValue} if the result cannot be represented in
+   *         {@link Decimal} encoding.
+   * @throws BufferUnderflowException If the binary representation is truncated
+   *           by the limit of {@code src}, in which case the position is not
+   *           changed.
+   * @throws IllegalArgumentException If the binary representation is malformed,
+   *           in which case the position is not changed.
+   */
+  public static long read(final ByteBuffer src, final long defaultValue) {
+    final Decimal decimal = threadLocal.get();
+    return decimal.read(src).encode(defaultValue);
+  }
+
+  /**
+   * Reads the {@link Decimal#valueOf(long,int,long) encoded} value of the
+   * compact binary representation (i.e. that of
+   * {@link #write(long,short,DataOutput)}) from the provided
+   * {@link DataInput}.
+   *
+   * @param in The source {@link DataInput}.
+   * @param defaultValue The value to be returned if the result cannot be
+   *          represented in {@link Decimal} encoding.
+   * @return The {@link Decimal#valueOf(long,int,long) encoded} value, or
+   *         {@code defaultValue} if the result cannot be represented in
+   *         {@link Decimal} encoding.
+   * @throws java.io.EOFException If the end of the input is reached before the
+   *           end of the binary representation.
+   * @throws StreamCorruptedException If the binary representation is
+   *           malformed.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static long read(final DataInput in, final long defaultValue) throws IOException {
+    final Decimal decimal = threadLocal.get();
+    return decimal.read(in).encode(defaultValue);
+  }
+
+  /**
+   * Puts the compact binary representation of this {@link Decimal} (i.e. that
+   * of {@link #write(long,short,ByteBuffer)}) into the provided
+   * {@link ByteBuffer} at its position, and advances the position, without
+   * allocation.
+   *
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes written.
+   * @throws BufferOverflowException If the binary representation does not fit
+   *           in the remaining space of {@code dst}, in which case nothing is
+   *           written.
+   */
+  public int write(final ByteBuffer dst) {
+    return write(significand, scale, dst);
+  }
+
+  /**
+   * Writes the compact binary representation of this {@link Decimal} (i.e.
+   * that of {@link #write(long,short,ByteBuffer)}) to the provided
+   * {@link DataOutput}, without allocation.
+   *
+   * @param out The target {@link DataOutput}.
+   * @return The number of bytes written.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public int write(final DataOutput out) throws IOException {
+    return write(significand, scale, out);
+  }
+
+  /**
+   * Assigns the fixed point decimal of the compact binary representation (i.e.
+   * that of {@link #write(long,short,ByteBuffer)}) at the position of the
+   * provided {@link ByteBuffer} to this {@link Decimal}, and advances the
+   * position past it.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @return {@code this}
+   * @throws BufferUnderflowException If the binary representation is truncated
+   *           by the limit of {@code src}, in which case the position is not
+   *           changed.
+   * @throws IllegalArgumentException If the binary representation is malformed,
+   *           in which case the position is not changed.
+   */
+  public Decimal read(final ByteBuffer src) {
+    final int pos = src.position();
+    try {
+      final long significand = FastMath.unZigZag(FastMath.getVarint(src));
+      final long zScale = FastMath.getVarint(src);
+      if (zScale >>> Short.SIZE != 0)
+        throw new IllegalArgumentException("Scale out of range: " + FastMath.unZigZag(zScale));
+
+      return assign(significand, (short)FastMath.unZigZag(zScale));
+    }
+    catch (final BufferUnderflowException | IllegalArgumentException e) {
+      src.position(pos);
+      throw e;
+    }
+  }
+
+  /**
+   * Assigns the fixed point decimal of the compact binary representation (i.e.
+   * that of {@link #write(long,short,DataOutput)}) read from the provided
+   * {@link DataInput} to this {@link Decimal}.
+   *
+   * @param in The source {@link DataInput}.
+   * @return {@code this}
+   * @throws java.io.EOFException If the end of the input is reached before the
+   *           end of the binary representation.
+   * @throws StreamCorruptedException If the binary representation is
+   *           malformed.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public Decimal read(final DataInput in) throws IOException {
+    final long significand = FastMath.unZigZag(FastMath.readVarint(in));
+    final long zScale = FastMath.readVarint(in);
+    if (zScale >>> Short.SIZE != 0)
+      throw new StreamCorruptedException("Scale out of range: " + FastMath.unZigZag(zScale));
+
+    return assign(significand, (short)FastMath.unZigZag(zScale));
+  }
+
+  /**
+   * Writes this {@link Decimal} in its compact binary representation (i.e.
+   * that of {@link #write(DataOutput)}).
+   *
+   * @param out The target {@link ObjectOutput}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    write(significand, scale, out);
+  }
+
+  /**
+   * Reads this {@link Decimal} from its compact binary representation (i.e.
+   * that of {@link #read(DataInput)}).
+   *
+   * @param in The source {@link ObjectInput}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException {
+    read(in);
+  }
+
   /**
    * Returns a copy of this {@link Decimal}.
    *
@@ -16,6 +16,12 @@
 
 package org.libj.math;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -43,9 +49,27 @@ public final class FastMath {
 
   private static volatile int[][] bigIntE10 = {new int[] {1, 1}};
 
+  /**
+   * The ASCII digits of the numbers {@code 00} to {@code 99}, by which the
+   * decimal digits are written two at a time.
+   */
+  private static final byte[] digitPairs = new byte[200];
+
+  /** The scratch space of the current thread for the digits being written. */
+  private static final ThreadLocal<byte[]> localDigits = new ThreadLocal<byte[]>() {
+    @Override
+    protected byte[] initialValue() {
+      return new byte[64];
+    }
+  };
+
   static {
     doubleE10(1024);
     E10(16);
+    for (int i = 0; i < 100; ++i) {
+      digitPairs[i * 2] = (byte)('0' + i / 10);
+      digitPairs[i * 2 + 1] = (byte)('0' + i % 10);
+    }
   }
 
   /**
@@ -258,6 +282,226 @@ public final class FastMath {
     return r - (Long.compareUnsigned(r, divisor) >= 0 ? divisor : 0);
   }
 
+  /**
+   * Writes the {@code n} least significant decimal digits of the provided
+   * non-negative {@code int} as ASCII into the provided {@code byte[]}, two at a
+   * time, such that the least significant digit is at {@code end - 1}. Leading
+   * digits beyond the value are written as {@code '0'}.
+   *
+   * @param v The non-negative value.
+   * @param n The number of digits to write.
+   * @param dst The target {@code byte[]}.
+   * @param end The index after the least significant digit.
+   */
+  static void putDigits(int v, int n, final byte[] dst, int end) {
+    for (int q, r; n > 1; n -= 2, v = q) {
+      q = v / 100;
+      r = (v - q * 100) << 1;
+      dst[--end] = digitPairs[r + 1];
+      dst[--end] = digitPairs[r];
+    }
+
+    if (n == 1)
+      dst[--end] = (byte)('0' + v % 10);
+  }
+
+  /**
+   * Writes the {@code n} least significant decimal digits of the provided
+   * {@code long} (unsigned) as ASCII into the provided {@code byte[]}, two at a
+   * time, such that the least significant digit is at {@code end - 1}. Leading
+   * digits beyond the value are written as {@code '0'}.
+   *
+   * @param v The value (unsigned).
+   * @param n The number of digits to write.
+   * @param dst The target {@code byte[]}.
+   * @param end The index after the least significant digit.
+   */
+  static void putDigits(long v, int n, final byte[] dst, int end) {
+    long q;
+    int r;
+    if (v < 0 && n > 1) {
+      q = (v >>> 1) / 50;
+      r = (int)(v - q * 100) << 1;
+      dst[--end] = digitPairs[r + 1];
+      dst[--end] = digitPairs[r];
+      v = q;
+      n -= 2;
+    }
+
+    for (; n > 1 && v > Integer.MAX_VALUE; n -= 2, v = q) {
+      q = v / 100;
+      r = (int)(v - q * 100) << 1;
+      dst[--end] = digitPairs[r + 1];
+      dst[--end] = digitPairs[r];
+    }
+
+    putDigits((int)v, n, dst, end);
+  }
+
+  /**
+   * Returns the scratch {@code byte[]} of the current thread, with a length
+   * that is at least {@code len}, for digits that are written before they are
+   * transferred to a {@link StringBuilder} or {@link ByteBuffer}.
+   *
+   * @param len The minimal length of the returned {@code byte[]}.
+   * @return The scratch {@code byte[]} of the current thread.
+   */
+  static byte[] localDigits(final int len) {
+    byte[] digits = localDigits.get();
+    if (digits.length < len)
+      localDigits.set(digits = new byte[len]);
+
+    return digits;
+  }
+
+  /**
+   * Appends the provided ASCII {@code byte[]} to the provided
+   * {@link StringBuilder}.
+   *
+   * @param src The ASCII {@code byte[]}.
+   * @param len The number of bytes to append.
+   * @param dst The target {@link StringBuilder}.
+   * @return The number of chars appended.
+   */
+  static int append(final byte[] src, final int len, final StringBuilder dst) {
+    dst.ensureCapacity(dst.length() + len);
+    for (int i = 0; i < len; ++i)
+      dst.append((char)src[i]);
+
+    return len;
+  }
+
+  /**
+   * Puts the provided ASCII {@code byte[]} into the provided
+   * {@link ByteBuffer} at its position, and advances the position.
+   *
+   * @param src The ASCII {@code byte[]}.
+   * @param len The number of bytes to put.
+   * @param dst The target {@link ByteBuffer}.
+   * @return The number of bytes put.
+   * @throws java.nio.BufferOverflowException If the remaining space in
+   *           {@code dst} is less than {@code len}.
+   */
+  static int put(final byte[] src, final int len, final ByteBuffer dst) {
+    dst.put(src, 0, len);
+    return len;
+  }
+
+  /**
+   * Returns the zig-zag encoding of the provided {@code long}, which maps the
+   * values of small magnitude of either sign to small unsigned values:
+   * {@code 0, -1, 1, -2, 2, ..} to {@code 0, 1, 2, 3, 4, ..}.
+   *
+   * @param v The value to encode.
+   * @return The zig-zag encoding of the provided {@code long}.
+   */
+  static long zigZag(final long v) {
+    return (v << 1) ^ (v >> 63);
+  }
+
+  /**
+   * Returns the value of the provided zig-zag encoding.
+   *
+   * @param v The zig-zag encoding.
+   * @return The value of the provided zig-zag encoding.
+   */
+  static long unZigZag(final long v) {
+    return (v >>> 1) ^ -(v & 1);
+  }
+
+  /**
+   * Returns the number of bytes of the varint of the provided <i>unsigned</i>
+   * {@code long}, which is written 7 bits at a time from the least significant,
+   * with the high bit of each byte set if more bytes follow.
+   *
+   * @param v The <i>unsigned</i> value.
+   * @return The number of bytes of the varint of the provided {@code long}.
+   */
+  static int varintLength(final long v) {
+    return v == 0 ? 1 : (63 - Long.numberOfLeadingZeros(v)) / 7 + 1;
+  }
+
+  /**
+   * Puts the varint of the provided <i>unsigned</i> {@code long} into the
+   * provided {@link ByteBuffer} at its position, and advances the position.
+   *
+   * @param v The <i>unsigned</i> value.
+   * @param dst The target {@link ByteBuffer}.
+   */
+  static void putVarint(long v, final ByteBuffer dst) {
+    for (; (v & ~0x7FL) != 0; v >>>= 7)
+      dst.put((byte)(v | 0x80));
+
+    dst.put((byte)v);
+  }
+
+  /**
+   * Writes the varint of the provided <i>unsigned</i> {@code long} to the
+   * provided {@link DataOutput}.
+   *
+   * @param v The <i>unsigned</i> value.
+   * @param out The target {@link DataOutput}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static void writeVarint(long v, final DataOutput out) throws IOException {
+    for (; (v & ~0x7FL) != 0; v >>>= 7)
+      out.writeByte((int)v | 0x80);
+
+    out.writeByte((int)v);
+  }
+
+  /**
+   * Gets the <i>unsigned</i> {@code long} of the varint at the position of the
+   * provided {@link ByteBuffer}, and advances the position past it.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @return The <i>unsigned</i> {@code long} of the varint.
+   * @throws BufferUnderflowException If the varint is truncated by the limit of
+   *           {@code src}, in which case the position is not changed.
+   * @throws IllegalArgumentException If the varint is longer than 10 bytes, in
+   *           which case the position is not changed.
+   */
+  static long getVarint(final ByteBuffer src) {
+    long v = 0;
+    for (int i = src.position(), limit = src.limit(), shift = 0; i < limit; shift += 7) {
+      final byte b = src.get(i++);
+      v |= (b & 0x7FL) << shift;
+      if (b >= 0) {
+        src.position(i);
+        return v;
+      }
+
+      if (shift == 63)
+        throw new IllegalArgumentException("Malformed varint at " + src.position());
+    }
+
+    throw new BufferUnderflowException();
+  }
+
+  /**
+   * Reads the <i>unsigned</i> {@code long} of the varint from the provided
+   * {@link DataInput}.
+   *
+   * @param in The source {@link DataInput}.
+   * @return The <i>unsigned</i> {@code long} of the varint.
+   * @throws java.io.EOFException If the end of the input is reached before the
+   *           end of the varint.
+   * @throws StreamCorruptedException If the varint is longer than 10 bytes.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static long readVarint(final DataInput in) throws IOException {
+    long v = 0;
+    for (int shift = 0;; shift += 7) {
+      final byte b = in.readByte();
+      v |= (b & 0x7FL) << shift;
+      if (b >= 0)
+        return v;
+
+      if (shift == 63)
+        throw new StreamCorruptedException("Malformed varint");
+    }
+  }
+
   private FastMath() {
   }
 }
\ No newline at end of file
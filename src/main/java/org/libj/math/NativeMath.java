@@ -44,7 +44,8 @@ final class NativeMath {
   enum Mode {
     JAVA,
     NATIVE,
-    CRITICAL
+    CRITICAL,
+    FOREIGN
   }
 
   private static Mode mode;
@@ -57,7 +58,10 @@ final class NativeMath {
     if (noNativeProp != null && !noNativeProp.equals("false"))
       return Mode.JAVA;
 
-    final boolean useCritical = ManagementFactory.getRuntimeMXBean().getInputArguments().toString().indexOf("-Xcomp") > 0;
+    // Critical Native JNI is not supported since Java 16, wherein the FFM bindings provide the equivalent.
+    // The FFM bindings are selected on Java 22 and above, unless disabled with -Dorg.libj.math.foreign=false.
+    final boolean useForeign = BigIntForeign.isSupported();
+    final boolean useCritical = !useForeign && ManagementFactory.getRuntimeMXBean().getInputArguments().toString().indexOf("-Xcomp") > 0;
 
     final String fileName = "libmath" + (useCritical ? "c" : "j");
     final String extension;
@@ -105,6 +109,9 @@ final class NativeMath {
       System.err.println("Starting without JNI bindings");
     }
 
+    if (useForeign && BigIntForeign.link(file.getAbsolutePath()))
+      return mode = Mode.FOREIGN;
+
     return mode = useCritical ? Mode.CRITICAL : Mode.NATIVE;
   }
 
@@ -0,0 +1,135 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+/**
+ * SIMD kernels of the limb loops of {@link BigInt}, implemented with the
+ * {@code jdk.incubator.vector} module.
+ * <p>
+ * The kernels are enabled if the {@code jdk.incubator.vector} module is
+ * resolved (i.e. {@code --add-modules jdk.incubator.vector}), and the
+ * {@code org.libj.math.noVector} system property is not set. Otherwise, all
+ * thresholds are {@link Integer#MAX_VALUE}, and the scalar loops of the
+ * callers are used. The kernels are implemented in {@link BigIntVectorKernel},
+ * which is not loaded unless the kernels are enabled, because it cannot be
+ * linked without the {@code jdk.incubator.vector} module.
+ * <p>
+ * The kernels produce results that are bit-identical to those of the scalar
+ * loops.
+ */
+final class BigIntVector {
+  /**
+   * Whether the SIMD kernels are enabled.
+   */
+  static final boolean ENABLED;
+
+  static {
+    final String noVectorProp = System.getProperty("org.libj.math.noVector");
+    ENABLED = (noVectorProp == null || noVectorProp.equals("false")) && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+  }
+
+  /**
+   * The threshold of the number of limbs for using {@link #add(int[],int[],int[],int,int)}
+   * and {@link #sub(int[],int[],int[],int,int)}. The time of the kernel
+   * relative to the scalar loop is (where {@code <1} favors the kernel):
+   *
+   * <pre>
+   * len     |  16  |  64  | 256  | 1024 | 4096
+   * --------+------+------+------+------+------
+   * AVX-512 | 0.31 | 0.29 | 0.28 | 0.38 | 0.37
+   * </pre>
+   */
+  static final int ADD_THRESHOLD = ENABLED ? BigIntThresholds.get("VECTOR_ADD_THRESHOLD", 16) : Integer.MAX_VALUE;
+
+  /**
+   * The threshold of the number of limbs of the shorter operand for using
+   * {@link #mulQuad(int[],int,int,int[],int,int,int[],int)}. The time of the
+   * kernel relative to the scalar loop for balanced operands is (where
+   * {@code <1} favors the kernel):
+   *
+   * <pre>
+   * len     |  8   |  16  |  32  |  64  | 128  | 256
+   * --------+------+------+------+------+------+------
+   * AVX-512 | 1.30 | 0.79 | 0.37 | 0.45 | 0.39 | 0.35
+   * </pre>
+   */
+  static final int MUL_THRESHOLD = ENABLED ? BigIntThresholds.get("VECTOR_MUL_THRESHOLD", 16) : Integer.MAX_VALUE;
+
+  /**
+   * The threshold of the number of limbs for squaring with
+   * {@link #mulQuad(int[],int,int,int[],int,int,int[],int)}, which computes
+   * all partial products, instead of the scalar squaring that computes each of
+   * the products below the diagonal only once. The time of the kernel relative
+   * to the scalar squaring is (where {@code <1} favors the kernel):
+   *
+   * <pre>
+   * len     |  8   |  16  |  24  |  32  |  64  | 128
+   * --------+------+------+------+------+------+------
+   * AVX-512 | 1.05 | 1.15 | 0.73 | 0.72 | 0.82 | 0.63
+   * </pre>
+   */
+  static final int SQUARE_THRESHOLD = ENABLED ? BigIntThresholds.get("VECTOR_SQUARE_THRESHOLD", 24) : Integer.MAX_VALUE;
+
+  /**
+   * The threshold of the number of limbs for using the bitwise kernels. The
+   * time of the kernels relative to the scalar loops is (where {@code <1}
+   * favors the kernel):
+   *
+   * <pre>
+   * len          |  16  |  64  | 256  | 1024 | 4096
+   * -------------+------+------+------+------+------
+   * AVX-512 and  | 1.87 | 0.88 | 0.23 | 0.26 | 0.20
+   * AVX-512 andn | 0.31 | 0.41 | 0.55 | 0.67 | 0.50
+   * </pre>
+   */
+  static final int BITWISE_THRESHOLD = ENABLED ? BigIntThresholds.get("VECTOR_BITWISE_THRESHOLD", 64) : Integer.MAX_VALUE;
+
+  static int add(final int[] x, final int[] y, final int[] z, final int from, final int to) {
+    return BigIntVectorKernel.add(x, y, z, from, to);
+  }
+
+  static int sub(final int[] x, final int[] y, final int[] z, final int from, final int to) {
+    return BigIntVectorKernel.sub(x, y, z, from, to);
+  }
+
+  static void mulQuad(final int[] x, final int xoff, final int xlen, final int[] y, final int yoff, final int ylen, final int[] z, final int zoff) {
+    BigIntVectorKernel.mulQuad(x, xoff, xlen, y, yoff, ylen, z, zoff);
+  }
+
+  static void and(final int[] val, final int[] mask, final int from, final int to) {
+    BigIntVectorKernel.and(val, mask, from, to);
+  }
+
+  static void andNot(final int[] val, final int[] mask, final int from, final int to) {
+    BigIntVectorKernel.andNot(val, mask, from, to);
+  }
+
+  static void notAnd(final int[] val, final int[] mask, final int from, final int to) {
+    BigIntVectorKernel.notAnd(val, mask, from, to);
+  }
+
+  static void or(final int[] val, final int[] mask, final int from, final int to) {
+    BigIntVectorKernel.or(val, mask, from, to);
+  }
+
+  static void xor(final int[] val, final int[] mask, final int from, final int to) {
+    BigIntVectorKernel.xor(val, mask, from, to);
+  }
+
+  private BigIntVector() {
+  }
+}
@@ -0,0 +1,187 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of the SIMD kernels of {@link BigIntVector}.
+ */
+final class BigIntVectorKernel {
+  private static final long LONG_MASK = 0xFFFFFFFFL;
+  private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONG = LongVector.SPECIES_PREFERRED;
+  private static final IntVector ZERO = IntVector.zero(INT);
+  private static final IntVector ONE = IntVector.broadcast(INT, 1);
+
+  /**
+   * Adds the limbs in blocks of the length of the vector. The carries of the
+   * limbs of a block are shifted one lane up, with the carry of the previous
+   * block in the lowest lane, and are added to the sums. If a sum of
+   * {@code 0xFFFFFFFF} receives a carry, the carry ripples to the next limb,
+   * and the block is recomputed with the scalar loop instead.
+   */
+  static int add(final int[] x, final int[] y, final int[] z, int from, final int to) {
+    final int n = INT.length();
+    long carry = 0;
+    for (int bound = to - n; from <= bound; from += n) {
+      final IntVector a = IntVector.fromArray(INT, x, from);
+      final IntVector s = a.add(IntVector.fromArray(INT, y, from));
+      final IntVector g = ZERO.blend(ONE, s.compare(VectorOperators.UNSIGNED_LT, a));
+      final IntVector c = IntVector.broadcast(INT, (int)carry).slice(n - 1, g);
+      if (s.compare(VectorOperators.EQ, -1).and(c.compare(VectorOperators.NE, 0)).anyTrue()) {
+        for (int i = from, end = from + n; i < end; ++i) {
+          carry += (x[i] & LONG_MASK) + (y[i] & LONG_MASK);
+          z[i] = (int)carry;
+          carry >>>= 32;
+        }
+      }
+      else {
+        s.add(c).intoArray(z, from);
+        carry = g.lane(n - 1);
+      }
+    }
+
+    for (; from < to; ++from) {
+      carry += (x[from] & LONG_MASK) + (y[from] & LONG_MASK);
+      z[from] = (int)carry;
+      carry >>>= 32;
+    }
+
+    return (int)carry;
+  }
+
+  /**
+   * Subtracts the limbs in blocks of the length of the vector, in the manner
+   * of {@link #add(int[],int[],int[],int,int)}, whereby a difference of
+   * {@code 0} that receives a borrow ripples it to the next limb.
+   */
+  static int sub(final int[] x, final int[] y, final int[] z, int from, final int to) {
+    final int n = INT.length();
+    long dif = 0;
+    for (int bound = to - n; from <= bound; from += n) {
+      final IntVector a = IntVector.fromArray(INT, x, from);
+      final IntVector b = IntVector.fromArray(INT, y, from);
+      final IntVector d = a.sub(b);
+      final IntVector g = ZERO.blend(ONE, a.compare(VectorOperators.UNSIGNED_LT, b));
+      final IntVector c = IntVector.broadcast(INT, (int)-dif).slice(n - 1, g);
+      if (d.compare(VectorOperators.EQ, 0).and(c.compare(VectorOperators.NE, 0)).anyTrue()) {
+        for (int i = from, end = from + n; i < end; ++i) {
+          dif += (x[i] & LONG_MASK) - (y[i] & LONG_MASK);
+          z[i] = (int)dif;
+          dif >>= 32;
+        }
+      }
+      else {
+        d.sub(c).intoArray(z, from);
+        dif = -g.lane(n - 1);
+      }
+    }
+
+    for (; from < to; ++from) {
+      dif += (x[from] & LONG_MASK) - (y[from] & LONG_MASK);
+      z[from] = (int)dif;
+      dif >>= 32;
+    }
+
+    return (int)-dif;
+  }
+
+  /**
+   * Computes the product column by column in blocks of the length of the
+   * vector, whereby each lane accumulates the low and high halves of the
+   * partial products of its column separately in 64 bits, so that no carries
+   * are propagated until the accumulated columns are combined in a final
+   * scalar pass.
+   */
+  static void mulQuad(final int[] x, final int xoff, final int xlen, final int[] y, final int yoff, final int ylen, final int[] z, int zoff) {
+    final int n = LONG.length();
+    // yl[n + j] = y[yoff + j], padded with n zeros on either side
+    final long[] yl = new long[ylen + n * 2];
+    for (int j = 0; j < ylen; ++j)
+      yl[n + j] = y[yoff + j] & LONG_MASK;
+
+    final int zlen = xlen + ylen;
+    final long[] lo = new long[zlen + n];
+    final long[] hi = new long[zlen + n];
+    for (int k = 0; k < zlen; k += n) {
+      final int from = Math.max(0, k - ylen + 1), to = Math.min(xlen - 1, k + n - 1);
+      LongVector l = LongVector.zero(LONG), h = LongVector.zero(LONG);
+      for (int i = from; i <= to; ++i) {
+        final LongVector p = LongVector.fromArray(LONG, yl, n + k - i).mul(x[xoff + i] & LONG_MASK);
+        l = l.add(p.and(LONG_MASK));
+        h = h.add(p.lanewise(VectorOperators.LSHR, 32));
+      }
+
+      l.intoArray(lo, k);
+      h.intoArray(hi, k);
+    }
+
+    long carry = 0;
+    for (int k = 0; k < zlen; ++k) {
+      carry += lo[k];
+      z[zoff++] = (int)carry;
+      carry = (carry >>> 32) + hi[k];
+    }
+  }
+
+  static void and(final int[] val, final int[] mask, int from, final int to) {
+    for (final int bound = to - INT.length(); from <= bound; from += INT.length())
+      IntVector.fromArray(INT, val, from).and(IntVector.fromArray(INT, mask, from)).intoArray(val, from);
+
+    for (; from < to; ++from)
+      val[from] &= mask[from];
+  }
+
+  static void andNot(final int[] val, final int[] mask, int from, final int to) {
+    for (final int bound = to - INT.length(); from <= bound; from += INT.length())
+      IntVector.fromArray(INT, val, from).lanewise(VectorOperators.AND_NOT, IntVector.fromArray(INT, mask, from)).intoArray(val, from);
+
+    for (; from < to; ++from)
+      val[from] &= ~mask[from];
+  }
+
+  static void notAnd(final int[] val, final int[] mask, int from, final int to) {
+    for (final int bound = to - INT.length(); from <= bound; from += INT.length())
+      IntVector.fromArray(INT, mask, from).lanewise(VectorOperators.AND_NOT, IntVector.fromArray(INT, val, from)).intoArray(val, from);
+
+    for (; from < to; ++from)
+      val[from] = ~val[from] & mask[from];
+  }
+
+  static void or(final int[] val, final int[] mask, int from, final int to) {
+    for (final int bound = to - INT.length(); from <= bound; from += INT.length())
+      IntVector.fromArray(INT, val, from).or(IntVector.fromArray(INT, mask, from)).intoArray(val, from);
+
+    for (; from < to; ++from)
+      val[from] |= mask[from];
+  }
+
+  static void xor(final int[] val, final int[] mask, int from, final int to) {
+    for (final int bound = to - INT.length(); from <= bound; from += INT.length())
+      IntVector.fromArray(INT, val, from).lanewise(VectorOperators.XOR, IntVector.fromArray(INT, mask, from)).intoArray(val, from);
+
+    for (; from < to; ++from)
+      val[from] ^= mask[from];
+  }
+
+  private BigIntVectorKernel() {
+  }
+}
@@ -0,0 +1,137 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static java.lang.foreign.ValueLayout.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Path;
+
+/**
+ * Bindings of the native kernels of {@link BigIntMultiplication} with the
+ * Foreign Function &amp; Memory API ({@code java.lang.foreign}), which are used
+ * in {@link NativeMath.Mode#FOREIGN} mode.
+ * <p>
+ * The kernels are bound to the {@code JavaCritical_*} entry points of the
+ * native library, which take each array as a pair of its length and a pointer
+ * to its elements. The downcalls are linked with
+ * {@link Linker.Option#critical(boolean) Linker.Option.critical(true)}, so that
+ * the {@code int[]} arrays are passed as heap segments without copying, and
+ * without the thread state transitions of JNI. This restores the performance
+ * of Critical Native JNI, which is not supported since Java 16, and does not
+ * require {@code -Xcomp}.
+ * <p>
+ * The heap segments are not moved by the garbage collector for the duration of
+ * a critical downcall, which includes the threads of the parallel native
+ * Karatsuba, as they are joined before the downcall returns.
+ */
+final class BigIntForeign {
+  private static SymbolLookup lookup;
+
+  static boolean isSupported() {
+    final String foreignProp = System.getProperty("org.libj.math.foreign");
+    return foreignProp == null || !foreignProp.equals("false");
+  }
+
+  static boolean link(final String path) {
+    try {
+      lookup = SymbolLookup.libraryLookup(Path.of(path), Arena.global());
+      return Handles.SQUARE_QUAD != null;
+    }
+    catch (final Throwable t) {
+      t.printStackTrace();
+      System.err.println("Starting without FFM bindings");
+      return false;
+    }
+  }
+
+  private static final class Handles {
+    private static final MethodHandle MUL_QUAD = downcall("nativeMulQuad", FunctionDescriptor.ofVoid(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS));
+    private static final MethodHandle MUL_QUAD_IN_PLACE = downcall("nativeMulQuadInPlace", FunctionDescriptor.ofVoid(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT));
+    private static final MethodHandle KARATSUBA = downcall("nativeKaratsuba", FunctionDescriptor.ofVoid(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+    private static final MethodHandle SQUARE_KARATSUBA = downcall("nativeSquareKaratsuba", FunctionDescriptor.ofVoid(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_INT));
+    private static final MethodHandle SQUARE_QUAD = downcall("nativeSquareQuad", FunctionDescriptor.ofVoid(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT));
+
+    private static MethodHandle downcall(final String name, final FunctionDescriptor function) {
+      final MemorySegment symbol = lookup.find("JavaCritical_org_libj_math_BigIntMultiplication_" + name).orElseThrow(() -> new UnsatisfiedLinkError("Symbol not found: " + name));
+      return Linker.nativeLinker().downcallHandle(symbol, function, Linker.Option.critical(true));
+    }
+  }
+
+  private static RuntimeException rethrow(final Throwable t) {
+    if (t instanceof Error)
+      throw (Error)t;
+
+    if (t instanceof RuntimeException)
+      return (RuntimeException)t;
+
+    return new IllegalStateException(t);
+  }
+
+  static void mulQuad(final int[] x, final int xlen, final int[] y, final int ylen, final int[] z) {
+    try {
+      Handles.MUL_QUAD.invokeExact(x.length, MemorySegment.ofArray(x), xlen, y.length, MemorySegment.ofArray(y), ylen, z.length, MemorySegment.ofArray(z));
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void mulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen) {
+    try {
+      Handles.MUL_QUAD_IN_PLACE.invokeExact(x.length, MemorySegment.ofArray(x), xlen, y.length, MemorySegment.ofArray(y), ylen, zlen);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void karatsuba(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int zlength, final int off, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+    try {
+      Handles.KARATSUBA.invokeExact(x.length, MemorySegment.ofArray(x), xoff, y.length, MemorySegment.ofArray(y), yoff, z.length, MemorySegment.ofArray(z), zoff, zlen, zlength, off, len, parallelThreshold, parallelThresholdZ);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void squareKaratsuba(final int[] x, final int len, final int[] z, final int zlen, final int zlength, final boolean yCopy, final int parallelThreshold, final int parallelThresholdZ) {
+    try {
+      Handles.SQUARE_KARATSUBA.invokeExact(x.length, MemorySegment.ofArray(x), len, z.length, MemorySegment.ofArray(z), zlen, zlength, yCopy, parallelThreshold, parallelThresholdZ);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void squareQuad(final int[] x, final int xoff, final int xlen, final int[] z, final int zoff, final int zlen) {
+    try {
+      Handles.SQUARE_QUAD.invokeExact(x.length, MemorySegment.ofArray(x), xoff, xlen, z.length, MemorySegment.ofArray(z), zoff, zlen);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  private BigIntForeign() {
+  }
+}
@@ -16,6 +16,7 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
@@ -31,6 +32,9 @@ import org.libj.math.survey.AuditRunner;
 @AuditRunner.Instrument(a=BigInteger.class, b=int[].class)
 @AuditRunner.Instrument(a=BigInt.class, b=int[].class)
 public class BigIntAdditionTest extends BigIntTest {
+  // Scales both operands up to the lengths at which the limb loops are run by the vector kernels
+  private static final int LIMBS_SCALE = 12;
+
   @Test
   public void testAddUnsignedInt(final AuditReport report) {
     report.addComment(UNINSTRUMENTED.ordinal(), "Addition of unsigned `int`.");
@@ -90,6 +94,17 @@ public class BigIntAdditionTest extends BigIntTest {
     );
   }
 
+  @Test
+  public void testAddLimbs(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Addition of `T` with both operands scaled.");
+
+    test("add(T): " + LIMBS_SCALE).withSkip(LIMBS_SCALE).withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(a, LIMBS_SCALE), b -> scaledBigInteger(b, LIMBS_SCALE), (BigInteger a, BigInteger b) -> a.add(b), String::valueOf),
+      s(BigInt.class, a -> scaledBigInt(a, LIMBS_SCALE), b -> scaledBigInt(b, LIMBS_SCALE), (BigInt a, BigInt b) -> a.add(b), String::valueOf),
+      s(int[].class, a -> scaledVal(a, LIMBS_SCALE), b -> scaledVal(b, LIMBS_SCALE), (int[] a, int[] b) -> BigInt.add(a, b), BigInt::toString)
+    );
+  }
+
   @Test
   public void testSubUnsignedInt(final AuditReport report) {
     report.addComment(UNINSTRUMENTED.ordinal(), "Subtraction of unsigned `int`.");
@@ -148,4 +163,32 @@ public class BigIntAdditionTest extends BigIntTest {
       s(int[].class, this::scaledVal, BigInt::valueOf, (int[] a, int[] b) -> BigInt.sub(a, b), BigInt::toString)
     );
   }
+
+  @Test
+  public void testSubLimbs(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Subtraction of `T` with both operands scaled.");
+
+    test("sub(T): " + LIMBS_SCALE).withSkip(LIMBS_SCALE).withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(a, LIMBS_SCALE), b -> scaledBigInteger(b, LIMBS_SCALE), (BigInteger a, BigInteger b) -> a.subtract(b), String::valueOf),
+      s(BigInt.class, a -> scaledBigInt(a, LIMBS_SCALE), b -> scaledBigInt(b, LIMBS_SCALE), (BigInt a, BigInt b) -> a.sub(b), String::valueOf),
+      s(int[].class, a -> scaledVal(a, LIMBS_SCALE), b -> scaledVal(b, LIMBS_SCALE), (int[] a, int[] b) -> BigInt.sub(a, b), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testSubBorrow() {
+    // The borrow clears the limb below the top limb, which is to be retained
+    final int[] val = {3, 0, 1, 5, 0};
+    final BigInteger facit = new BigInteger(BigInt.toString(val)).subtract(BigInteger.ONE);
+    assertEquals(facit.toString(), BigInt.toString(BigInt.add(val, BigInt.valueOf(-1))));
+
+    // The borrow clears the top limb, which is to be trimmed
+    final int[] two = BigInt.add(new int[] {2, 520911964, 1, 0}, -1242363800);
+    assertEquals(1, two[0]);
+    assertEquals("3573515460", BigInt.toString(two));
+    for (int i = 0; i < 10000; ++i) {
+      final int[] x = randomVal(1 + random.nextInt(7), random.nextBoolean()), y = randomVal(1 + random.nextInt(7), random.nextBoolean());
+      assertEquals(BigInt.toBigInteger(x).add(BigInt.toBigInteger(y)), BigInt.toBigInteger(BigInt.add(x, y)));
+    }
+  }
 }
\ No newline at end of file
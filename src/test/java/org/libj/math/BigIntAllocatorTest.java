@@ -0,0 +1,122 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BigIntAllocatorTest {
+  private static final Random random = new Random();
+
+  @Test
+  public void testAllocator() {
+    assertEquals(5, BigIntAllocator.heap(0).alloc(5).length);
+    assertEquals(BigIntAllocator.DEFAULT_PADDING + 5, BigInt.getAllocator().alloc(5).length);
+
+    final BigIntAllocator pool = BigIntAllocator.pool(1, 64, 2);
+    final int[] a = pool.alloc(7);
+    assertEquals(8, a.length);
+    a[3] = 7;
+    pool.release(a);
+    pool.release(a);
+    final int[] b = pool.alloc(5);
+    assertSame(a, b);
+    assertEquals(0, b[3]);
+    assertNotSame(a, pool.alloc(5));
+    pool.release(new int[7]);
+    assertEquals(8, pool.alloc(7).length);
+    pool.release(new int[128]);
+    assertEquals(128, pool.alloc(127).length);
+
+    BigInt.setAllocator(pool);
+    try {
+      assertSame(pool, BigInt.getAllocator());
+      for (int i = 0; i < 2048; ++i) {
+        final BigInteger s = new BigInteger(1 + random.nextInt(660), random);
+        final BigInteger t = new BigInteger(1 + random.nextInt(660), random);
+        final BigInteger expected = s.multiply(t).add(BigInteger.valueOf(i));
+        final int[] x = BigInt.valueOf(s.toString().toCharArray());
+        final int[] y = BigInt.valueOf(t.toString().toCharArray());
+        final int[] z = BigInt.add(BigInt.mul(x, y), i);
+        assertEquals(expected.toString(), BigInt.toString(z));
+        BigInt.release(y);
+        BigInt.release(z);
+        if (z != x)
+          BigInt.release(x);
+      }
+    }
+    finally {
+      BigInt.setAllocator(null);
+    }
+
+    assertEquals(BigIntAllocator.DEFAULT_PADDING, BigInt.getAllocator().getPadding());
+  }
+
+  private static int[] ones(final int len, final boolean sig) {
+    final int[] val = new int[len + 1];
+    Arrays.fill(val, -1);
+    val[0] = sig ? len : -len;
+    return val;
+  }
+
+  private static BigInteger toBigInteger(final int[] val) {
+    return new BigInteger(BigInt.toString(val));
+  }
+
+  @Test
+  public void testPaddingZero() {
+    BigInt.setAllocator(BigIntAllocator.heap(0));
+    try {
+      final BigInteger a = BigInteger.ONE.shiftLeft(96).subtract(BigInteger.ONE);
+      assertEquals(a.add(BigInteger.ONE.shiftLeft(32)).toString(), new BigInt(a.toString()).add(1L << 32).toString());
+
+      final long[] longs = {1, -1, 1L << 32, -1L << 32, Long.MAX_VALUE, Long.MIN_VALUE};
+      final int[] ints = {1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+      for (int len = 1; len <= 8; ++len) {
+        for (final boolean sig : new boolean[] {true, false}) {
+          final BigInteger x = toBigInteger(ones(len, sig));
+          for (final long l : longs) {
+            assertEquals(x.add(BigInteger.valueOf(l)), toBigInteger(BigInt.add(ones(len, sig), l)));
+            assertEquals(x.subtract(BigInteger.valueOf(l)), toBigInteger(BigInt.sub(ones(len, sig), l)));
+          }
+
+          for (final int i : ints) {
+            assertEquals(x.add(BigInteger.valueOf(i)), toBigInteger(BigInt.add(ones(len, sig), i)));
+            assertEquals(x.subtract(BigInteger.valueOf(i)), toBigInteger(BigInt.sub(ones(len, sig), i)));
+          }
+
+          for (int alen = 1; alen <= 8; ++alen) {
+            for (final boolean asig : new boolean[] {true, false}) {
+              final BigInteger y = toBigInteger(ones(alen, asig));
+              assertEquals(x.add(y), toBigInteger(BigInt.add(ones(len, sig), ones(alen, asig))));
+              assertEquals(x.subtract(y), toBigInteger(BigInt.sub(ones(len, sig), ones(alen, asig))));
+              assertEquals(x.add(y.negate()), toBigInteger(BigInt.add(ones(len, sig), ones(alen, !asig))));
+            }
+          }
+        }
+      }
+    }
+    finally {
+      BigInt.setAllocator(null);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BigIntArrayTest {
+  private static final Random random = new Random();
+
+  private static BigInteger randomBigInteger(final int bits) {
+    final BigInteger a = new BigInteger(bits, random);
+    return random.nextBoolean() ? a.negate() : a;
+  }
+
+  private static void assertArray(final List<BigInteger> expected, final BigIntArray actual) {
+    assertEquals(expected.size(), actual.size());
+    int[] val = null;
+    for (int i = 0; i < expected.size(); ++i)
+      assertEquals(expected.get(i).toString(), BigInt.toString(val = actual.get(i, val)));
+  }
+
+  @Test
+  public void testArithmetic() {
+    final BigIntArray array = new BigIntArray(4);
+    final BigIntArray other = new BigIntArray();
+    final List<BigInteger> expected = new ArrayList<>();
+    final List<BigInteger> others = new ArrayList<>();
+    for (int i = 0; i < 512; ++i) {
+      final BigInteger a = i % 17 == 0 ? BigInteger.ZERO : randomBigInteger(1 + random.nextInt(i % 64 == 0 ? 1300 : 130));
+      final BigInteger b = randomBigInteger(1 + random.nextInt(130));
+      assertEquals(i, i % 2 == 0 ? array.append(BigInt.valueOf(a)) : array.append(BigInt.valueOf(a.toString().toCharArray())));
+      other.append(BigInt.valueOf(b));
+      expected.add(a);
+      others.add(b);
+    }
+
+    array.append(Long.MIN_VALUE);
+    other.append(-1);
+    expected.add(BigInteger.valueOf(Long.MIN_VALUE));
+    others.add(BigInteger.ONE.negate());
+    assertArray(expected, array);
+
+    final BigInteger scalar = randomBigInteger(200);
+    final long l = random.nextLong();
+    array.add(BigInt.valueOf(scalar));
+    expected.replaceAll(x -> x.add(scalar));
+    assertArray(expected, array);
+
+    array.sub(l);
+    expected.replaceAll(x -> x.subtract(BigInteger.valueOf(l)));
+    assertArray(expected, array);
+
+    array.mul(BigInt.valueOf(scalar));
+    expected.replaceAll(x -> x.multiply(scalar));
+    assertArray(expected, array);
+
+    array.mul(l).add(l).sub(BigInt.valueOf(scalar));
+    expected.replaceAll(x -> x.multiply(BigInteger.valueOf(l)).add(BigInteger.valueOf(l)).subtract(scalar));
+    assertArray(expected, array);
+
+    array.add(other);
+    for (int i = 0; i < expected.size(); ++i)
+      expected.set(i, expected.get(i).add(others.get(i)));
+    assertArray(expected, array);
+
+    array.sub(other);
+    for (int i = 0; i < expected.size(); ++i)
+      expected.set(i, expected.get(i).subtract(others.get(i)));
+    assertArray(expected, array);
+
+    array.mul(other);
+    for (int i = 0; i < expected.size(); ++i)
+      expected.set(i, expected.get(i).multiply(others.get(i)));
+    assertArray(expected, array);
+
+    array.mul(array);
+    expected.replaceAll(x -> x.multiply(x));
+    assertArray(expected, array);
+
+    array.sub(array);
+    expected.replaceAll(x -> BigInteger.ZERO);
+    assertArray(expected, array);
+
+    array.clear();
+    expected.clear();
+    for (int i = 0; i < 1024; ++i) {
+      final BigInteger a = i % 31 == 0 ? BigInteger.valueOf(i % 3 - 1) : randomBigInteger(1 + random.nextInt(i % 3 == 0 ? 10 : 130));
+      array.append(BigInt.valueOf(a));
+      expected.add(a);
+    }
+
+    BigInteger sum = BigInteger.ZERO;
+    for (final BigInteger a : expected)
+      sum = sum.add(a);
+
+    assertEquals(sum.toString(), BigInt.toString(array.sum(new int[1])));
+    assertEquals(expected.indexOf(expected.stream().min(BigInteger::compareTo).get()), array.min());
+    assertEquals(expected.indexOf(expected.stream().max(BigInteger::compareTo).get()), array.max());
+    for (int i = 0; i < 100; ++i) {
+      final int x = random.nextInt(expected.size()), y = random.nextInt(expected.size());
+      assertEquals(Integer.signum(expected.get(x).compareTo(expected.get(y))), array.compare(x, y));
+      assertEquals(expected.get(x).signum(), array.signum(x));
+      assertEquals(Integer.signum(expected.get(x).compareTo(expected.get(y))), array.compareTo(x, BigInt.valueOf(expected.get(y))));
+    }
+
+    array.sort();
+    expected.sort(null);
+    assertArray(expected, array);
+    assertEquals(expected.toString(), array.toString());
+
+    assertEquals(-1, new BigIntArray(0).min());
+    try {
+      array.add(other);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      array.get(array.size(), null);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
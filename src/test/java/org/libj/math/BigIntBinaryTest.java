@@ -30,6 +30,9 @@ import org.libj.math.survey.AuditRunner;
 @AuditRunner.Instrument(a=BigInteger.class, b=int[].class)
 @AuditRunner.Instrument(a=BigInt.class, b=int[].class)
 public class BigIntBinaryTest extends BigIntTest {
+  // Scales both operands up to the lengths at which the limb loops are run by the vector kernels
+  private static final int LIMBS_SCALE = 12;
+
   @Test
   public void testAnd(final AuditReport report) {
     report.addComment(UNINSTRUMENTED.ordinal(), "`and` with `T`.");
@@ -41,6 +44,17 @@ public class BigIntBinaryTest extends BigIntTest {
     );
   }
 
+  @Test
+  public void testAndLimbs(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "`and` with `T` with both operands scaled.");
+
+    test("and(T): " + LIMBS_SCALE).withSkip(LIMBS_SCALE).withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(a, LIMBS_SCALE), b -> scaledBigInteger(b, LIMBS_SCALE), (BigInteger a, BigInteger b) -> a.and(b), String::valueOf),
+      s(BigInt.class, a -> scaledBigInt(a, LIMBS_SCALE), b -> scaledBigInt(b, LIMBS_SCALE), (BigInt a, BigInt b) -> a.and(b), String::valueOf),
+      s(int[].class, a -> scaledVal(a, LIMBS_SCALE), b -> scaledVal(b, LIMBS_SCALE), (int[] a, int[] b) -> BigInt.and(a, b), BigInt::toString)
+    );
+  }
+
   @Test
   public void testOr(final AuditReport report) {
     report.addComment(UNINSTRUMENTED.ordinal(), "`or` with `T`.");
@@ -52,6 +66,17 @@ public class BigIntBinaryTest extends BigIntTest {
     );
   }
 
+  @Test
+  public void testOrLimbs(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "`or` with `T` with both operands scaled.");
+
+    test("or(T): " + LIMBS_SCALE).withSkip(LIMBS_SCALE).withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(a, LIMBS_SCALE), b -> scaledBigInteger(b, LIMBS_SCALE), (BigInteger a, BigInteger b) -> a.or(b), String::valueOf),
+      s(BigInt.class, a -> scaledBigInt(a, LIMBS_SCALE), b -> scaledBigInt(b, LIMBS_SCALE), (BigInt a, BigInt b) -> a.or(b), String::valueOf),
+      s(int[].class, a -> scaledVal(a, LIMBS_SCALE), b -> scaledVal(b, LIMBS_SCALE), (int[] a, int[] b) -> BigInt.or(a, b), BigInt::toString)
+    );
+  }
+
   @Test
   public void testXor(final AuditReport report) {
     report.addComment(UNINSTRUMENTED.ordinal(), "`xor` with `T`.");
@@ -63,6 +88,17 @@ public class BigIntBinaryTest extends BigIntTest {
     );
   }
 
+  @Test
+  public void testXorLimbs(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "`xor` with `T` with both operands scaled.");
+
+    test("xor(T): " + LIMBS_SCALE).withSkip(LIMBS_SCALE).withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(a, LIMBS_SCALE), b -> scaledBigInteger(b, LIMBS_SCALE), (BigInteger a, BigInteger b) -> a.xor(b), String::valueOf),
+      s(BigInt.class, a -> scaledBigInt(a, LIMBS_SCALE), b -> scaledBigInt(b, LIMBS_SCALE), (BigInt a, BigInt b) -> a.xor(b), String::valueOf),
+      s(int[].class, a -> scaledVal(a, LIMBS_SCALE), b -> scaledVal(b, LIMBS_SCALE), (int[] a, int[] b) -> BigInt.xor(a, b), BigInt::toString)
+    );
+  }
+
   @Test
   public void testNot(final AuditReport report) {
     report.addComment(UNINSTRUMENTED.ordinal(), "`not` with `T`.");
@@ -84,4 +120,15 @@ public class BigIntBinaryTest extends BigIntTest {
       s(int[].class, this::scaledVal, BigInt::valueOf, (int[] a, int[] b) -> BigInt.andNot(a, b), BigInt::toString)
     );
   }
+
+  @Test
+  public void testAndNotLimbs(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "`andNot` with `T` with both operands scaled.");
+
+    test("andNot(T): " + LIMBS_SCALE).withSkip(LIMBS_SCALE).withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(a, LIMBS_SCALE), b -> scaledBigInteger(b, LIMBS_SCALE), (BigInteger a, BigInteger b) -> a.andNot(b), String::valueOf),
+      s(BigInt.class, a -> scaledBigInt(a, LIMBS_SCALE), b -> scaledBigInt(b, LIMBS_SCALE), (BigInt a, BigInt b) -> a.andNot(b), String::valueOf),
+      s(int[].class, a -> scaledVal(a, LIMBS_SCALE), b -> scaledVal(b, LIMBS_SCALE), (int[] a, int[] b) -> BigInt.andNot(a, b), BigInt::toString)
+    );
+  }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BigIntBufferTest {
+  private static final Random random = new Random();
+
+  @Test
+  public void testArithmetic() {
+    final int cap = 8;
+    final int slots = 16;
+    final int size = BigIntBuffer.size(cap);
+    final ByteBuffer buf = ByteBuffer.allocateDirect(size * slots).order(ByteOrder.nativeOrder());
+    final BigInteger[] expected = new BigInteger[slots];
+    for (int i = 0; i < slots; ++i) {
+      expected[i] = BigInteger.valueOf(random.nextLong());
+      BigIntBuffer.assign(buf, i * size, cap, expected[i].longValue());
+    }
+
+    final BigInteger limit = BigInteger.ONE.shiftLeft(32 * cap);
+    for (int i = 0; i < 100000; ++i) {
+      final int s = random.nextInt(slots);
+      final int t = random.nextInt(slots);
+      BigInteger x = new BigInteger(1 + random.nextInt(i % 10 == 0 ? 260 : 70), random);
+      if (random.nextBoolean())
+        x = x.negate();
+
+      // Every 13th operand cancels the number in the slot
+      if (i % 13 == 0)
+        x = expected[s].negate();
+
+      final int[] val = new BigInt(x.toString()).val();
+      final long l = x.longValue() % 100000;
+      final int op = i % 6;
+      final BigInteger result = op == 0 ? expected[s].add(x) : op == 1 ? expected[s].subtract(x) : op == 2 ? expected[s].add(BigInteger.valueOf(l)) : op == 3 ? expected[s].subtract(BigInteger.valueOf(l)) : op == 4 ? expected[s].multiply(BigInteger.valueOf(l)) : expected[s].add(expected[t]);
+      try {
+        if (op == 0)
+          BigIntBuffer.add(buf, s * size, cap, val);
+        else if (op == 1)
+          BigIntBuffer.sub(buf, s * size, cap, val);
+        else if (op == 2)
+          BigIntBuffer.add(buf, s * size, cap, l);
+        else if (op == 3)
+          BigIntBuffer.sub(buf, s * size, cap, l);
+        else if (op == 4)
+          BigIntBuffer.mul(buf, s * size, cap, l);
+        else
+          BigIntBuffer.add(buf, s * size, cap, buf, t * size);
+
+        assertTrue("Expected BufferOverflowException", result.abs().compareTo(limit) < 0);
+        expected[s] = result;
+      }
+      catch (final BufferOverflowException e) {
+        // The slot is unchanged on overflow
+        assertTrue(result.abs().compareTo(limit) >= 0);
+      }
+
+      assertEquals(expected[s].toString(), BigInt.toString(BigIntBuffer.get(buf, s * size, new int[0])));
+      assertEquals(expected[s].compareTo(x), BigIntBuffer.compareTo(buf, s * size, val));
+      assertEquals(expected[s].compareTo(expected[t]), BigIntBuffer.compareTo(buf, s * size, buf, t * size));
+      assertEquals(expected[s].signum(), BigIntBuffer.signum(buf, s * size));
+    }
+
+    final int[] val = new BigInt("123456789012345678901234567890").val();
+    BigIntBuffer.assign(buf, 0, cap, val);
+    BigIntBuffer.mul(buf, 0, cap, val);
+    assertEquals(new BigInteger("123456789012345678901234567890").pow(2).toString(), BigInt.toString(BigIntBuffer.get(buf, 0, new int[0])));
+  }
+}
@@ -16,9 +16,21 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -99,6 +111,98 @@ public class BigIntConstructorTest extends BigIntTest {
     );
   }
 
+  @Test
+  public void testStringRecursive(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Parse a string with leading zeros in radix 10 with the divide-and-conquer algorithm, recursing down to single parts.");
+
+    test("<init>(String) recursive").withAuditReport(report).withCases(
+      s(BigInteger.class, a -> "0000000000" + abs(a), (String a) -> new BigInteger(a), String::valueOf),
+      s(int[].class, a -> "0000000000" + abs(a), (String a) -> BigIntDivision.parseRecursive(a.toCharArray(), 0, a.length(), 10, 0), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testStringBig() {
+    for (int i = 0; i < 64; ++i) {
+      final BigInteger a = new BigInteger(1 + random.nextInt(i % 16 == 0 ? 100000 : 10000), random);
+      final BigInteger b = i % 2 == 0 ? a : a.negate();
+      final String s = b.toString();
+      assertEquals(s, new BigInt(s).toString());
+      // Recursion with the smallest threshold, and leading zeros in the lower parts
+      final String z = "0000000000000000000000000000000000000000" + a;
+      assertEquals(a, BigInt.toBigInteger(BigIntDivision.parseRecursive(z.toCharArray(), 0, z.length(), 10, 0)));
+    }
+
+    // Powers of ten, and 1 less than powers of ten, land on the boundaries of the parts
+    for (int k = 1; k < 2000; k += 1 + k / 8) {
+      final BigInteger e = BigInteger.TEN.pow(k);
+      for (final BigInteger a : new BigInteger[] {e, e.subtract(BigInteger.ONE)}) {
+        final String s = a.toString();
+        assertEquals(a, BigInt.toBigInteger(BigIntDivision.parseRecursive(s.toCharArray(), 0, s.length(), 10, 0)));
+      }
+    }
+
+    assertEquals("123", new BigInt("000000000123").toString());
+    assertEquals("-123", new BigInt("-000000000123").toString());
+  }
+
+  @Test
+  public void testStringRadix(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Parse a string in radixes that are, and are not, powers of two.");
+
+    for (final int radix : new int[] {2, 7, 16, 36}) {
+      test("<init>(String,int): " + radix).withAuditReport(report).withCases(
+        s(BigInteger.class, a -> new BigInteger(a).toString(radix), (String a) -> new BigInteger(a, radix), String::valueOf),
+        s(BigInt.class, a -> new BigInteger(a).toString(radix), (String a) -> new BigInt(a, radix), String::valueOf),
+        s(int[].class, a -> new BigInteger(a).toString(radix), (String a) -> BigInt.assign(new int[0], a, radix), BigInt::toString)
+      );
+    }
+  }
+
+  @Test
+  public void testStringRadixBig() {
+    for (int i = 0; i < 1024; ++i) {
+      final int radix = Character.MIN_RADIX + i % (Character.MAX_RADIX - Character.MIN_RADIX + 1);
+      final BigInteger a = i % 512 == 0 ? BigInteger.ZERO : new BigInteger(1 + random.nextInt(i % 64 == 0 ? 60000 : 2000), random);
+      final BigInteger b = i % 2 == 0 ? a : a.negate();
+      final String s = b.toString(radix);
+      assertEquals(b.toString(), new BigInt(s, radix).toString());
+      assertEquals(b.toString(), new BigInt(s.toUpperCase(), radix).toString());
+      assertEquals(a.toString(), new BigInt("0000000000" + a.toString(radix), radix).toString());
+      assertEquals(new BigInteger("+" + a.toString(radix), radix).toString(), new BigInt("+" + a.toString(radix), radix).toString());
+      if (a.signum() != 0 && (radix & radix - 1) != 0) {
+        // Recursion with the smallest threshold
+        final String t = a.toString(radix);
+        assertEquals(a.toString(), BigInt.toString(BigIntDivision.parseRecursive(t.toCharArray(), 0, t.length(), radix, 0)));
+      }
+    }
+
+    for (final String s : new String[] {"", "-", "+", "+-1", "-+1", "12g", "1 2"}) {
+      try {
+        new BigInt(s, 16);
+        fail("Expected NumberFormatException: \"" + s + "\"");
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+
+    for (final String s : new String[] {"", "-", "+"}) {
+      try {
+        new BigInt(s, 10);
+        fail("Expected NumberFormatException: \"" + s + "\"");
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+
+    try {
+      new BigInt("1", Character.MAX_RADIX + 1);
+      fail("Expected NumberFormatException");
+    }
+    catch (final NumberFormatException e) {
+    }
+  }
+
   @Test
   public void testBytesBigEndian(final AuditReport report) {
     final byte[][] bytes = new byte[1][];
@@ -120,4 +224,93 @@ public class BigIntConstructorTest extends BigIntTest {
       s(int[].class, a -> bytes[1], (byte[] a) -> BigInt.valueOf(a, true), BigInt::toString)
     );
   }
+
+  @Test
+  public void testBinary(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigInteger` class does not have a binary representation of its own. Therefore, for this test, `BigInteger` reads the `byte[]` of `toByteArray()`. The time for the encoding _is not_ included in the runtime measure.");
+
+    final byte[][] bytes = new byte[1][];
+    test("read(ByteBuffer)").withAuditReport(report).withCases(
+      s(BigInteger.class, a -> { final int[] val = BigInt.valueOf(a.toCharArray()); bytes[0] = new byte[BigInt.binarySize(val)]; BigInt.write(val, ByteBuffer.wrap(bytes[0])); return new BigInteger(a).toByteArray(); }, (byte[] a) -> new BigInteger(a), String::valueOf),
+      s(BigInt.class, a -> bytes[0], (byte[] a) -> new BigInt().read(ByteBuffer.wrap(a)), String::valueOf),
+      s(int[].class, a -> bytes[0], (byte[] a) -> BigInt.read(ByteBuffer.wrap(a), null), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testBinaryBig() throws ClassNotFoundException, IOException {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(bytes);
+    final int[][] vals = new int[1024][];
+    int size = 0;
+    for (int i = 0; i < vals.length; ++i) {
+      vals[i] = i == 0 ? BigInt.valueOf(0) : BigInt.valueOf(new BigInteger(1 + random.nextInt(i % 16 == 0 ? 1000 : 100), random));
+      buffer.order(i % 2 == 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+      final int n = BigInt.binarySize(vals[i]);
+      assertEquals(n, BigInt.write(vals[i], buffer));
+      assertEquals(n, BigInt.write(vals[i], out));
+      size += n;
+    }
+
+    assertEquals(1, BigInt.binarySize(BigInt.valueOf(0)));
+    assertEquals(size, buffer.position());
+    assertEquals(size, bytes.size());
+    final byte[] array = new byte[size];
+    buffer.flip();
+    buffer.duplicate().get(array);
+    assertArrayEquals(array, bytes.toByteArray());
+
+    final DataInputStream in = new DataInputStream(new ByteArrayInputStream(array));
+    int[] reuse = null;
+    final BigInt b = new BigInt();
+    for (int i = 0; i < vals.length; ++i) {
+      buffer.order(i % 2 == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+      reuse = BigInt.read(buffer, reuse);
+      assertEquals(BigInt.toString(vals[i]), BigInt.toString(reuse));
+      assertEquals(BigInt.toString(vals[i]), b.read(in).toString());
+    }
+
+    assertFalse(buffer.hasRemaining());
+
+    // Truncated and malformed representations leave the position unchanged
+    buffer.clear();
+    BigInt.write(BigInt.valueOf(-1234567890123L), buffer);
+    buffer.flip().limit(buffer.limit() - 1);
+    try {
+      BigInt.read(buffer, null);
+      fail("Expected BufferUnderflowException");
+    }
+    catch (final BufferUnderflowException e) {
+      assertEquals(0, buffer.position());
+    }
+
+    buffer.clear();
+    buffer.put((byte)2).putInt(0).flip();
+    try {
+      BigInt.read(buffer, null);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertEquals(0, buffer.position());
+    }
+
+    try {
+      BigInt.write(BigInt.valueOf(Long.MAX_VALUE), ByteBuffer.allocate(8));
+      fail("Expected BufferOverflowException");
+    }
+    catch (final BufferOverflowException e) {
+    }
+
+    // Externalizable
+    final BigInt expected = new BigInt(new BigInteger(660, random).toString());
+    final ByteArrayOutputStream object = new ByteArrayOutputStream();
+    try (final ObjectOutputStream oos = new ObjectOutputStream(object)) {
+      oos.writeObject(expected);
+    }
+
+    try (final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(object.toByteArray()))) {
+      assertEquals(expected, ois.readObject());
+    }
+  }
 }
\ No newline at end of file
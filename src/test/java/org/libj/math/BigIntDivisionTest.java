@@ -16,6 +16,7 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
@@ -150,4 +151,83 @@ public class BigIntDivisionTest extends BigIntTest {
       s(int[].class, this::scaledVal, b -> BigInt.valueOf(nz(b)), (int[] a, int[] b) -> { BigInt.divRem(a, b); return a; }, BigInt::toString)
     );
   }
+
+  @Test
+  public void testBurnikelZiegler() {
+    for (int i = 0; i < 64; ++i) {
+      final int len2 = BigIntDivision.BURNIKEL_ZIEGLER_THRESHOLD + random.nextInt(i < 56 ? 256 : 2048);
+      final int len1 = len2 + BigIntDivision.BURNIKEL_ZIEGLER_OFFSET + random.nextInt(i < 56 ? 512 : 4096);
+      final int[] y = randomVal(len2, i % 2 == 1);
+      final BigInteger b = BigInt.toBigInteger(y);
+      // The largest quotient and remainder for the divisor, which exercise the corrections of the quotient
+      final BigInteger a = i % 4 != 0 ? BigInt.toBigInteger(randomVal(len1, i % 8 > 4)) : b.multiply(BigInteger.ONE.shiftLeft((len1 - len2) * 32).subtract(BigInteger.ONE)).add(b.abs().subtract(BigInteger.ONE));
+      final BigInteger[] qr = a.divideAndRemainder(b);
+      assertEquals(qr[0], BigInt.toBigInteger(BigInt.div(BigInt.valueOf(a), y.clone())));
+      assertEquals(qr[1], BigInt.toBigInteger(BigInt.rem(BigInt.valueOf(a), y.clone())));
+      assertEquals(a.mod(b.abs()), BigInt.toBigInteger(BigInt.mod(BigInt.valueOf(a), BigInt.abs(y.clone()))));
+
+      final int[] val = BigInt.valueOf(a);
+      final int[] rem = BigInt.divRem(val, y);
+      assertEquals(qr[0], BigInt.toBigInteger(val));
+      assertEquals(qr[1], BigInt.toBigInteger(rem));
+      assertEquals(b, BigInt.toBigInteger(y));
+    }
+  }
+
+  @Test
+  public void testDivBigIntDivisor(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Divide by a `BigIntDivisor` of `T`.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigInteger` class does not have a precomputed divisor. Therefore, for this test, the `BigInteger` is divided with `BigInteger.divide(BigInteger)`.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigIntDivisor` is created outside of the runtime measure, because it is meant to be reused for many dividends.");
+
+    final BigIntDivisor[] div = {null};
+    test("div(BigIntDivisor)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, b -> new BigInteger(nz(b)), (BigInteger a, BigInteger b) -> a.divide(b), String::valueOf),
+      s(BigInt.class, this::scaledBigInt, b -> { div[0] = new BigIntDivisor(BigInt.valueOf(nz(b))); return new BigInt(nz(b)); }, (BigInt a, BigInt b) -> a.div(div[0]), String::valueOf),
+      s(int[].class, this::scaledVal, b -> { div[0] = new BigIntDivisor(BigInt.valueOf(nz(b))); return BigInt.valueOf(nz(b)); }, (int[] a, int[] b) -> div[0].div(a), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testDivBigIntDivisorLong(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Divide by a `BigIntDivisor` of a signed `long`.");
+
+    final BigIntDivisor[] div = {null};
+    test("div(BigIntDivisor(long))").withAuditReport(report).withCases(
+      l(BigInteger.class, this::scaledBigInteger, this::nz, (BigInteger a, long b) -> a.divide(BigInteger.valueOf(b)), String::valueOf),
+      l(BigInt.class, this::scaledBigInt, b -> { div[0] = new BigIntDivisor(nz(b)); return b; }, (BigInt a, long b) -> a.div(div[0]), String::valueOf),
+      l(int[].class, this::scaledVal, b -> { div[0] = new BigIntDivisor(nz(b)); return b; }, (int[] a, long b) -> div[0].div(a), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testDivRemBigIntDivisor(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Divide by a `BigIntDivisor` of `T`, and return the remainder as a new `T`.");
+
+    final BigIntDivisor[] div = {null};
+    test("divRem(BigIntDivisor)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, b -> new BigInteger(nz(b)), (BigInteger a, BigInteger b) -> a.divideAndRemainder(b), o -> o[0] + " " + o[1]),
+      s(BigInt.class, this::scaledBigInt, b -> { div[0] = new BigIntDivisor(BigInt.valueOf(nz(b))); return new BigInt(nz(b)); }, (BigInt a, BigInt b) -> new BigInt[] {a, a.divRem(div[0], new BigInt(0))}, o -> o[0] + " " + o[1]),
+      s(int[].class, this::scaledVal, b -> { div[0] = new BigIntDivisor(BigInt.valueOf(nz(b))); return BigInt.valueOf(nz(b)); }, (int[] a, int[] b) -> new int[][] {a, div[0].divRem(a, new int[a.length + 1])}, o -> BigInt.toString(o[0]) + " " + BigInt.toString(o[1]))
+    );
+  }
+
+  @Test
+  public void testBigIntDivisor() {
+    for (int i = 0; i < 1024; ++i) {
+      final int[] y = randomVal(1 + random.nextInt(i % 2 == 0 ? 2 : 12), i % 4 > 1);
+      final BigInteger b = BigInt.toBigInteger(y);
+      // The largest remainder for the quotient, which exercises the corrections of the quotient limbs
+      final BigInteger a = b.multiply(BigInt.toBigInteger(randomVal(1 + random.nextInt(24), i % 8 > 3))).add(b.abs().subtract(BigInteger.ONE));
+      final BigInteger[] qr = a.divideAndRemainder(b);
+      final BigIntDivisor div = new BigIntDivisor(y);
+      assertEquals(qr[0], BigInt.toBigInteger(div.div(BigInt.valueOf(a))));
+      assertEquals(qr[1], BigInt.toBigInteger(div.rem(BigInt.valueOf(a))));
+
+      final BigInt val = new BigInt(a);
+      final BigInt rem = val.divRem(div, new BigInt(0));
+      assertEquals(qr[0], val.toBigInteger());
+      assertEquals(qr[1], rem.toBigInteger());
+    }
+  }
 }
\ No newline at end of file
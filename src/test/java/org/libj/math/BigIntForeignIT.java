@@ -0,0 +1,90 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Runs the products and squares of each of the native kernels through the
+ * bindings of {@link BigIntForeign}, which are selected on Java 22 and above,
+ * and are only linked from the {@code META-INF/versions/22} directory of the
+ * multi-release JAR.
+ */
+public class BigIntForeignIT {
+  private static final Random random = new Random();
+
+  private static int[] randomVal(final int len, final int capacity) {
+    final int[] val = new int[capacity];
+    for (int i = 1; i <= len; ++i)
+      val[i] = random.nextInt();
+
+    if (val[len] == 0)
+      val[len] = 1;
+
+    val[0] = random.nextBoolean() ? len : -len;
+    return val;
+  }
+
+  private static void assertMul(final int xlen, final int ylen) {
+    final int[] x = randomVal(xlen, xlen + 1);
+    final int[] y = randomVal(ylen, ylen + 1);
+    final BigInteger a = BigInt.toBigInteger(x);
+    final BigInteger b = BigInt.toBigInteger(y);
+    assertEquals(a.multiply(b), BigInt.toBigInteger(BigInt.mul(x.clone(), y)));
+    assertEquals(a.multiply(a), BigInt.toBigInteger(BigInt.mul(x.clone(), x.clone())));
+
+    // The product is computed in place when the multiplicand has the capacity
+    final int[] z = randomVal(xlen, (xlen + ylen) * 2 + 2);
+    System.arraycopy(x, 0, z, 0, x.length);
+    assertEquals(a.multiply(b), BigInt.toBigInteger(BigInt.mul(z, y)));
+  }
+
+  @Test
+  public void testMode() {
+    assertEquals(NativeMath.Mode.FOREIGN, NativeMath.loadNative());
+  }
+
+  @Test
+  public void testQuad() {
+    for (int i = 0; i < 2000; ++i)
+      assertMul(1 + random.nextInt(BigIntMultiplication.KARATSUBA_THRESHOLD_X), 1 + random.nextInt(BigIntMultiplication.KARATSUBA_THRESHOLD_X));
+  }
+
+  @Test
+  public void testKaratsuba() {
+    for (int i = 0; i < 200; ++i) {
+      final int len = BigIntMultiplication.KARATSUBA_THRESHOLD_X + random.nextInt(BigIntMultiplication.TOOM_COOK_THRESHOLD);
+      assertMul(len, len - random.nextInt(8));
+    }
+
+    // Large enough for the parallel Karatsuba
+    assertMul(BigIntMultiplication.PARALLEL_KARATSUBA_THRESHOLD_Z * 2, BigIntMultiplication.PARALLEL_KARATSUBA_THRESHOLD_Z * 2);
+  }
+
+  @Test
+  public void testToomCook() {
+    for (int i = 0; i < 20; ++i) {
+      final int len = Math.max(BigIntMultiplication.TOOM_COOK_THRESHOLD, BigIntMultiplication.TOOM_COOK_SQUARE_THRESHOLD) + random.nextInt(2000);
+      assertMul(len, len - random.nextInt(8));
+    }
+  }
+}
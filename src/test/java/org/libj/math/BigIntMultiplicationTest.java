@@ -16,9 +16,17 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -249,6 +257,336 @@ public class BigIntMultiplicationTest extends BigIntTest {
     );
   }
 
+  private static int[] randomFactor() {
+    return randomVal(1 + random.nextInt(8), random.nextBoolean());
+  }
+
+  @Test
+  public void testMulAdd(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Fused multiply-add of the product of `T` and a random factor of up to 8 limbs.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigInteger` class does not have a fused multiply-add operation. Therefore, for this test, the product is computed with `BigInteger.multiply(BigInteger)` and then added with `BigInteger.add(BigInteger)`.");
+
+    final int[][] factor = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    final int[][] z = {null};
+    test("mulAdd(T)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(factor[0] = randomFactor()); return new BigInteger(b); }, (BigInteger a, BigInteger b) -> a.add(b.multiply(x[0])), String::valueOf),
+      s(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(factor[0].clone()); return new BigInt(b); }, (BigInt a, BigInt b) -> a.mulAdd(b, y[0]), String::valueOf),
+      s(int[].class, this::scaledVal, b -> { z[0] = factor[0].clone(); return BigInt.valueOf(b); }, (int[] a, int[] b) -> BigInt.mulAdd(a, b, z[0]), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testMulAddInt(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Fused multiply-add of the product of a random factor of up to 8 limbs and `int`.");
+
+    final int[][] factor = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    final int[][] z = {null};
+    test("mulAdd(int)").withAuditReport(report).withCases(
+      i(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(factor[0] = randomFactor()); return b; }, (BigInteger a, int b) -> a.add(x[0].multiply(BigInteger.valueOf(b))), String::valueOf),
+      i(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(factor[0].clone()); return b; }, (BigInt a, int b) -> a.mulAdd(y[0], b), String::valueOf),
+      i(int[].class, this::scaledVal, b -> { z[0] = factor[0].clone(); return b; }, (int[] a, int b) -> BigInt.mulAdd(a, z[0], b), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testMulAddLong(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Fused multiply-add of the product of a random factor of up to 8 limbs and `long`.");
+
+    final int[][] factor = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    final int[][] z = {null};
+    test("mulAdd(long)").withAuditReport(report).withCases(
+      l(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(factor[0] = randomFactor()); return b; }, (BigInteger a, long b) -> a.add(x[0].multiply(BigInteger.valueOf(b))), String::valueOf),
+      l(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(factor[0].clone()); return b; }, (BigInt a, long b) -> a.mulAdd(y[0], b), String::valueOf),
+      l(int[].class, this::scaledVal, b -> { z[0] = factor[0].clone(); return b; }, (int[] a, long b) -> BigInt.mulAdd(a, z[0], b), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testMulSub(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Fused multiply-subtract of the product of `T` and a random factor of up to 8 limbs.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigInteger` class does not have a fused multiply-subtract operation. Therefore, for this test, the product is computed with `BigInteger.multiply(BigInteger)` and then subtracted with `BigInteger.subtract(BigInteger)`.");
+
+    final int[][] factor = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    final int[][] z = {null};
+    test("mulSub(T)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(factor[0] = randomFactor()); return new BigInteger(b); }, (BigInteger a, BigInteger b) -> a.subtract(b.multiply(x[0])), String::valueOf),
+      s(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(factor[0].clone()); return new BigInt(b); }, (BigInt a, BigInt b) -> a.mulSub(b, y[0]), String::valueOf),
+      s(int[].class, this::scaledVal, b -> { z[0] = factor[0].clone(); return BigInt.valueOf(b); }, (int[] a, int[] b) -> BigInt.mulSub(a, b, z[0]), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testMulSubInt(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Fused multiply-subtract of the product of a random factor of up to 8 limbs and `int`.");
+
+    final int[][] factor = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    final int[][] z = {null};
+    test("mulSub(int)").withAuditReport(report).withCases(
+      i(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(factor[0] = randomFactor()); return b; }, (BigInteger a, int b) -> a.subtract(x[0].multiply(BigInteger.valueOf(b))), String::valueOf),
+      i(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(factor[0].clone()); return b; }, (BigInt a, int b) -> a.mulSub(y[0], b), String::valueOf),
+      i(int[].class, this::scaledVal, b -> { z[0] = factor[0].clone(); return b; }, (int[] a, int b) -> BigInt.mulSub(a, z[0], b), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testMulSubLong(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Fused multiply-subtract of the product of a random factor of up to 8 limbs and `long`.");
+
+    final int[][] factor = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    final int[][] z = {null};
+    test("mulSub(long)").withAuditReport(report).withCases(
+      l(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(factor[0] = randomFactor()); return b; }, (BigInteger a, long b) -> a.subtract(x[0].multiply(BigInteger.valueOf(b))), String::valueOf),
+      l(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(factor[0].clone()); return b; }, (BigInt a, long b) -> a.mulSub(y[0], b), String::valueOf),
+      l(int[].class, this::scaledVal, b -> { z[0] = factor[0].clone(); return b; }, (int[] a, long b) -> BigInt.mulSub(a, z[0], b), BigInt::toString)
+    );
+  }
+
+  private static int randomLength(final int min, final int range) {
+    return min + random.nextInt(range);
+  }
+
+  @Test
+  public void testToomCook() {
+    for (int i = 0; i < 16; ++i) {
+      final int len1 = randomLength(BigIntMultiplication.TOOM_COOK_THRESHOLD, BigIntMultiplication.TOOM_COOK_THRESHOLD * 2);
+      final int len2 = i % 2 == 0 ? len1 : randomLength(BigIntMultiplication.TOOM_COOK_THRESHOLD, BigIntMultiplication.TOOM_COOK_THRESHOLD * 2);
+      final int[] x = randomVal(len1, i % 4 == 1), y = randomVal(len2, i % 8 > 4);
+      final BigInteger expected = BigInt.toBigInteger(x).multiply(BigInt.toBigInteger(y));
+      assertEquals(expected, new BigInt(x.clone()).mul(new BigInt(y.clone())).toBigInteger());
+      assertEquals(expected, BigInt.toBigInteger(BigIntMultiplication.mul(x, y, true)));
+    }
+  }
+
+  @Test
+  public void testToomCookSquare() {
+    for (int i = 0; i < 8; ++i) {
+      final int len = randomLength(BigIntMultiplication.TOOM_COOK_SQUARE_THRESHOLD, BigIntMultiplication.TOOM_COOK_SQUARE_THRESHOLD * 2);
+      final int[] x = randomVal(len, i % 2 == 1);
+      final BigInteger a = BigInt.toBigInteger(x);
+      final BigInt b = new BigInt(x.clone());
+      assertEquals(a.multiply(a), b.mul(b).toBigInteger());
+
+      // In-place
+      final int[] val = Arrays.copyOf(x, len * 3);
+      assertEquals(a.multiply(a), BigInt.toBigInteger(BigInt.mul(val, val)));
+    }
+  }
+
+  @Test
+  public void testToomCookScratch() {
+    final int max = BigIntMultiplication.TOOM_COOK_THRESHOLD * 3;
+    final int[] scratch = new int[BigInt.scratchLength(max)];
+    for (int i = 0; i < 16; ++i) {
+      final int len1 = randomLength(BigIntMultiplication.TOOM_COOK_THRESHOLD, max - BigIntMultiplication.TOOM_COOK_THRESHOLD);
+      final int len2 = i % 2 == 0 ? len1 : randomLength(BigIntMultiplication.TOOM_COOK_THRESHOLD, len1 - BigIntMultiplication.TOOM_COOK_THRESHOLD + 1);
+      final int[] x = randomVal(len1, false), y = randomVal(len2, i % 4 == 1);
+      final BigInteger a = BigInt.toBigInteger(x);
+      assertEquals(a.multiply(BigInt.toBigInteger(y)), BigInt.toBigInteger(BigInt.mul(x.clone(), y, scratch)));
+      assertEquals(a.multiply(a), BigInt.toBigInteger(BigInt.mul(x, x, scratch)));
+    }
+  }
+
+  @Test
+  public void testNtt() {
+    for (int i = 0; i < 4; ++i) {
+      final int len1 = randomLength(BigIntMultiplication.NTT_THRESHOLD, BigIntMultiplication.NTT_THRESHOLD);
+      final int len2 = i % 2 == 0 ? len1 : randomLength(BigIntMultiplication.NTT_THRESHOLD, BigIntMultiplication.NTT_THRESHOLD);
+      final int[] x = randomVal(len1, i == 1), y = randomVal(len2, false);
+      final BigInteger expected = BigInt.toBigInteger(x).multiply(BigInt.toBigInteger(y));
+      assertEquals(expected, new BigInt(x.clone()).mul(new BigInt(y.clone())).toBigInteger());
+      assertEquals(expected, BigInt.toBigInteger(BigIntMultiplication.mul(x, y, true)));
+    }
+
+    // All limbs set produce the greatest coefficients of the convolution
+    final int len = BigIntMultiplication.NTT_THRESHOLD * 2;
+    final int[] val = new int[len + 1];
+    Arrays.fill(val, -1);
+    val[0] = -len;
+    final BigInteger b = BigInt.toBigInteger(val);
+    assertEquals(b.multiply(b).negate(), BigInt.toBigInteger(BigInt.mul(val.clone(), BigInt.abs(val.clone()))));
+    assertEquals(b.multiply(b), BigInt.toBigInteger(BigInt.mul(val, val)));
+  }
+
+  @Test
+  public void testNttSquare() {
+    for (int i = 0; i < 4; ++i) {
+      final int len = randomLength(BigIntMultiplication.NTT_SQUARE_THRESHOLD, BigIntMultiplication.NTT_SQUARE_THRESHOLD);
+      final int[] x = randomVal(len, i % 2 == 1);
+      final BigInteger a = BigInt.toBigInteger(x);
+      final BigInt b = new BigInt(x.clone());
+      assertEquals(a.multiply(a), b.mul(b).toBigInteger());
+
+      // In-place
+      final int[] val = Arrays.copyOf(x, len * 3);
+      assertEquals(a.multiply(a), BigInt.toBigInteger(BigInt.mul(val, val)));
+    }
+  }
+
+  private static void testParallelKaratsuba(final int len) {
+    final int[] x = randomVal(len + random.nextInt(len)), y = randomVal(len + random.nextInt(len));
+    final BigInteger expected = BigInt.toBigInteger(x).multiply(BigInt.toBigInteger(y));
+    final int xlen = x[0], ylen = y[0];
+    assertEquals(expected, BigInt.toBigInteger(BigIntMultiplication.karatsuba(x, xlen, y, ylen, xlen + ylen + 1, true)));
+  }
+
+  @Test
+  public void testParallelKaratsuba() throws Exception {
+    final int len = BigIntMultiplication.PARALLEL_KARATSUBA_THRESHOLD_Z;
+    final ForkJoinPool defaultPool = BigInt.getForkJoinPool();
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    BigInt.setForkJoinPool(pool);
+    try {
+      // Concurrent callers that are not workers of the pool
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 16; ++i)
+        futures.add(executor.submit(() -> testParallelKaratsuba(len)));
+
+      // Callers that are workers of the pool
+      for (int i = 0; i < 4; ++i)
+        futures.add(pool.submit(() -> testParallelKaratsuba(len)));
+
+      for (final Future<?> future : futures)
+        future.get();
+    }
+    finally {
+      BigInt.setForkJoinPool(defaultPool);
+      executor.shutdown();
+      pool.shutdown();
+    }
+
+    assertSame(defaultPool, BigInt.getForkJoinPool());
+  }
+
+  @Test
+  public void testKaratsubaScratch() {
+    final int[] scratch = new int[BigInt.scratchLength(BigIntMultiplication.TOOM_COOK_THRESHOLD)];
+    for (int i = 0; i < 32; ++i) {
+      final int len1 = randomLength(BigIntMultiplication.KARATSUBA_THRESHOLD_X, BigIntMultiplication.TOOM_COOK_THRESHOLD - BigIntMultiplication.KARATSUBA_THRESHOLD_X);
+      final int len2 = i % 2 == 0 ? len1 : randomLength(BigIntMultiplication.KARATSUBA_THRESHOLD_X, len1 - BigIntMultiplication.KARATSUBA_THRESHOLD_X + 1);
+      final int[] x = randomVal(len1, i % 4 == 1), y = randomVal(len2, false);
+      final BigInteger expected = BigInt.toBigInteger(x).multiply(BigInt.toBigInteger(y));
+      assertEquals(expected, BigInt.toBigInteger(BigInt.mul(x.clone(), y, scratch)));
+
+      // Scratch array that is too short
+      assertEquals(expected, BigInt.toBigInteger(BigInt.mul(x, y, new int[1])));
+    }
+  }
+
+  @Test
+  public void testUnbalanced() {
+    for (int i = 0; i < 32; ++i) {
+      final int len1 = randomLength(BigIntMultiplication.KARATSUBA_THRESHOLD_X, BigIntMultiplication.TOOM_COOK_THRESHOLD * 2);
+      final int len2 = len1 * (BigIntMultiplication.UNBALANCED_RATIO + random.nextInt(8)) + random.nextInt(len1);
+      final int[] x = randomVal(len1, i % 2 == 1), y = randomVal(len2, i % 8 > 4);
+      if (i % 4 == 0) // Blocks of zero limbs in the longer operand
+        Arrays.fill(y, len2 / 3, len2 * 2 / 3, 0);
+
+      final BigInteger expected = BigInt.toBigInteger(x).multiply(BigInt.toBigInteger(y));
+      assertEquals(expected, BigInt.toBigInteger(BigInt.mul(x.clone(), y)));
+      assertEquals(expected, BigInt.toBigInteger(BigIntMultiplication.mul(y.clone(), x, true)));
+
+      // In-place
+      assertEquals(expected, BigInt.toBigInteger(BigInt.mul(Arrays.copyOf(y, y.length + len1 * 2), x)));
+    }
+  }
+
+  @Test
+  public void testMulAddSubAlias() {
+    for (int i = 0; i < 64; ++i) {
+      final int n = i < 48 ? 24 : BigIntMultiplication.KARATSUBA_THRESHOLD_X + 64;
+      final int[] w = randomVal(1 + random.nextInt(n), i % 4 == 0), x = randomVal(1 + random.nextInt(n), i % 2 == 1), y = randomVal(1 + random.nextInt(n), i % 4 > 1);
+      final BigInteger a = BigInt.toBigInteger(w), b = BigInt.toBigInteger(x), c = BigInt.toBigInteger(y);
+      final long l = i % 32 == 0 ? Long.MIN_VALUE : random.nextLong() >> random.nextInt(64);
+      assertEquals(a.add(b.multiply(c)), BigInt.toBigInteger(BigInt.mulAdd(w.clone(), x, y)));
+      assertEquals(a.subtract(b.multiply(c)), BigInt.toBigInteger(BigInt.mulSub(w.clone(), x, y)));
+
+      // Cancellation of the high limbs of the accumulator
+      final BigInteger p = b.multiply(c).add(a.shiftRight(a.bitLength() / 2));
+      assertEquals(p.subtract(b.multiply(c)), new BigInt(p).mulSub(new BigInt(x.clone()), new BigInt(y.clone())).toBigInteger());
+
+      // Accumulator aliased to the operands
+      final int[] val = x.clone();
+      assertEquals(b.add(b.multiply(c)), BigInt.toBigInteger(BigInt.mulAdd(val, val, y)));
+      final int[] sq = x.clone();
+      assertEquals(b.subtract(b.multiply(b)), BigInt.toBigInteger(BigInt.mulSub(sq, sq, sq)));
+      final int[] ml = x.clone();
+      assertEquals(b.subtract(b.multiply(BigInteger.valueOf(l))), BigInt.toBigInteger(BigInt.mulSub(ml, ml, l)));
+    }
+  }
+
+  private static void testProductSum(final int n, final int limbs) {
+    final int[][] vals = new int[n][];
+    final long[] longs = new long[n];
+    final int[] ints = new int[n];
+    BigInteger product = BigInteger.ONE, sum = BigInteger.ZERO;
+    BigInteger longProduct = BigInteger.ONE, longSum = BigInteger.ZERO;
+    BigInteger intProduct = BigInteger.ONE, intSum = BigInteger.ZERO;
+    for (int i = 0; i < n; ++i) {
+      vals[i] = randomVal(1 + random.nextInt(limbs), random.nextBoolean());
+      product = product.multiply(BigInt.toBigInteger(vals[i]));
+      sum = sum.add(BigInt.toBigInteger(vals[i]));
+      longs[i] = random.nextLong();
+      longProduct = longProduct.multiply(BigInteger.valueOf(longs[i]));
+      longSum = longSum.add(BigInteger.valueOf(longs[i]));
+      ints[i] = random.nextInt();
+      intProduct = intProduct.multiply(BigInteger.valueOf(ints[i]));
+      intSum = intSum.add(BigInteger.valueOf(ints[i]));
+    }
+
+    final int[][] copy = new int[n][];
+    for (int i = 0; i < n; ++i)
+      copy[i] = vals[i].clone();
+
+    assertEquals(product.toString(), BigInt.toString(BigInt.product(vals)));
+    assertEquals(sum.toString(), BigInt.toString(BigInt.sum(vals)));
+    assertEquals(longProduct.toString(), BigInt.toString(BigInt.product(longs)));
+    assertEquals(longSum.toString(), BigInt.toString(BigInt.sum(longs)));
+    assertEquals(intProduct.toString(), BigInt.toString(BigInt.product(ints)));
+    assertEquals(intSum.toString(), BigInt.toString(BigInt.sum(ints)));
+
+    // The operands are not modified
+    for (int i = 0; i < n; ++i)
+      assertArrayEquals(copy[i], vals[i]);
+  }
+
+  @Test
+  public void testProductSum() {
+    assertEquals("1", BigInt.toString(BigInt.product(new int[0][])));
+    assertEquals("0", BigInt.toString(BigInt.sum(new int[0][])));
+    assertEquals("1", BigInt.toString(BigInt.product(new long[0])));
+    assertEquals("0", BigInt.toString(BigInt.sum(new int[0])));
+    assertEquals("0", BigInt.toString(BigInt.product(new int[] {3, 0, 5})));
+    assertEquals("0", BigInt.toString(BigInt.sum(new long[] {Long.MIN_VALUE, Long.MAX_VALUE, 1})));
+
+    for (int i = 0; i < 200; ++i)
+      testProductSum(1 + random.nextInt(100), 5);
+
+    // Large enough for the subtrees to be computed in parallel
+    final ForkJoinPool defaultPool = BigInt.getForkJoinPool();
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    BigInt.setForkJoinPool(pool);
+    try {
+      testProductSum(5000, 21);
+    }
+    finally {
+      BigInt.setForkJoinPool(defaultPool);
+      pool.shutdown();
+    }
+  }
+
   @Test
   @Ignore("Used for tuning")
   public void testKaratsubaThreshold() {
@@ -369,6 +707,148 @@ public class BigIntMultiplicationTest extends BigIntTest {
     printAlgoReport();
   }
 
+  @Test
+  @Ignore("Used for tuning")
+  public void testToomCookThreshold() {
+    final boolean[] toomCook = {false};
+    final ThresholdTest test = new ThresholdTest(50, 200) {
+      @Override
+      void beforeTest(final int len1, final int len2) {
+        toomCook[0] = true;
+      }
+
+      @Override
+      void test(final BigInt v1, final BigInt v2) {
+        final int[] x = v1.val();
+        final int[] y = v2.val();
+        if (toomCook[0])
+          BigIntMultiplication.javaToomCook3(x, x[0], y, y[0], x[0] + y[0] + 1, true, false);
+        else
+          BigIntMultiplication.karatsuba(x, x[0], y, y[0], x[0] + y[0] + 1, true);
+      }
+
+      @Override
+      void beforeControl() {
+        toomCook[0] = false;
+      }
+    };
+
+    if (BigInt.NATIVE_THRESHOLD == Integer.MAX_VALUE) {
+      // TOOM_COOK_THRESHOLD=500
+      test.runAB(300, 1000);
+    }
+    else {
+      // TOOM_COOK_THRESHOLD=420
+      test.runAB(200, 1000);
+    }
+  }
+
+  @Test
+  @Ignore("Used for tuning")
+  public void testToomCookSquareThreshold() {
+    final boolean[] toomCook = {false};
+    final ThresholdTest test = new ThresholdTest(50, 200) {
+      @Override
+      void beforeTest(final int len1, final int len2) {
+        toomCook[0] = true;
+      }
+
+      @Override
+      void test(final BigInt v1, final BigInt v2) {
+        final int[] x = v1.val();
+        if (toomCook[0])
+          BigIntMultiplication.javaSquareToomCook3(x, x[0]);
+        else
+          v1.mul(v1);
+      }
+
+      @Override
+      void beforeControl() {
+        toomCook[0] = false;
+      }
+    };
+
+    if (BigInt.NATIVE_THRESHOLD == Integer.MAX_VALUE) {
+      // TOOM_COOK_SQUARE_THRESHOLD=150
+      test.runAB(100, 400);
+    }
+    else {
+      // TOOM_COOK_SQUARE_THRESHOLD=1300
+      test.runAB(700, 2000);
+    }
+  }
+
+  @Test
+  @Ignore("Used for tuning")
+  public void testNttThreshold() {
+    final boolean[] ntt = {false};
+    final ThresholdTest test = new ThresholdTest(2000, 20) {
+      @Override
+      void beforeTest(final int len1, final int len2) {
+        ntt[0] = true;
+      }
+
+      @Override
+      void test(final BigInt v1, final BigInt v2) {
+        final int[] x = v1.val();
+        final int[] y = v2.val();
+        if (ntt[0])
+          BigIntMultiplication.javaNtt(x, x[0], y, y[0], x[0] + y[0] + 1, true, false);
+        else
+          BigIntMultiplication.javaToomCook3(x, x[0], y, y[0], x[0] + y[0] + 1, true, false);
+      }
+
+      @Override
+      void beforeControl() {
+        ntt[0] = false;
+      }
+    };
+
+    if (BigInt.NATIVE_THRESHOLD == Integer.MAX_VALUE) {
+      // NTT_THRESHOLD=6500
+      test.runAB(2000, 32000);
+    }
+    else {
+      // NTT_THRESHOLD=12000
+      test.runAB(2000, 32000);
+    }
+  }
+
+  @Test
+  @Ignore("Used for tuning")
+  public void testNttSquareThreshold() {
+    final boolean[] ntt = {false};
+    final ThresholdTest test = new ThresholdTest(2000, 20) {
+      @Override
+      void beforeTest(final int len1, final int len2) {
+        ntt[0] = true;
+      }
+
+      @Override
+      void test(final BigInt v1, final BigInt v2) {
+        final int[] x = v1.val();
+        if (ntt[0])
+          BigIntMultiplication.javaSquareNtt(x, x[0]);
+        else
+          BigIntMultiplication.javaSquareToomCook3(x, x[0]);
+      }
+
+      @Override
+      void beforeControl() {
+        ntt[0] = false;
+      }
+    };
+
+    if (BigInt.NATIVE_THRESHOLD == Integer.MAX_VALUE) {
+      // NTT_SQUARE_THRESHOLD=7000
+      test.runAB(2000, 32000);
+    }
+    else {
+      // NTT_SQUARE_THRESHOLD=12000
+      test.runAB(2000, 32000);
+    }
+  }
+
   private abstract static class ThresholdTest {
     private final int step;
     private final int iterations;
@@ -16,9 +16,12 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -108,6 +111,128 @@ public class BigIntPredicateTest extends BigIntTest {
     );
   }
 
+  @Test
+  public void testToStringRecursive(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "String representation of number in radix 10 with the divide-and-conquer algorithm, recursing down to parts of 4 limbs.");
+
+    test("toString() recursive").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, (BigInteger a) -> a.toString(), o -> o),
+      s(int[].class, this::scaledVal, (int[] a) -> a[0] == 0 ? "0" : BigIntDivision.toStringRecursive(a, Math.abs(a[0]), Integer.signum(a[0]), 10, 4), o -> o)
+    );
+  }
+
+  @Test
+  public void testToStringBig() {
+    for (int i = 0; i < 64; ++i) {
+      final BigInteger a = new BigInteger(1 + random.nextInt(i % 16 == 0 ? 100000 : 10000), random);
+      final BigInteger b = i % 2 == 0 ? a : a.negate();
+      final int[] val = BigInt.valueOf(b);
+      assertEquals(b.toString(), BigInt.toString(val));
+      assertEquals(b.toString(), BigIntDivision.toStringRecursive(val, Math.abs(val[0]), b.signum(), 10, 4));
+    }
+
+    // Powers of ten, and 1 less than powers of ten, land on the boundaries of the divisors
+    for (int k = 1; k < 2000; k += 1 + k / 8) {
+      final BigInteger e = BigInteger.TEN.pow(k);
+      for (final BigInteger a : new BigInteger[] {e, e.subtract(BigInteger.ONE), e.negate()}) {
+        final int[] val = BigInt.valueOf(a);
+        assertEquals(a.toString(), BigInt.toString(val));
+        assertEquals(a.toString(), BigIntDivision.toStringRecursive(val, Math.abs(val[0]), a.signum(), 10, 4));
+      }
+    }
+  }
+
+  @Test
+  public void testToStringRadix(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "String representation of number in radixes that are, and are not, powers of two.");
+
+    for (final int radix : new int[] {2, 7, 16, 36}) {
+      test("toString(int): " + radix).withAuditReport(report).withCases(
+        s(BigInteger.class, this::scaledBigInteger, (BigInteger a) -> a.toString(radix), o -> o),
+        s(BigInt.class, this::scaledBigInt, (BigInt a) -> a.toString(radix), o -> o),
+        s(int[].class, this::scaledVal, (int[] a) -> BigInt.toString(a, radix), o -> o)
+      );
+    }
+  }
+
+  @Test
+  public void testToStringRadixBig() {
+    for (int i = 0; i < 1024; ++i) {
+      final int radix = Character.MIN_RADIX + i % (Character.MAX_RADIX - Character.MIN_RADIX + 1);
+      final BigInteger a = i % 512 == 0 ? BigInteger.ZERO : new BigInteger(1 + random.nextInt(i % 64 == 0 ? 60000 : 2000), random);
+      final BigInteger b = i % 2 == 0 ? a : a.negate();
+      final String s = b.toString(radix);
+      final int[] val = BigInt.valueOf(b);
+      assertEquals(s, BigInt.toString(val, radix));
+      if (b.signum() != 0 && (radix & radix - 1) != 0) {
+        // Recursion with the smallest threshold
+        assertEquals(s, BigIntDivision.toStringRecursive(val, Math.abs(val[0]), b.signum(), radix, 4));
+      }
+    }
+
+    assertEquals("ff", new BigInt(255).toString(16));
+    assertEquals("255", new BigInt(255).toString(Character.MAX_RADIX + 1));
+  }
+
+  @Test
+  public void testWriteTo(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "ASCII representation of number in radix 10, written to a StringBuilder and a byte[].");
+
+    test("writeTo(StringBuilder)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, (BigInteger a) -> a.toString(), o -> o),
+      s(BigInt.class, this::scaledBigInt, (BigInt a) -> {
+        final StringBuilder b = new StringBuilder();
+        a.writeTo(b);
+        return b.toString();
+      }, o -> o),
+      s(int[].class, this::scaledVal, (int[] a) -> {
+        final StringBuilder b = new StringBuilder();
+        BigInt.writeTo(a, b);
+        return b.toString();
+      }, o -> o)
+    );
+
+    test("writeTo(byte[],int)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, (BigInteger a) -> a.toString(), o -> o),
+      s(int[].class, this::scaledVal, (int[] a) -> {
+        final byte[] b = new byte[10 * Math.abs(a[0]) + 2];
+        return new String(b, 0, BigInt.writeTo(a, b, 0), StandardCharsets.US_ASCII);
+      }, o -> o)
+    );
+  }
+
+  @Test
+  public void testWriteToBig() {
+    final byte[] bytes = new byte[40000];
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(40000);
+    for (int i = 0; i < 256; ++i) {
+      final BigInteger a = i % 64 == 0 ? BigInteger.ZERO : new BigInteger(1 + random.nextInt(i % 16 == 0 ? 100000 : 500), random);
+      final String s = (i % 2 == 0 ? a : a.negate()).toString();
+      final int[] val = new BigInt(s).val();
+
+      assertEquals(s.length(), BigInt.writeTo(val, bytes, 3));
+      assertEquals(s, new String(bytes, 3, s.length(), StandardCharsets.US_ASCII));
+
+      buffer.clear();
+      buffer.put((byte)'y');
+      assertEquals(s.length(), BigInt.writeTo(val, buffer));
+      assertEquals(s.length() + 1, buffer.position());
+      buffer.flip();
+      buffer.get(bytes, 0, buffer.limit());
+      assertEquals("y" + s, new String(bytes, 0, s.length() + 1, StandardCharsets.US_ASCII));
+
+      // The value is not destroyed
+      assertEquals(s, BigInt.toString(val));
+    }
+
+    try {
+      new BigInt("-12345678901234567890").writeTo(new byte[20], 0);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
+
   @Test
   public void testCompareTo(final AuditReport report) {
     report.addComment(UNINSTRUMENTED.ordinal(), "Compare `T`.");
@@ -207,4 +332,68 @@ public class BigIntPredicateTest extends BigIntTest {
       s(int[].class, this::scaledVal, BigInt::valueOf, (int[] a, int[] b) -> BigInt.min(a, b), BigInt::toString)
     );
   }
+
+  @Test
+  public void testIsProbablePrime(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Whether the absolute value of the number is probably prime.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigInteger` class takes the certainty of the test as a parameter. Therefore, for this test, `BigInteger.isProbablePrime(int)` is called with a certainty of `100`, and `BigInt` performs the Baillie-PSW test.");
+
+    test("isProbablePrime()").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, (BigInteger a) -> a.abs().isProbablePrime(100), Boolean::valueOf),
+      s(BigInt.class, this::scaledBigInt, (BigInt a) -> a.isProbablePrime(), Boolean::valueOf),
+      s(int[].class, this::scaledVal, (int[] a) -> BigInt.isProbablePrime(a), Boolean::valueOf)
+    );
+  }
+
+  @Test
+  public void testNextProbablePrime(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "The first probable prime greater than the absolute value of the number.");
+
+    test("nextProbablePrime()").withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(abs(a), 1), (BigInteger a) -> a.nextProbablePrime(), String::valueOf),
+      s(BigInt.class, a -> scaledBigInt(abs(a), 1), (BigInt a) -> a.nextProbablePrime(), String::valueOf),
+      s(int[].class, a -> scaledVal(abs(a), 1), (int[] a) -> BigInt.nextProbablePrime(a), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testProbablePrime() {
+    // Strong pseudoprimes to base 2, Carmichael numbers, and Lucas pseudoprimes
+    final long[] pseudoprimes = {2047, 3277, 4033, 561, 1105, 1729, 2465, 2821, 6601, 8911, 5459, 5777, 10877, 16109, 18971, 3215031751L, 3825123056546413051L};
+    for (final long p : pseudoprimes) {
+      assertFalse(String.valueOf(p), new BigInt(p).isProbablePrime());
+      assertFalse(String.valueOf(-p), new BigInt(-p).isProbablePrime());
+    }
+
+    for (int i = -100; i < 100000; ++i)
+      assertEquals(String.valueOf(i), BigInteger.valueOf(i).abs().isProbablePrime(100), new BigInt(i).isProbablePrime());
+
+    for (int i = 0; i < 256; ++i) {
+      final int bits = 2 + random.nextInt(i % 16 == 0 ? 1024 : 256);
+      final BigInteger p = BigInteger.probablePrime(bits, random);
+      // Every 2nd number is a square of a prime, and every other is a product of 2 primes
+      final BigInteger a = i % 2 == 0 ? p.multiply(p) : p.multiply(BigInteger.probablePrime(bits, random));
+      assertFalse(a.toString(), new BigInt(a).isProbablePrime());
+      assertTrue(p.toString(), new BigInt(p).isProbablePrime());
+    }
+
+    try {
+      new BigInt(-1).nextProbablePrime();
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+
+    for (int i = 0; i < 32; ++i) {
+      final BigInteger from = i < 8 ? BigInteger.valueOf(random.nextInt(5000000)) : new BigInteger(32 + random.nextInt(512), random);
+      final int len = random.nextInt(2048);
+      final int[] offsets = BigInt.probablePrimes(BigInt.valueOf(from), len);
+      for (int j = 0, k = 0; j < len; ++j) {
+        final boolean expected = from.add(BigInteger.valueOf(j)).isProbablePrime(100);
+        assertEquals("probablePrimes(" + from + ", " + len + ")[" + j + "]", expected, k < offsets.length && offsets[k] == j);
+        if (expected)
+          ++k;
+      }
+    }
+  }
 }
\ No newline at end of file
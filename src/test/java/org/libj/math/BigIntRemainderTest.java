@@ -16,9 +16,12 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -242,4 +245,213 @@ public class BigIntRemainderTest extends BigIntTest {
       s(int[].class, this::scaledVal, b -> BigInt.valueOf(abs(nz(b))), (int[] a, int[] b) -> BigInt.mod(a, b), BigInt::toString)
     );
   }
+
+  @Test
+  public void testModPowBig(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Modular exponentiation by a random exponent of up to 4 limbs modulo `T`.");
+
+    final int[][] exp = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    test("modPow(T,T)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(exp[0] = randomVal(1 + random.nextInt(4))); return new BigInteger(abs(nz(b))); }, (BigInteger a, BigInteger b) -> a.modPow(x[0], b), String::valueOf),
+      s(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(exp[0].clone()); return new BigInt(abs(nz(b))); }, (BigInt a, BigInt b) -> a.modPow(y[0], b), String::valueOf),
+      s(int[].class, this::scaledVal, b -> BigInt.valueOf(abs(nz(b))), (int[] a, int[] b) -> BigInt.modPow(a, exp[0], b), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testModPowModulus(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Modular exponentiation by a random exponent of up to 4 limbs modulo a `BigIntModulus` of `T`.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigIntModulus` is created outside of the runtime measure, because it is meant to be reused for many exponentiations.");
+
+    final int[][] exp = {null};
+    final BigInteger[] x = {null};
+    final BigInt[] y = {null};
+    final BigIntModulus[] mod = {null};
+    test("modPow(T,BigIntModulus)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, b -> { x[0] = BigInt.toBigInteger(exp[0] = randomVal(1 + random.nextInt(4))); return new BigInteger(abs(nz(b))); }, (BigInteger a, BigInteger b) -> a.modPow(x[0], b), String::valueOf),
+      s(BigInt.class, this::scaledBigInt, b -> { y[0] = new BigInt(exp[0].clone()); mod[0] = new BigIntModulus(BigInt.valueOf(abs(nz(b)))); return new BigInt(abs(nz(b))); }, (BigInt a, BigInt b) -> a.modPow(y[0], mod[0]), String::valueOf),
+      s(int[].class, this::scaledVal, b -> { mod[0] = new BigIntModulus(BigInt.valueOf(abs(nz(b)))); return BigInt.valueOf(abs(nz(b))); }, (int[] a, int[] b) -> mod[0].modPow(a, exp[0]), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testModPow() {
+    for (int i = 0; i < 256; ++i) {
+      // Every 3rd modulus is even, which exercises the recombination of the residues modulo q and 2^k
+      BigInteger m = BigInt.toBigInteger(randomVal(1 + random.nextInt(i % 16 == 0 ? 32 : 8)));
+      if (i % 3 == 0)
+        m = m.shiftLeft(1 + random.nextInt(80));
+
+      final BigInteger b = BigInt.toBigInteger(randomVal(1 + random.nextInt(12), i % 2 == 1));
+      final BigInteger e = BigInt.toBigInteger(randomVal(1 + random.nextInt(i % 16 == 0 ? 32 : 4)));
+      final BigInteger expected = b.modPow(e, m);
+      assertEquals(expected, BigInt.toBigInteger(BigInt.modPow(BigInt.valueOf(b), BigInt.valueOf(e), BigInt.valueOf(m))));
+
+      final BigIntModulus mod = new BigIntModulus(new BigInt(m));
+      assertEquals(expected, new BigInt(b).modPow(new BigInt(e), mod).toBigInteger());
+      assertEquals(BigInteger.ONE.mod(m), new BigInt(b).modPow(new BigInt(0), mod).toBigInteger());
+    }
+  }
+
+  @Test
+  public void testGcdBig(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Greatest common divisor with `T`.");
+
+    test("gcd(T)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, BigInteger::new, (BigInteger a, BigInteger b) -> a.gcd(b), String::valueOf),
+      s(BigInt.class, this::scaledBigInt, BigInt::new, (BigInt a, BigInt b) -> a.gcd(b), String::valueOf),
+      s(int[].class, this::scaledVal, BigInt::valueOf, (int[] a, int[] b) -> BigInt.gcd(a, b), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testModInverseBig(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Inverse modulo `T`.");
+
+    test("modInverse(T)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, b -> new BigInteger(abs(nz(b))), (BigInteger a, BigInteger b) -> a.modInverse(b), o -> o == null ? null : String.valueOf(o)),
+      s(BigInt.class, this::scaledBigInt, b -> new BigInt(abs(nz(b))), (BigInt a, BigInt b) -> a.modInverse(b), o -> o == null ? null : String.valueOf(o)),
+      s(int[].class, this::scaledVal, b -> BigInt.valueOf(abs(nz(b))), (int[] a, int[] b) -> BigInt.modInverse(a, b), o -> o == null ? null : BigInt.toString(o))
+    );
+  }
+
+  @Test
+  public void testGcd() {
+    for (int i = 0; i < 512; ++i) {
+      BigInteger a = BigInt.toBigInteger(randomVal(1 + random.nextInt(i % 16 == 0 ? 64 : 12), i % 2 == 1));
+      BigInteger b = BigInt.toBigInteger(randomVal(1 + random.nextInt(i % 16 == 0 ? 64 : 12), i % 4 > 1));
+      // Every 3rd pair has a large common factor, and every 7th pair has consecutive magnitudes
+      if (i % 3 == 0) {
+        final BigInteger c = BigInt.toBigInteger(randomVal(1 + random.nextInt(6)));
+        a = a.multiply(c);
+        b = b.multiply(c);
+      }
+      else if (i % 7 == 0) {
+        b = a.add(BigInteger.ONE);
+      }
+
+      final BigInteger g = a.gcd(b);
+      assertEquals(g, new BigInt(a).gcd(new BigInt(b)).toBigInteger());
+
+      final BigInt x = new BigInt(0);
+      final BigInt y = new BigInt(0);
+      assertEquals(g, new BigInt(a).gcdExt(new BigInt(b), x, y).toBigInteger());
+      assertEquals(g, a.multiply(x.toBigInteger()).add(b.multiply(y.toBigInteger())));
+
+      final BigInteger m = b.abs().add(BigInteger.ONE);
+      if (a.gcd(m).equals(BigInteger.ONE)) {
+        assertEquals(a.modInverse(m), new BigInt(a).modInverse(new BigInt(m)).toBigInteger());
+        final BigInteger e = BigInt.toBigInteger(randomVal(1 + random.nextInt(2), true));
+        assertEquals(a.modPow(e, m), new BigInt(a).modPow(new BigInt(e), new BigInt(m)).toBigInteger());
+      }
+      else {
+        try {
+          new BigInt(a).modInverse(new BigInt(m));
+          fail("Expected ArithmeticException");
+        }
+        catch (final ArithmeticException e) {
+        }
+      }
+    }
+  }
+
+  private static final BigIntModuli moduli = new BigIntModuli(2147483647, 2147483629, 2147483587, 2147483579, 2147483563, 2147483549, 2147483543, 2147483497);
+
+  private static int[] rem(final BigInteger a) {
+    final int[] residues = new int[moduli.size()];
+    for (int i = 0; i < residues.length; ++i)
+      residues[i] = a.mod(BigInteger.valueOf(moduli.getModulus(i))).intValue();
+
+    return residues;
+  }
+
+  @Test
+  public void testModuliBig(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigInteger` class does not have a remainder tree. Therefore, for this test, `BigInteger` computes `mod(int)` once for each of the 8 moduli.");
+
+    test("rem(int...)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, (BigInteger a) -> rem(a), Arrays::toString),
+      s(int[].class, this::scaledVal, (int[] a) -> moduli.rem(a), Arrays::toString)
+    );
+  }
+
+  private static void testModuli(final int n, final int limbs) {
+    final int[] moduli = new int[n];
+    BigInteger candidate = BigInteger.valueOf(Integer.MAX_VALUE - random.nextInt(1 << 20));
+    for (int i = 0; i < n; ++i) {
+      candidate = candidate.subtract(BigInteger.ONE);
+      while (!candidate.isProbablePrime(20))
+        candidate = candidate.subtract(BigInteger.ONE);
+
+      moduli[i] = candidate.intValue();
+    }
+
+    final BigIntModuli m = new BigIntModuli(moduli);
+    final BigInteger product = new BigInteger(BigInt.toString(m.product()));
+    final int[][] vals = new int[8][];
+    for (int v = 0; v < vals.length; ++v)
+      vals[v] = randomVal(1 + random.nextInt(limbs), random.nextBoolean());
+
+    final int[][] residues = m.rem(vals);
+    for (int v = 0; v < vals.length; ++v) {
+      final int[] copy = vals[v].clone();
+      final BigInteger b = new BigInteger(BigInt.toString(vals[v]));
+      for (int i = 0; i < n; ++i)
+        assertEquals(b.mod(BigInteger.valueOf(moduli[i])).intValue(), residues[v][i]);
+
+      assertArrayEquals(copy, vals[v]);
+      assertEquals(b.mod(product).toString(), BigInt.toString(m.crt(residues[v])));
+    }
+
+    // Carry-free multiplication in residue form
+    final int[] x = residues[0], y = residues[1], z = new int[n];
+    for (int i = 0; i < n; ++i)
+      z[i] = (int)((long)x[i] * y[i] % moduli[i]);
+
+    final BigInteger facit = new BigInteger(BigInt.toString(vals[0])).multiply(new BigInteger(BigInt.toString(vals[1]))).mod(product);
+    assertEquals(facit.toString(), BigInt.toString(m.crt(z)));
+  }
+
+  @Test
+  public void testModuli() {
+    final BigIntModuli small = new BigIntModuli(3, 5, 7);
+    assertEquals(3, small.size());
+    assertEquals("105", BigInt.toString(small.product()));
+    assertArrayEquals(new int[] {2, 3, 2}, small.rem(BigInt.valueOf(23)));
+    assertArrayEquals(new int[] {1, 2, 5}, small.rem(BigInt.valueOf(-23)));
+    assertEquals("23", BigInt.toString(small.crt(new int[] {2, 3, 2})));
+    assertEquals("82", BigInt.toString(small.crt(new int[] {-2, -3, -2})));
+    assertEquals("0", BigInt.toString(new BigIntModuli(1).crt(new int[] {5})));
+
+    try {
+      new BigIntModuli(4, 6).crt(new int[] {1, 1});
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+
+    try {
+      new BigIntModuli(7, 0);
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+
+    for (int i = 0; i < 20; ++i)
+      testModuli(1 + random.nextInt(100), 125);
+
+    // Large enough for the subtrees to be computed in parallel
+    final ForkJoinPool defaultPool = BigInt.getForkJoinPool();
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    BigInt.setForkJoinPool(pool);
+    try {
+      testModuli(6000, 6230);
+    }
+    finally {
+      BigInt.setForkJoinPool(defaultPool);
+      pool.shutdown();
+    }
+  }
 }
\ No newline at end of file
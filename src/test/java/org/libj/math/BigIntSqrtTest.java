@@ -16,10 +16,12 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.Arrays;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -82,4 +84,97 @@ public class BigIntSqrtTest extends BigIntTest {
   public void testUnnecessary(final AuditReport report) {
     test(report, RoundingMode.UNNECESSARY);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testAllOnes() {
+    // 2^k - 1 rounds up to 2^(k/2) for an even k, which carries out of the
+    // top limb of the root when k is a multiple of 64
+    for (int k = 64; k <= 32 * 48; ++k) {
+      final BigInteger a = BigInteger.ONE.shiftLeft(k).subtract(BigInteger.ONE);
+      for (final RoundingMode rm : RoundingMode.values()) {
+        final String expected = rm == RoundingMode.UNNECESSARY ? null : BigIntegerMath.sqrt(a, rm).toString();
+        final int[] val = BigInt.valueOf(a);
+        final int[] sqrt = BigInt.sqrt(Arrays.copyOf(val, val[0] + 1), rm);
+        assertEquals(k + " " + rm, expected, sqrt == null ? null : BigInt.toString(sqrt));
+      }
+    }
+  }
+
+  @Test
+  public void testSqrtRem(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Square root of `T` with the remainder");
+
+    final int[][] rem = new int[1][];
+    test("sqrtRem(T)").withAuditReport(report).withCases(
+      s(BigInteger.class, a -> scaledBigInteger(abs(a)), (BigInteger a) -> a.sqrtAndRemainder(), o -> o[0] + " " + o[1]),
+      s(BigInt.class, a -> scaledBigInt(abs(a)), (BigInt a) -> { final BigInt r = new BigInt(0); return new BigInt[] {a.sqrtRem(r), r}; }, o -> o[0] + " " + o[1]),
+      s(int[].class, a -> scaledVal(abs(a)), (int[] a) -> BigInt.sqrtRem(a, rem[0] = new int[(a[0] + 1) / 2 + 2]), o -> BigInt.toString(o) + " " + BigInt.toString(rem[0]))
+    );
+  }
+
+  private static int root(final BigInteger a, final String seed) {
+    final int k = 2 + Math.abs(seed.hashCode() % 9);
+    return a.signum() < 0 ? k | 1 : k;
+  }
+
+  private static BigInteger nthRoot(final BigInteger a, final int k) {
+    if (a.signum() < 0)
+      return nthRoot(a.negate(), k).negate();
+
+    BigInteger lo = BigInteger.ZERO;
+    BigInteger hi = BigInteger.ONE.shiftLeft(a.bitLength() / k + 1);
+    while (lo.compareTo(hi) < 0) {
+      final BigInteger mid = lo.add(hi).add(BigInteger.ONE).shiftRight(1);
+      if (mid.pow(k).compareTo(a) <= 0)
+        lo = mid;
+      else
+        hi = mid.subtract(BigInteger.ONE);
+    }
+
+    return lo;
+  }
+
+  @Test
+  public void testNthRoot(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `k`-th root of `T`, rounded toward zero.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "The `BigInteger` class does not have a `k`-th root method. Therefore, for this test, the root is computed with a binary search over `BigInteger.pow(int)`.");
+
+    test("nthRoot(int)").withAuditReport(report).withCases(
+      s(BigInteger.class, this::scaledBigInteger, (a, b) -> root(a, b), (BigInteger a, int b) -> nthRoot(a, b), String::valueOf),
+      s(BigInt.class, this::scaledBigInt, (a, b) -> root(a.toBigInteger(), b), (BigInt a, int b) -> a.nthRoot(b), String::valueOf),
+      s(int[].class, this::scaledVal, (a, b) -> root(BigInt.toBigInteger(a), b), (int[] a, int b) -> BigInt.nthRoot(a, b), BigInt::toString)
+    );
+  }
+
+  @Test
+  public void testPerfectPower() {
+    for (int i = 0; i < 256; ++i) {
+      final int k = 2 + random.nextInt(i % 4 == 0 ? 100 : 10);
+      final BigInteger root = new BigInteger(2 + random.nextInt(i % 16 == 0 ? 10000 : 1000) / k, random).add(BigInteger.TWO);
+      final BigInteger a = root.pow(k);
+      assertEquals(root.toString(), new BigInt(a.toString()).nthRoot(k, RoundingMode.UNNECESSARY).toString());
+      assertEquals(root.toString(), new BigInt(a.subtract(BigInteger.ONE).toString()).nthRoot(k, RoundingMode.CEILING).toString());
+      assertNull(BigInt.nthRoot(BigInt.valueOf(a.add(BigInteger.ONE).toString()), k, RoundingMode.UNNECESSARY));
+      if ((k & 1) != 0)
+        assertEquals(root.negate().toString(), new BigInt(a.negate().toString()).nthRoot(k, RoundingMode.UNNECESSARY).toString());
+
+      assertTrue(new BigInt(a.toString()).isPerfectPower());
+
+      // The remainder is 0 for a square, and 2 * (root - 1) for 1 less than a square
+      final BigInt rem = new BigInt(0);
+      final BigInteger square = root.multiply(root);
+      assertEquals(root.toString(), new BigInt(square.toString()).sqrtRem(rem).toString());
+      assertEquals("0", rem.toString());
+      assertEquals(root.subtract(BigInteger.ONE).toString(), new BigInt(square.subtract(BigInteger.ONE).toString()).sqrtRem(rem).toString());
+      assertEquals(root.subtract(BigInteger.ONE).shiftLeft(1).toString(), rem.toString());
+    }
+
+    assertTrue(new BigInt(0).isPerfectPower());
+    assertTrue(new BigInt(-1).isPerfectPower());
+    assertTrue(new BigInt(-27).isPerfectPower());
+    assertFalse(new BigInt(-4).isPerfectPower());
+    assertFalse(new BigInt(2).isPerfectPower());
+    assertFalse(new BigInt("340282366920938463463374607431768211457").isPerfectPower()); // 2^128 + 1
+    assertTrue(new BigInt("340282366920938463463374607431768211456").isPerfectPower()); // 2^128
+  }
+}
@@ -194,6 +194,14 @@ public abstract class BigIntTest extends NumericCaseTest {
     return val;
   }
 
+  static int[] randomVal(final int length, final boolean negative) {
+    final int[] val = randomVal(length);
+    if (negative)
+      val[0] = -val[0];
+
+    return val;
+  }
+
   static BigInteger newMaxBigInteger(final int byteLength) {
     final int[] mag = new int[byteLength];
     for (int i = 0; i < mag.length; ++i)
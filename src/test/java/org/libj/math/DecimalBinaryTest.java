@@ -0,0 +1,117 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DecimalBinaryTest {
+  private static final int numTests = 1048576;
+  private static final Random random = new Random();
+
+  @Test
+  public void testSignificandScale() throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+    final DataOutputStream out = new DataOutputStream(bytes);
+    final Decimal decimal = new Decimal();
+    for (int i = 0; i < numTests; ++i) {
+      final long significand = i == 0 ? Long.MIN_VALUE : i == 1 ? Long.MAX_VALUE : random.nextLong() >> random.nextInt(64);
+      final short scale = (short)(i % 8 == 0 ? random.nextInt() : random.nextInt(48) - 24);
+      final int n = Decimal.binarySize(significand, scale);
+      buffer.clear();
+      assertEquals(n, Decimal.write(significand, scale, buffer));
+      assertEquals(n, buffer.position());
+      bytes.reset();
+      assertEquals(n, Decimal.write(significand, scale, out));
+      assertArrayEquals(bytes.toByteArray(), Arrays.copyOf(buffer.array(), n));
+
+      buffer.flip();
+      decimal.read(buffer);
+      assertEquals(significand, decimal.significand);
+      assertEquals(scale, decimal.scale);
+      assertFalse(buffer.hasRemaining());
+
+      decimal.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+      assertEquals(significand, decimal.significand);
+      assertEquals(scale, decimal.scale);
+    }
+
+    // A price of 123.45 in 4 bytes
+    assertEquals(4, Decimal.binarySize(12345, (short)2));
+  }
+
+  @Test
+  public void testEncoded() throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+    final DataOutputStream out = new DataOutputStream(bytes);
+    for (int i = 0; i < numTests; ++i) {
+      final long dec = random.nextLong();
+      buffer.clear();
+      Decimal.write(dec, buffer);
+      buffer.flip();
+      assertEquals(dec, Decimal.read(buffer, 0));
+
+      bytes.reset();
+      Decimal.write(dec, out);
+      assertEquals(dec, Decimal.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 0));
+    }
+  }
+
+  @Test
+  public void testTruncated() {
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    Decimal.write(-123456789L, (short)300, buffer);
+    buffer.flip().limit(buffer.limit() - 1);
+    try {
+      new Decimal().read(buffer);
+      fail("Expected BufferUnderflowException");
+    }
+    catch (final BufferUnderflowException e) {
+      assertEquals(0, buffer.position());
+    }
+  }
+
+  @Test
+  public void testExternalizable() throws ClassNotFoundException, IOException {
+    final Decimal expected = new Decimal(-123456789L, (short)7);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(expected);
+    }
+
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final Decimal actual = (Decimal)in.readObject();
+      assertEquals(expected.significand, actual.significand);
+      assertEquals(expected.scale, actual.scale);
+    }
+  }
+}
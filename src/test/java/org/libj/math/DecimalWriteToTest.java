@@ -0,0 +1,75 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DecimalWriteToTest {
+  private static final int numTests = 1048576;
+  private static final Random random = new Random();
+
+  @Test
+  public void testSignificandScale() {
+    final byte[] bytes = new byte[40];
+    for (int i = 0; i < numTests; ++i) {
+      final long significand = i == 0 ? Long.MIN_VALUE : i == 1 ? Long.MAX_VALUE : random.nextLong() >> random.nextInt(64);
+      final short scale = (short)(i % 8 == 0 ? random.nextInt() : random.nextInt(48) - 24);
+      final String expected = Decimal.toString(significand, scale);
+      assertEquals(expected.length(), Decimal.writeTo(significand, scale, bytes, 2));
+      assertEquals(expected, new String(bytes, 2, expected.length(), StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Test
+  public void testEncoded() {
+    final byte[] bytes = new byte[40];
+    final ByteBuffer buffer = ByteBuffer.allocate(40);
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < numTests; ++i) {
+      final long dec = random.nextLong();
+      final String expected = Decimal.toString(dec);
+      assertEquals(expected.length(), Decimal.writeTo(dec, bytes, 0));
+      assertEquals(expected, new String(bytes, 0, expected.length(), StandardCharsets.US_ASCII));
+
+      builder.setLength(0);
+      assertEquals(expected.length(), Decimal.writeTo(dec, builder));
+      assertEquals(expected, builder.toString());
+
+      buffer.clear();
+      assertEquals(expected.length(), Decimal.writeTo(dec, buffer));
+      assertEquals(expected, new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Test
+  public void testOverflow() {
+    try {
+      Decimal.writeTo(-123456L, (short)2, new byte[7], 1);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+
+    assertEquals(8, Decimal.writeTo(-123456L, (short)2, new byte[9], 1));
+  }
+}